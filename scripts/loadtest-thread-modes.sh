@@ -0,0 +1,79 @@
+#!/usr/bin/env bash
+# プラットフォームスレッド／仮想スレッドの負荷比較
+#
+# 使い方: scripts/loadtest-thread-modes.sh [タスク件数] [同時接続数] [計測秒数]
+# 前提:   wrk（https://github.com/wg/wrk）、curl、java 21
+# 結果:   target/loadtest/<モード>-<エンドポイント>.txt（wrk --latency の出力。99% が p99）
+set -euo pipefail
+
+ROWS="${1:-100000}"
+CONNECTIONS="${2:-200}"
+DURATION="${3:-30}"
+PORT=18080
+BASE_URL="http://localhost:${PORT}"
+OUT_DIR="target/loadtest"
+
+cd "$(dirname "$0")/.."
+./mvnw -B -q -DskipTests package
+JAR="$(ls target/task-manager-*.jar | grep -v plain | head -n 1)"
+mkdir -p "${OUT_DIR}"
+
+# 取込用CSV（タイトル・ステータス・優先度・カテゴリーを分散させる）
+CSV="${OUT_DIR}/tasks.csv"
+awk -v rows="${ROWS}" 'BEGIN {
+  split("TODO IN_PROGRESS DONE", s, " "); split("LOW MEDIUM HIGH", p, " ");
+  print "title,description,status,priority,category_id,due_date";
+  for (i = 1; i <= rows; i++) {
+    printf "負荷試験タスク %d,負荷試験用の説明 %d,%s,%s,%d,2030-01-01\n", i, i, s[i % 3 + 1], p[i % 3 + 1], i % 4 + 1;
+  }
+}' > "${CSV}"
+
+# /tasks/{id} 用のLuaスクリプト（IDをランダムに選ぶ）
+LUA="${OUT_DIR}/random-id.lua"
+cat > "${LUA}" <<LUA
+request = function()
+  return wrk.format("GET", "/tasks/" .. math.random(1, ${ROWS}))
+end
+LUA
+
+APP_PID=""
+trap '[ -n "${APP_PID}" ] && kill "${APP_PID}" 2>/dev/null || true' EXIT
+
+run_mode() {
+  local mode="$1" profiles="$2"
+  echo "== ${mode} =="
+  java -Xmx2g -jar "${JAR}" --server.port="${PORT}" --spring.profiles.active="${profiles}" \
+       --logging.level.com.example.taskmanager=WARN --logging.level.org.mybatis=WARN \
+       > "${OUT_DIR}/${mode}-app.log" 2>&1 &
+  APP_PID=$!
+
+  until curl -sf "${BASE_URL}/tasks" > /dev/null; do sleep 1; done
+  curl -sf -H 'Content-Type: text/csv' --data-binary "@${CSV}" "${BASE_URL}/tasks/import" > /dev/null
+
+  # ウォームアップ
+  wrk -t4 -c"${CONNECTIONS}" -d10s "${BASE_URL}/tasks" > /dev/null
+  wrk -t4 -c"${CONNECTIONS}" -d10s -s "${LUA}" "${BASE_URL}" > /dev/null
+
+  wrk -t4 -c"${CONNECTIONS}" -d"${DURATION}s" --latency "${BASE_URL}/tasks" \
+      | tee "${OUT_DIR}/${mode}-list.txt"
+  wrk -t4 -c"${CONNECTIONS}" -d"${DURATION}s" --latency -s "${LUA}" "${BASE_URL}" \
+      | tee "${OUT_DIR}/${mode}-detail.txt"
+
+  kill "${APP_PID}"
+  wait "${APP_PID}" 2>/dev/null || true
+  APP_PID=""
+}
+
+run_mode platform default
+run_mode virtual virtual-threads
+
+echo
+printf '%-10s %-8s %12s %10s\n' mode endpoint "req/s" p99
+for mode in platform virtual; do
+  for endpoint in list detail; do
+    file="${OUT_DIR}/${mode}-${endpoint}.txt"
+    rps="$(awk '/Requests\/sec/ {print $2}' "${file}")"
+    p99="$(awk '$1 == "99%" {print $2}' "${file}")"
+    printf '%-10s %-8s %12s %10s\n' "${mode}" "${endpoint}" "${rps}" "${p99}"
+  done
+done
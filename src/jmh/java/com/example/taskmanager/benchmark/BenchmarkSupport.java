@@ -0,0 +1,94 @@
+package com.example.taskmanager.benchmark;
+
+import com.example.taskmanager.TaskManagerApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * ベンチマーク共通の起動・データ投入処理.
+ *
+ * <p>Webサーバーを起動せずにアプリケーションコンテキストを生成し、
+ * ベンチマークごとに独立したH2インメモリDBへタスクを投入する。</p>
+ */
+public final class BenchmarkSupport {
+
+    private BenchmarkSupport() {
+    }
+
+    /**
+     * プロパティを指定してアプリケーションコンテキストを起動する.
+     *
+     * <p>プロパティはコマンドライン引数として渡すため、application.yml・プロファイルの設定より優先される。</p>
+     *
+     * @param properties 追加・上書きするプロパティ
+     * @return 起動したアプリケーションコンテキスト
+     */
+    public static ConfigurableApplicationContext start(Map<String, Object> properties) {
+        Map<String, Object> merged = new LinkedHashMap<>();
+        merged.put("spring.devtools.restart.enabled", "false");
+        merged.put("logging.level.com.example.taskmanager", "WARN");
+        merged.put("logging.level.org.mybatis", "WARN");
+        merged.putAll(properties);
+        String[] args = merged.entrySet().stream()
+                .map(entry -> "--" + entry.getKey() + "=" + entry.getValue())
+                .toArray(String[]::new);
+        return new SpringApplicationBuilder(TaskManagerApplication.class)
+                .web(WebApplicationType.NONE)
+                .run(args);
+    }
+
+    /**
+     * 指定したDB名のH2インメモリDBでアプリケーションコンテキストを起動する.
+     *
+     * @param databaseName H2インメモリDB名（ベンチマーク間で共有しないこと）
+     * @return 起動したアプリケーションコンテキスト
+     */
+    public static ConfigurableApplicationContext start(String databaseName) {
+        return start(Map.of("spring.datasource.url", "jdbc:h2:mem:" + databaseName + ";DB_CLOSE_DELAY=-1"));
+    }
+
+    /**
+     * タスクを指定件数投入する.
+     *
+     * <p>ステータス・優先度・カテゴリー・期限日は行番号から決定的に分散させる。
+     * 作成日時は1秒ずつずらし、一覧の並び順が一意になるようにする。
+     * 投入後にカテゴリーのタスク件数を集計し直す。</p>
+     *
+     * @param jdbcTemplate     JdbcTemplate
+     * @param rows             投入件数
+     * @param descriptionBytes 説明の長さ（0の場合は短い固定文）
+     */
+    public static void seedTasks(JdbcTemplate jdbcTemplate, int rows, int descriptionBytes) {
+        String description = descriptionBytes > 0
+                ? "REPEAT('x', " + descriptionBytes + ")"
+                : "'ベンチマーク用の説明 ' || X";
+        jdbcTemplate.update("INSERT INTO tasks (title, description, status, priority, category_id, due_date,"
+                + " created_at, updated_at)"
+                + " SELECT 'ベンチマークタスク ' || X, " + description + ","
+                + " CASE MOD(X, 3) WHEN 0 THEN 'TODO' WHEN 1 THEN 'IN_PROGRESS' ELSE 'DONE' END,"
+                + " CASE MOD(X, 3) WHEN 0 THEN 'LOW' WHEN 1 THEN 'MEDIUM' ELSE 'HIGH' END,"
+                + " CASE WHEN MOD(X, 5) = 0 THEN NULL ELSE MOD(X, 4) + 1 END,"
+                + " DATEADD('DAY', MOD(X, 120) - 60, CURRENT_DATE),"
+                + " DATEADD('SECOND', -X, CURRENT_TIMESTAMP),"
+                + " DATEADD('SECOND', -X, CURRENT_TIMESTAMP)"
+                + " FROM SYSTEM_RANGE(1, " + rows + ")");
+        jdbcTemplate.update("UPDATE task_categories c"
+                + " SET task_count = (SELECT COUNT(*) FROM tasks t WHERE t.category_id = c.id)");
+        jdbcTemplate.execute("ANALYZE");
+    }
+
+    /**
+     * タスクを指定件数投入する（説明は短い固定文）.
+     *
+     * @param jdbcTemplate JdbcTemplate
+     * @param rows         投入件数
+     */
+    public static void seedTasks(JdbcTemplate jdbcTemplate, int rows) {
+        seedTasks(jdbcTemplate, rows, 0);
+    }
+}
@@ -0,0 +1,154 @@
+package com.example.taskmanager.benchmark;
+
+import com.example.taskmanager.category.converter.CategoryConverter;
+import com.example.taskmanager.category.dto.CategoryDto;
+import com.example.taskmanager.category.form.CategoryForm;
+import com.example.taskmanager.common.entity.Task;
+import com.example.taskmanager.common.entity.TaskCategory;
+import com.example.taskmanager.common.enums.TaskPriority;
+import com.example.taskmanager.common.enums.TaskStatus;
+import com.example.taskmanager.task.converter.TaskConverter;
+import com.example.taskmanager.task.dto.TaskDto;
+import com.example.taskmanager.task.form.TaskForm;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * MapStructコンバーターのベンチマーク.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConverterBenchmark {
+
+    private final TaskConverter taskConverter = Mappers.getMapper(TaskConverter.class);
+
+    private final CategoryConverter categoryConverter = Mappers.getMapper(CategoryConverter.class);
+
+    private Task task;
+
+    private List<Task> tasks;
+
+    private TaskDto taskDto;
+
+    private TaskForm taskForm;
+
+    private TaskCategory category;
+
+    private List<TaskCategory> categories;
+
+    private CategoryDto categoryDto;
+
+    private CategoryForm categoryForm;
+
+    @Setup
+    public void setUp() {
+        task = new Task();
+        task.setId(1L);
+        task.setTitle("ベンチマークタスク");
+        task.setDescription("ベンチマーク用の説明");
+        task.setStatus(TaskStatus.TODO);
+        task.setPriority(TaskPriority.HIGH);
+        task.setCategoryId(1L);
+        task.setDueDate(LocalDate.now());
+        task.setCreatedAt(LocalDateTime.now());
+        task.setUpdatedAt(LocalDateTime.now());
+        tasks = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            tasks.add(task);
+        }
+        taskDto = taskConverter.toDto(task);
+        taskForm = TaskForm.builder()
+                .title("ベンチマークタスク")
+                .description("ベンチマーク用の説明")
+                .status(TaskStatus.TODO)
+                .priority(TaskPriority.HIGH)
+                .categoryId(1L)
+                .dueDate(LocalDate.now())
+                .build();
+
+        category = new TaskCategory();
+        category.setId(1L);
+        category.setName("仕事");
+        category.setDescription("業務関連のタスク");
+        category.setColor("#0d6efd");
+        category.setDisplayOrder(1);
+        category.setCreatedAt(LocalDateTime.now());
+        category.setUpdatedAt(LocalDateTime.now());
+        categories = List.of(category, category, category, category);
+        categoryDto = categoryConverter.toDto(category);
+        categoryForm = categoryConverter.toForm(categoryDto);
+    }
+
+    @Benchmark
+    public TaskDto taskToDto() {
+        return taskConverter.toDto(task);
+    }
+
+    @Benchmark
+    public List<TaskDto> taskToDtoList100() {
+        return taskConverter.toDtoList(tasks);
+    }
+
+    @Benchmark
+    public Task taskToEntity() {
+        return taskConverter.toEntity(taskForm);
+    }
+
+    @Benchmark
+    public TaskForm taskToForm() {
+        return taskConverter.toForm(taskDto);
+    }
+
+    @Benchmark
+    public Task taskUpdateEntity() {
+        Task target = new Task();
+        taskConverter.updateEntity(taskForm, target);
+        return target;
+    }
+
+    @Benchmark
+    public CategoryDto categoryToDto() {
+        return categoryConverter.toDto(category);
+    }
+
+    @Benchmark
+    public List<CategoryDto> categoryToDtoList() {
+        return categoryConverter.toDtoList(categories);
+    }
+
+    @Benchmark
+    public TaskCategory categoryToEntity() {
+        return categoryConverter.toEntity(categoryForm);
+    }
+
+    @Benchmark
+    public CategoryForm categoryToForm() {
+        return categoryConverter.toForm(categoryDto);
+    }
+
+    @Benchmark
+    public TaskCategory categoryUpdateEntity() {
+        TaskCategory target = new TaskCategory();
+        categoryConverter.updateEntity(categoryForm, target);
+        return target;
+    }
+}
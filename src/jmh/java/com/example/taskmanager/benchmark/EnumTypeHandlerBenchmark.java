@@ -0,0 +1,135 @@
+package com.example.taskmanager.benchmark;
+
+import com.example.taskmanager.common.config.SchemaVersionProperties;
+import com.example.taskmanager.common.enums.TaskPriority;
+import com.example.taskmanager.common.enums.TaskStatus;
+import com.example.taskmanager.common.typehandler.EnumStorage;
+import com.example.taskmanager.common.typehandler.TaskPriorityTypeHandler;
+import com.example.taskmanager.common.typehandler.TaskStatusTypeHandler;
+import org.apache.ibatis.type.EnumTypeHandler;
+import org.apache.ibatis.type.TypeHandler;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * status・priority列の行マッピングのベンチマーク.
+ *
+ * <p>H2インメモリDBの10,000行からstatus・priorityを読み出し、TypeHandlerで列挙型に変換する。
+ * アプリケーションコンテキストは起動せず、JDBCとTypeHandlerのみを使用する。</p>
+ * <ul>
+ *   <li>{@code enumTypeHandler}: MyBatis標準のEnumTypeHandler（VARCHAR、変更前）</li>
+ *   <li>{@code codedByName}: CodedEnumTypeHandlerのNAME形式（VARCHAR）</li>
+ *   <li>{@code codedByCode}: CodedEnumTypeHandlerのCODE形式（SMALLINT）</li>
+ * </ul>
+ *
+ * <p>1回あたりのヒープ割り当て量は{@code -prof gc}の{@code gc.alloc.rate.norm}で比較する。</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EnumTypeHandlerBenchmark {
+
+    private static final int ROWS = 10_000;
+
+    private Connection connection;
+
+    private PreparedStatement selectNames;
+
+    private PreparedStatement selectCodes;
+
+    private final TypeHandler<TaskStatus> enumStatusHandler = new EnumTypeHandler<>(TaskStatus.class);
+
+    private final TypeHandler<TaskPriority> enumPriorityHandler = new EnumTypeHandler<>(TaskPriority.class);
+
+    private TypeHandler<TaskStatus> namedStatusHandler;
+
+    private TypeHandler<TaskPriority> namedPriorityHandler;
+
+    private TypeHandler<TaskStatus> codedStatusHandler;
+
+    private TypeHandler<TaskPriority> codedPriorityHandler;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        connection = DriverManager.getConnection("jdbc:h2:mem:enum_type_handler;DB_CLOSE_DELAY=-1", "sa", "");
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE enum_names (id BIGINT PRIMARY KEY,"
+                    + " status VARCHAR(20) NOT NULL, priority VARCHAR(10) NOT NULL)");
+            statement.execute("INSERT INTO enum_names SELECT X,"
+                    + " CASE MOD(X, 3) WHEN 0 THEN 'TODO' WHEN 1 THEN 'IN_PROGRESS' ELSE 'DONE' END,"
+                    + " CASE MOD(X, 3) WHEN 0 THEN 'LOW' WHEN 1 THEN 'MEDIUM' ELSE 'HIGH' END"
+                    + " FROM SYSTEM_RANGE(1, " + ROWS + ")");
+            statement.execute("CREATE TABLE enum_codes (id BIGINT PRIMARY KEY,"
+                    + " status SMALLINT NOT NULL, priority SMALLINT NOT NULL)");
+            statement.execute("INSERT INTO enum_codes SELECT X, MOD(X, 3), MOD(X, 3)"
+                    + " FROM SYSTEM_RANGE(1, " + ROWS + ")");
+        }
+        selectNames = connection.prepareStatement("SELECT status, priority FROM enum_names");
+        selectCodes = connection.prepareStatement("SELECT status, priority FROM enum_codes");
+        namedStatusHandler = new TaskStatusTypeHandler(properties(EnumStorage.NAME));
+        namedPriorityHandler = new TaskPriorityTypeHandler(properties(EnumStorage.NAME));
+        codedStatusHandler = new TaskStatusTypeHandler(properties(EnumStorage.CODE));
+        codedPriorityHandler = new TaskPriorityTypeHandler(properties(EnumStorage.CODE));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP ALL OBJECTS");
+        }
+        connection.close();
+    }
+
+    @Benchmark
+    public void enumTypeHandler(Blackhole blackhole) throws SQLException {
+        map(selectNames, enumStatusHandler, enumPriorityHandler, blackhole);
+    }
+
+    @Benchmark
+    public void codedByName(Blackhole blackhole) throws SQLException {
+        map(selectNames, namedStatusHandler, namedPriorityHandler, blackhole);
+    }
+
+    @Benchmark
+    public void codedByCode(Blackhole blackhole) throws SQLException {
+        map(selectCodes, codedStatusHandler, codedPriorityHandler, blackhole);
+    }
+
+    private static void map(PreparedStatement select, TypeHandler<TaskStatus> statusHandler,
+                            TypeHandler<TaskPriority> priorityHandler, Blackhole blackhole) throws SQLException {
+        try (ResultSet rs = select.executeQuery()) {
+            while (rs.next()) {
+                blackhole.consume(statusHandler.getResult(rs, "status"));
+                blackhole.consume(priorityHandler.getResult(rs, "priority"));
+            }
+        }
+    }
+
+    private static SchemaVersionProperties properties(EnumStorage storage) {
+        SchemaVersionProperties properties = new SchemaVersionProperties();
+        properties.setEnumStorage(storage);
+        return properties;
+    }
+}
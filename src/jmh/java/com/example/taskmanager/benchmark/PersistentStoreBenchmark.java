@@ -0,0 +1,152 @@
+package com.example.taskmanager.benchmark;
+
+import com.example.taskmanager.common.enums.TaskPriority;
+import com.example.taskmanager.common.enums.TaskStatus;
+import com.example.taskmanager.task.dto.TaskDto;
+import com.example.taskmanager.task.form.TaskForm;
+import com.example.taskmanager.task.service.TaskService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.util.FileSystemUtils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 本番プロファイル（ファイルモードのH2）のベンチマーク.
+ *
+ * <p>1,000,000件のタスクを投入したDBファイルに対し、登録のスループットと再起動時間を計測する。
+ * DBファイルはトライアルごとに一時ディレクトリへ作成し、終了時に削除する。</p>
+ */
+public class PersistentStoreBenchmark {
+
+    /** 投入するタスク件数 */
+    static final int ROWS = 1_000_000;
+
+    /**
+     * 一時ディレクトリに1,000,000件のDBファイルを作成する.
+     *
+     * @return DBファイルを作成したディレクトリ
+     * @throws IOException 一時ディレクトリの作成に失敗した場合
+     */
+    static Path createDatabase() throws IOException {
+        Path dataDir = Files.createTempDirectory("taskdb-bench");
+        try (ConfigurableApplicationContext context = start(dataDir)) {
+            BenchmarkSupport.seedTasks(context.getBean(JdbcTemplate.class), ROWS);
+        }
+        return dataDir;
+    }
+
+    /**
+     * 本番プロファイルでアプリケーションコンテキストを起動する.
+     *
+     * @param dataDir DBファイルのディレクトリ
+     * @return 起動したアプリケーションコンテキスト
+     */
+    static ConfigurableApplicationContext start(Path dataDir) {
+        return BenchmarkSupport.start(Map.of(
+                "spring.profiles.active", "prod",
+                "APP_DATA_DIR", dataDir.toString()));
+    }
+
+    /**
+     * 登録のスループット.
+     */
+    @State(Scope.Benchmark)
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    @Warmup(iterations = 2, time = 5)
+    @Measurement(iterations = 5, time = 5)
+    @Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx4g"})
+    public static class Write {
+
+        private Path dataDir;
+
+        private ConfigurableApplicationContext context;
+
+        private TaskService taskService;
+
+        private TaskForm form;
+
+        @Setup(Level.Trial)
+        public void setUp() throws IOException {
+            dataDir = createDatabase();
+            context = start(dataDir);
+            taskService = context.getBean(TaskService.class);
+            form = TaskForm.builder()
+                    .title("ベンチマーク登録")
+                    .description("ファイルモードの登録スループット計測")
+                    .status(TaskStatus.TODO)
+                    .priority(TaskPriority.MEDIUM)
+                    .categoryId(1L)
+                    .dueDate(LocalDate.now().plusDays(7))
+                    .build();
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() throws IOException {
+            context.close();
+            FileSystemUtils.deleteRecursively(dataDir);
+        }
+
+        @Benchmark
+        @Threads(1)
+        public TaskDto createSingle() {
+            return taskService.create(form);
+        }
+
+        @Benchmark
+        @Threads(8)
+        public TaskDto createConcurrent() {
+            return taskService.create(form);
+        }
+    }
+
+    /**
+     * 既存のDBファイルを使用した再起動時間.
+     *
+     * <p>初回起動ではないため、スキーマ・初期データの投入は行われない。</p>
+     */
+    @State(Scope.Benchmark)
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(iterations = 1)
+    @Measurement(iterations = 5)
+    @Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx4g"})
+    public static class Restart {
+
+        private Path dataDir;
+
+        @Setup(Level.Trial)
+        public void setUp() throws IOException {
+            dataDir = createDatabase();
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() throws IOException {
+            FileSystemUtils.deleteRecursively(dataDir);
+        }
+
+        @Benchmark
+        public void restart() {
+            start(dataDir).close();
+        }
+    }
+}
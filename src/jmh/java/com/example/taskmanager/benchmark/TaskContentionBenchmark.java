@@ -0,0 +1,122 @@
+package com.example.taskmanager.benchmark;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 同一タスクへの同時更新における楽観ロックと悲観ロックの比較ベンチマーク.
+ *
+ * <p>更新対象を{@code hotRows}件に絞り、複数スレッドから同時に「読み込み→更新」を行う。
+ * 楽観ロックは読み込みをロックなしで行い、バージョン一致を条件とした1文の更新が失敗した場合のみ読み込みからやり直す。
+ * 悲観ロックは{@code SELECT ... FOR UPDATE}で行ロックを取得してから更新し、コミットまでロックを保持する。
+ * 更新文はどちらも{@code TaskCustomMapper.updateReturningOld}と同じ条件（id・version）とする。</p>
+ *
+ * <p>楽観ロックのやり直し回数は補助カウンター{@code retries}として出力する。</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(8)
+@Fork(value = 1, jvmArgsAppend = {"-Xms1g", "-Xmx2g"})
+public class TaskContentionBenchmark {
+
+    private static final String SELECT_VERSION = "SELECT version FROM tasks WHERE id = ?";
+
+    private static final String UPDATE_IF_VERSION = "UPDATE tasks SET title = ?, updated_at = ?,"
+            + " version = version + 1 WHERE id = ? AND version = ?";
+
+    /** 更新対象のタスク件数（少ないほど競合が多い） */
+    @Param({"1", "8", "64"})
+    private int hotRows;
+
+    private ConfigurableApplicationContext context;
+
+    private JdbcTemplate jdbcTemplate;
+
+    private TransactionTemplate transactionTemplate;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkSupport.start(Map.of(
+                "spring.datasource.url", "jdbc:h2:mem:task_contention_" + hotRows + ";DB_CLOSE_DELAY=-1",
+                "spring.datasource.hikari.maximum-pool-size", "16"));
+        jdbcTemplate = context.getBean(JdbcTemplate.class);
+        jdbcTemplate.update("DELETE FROM tasks");
+        jdbcTemplate.execute("ALTER TABLE tasks ALTER COLUMN id RESTART WITH 1");
+        BenchmarkSupport.seedTasks(jdbcTemplate, hotRows);
+        transactionTemplate = context.getBean(TransactionTemplate.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public void optimistic(Counters counters) {
+        long id = randomId();
+        while (true) {
+            Integer version = jdbcTemplate.queryForObject(SELECT_VERSION, Integer.class, id);
+            if (jdbcTemplate.update(UPDATE_IF_VERSION, "楽観ロック", now(), id, version) == 1) {
+                return;
+            }
+            counters.retries++;
+        }
+    }
+
+    @Benchmark
+    public void pessimistic() {
+        long id = randomId();
+        transactionTemplate.executeWithoutResult(status -> {
+            Integer version = jdbcTemplate.queryForObject(SELECT_VERSION + " FOR UPDATE", Integer.class, id);
+            jdbcTemplate.update(UPDATE_IF_VERSION, "悲観ロック", now(), id, version);
+        });
+    }
+
+    private long randomId() {
+        return ThreadLocalRandom.current().nextLong(1, hotRows + 1);
+    }
+
+    private static Timestamp now() {
+        return new Timestamp(System.currentTimeMillis());
+    }
+
+    /**
+     * スレッドごとの補助カウンター.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Counters {
+
+        /** 楽観ロックでバージョン不一致によりやり直した回数 */
+        public long retries;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            retries = 0;
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.example.taskmanager.benchmark;
+
+import com.example.taskmanager.task.dto.TaskDto;
+import com.example.taskmanager.task.service.TaskService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * タスク詳細のキャッシュの有無による{@code TaskService.findById}のスループットの比較ベンチマーク.
+ *
+ * <p>{@code cacheEnabled}が{@code false}の場合が毎回DBから取得する処理（変更前と同じ処理）、{@code true}の場合が
+ * タスク詳細のキャッシュを使用する処理となる。
+ * 参照の90%を先頭の{@value #HOT_ROWS}件に、残りを全件に分散させ、一部のタスクに参照が集中する状況を再現する。</p>
+ *
+ * <p>終了時にキャッシュのヒット率と破棄件数を出力する。</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(4)
+@Fork(value = 1, jvmArgsAppend = {"-Xms1g", "-Xmx2g"})
+public class TaskDetailCacheBenchmark {
+
+    /** 投入するタスク件数 */
+    private static final int ROWS = 100_000;
+
+    /** 参照が集中するタスクの件数 */
+    private static final int HOT_ROWS = 1_000;
+
+    /** タスク詳細をキャッシュするかどうか */
+    @Param({"false", "true"})
+    private boolean cacheEnabled;
+
+    private ConfigurableApplicationContext context;
+
+    private TaskService taskService;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkSupport.start(Map.of(
+                "spring.datasource.url", "jdbc:h2:mem:task_detail_cache_" + cacheEnabled + ";DB_CLOSE_DELAY=-1",
+                "app.task.detail-cache.enabled", String.valueOf(cacheEnabled)));
+        BenchmarkSupport.seedTasks(context.getBean(JdbcTemplate.class), ROWS);
+        taskService = context.getBean(TaskService.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        MeterRegistry meterRegistry = context.getBean(MeterRegistry.class);
+        System.out.println("# hit ratio: "
+                + meterRegistry.get("task.detail.cache.hit.ratio").gauge().value()
+                + ", evictions: "
+                + meterRegistry.get("cache.evictions").tag("cache", "task.detail").functionCounter().count());
+        context.close();
+    }
+
+    @Benchmark
+    public TaskDto findById() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long id = random.nextInt(10) < 9 ? random.nextInt(HOT_ROWS) + 1 : random.nextInt(ROWS) + 1;
+        return taskService.findById(id);
+    }
+}
@@ -0,0 +1,147 @@
+package com.example.taskmanager.benchmark;
+
+import com.example.taskmanager.common.enums.TaskPriority;
+import com.example.taskmanager.common.enums.TaskStatus;
+import com.example.taskmanager.common.history.TaskHistoryWriter;
+import com.example.taskmanager.task.dto.TaskDto;
+import com.example.taskmanager.task.form.TaskForm;
+import com.example.taskmanager.task.service.TaskService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.ThreadParams;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 変更履歴の記録の有無によるタスクの登録・更新のスループットの比較ベンチマーク.
+ *
+ * <p>{@code historyEnabled}が{@code false}の場合が変更履歴なし（変更前と同じ処理）、{@code true}の場合が
+ * コミット後に変更履歴を書き込み待ちに積み、書き込み用のスレッドでまとめて登録する処理となる。
+ * 両者のスループット（ops/s）の差が変更履歴による書き込みの低下分であり、5%以内であることを目安とする。</p>
+ *
+ * <p>{@code update}はスレッドごとに重ならないタスクIDを更新するため、楽観ロックの競合は発生しない。
+ * 終了時に登録された変更履歴の件数と、書き込み待ちがあふれて変更処理のスレッドで直接登録した件数を出力する。</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(4)
+@Fork(value = 1, jvmArgsAppend = {"-Xms1g", "-Xmx2g"})
+public class TaskHistoryBenchmark {
+
+    /** 投入するタスク件数 */
+    private static final int ROWS = 100_000;
+
+    /** 変更履歴を記録するかどうか */
+    @Param({"false", "true"})
+    private boolean historyEnabled;
+
+    private ConfigurableApplicationContext context;
+
+    private JdbcTemplate jdbcTemplate;
+
+    private TaskService taskService;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkSupport.start(Map.of(
+                "spring.datasource.url", "jdbc:h2:mem:task_history_" + historyEnabled + ";DB_CLOSE_DELAY=-1",
+                "app.history.enabled", String.valueOf(historyEnabled)));
+        jdbcTemplate = context.getBean(JdbcTemplate.class);
+        BenchmarkSupport.seedTasks(jdbcTemplate, ROWS);
+        taskService = context.getBean(TaskService.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.getBean(TaskHistoryWriter.class).flush();
+        System.out.println("# task_history rows: "
+                + jdbcTemplate.queryForObject("SELECT COUNT(*) FROM task_history", Long.class)
+                + ", direct writes: "
+                + context.getBean(MeterRegistry.class)
+                        .counter("task.history.direct.writes").count());
+        context.close();
+    }
+
+    @Benchmark
+    public TaskDto create(Writer writer) {
+        return taskService.create(writer.form);
+    }
+
+    @Benchmark
+    public TaskDto update(Writer writer) {
+        long id = writer.nextId();
+        int index = (int) id;
+        writer.form.setVersion(writer.versions[index]);
+        TaskDto updated = taskService.update(id, writer.form);
+        writer.versions[index] = updated.getVersion();
+        return updated;
+    }
+
+    /**
+     * スレッドごとの更新対象と入力内容.
+     */
+    @State(Scope.Thread)
+    public static class Writer {
+
+        private TaskForm form;
+
+        /** タスクIDごとの現在のバージョン（このスレッドが更新するIDのみ使用する） */
+        private int[] versions;
+
+        private int threadIndex;
+
+        private int threadCount;
+
+        private long next;
+
+        @Setup(Level.Trial)
+        public void setUp(ThreadParams threadParams) {
+            threadIndex = threadParams.getThreadIndex();
+            threadCount = threadParams.getThreadCount();
+            next = threadIndex + 1;
+            versions = new int[ROWS + 1];
+            form = TaskForm.builder()
+                    .title("変更履歴ベンチマーク")
+                    .description("変更履歴ベンチマークで更新した説明")
+                    .status(TaskStatus.IN_PROGRESS)
+                    .priority(TaskPriority.HIGH)
+                    .categoryId(1L)
+                    .dueDate(LocalDate.now().plusDays(7))
+                    .build();
+        }
+
+        /**
+         * このスレッドが更新する次のタスクIDを取得する（スレッド番号で割った余りが一致するIDを順に巡回する）.
+         *
+         * @return タスクID
+         */
+        private long nextId() {
+            long id = next;
+            next += threadCount;
+            if (next > ROWS) {
+                next = threadIndex + 1;
+            }
+            return id;
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.example.taskmanager.benchmark;
+
+import com.example.taskmanager.task.dto.TaskDto;
+import com.example.taskmanager.task.model.TaskPage;
+import com.example.taskmanager.task.model.TaskSearchCondition;
+import com.example.taskmanager.task.service.TaskService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * タスク一覧の取得カラム（射影）ごとのベンチマーク.
+ *
+ * <p>説明を1KBとしたタスク100,000件に対して、先頭ページを取得する。</p>
+ * <ul>
+ *   <li>{@code allColumns}: 説明・更新日時を含む全カラム（変更前の一覧と同じカラム）</li>
+ *   <li>{@code withoutDetails}: 同じ文で説明・更新日時を取得しない</li>
+ *   <li>{@code listItems}: 一覧画面の取得処理（{@link TaskService#findPage}）</li>
+ * </ul>
+ *
+ * <p>1回あたりのヒープ割り当て量は{@code -prof gc}の{@code gc.alloc.rate.norm}で比較する。
+ * 1ページあたりに読み出す文字列カラムのバイト数は、起動時に標準出力へ出力する。</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms1g", "-Xmx2g"})
+public class TaskListProjectionBenchmark {
+
+    private static final int ROWS = 100_000;
+
+    private static final int DESCRIPTION_BYTES = 1024;
+
+    /** 1ページあたりの件数（一覧画面・APIの上限） */
+    @Param({"50", "1000"})
+    private int pageSize;
+
+    private ConfigurableApplicationContext context;
+
+    private TaskService taskService;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkSupport.start("task_list_projection");
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+        jdbcTemplate.update("DELETE FROM tasks");
+        BenchmarkSupport.seedTasks(jdbcTemplate, ROWS, DESCRIPTION_BYTES);
+        taskService = context.getBean(TaskService.class);
+        printTextBytes(jdbcTemplate);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<TaskDto> allColumns() {
+        List<TaskDto> tasks = new ArrayList<>(pageSize);
+        taskService.forEachInPage(TaskSearchCondition.ALL, null, pageSize, true, tasks::add);
+        return tasks;
+    }
+
+    @Benchmark
+    public List<TaskDto> withoutDetails() {
+        List<TaskDto> tasks = new ArrayList<>(pageSize);
+        taskService.forEachInPage(TaskSearchCondition.ALL, null, pageSize, false, tasks::add);
+        return tasks;
+    }
+
+    @Benchmark
+    public TaskPage listItems() {
+        return taskService.findPage(TaskSearchCondition.ALL, null, pageSize);
+    }
+
+    /**
+     * 先頭ページで読み出す文字列カラムのバイト数を出力する.
+     *
+     * @param jdbcTemplate JdbcTemplate
+     */
+    private void printTextBytes(JdbcTemplate jdbcTemplate) {
+        String page = "(SELECT * FROM tasks ORDER BY created_at DESC, id DESC LIMIT " + pageSize + ") t"
+                + " LEFT JOIN task_categories c ON t.category_id = c.id";
+        Long listBytes = jdbcTemplate.queryForObject("SELECT SUM(OCTET_LENGTH(t.title)"
+                + " + COALESCE(OCTET_LENGTH(c.name), 0) + COALESCE(OCTET_LENGTH(c.color), 0)) FROM " + page, Long.class);
+        Long descriptionBytes = jdbcTemplate.queryForObject(
+                "SELECT SUM(COALESCE(OCTET_LENGTH(t.description), 0)) FROM " + page, Long.class);
+        System.out.printf("# text column bytes per page (pageSize=%d): withoutDetails/listItems=%d, allColumns=%d%n",
+                pageSize, listBytes, listBytes + descriptionBytes);
+    }
+}
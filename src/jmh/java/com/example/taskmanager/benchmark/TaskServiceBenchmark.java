@@ -0,0 +1,148 @@
+package com.example.taskmanager.benchmark;
+
+import com.example.taskmanager.common.enums.TaskPriority;
+import com.example.taskmanager.common.enums.TaskStatus;
+import com.example.taskmanager.task.dto.TaskDto;
+import com.example.taskmanager.task.form.TaskForm;
+import com.example.taskmanager.task.model.TaskDueRange;
+import com.example.taskmanager.task.model.TaskPage;
+import com.example.taskmanager.task.model.TaskSearchCondition;
+import com.example.taskmanager.task.model.TaskSortKey;
+import com.example.taskmanager.task.service.TaskService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * TaskServiceImplの主要メソッドのベンチマーク.
+ *
+ * <p>10,000件・100,000件・1,000,000件のタスクを投入したH2に対して計測する。
+ * {@code findPageMultiFilter}はステータス・カテゴリーの複数指定と期限日の範囲で絞り込み、期限日の近い順に先頭ページを取得する。
+ * {@code findOverdue}・{@code findDueToday}・{@code findDueSoon}は未完了タスクの先頭ページを期限日の範囲で取得する
+ * （投入データの期限日は前後60日に分散するため、1,000,000件では期限切れが約33万件、今日が期限が約8,300件となる）。</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx4g"})
+public class TaskServiceBenchmark {
+
+    /** 一覧の1ページあたりの件数（一覧画面と同じ） */
+    private static final int PAGE_SIZE = 50;
+
+    /** 投入するタスク件数 */
+    @Param({"10000", "100000", "1000000"})
+    private int rows;
+
+    private ConfigurableApplicationContext context;
+
+    private TaskService taskService;
+
+    private TaskForm form;
+
+    /** 複数値・期限日の範囲・並び順を指定した一覧の検索条件 */
+    private TaskSearchCondition multiFilter;
+
+    /** タスクIDごとの現在のバージョン（update以外に更新するスレッドはないため、ここで追跡する） */
+    private int[] versions;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkSupport.start("task_service_" + rows);
+        BenchmarkSupport.seedTasks(context.getBean(JdbcTemplate.class), rows);
+        taskService = context.getBean(TaskService.class);
+        form = TaskForm.builder()
+                .title("ベンチマーク更新")
+                .description("ベンチマークで更新した説明")
+                .status(TaskStatus.IN_PROGRESS)
+                .priority(TaskPriority.HIGH)
+                .categoryId(1L)
+                .dueDate(LocalDate.now().plusDays(7))
+                .build();
+        versions = new int[rows + 1];
+        multiFilter = TaskSearchCondition.builder()
+                .statuses(List.of(TaskStatus.TODO, TaskStatus.IN_PROGRESS))
+                .categoryIds(List.of(1L, 2L))
+                .dueDateFrom(LocalDate.now())
+                .dueDateTo(LocalDate.now().plusDays(30))
+                .sort(TaskSortKey.DUE_DATE_ASC)
+                .build();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<TaskDto> findAll() {
+        return taskService.findAll();
+    }
+
+    @Benchmark
+    public List<TaskDto> findByCondition() {
+        return taskService.findByCondition(TaskSearchCondition.of(TaskStatus.TODO, TaskPriority.HIGH, 2L));
+    }
+
+    @Benchmark
+    public TaskPage findPageMultiFilter() {
+        return taskService.findPage(multiFilter, null, PAGE_SIZE);
+    }
+
+    @Benchmark
+    public TaskPage findOverdue() {
+        return taskService.findDue(TaskDueRange.OVERDUE, TaskDueRange.DEFAULT_DAYS, null, PAGE_SIZE);
+    }
+
+    @Benchmark
+    public TaskPage findDueToday() {
+        return taskService.findDue(TaskDueRange.TODAY, TaskDueRange.DEFAULT_DAYS, null, PAGE_SIZE);
+    }
+
+    @Benchmark
+    public TaskPage findDueSoon() {
+        return taskService.findDue(TaskDueRange.SOON, TaskDueRange.DEFAULT_DAYS, null, PAGE_SIZE);
+    }
+
+    @Benchmark
+    public TaskDto findById() {
+        return taskService.findById(randomId());
+    }
+
+    @Benchmark
+    public TaskDto create() {
+        return taskService.create(form);
+    }
+
+    @Benchmark
+    public TaskDto update() {
+        int id = (int) randomId();
+        form.setVersion(versions[id]);
+        TaskDto updated = taskService.update((long) id, form);
+        versions[id] = updated.getVersion();
+        return updated;
+    }
+
+    private long randomId() {
+        return ThreadLocalRandom.current().nextLong(1, rows + 1);
+    }
+}
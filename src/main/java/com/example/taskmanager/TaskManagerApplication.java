@@ -1,6 +1,7 @@
 package com.example.taskmanager;
 
 import com.example.taskmanager.category.mapper.CategoryCustomMapper;
+import com.example.taskmanager.common.history.TaskHistoryMapper;
 import com.example.taskmanager.common.mapper.TaskCategoryMapper;
 import com.example.taskmanager.common.mapper.TaskMapper;
 import com.example.taskmanager.task.mapper.TaskCustomMapper;
@@ -18,7 +19,8 @@ import org.springframework.boot.autoconfigure.SpringBootApplication;
  * @version 1.0.0
  */
 @SpringBootApplication
-@MapperScan(basePackageClasses = {TaskMapper.class, TaskCategoryMapper.class, TaskCustomMapper.class, CategoryCustomMapper.class})
+@MapperScan(basePackageClasses = {TaskMapper.class, TaskCategoryMapper.class, TaskCustomMapper.class, CategoryCustomMapper.class,
+        TaskHistoryMapper.class})
 public class TaskManagerApplication {
 
     /**
@@ -0,0 +1,50 @@
+package com.example.taskmanager.category.controller;
+
+import com.example.taskmanager.category.dto.CategoryDto;
+import com.example.taskmanager.category.service.CategoryService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * カテゴリーのREST APIコントローラー.
+ *
+ * <p>カテゴリーは件数が少ないため、ページング・ストリーミングは行わず全件を返す。</p>
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/v1/categories")
+@RequiredArgsConstructor
+public class CategoryApiController {
+
+    /** カテゴリーサービス */
+    private final CategoryService categoryService;
+
+    /**
+     * 全カテゴリーを表示順で取得する.
+     *
+     * @return カテゴリーDTOのリスト
+     */
+    @GetMapping
+    public List<CategoryDto> list() {
+        log.debug("GET /api/v1/categories");
+        return categoryService.findAll();
+    }
+
+    /**
+     * カテゴリーを1件取得する.
+     *
+     * @param id カテゴリーID
+     * @return カテゴリーDTO
+     */
+    @GetMapping("/{id}")
+    public CategoryDto get(@PathVariable Long id) {
+        log.debug("GET /api/v1/categories/{}", id);
+        return categoryService.findById(id);
+    }
+}
@@ -19,10 +19,12 @@ public interface CategoryConverter {
 
     /**
      * EntityからDTOへ変換する.
+     * タスク件数はエンティティに含まれないため無視する。
      *
      * @param entity TaskCategoryエンティティ
      * @return CategoryDto
      */
+    @Mapping(target = "taskCount", ignore = true)
     CategoryDto toDto(TaskCategory entity);
 
     /**
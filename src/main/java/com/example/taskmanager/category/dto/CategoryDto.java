@@ -38,4 +38,7 @@ public class CategoryDto {
 
     /** 更新日時 */
     private LocalDateTime updatedAt;
+
+    /** タスク件数（一覧取得時のみ設定する） */
+    private Integer taskCount;
 }
@@ -0,0 +1,22 @@
+package com.example.taskmanager.category.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * カテゴリーごとのタスク件数.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CategoryTaskCountDto {
+
+    /** カテゴリーID */
+    private Long categoryId;
+
+    /** タスク件数 */
+    private int taskCount;
+}
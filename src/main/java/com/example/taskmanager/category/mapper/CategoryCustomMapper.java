@@ -1,8 +1,11 @@
 package com.example.taskmanager.category.mapper;
 
+import com.example.taskmanager.category.dto.CategoryTaskCountDto;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
 
+import java.util.List;
+
 /**
  * カテゴリーのカスタムマッパーインターフェース.
  *
@@ -13,10 +16,22 @@ import org.apache.ibatis.annotations.Param;
 public interface CategoryCustomMapper {
 
     /**
-     * 指定されたカテゴリーを使用しているタスクの件数を取得する.
+     * 全カテゴリーのタスク件数を取得する.
+     *
+     * <p>tasksは集計せず、task_categoriesのtask_count列を読み出す。</p>
+     *
+     * @return カテゴリーごとのタスク件数のリスト
+     */
+    List<CategoryTaskCountDto> selectTaskCounts();
+
+    /**
+     * 指定されたカテゴリーのタスク件数を、カテゴリーの行をロックして取得する.
+     *
+     * <p>削除の判定に使用する。ロックはトランザクション終了まで保持され、
+     * その間に同じカテゴリーへタスクを追加する更新は待機する。</p>
      *
      * @param categoryId カテゴリーID
-     * @return 使用しているタスクの件数
+     * @return タスク件数（カテゴリーが存在しない場合はnull）
      */
-    long countTasksByCategoryId(@Param("categoryId") Long categoryId);
+    Integer selectTaskCountForUpdate(@Param("categoryId") Long categoryId);
 }
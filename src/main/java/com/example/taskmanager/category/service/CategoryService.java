@@ -13,7 +13,7 @@ public interface CategoryService {
     /**
      * 全カテゴリーを表示順で取得する.
      *
-     * @return カテゴリーDTOのリスト
+     * @return カテゴリーDTOのリスト（タスク件数を含む）
      */
     List<CategoryDto> findAll();
 
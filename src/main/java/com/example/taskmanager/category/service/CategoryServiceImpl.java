@@ -4,23 +4,31 @@ import com.example.taskmanager.category.converter.CategoryConverter;
 import com.example.taskmanager.category.dto.CategoryDto;
 import com.example.taskmanager.category.form.CategoryForm;
 import com.example.taskmanager.category.mapper.CategoryCustomMapper;
+import com.example.taskmanager.common.cache.CategoryCache;
+import com.example.taskmanager.common.cache.CategoryTaskCountCache;
 import com.example.taskmanager.common.entity.TaskCategory;
-import com.example.taskmanager.common.entity.TaskCategoryExample;
+import com.example.taskmanager.common.event.CategoryChangedEvent;
+import com.example.taskmanager.common.event.ChangeType;
 import com.example.taskmanager.common.exception.CategoryInUseException;
 import com.example.taskmanager.common.exception.CategoryNotFoundException;
 import com.example.taskmanager.common.mapper.TaskCategoryMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
 
 /**
  * カテゴリー管理のサービス実装クラス.
  *
  * <p>カテゴリーのCRUD操作を提供する。
- * トランザクション管理を行い、データの整合性を保証する。</p>
+ * トランザクション管理を行い、データの整合性を保証する。
+ * 参照系は{@link CategoryCache}から返し、更新系はコミット後にキャッシュを破棄させる。
+ * タスク件数はタスクの更新時に加減算されるtask_categories.task_countを{@link CategoryTaskCountCache}経由で読み出し、
+ * tasksは集計しない。</p>
  */
 @Slf4j
 @Service
@@ -37,19 +45,32 @@ public class CategoryServiceImpl implements CategoryService {
     /** カテゴリーコンバーター */
     private final CategoryConverter categoryConverter;
 
+    /** カテゴリーキャッシュ */
+    private final CategoryCache categoryCache;
+
+    /** カテゴリーごとのタスク件数のキャッシュ */
+    private final CategoryTaskCountCache categoryTaskCountCache;
+
+    /** イベント発行 */
+    private final ApplicationEventPublisher eventPublisher;
+
     /**
      * 全カテゴリーを表示順で取得する.
      *
-     * @return カテゴリーDTOのリスト
+     * <p>カテゴリー・タスク件数ともにキャッシュから取得し、DBには問い合わせない。</p>
+     *
+     * @return カテゴリーDTOのリスト（タスク件数を含む）
      */
     @Override
     @Transactional(readOnly = true)
     public List<CategoryDto> findAll() {
         log.debug("Finding all categories");
-        TaskCategoryExample example = new TaskCategoryExample();
-        example.setOrderByClause("DISPLAY_ORDER ASC, NAME ASC");
-        List<TaskCategory> categories = taskCategoryMapper.selectByExample(example);
-        return categoryConverter.toDtoList(categories);
+        List<CategoryDto> categories = categoryConverter.toDtoList(categoryCache.findAll());
+        Map<Long, Integer> taskCounts = categoryTaskCountCache.findAll();
+        for (CategoryDto category : categories) {
+            category.setTaskCount(taskCounts.getOrDefault(category.getId(), 0));
+        }
+        return categories;
     }
 
     /**
@@ -63,7 +84,7 @@ public class CategoryServiceImpl implements CategoryService {
     @Transactional(readOnly = true)
     public CategoryDto findById(Long id) {
         log.debug("Finding category by id: {}", id);
-        TaskCategory category = taskCategoryMapper.selectByPrimaryKey(id);
+        TaskCategory category = categoryCache.findById(id);
         if (category == null) {
             throw new CategoryNotFoundException(id);
         }
@@ -82,6 +103,7 @@ public class CategoryServiceImpl implements CategoryService {
         TaskCategory category = categoryConverter.toEntity(form);
         taskCategoryMapper.insertSelective(category);
         log.info("Category created: id={}", category.getId());
+        eventPublisher.publishEvent(new CategoryChangedEvent(category.getId(), ChangeType.CREATED));
         return categoryConverter.toDto(category);
     }
 
@@ -103,12 +125,15 @@ public class CategoryServiceImpl implements CategoryService {
         categoryConverter.updateEntity(form, existingCategory);
         taskCategoryMapper.updateByPrimaryKeySelective(existingCategory);
         log.info("Category updated: id={}", id);
+        eventPublisher.publishEvent(new CategoryChangedEvent(id, ChangeType.UPDATED));
         return categoryConverter.toDto(existingCategory);
     }
 
     /**
      * カテゴリーを削除する.
      *
+     * <p>存在確認と使用中の判定は、カテゴリーの行をロックしてタスク件数を読み出す1回の主キー検索で行う。</p>
+     *
      * @param id 削除するカテゴリーのID
      * @throws CategoryNotFoundException カテゴリーが見つからない場合
      * @throws CategoryInUseException    カテゴリーが使用中の場合
@@ -116,13 +141,12 @@ public class CategoryServiceImpl implements CategoryService {
     @Override
     public void delete(Long id) {
         log.debug("Deleting category: id={}", id);
-        TaskCategory existingCategory = taskCategoryMapper.selectByPrimaryKey(id);
-        if (existingCategory == null) {
+        Integer taskCount = categoryCustomMapper.selectTaskCountForUpdate(id);
+        if (taskCount == null) {
             throw new CategoryNotFoundException(id);
         }
 
         // カテゴリーが使用されているかチェック
-        long taskCount = categoryCustomMapper.countTasksByCategoryId(id);
         if (taskCount > 0) {
             log.warn("Category is in use: id={}, taskCount={}", id, taskCount);
             throw new CategoryInUseException(id);
@@ -130,5 +154,6 @@ public class CategoryServiceImpl implements CategoryService {
 
         taskCategoryMapper.deleteByPrimaryKey(id);
         log.info("Category deleted: id={}", id);
+        eventPublisher.publishEvent(new CategoryChangedEvent(id, ChangeType.DELETED));
     }
 }
@@ -0,0 +1,162 @@
+package com.example.taskmanager.common.cache;
+
+import com.example.taskmanager.common.entity.TaskCategory;
+import com.example.taskmanager.common.entity.TaskCategoryExample;
+import com.example.taskmanager.common.event.CategoryChangedEvent;
+import com.example.taskmanager.common.mapper.TaskCategoryMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * カテゴリーのインメモリキャッシュ.
+ *
+ * <p>全カテゴリーを表示順で読み込んだ不変のスナップショットを保持する。
+ * カテゴリーの登録・更新・削除のコミット後に{@link CategoryChangedEvent}を受けて破棄し、
+ * 次回参照時に再読み込みする。</p>
+ *
+ * <p>返却するエンティティは全スレッドで共有されるため、呼び出し側で変更しないこと。</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CategoryCache {
+
+    /** カテゴリーマッパー */
+    private final TaskCategoryMapper taskCategoryMapper;
+
+    /** 直近に読み込んだスナップショット（未読み込みの場合はnull） */
+    private final AtomicReference<Snapshot> snapshot = new AtomicReference<>();
+
+    /** 破棄のたびに進む世代番号 */
+    private final AtomicLong generation = new AtomicLong();
+
+    /** ヒット件数 */
+    private final LongAdder hitCount = new LongAdder();
+
+    /** ミス件数 */
+    private final LongAdder missCount = new LongAdder();
+
+    /**
+     * 全カテゴリーを表示順（表示順、名前の昇順）で取得する.
+     *
+     * @return カテゴリーエンティティの不変リスト
+     */
+    public List<TaskCategory> findAll() {
+        return current().categories();
+    }
+
+    /**
+     * IDを指定してカテゴリーを取得する.
+     *
+     * @param id カテゴリーID
+     * @return カテゴリーエンティティ（存在しない場合はnull）
+     */
+    public TaskCategory findById(Long id) {
+        return current().byId().get(id);
+    }
+
+    /**
+     * キャッシュを破棄する.
+     */
+    public void invalidate() {
+        generation.incrementAndGet();
+        log.debug("Category cache invalidated");
+    }
+
+    /**
+     * カテゴリー変更のコミット後にキャッシュを破棄する.
+     *
+     * @param event カテゴリー変更イベント
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCategoryChanged(CategoryChangedEvent event) {
+        invalidate();
+    }
+
+    /**
+     * 現在の世代番号を取得する.
+     *
+     * <p>カテゴリー情報を含む表示結果のキャッシュキーとして使用できる。</p>
+     *
+     * @return 世代番号
+     */
+    public long getGeneration() {
+        return generation.get();
+    }
+
+    /**
+     * ヒット件数を取得する.
+     *
+     * @return ヒット件数
+     */
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    /**
+     * ミス件数を取得する.
+     *
+     * @return ミス件数
+     */
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    /**
+     * 現在のスナップショットを取得する。未読み込みの場合はDBから読み込む.
+     *
+     * <p>スナップショットには読み込み開始時の世代番号を記録し、世代が進んでいるものは使用しない。
+     * これにより、読み込み中に破棄された古い内容が残り続けることを防ぐ。</p>
+     *
+     * @return スナップショット
+     */
+    private Snapshot current() {
+        long currentGeneration = generation.get();
+        Snapshot cached = snapshot.get();
+        if (cached != null && cached.generation() == currentGeneration) {
+            hitCount.increment();
+            return cached;
+        }
+        missCount.increment();
+        Snapshot loaded = load(currentGeneration);
+        snapshot.set(loaded);
+        return loaded;
+    }
+
+    /**
+     * DBから全カテゴリーを読み込む.
+     *
+     * @param loadGeneration 読み込み開始時の世代番号
+     * @return 読み込んだスナップショット
+     */
+    private Snapshot load(long loadGeneration) {
+        log.debug("Loading categories into cache");
+        TaskCategoryExample example = new TaskCategoryExample();
+        example.setOrderByClause("DISPLAY_ORDER ASC, NAME ASC");
+        List<TaskCategory> categories = List.copyOf(taskCategoryMapper.selectByExample(example));
+        Map<Long, TaskCategory> byId = new HashMap<>();
+        for (TaskCategory category : categories) {
+            byId.put(category.getId(), category);
+        }
+        return new Snapshot(categories, Map.copyOf(byId), loadGeneration);
+    }
+
+    /**
+     * カテゴリーのスナップショット.
+     *
+     * @param categories 表示順のカテゴリーリスト
+     * @param byId       IDをキーとしたカテゴリーのマップ
+     * @param generation 読み込み開始時の世代番号
+     */
+    private record Snapshot(List<TaskCategory> categories, Map<Long, TaskCategory> byId, long generation) {
+    }
+}
@@ -0,0 +1,134 @@
+package com.example.taskmanager.common.cache;
+
+import com.example.taskmanager.category.dto.CategoryTaskCountDto;
+import com.example.taskmanager.category.mapper.CategoryCustomMapper;
+import com.example.taskmanager.common.event.CategoryChangedEvent;
+import com.example.taskmanager.common.event.ChangeType;
+import com.example.taskmanager.common.event.TaskBulkChangedEvent;
+import com.example.taskmanager.common.event.TaskChangedEvent;
+import com.example.taskmanager.task.dto.TaskDto;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * カテゴリーごとのタスク件数のインメモリキャッシュ.
+ *
+ * <p>task_categories.task_countを読み込んだ不変のスナップショットを保持する。
+ * 件数が変わりうる変更（カテゴリーが変わるタスクの登録・更新・削除、一括変更、カテゴリーの変更）の
+ * コミット後に破棄し、次回参照時に再読み込みする。加減算は行わないため、イベントの重複や欠落で件数がずれることはない。</p>
+ *
+ * <p>{@link CategoryCache}の世代番号はタスク一覧の行キャッシュのキーに使われるため、
+ * タスクの変更で破棄されるタスク件数は別のキャッシュとして保持する。</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CategoryTaskCountCache {
+
+    /** カテゴリーカスタムマッパー */
+    private final CategoryCustomMapper categoryCustomMapper;
+
+    /** 直近に読み込んだスナップショット（未読み込みの場合はnull） */
+    private final AtomicReference<Snapshot> snapshot = new AtomicReference<>();
+
+    /** 破棄のたびに進む世代番号 */
+    private final AtomicLong generation = new AtomicLong();
+
+    /**
+     * カテゴリーIDごとのタスク件数を取得する.
+     *
+     * @return カテゴリーIDをキーとしたタスク件数の不変マップ
+     */
+    public Map<Long, Integer> findAll() {
+        long currentGeneration = generation.get();
+        Snapshot cached = snapshot.get();
+        if (cached != null && cached.generation() == currentGeneration) {
+            return cached.counts();
+        }
+        Snapshot loaded = load(currentGeneration);
+        snapshot.set(loaded);
+        return loaded.counts();
+    }
+
+    /**
+     * キャッシュを破棄する.
+     */
+    public void invalidate() {
+        generation.incrementAndGet();
+        log.debug("Category task count cache invalidated");
+    }
+
+    /**
+     * タスク変更のコミット後に、カテゴリーのタスク件数が変わる場合はキャッシュを破棄する.
+     *
+     * @param event タスク変更イベント
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        if (!Objects.equals(categoryId(event.before()), categoryId(event.after()))) {
+            invalidate();
+        }
+    }
+
+    /**
+     * 一括変更のコミット後にキャッシュを破棄する.
+     *
+     * <p>一括更新ではカテゴリーの変更有無がイベントからわからないため、変更種別によらず破棄する。</p>
+     *
+     * @param event 一括変更イベント
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskBulkChanged(TaskBulkChangedEvent event) {
+        if (event.affectedRows() > 0) {
+            invalidate();
+        }
+    }
+
+    /**
+     * カテゴリー変更のコミット後にキャッシュを破棄する.
+     *
+     * @param event カテゴリー変更イベント
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCategoryChanged(CategoryChangedEvent event) {
+        if (event.changeType() != ChangeType.UPDATED) {
+            invalidate();
+        }
+    }
+
+    /**
+     * DBからタスク件数を読み込む.
+     *
+     * @param loadGeneration 読み込み開始時の世代番号
+     * @return 読み込んだスナップショット
+     */
+    private Snapshot load(long loadGeneration) {
+        log.debug("Loading category task counts into cache");
+        Map<Long, Integer> counts = new HashMap<>();
+        for (CategoryTaskCountDto row : categoryCustomMapper.selectTaskCounts()) {
+            counts.put(row.getCategoryId(), row.getTaskCount());
+        }
+        return new Snapshot(Map.copyOf(counts), loadGeneration);
+    }
+
+    private static Long categoryId(TaskDto task) {
+        return task != null ? task.getCategoryId() : null;
+    }
+
+    /**
+     * タスク件数のスナップショット.
+     *
+     * @param counts     カテゴリーIDをキーとしたタスク件数
+     * @param generation 読み込み開始時の世代番号
+     */
+    private record Snapshot(Map<Long, Integer> counts, long generation) {
+    }
+}
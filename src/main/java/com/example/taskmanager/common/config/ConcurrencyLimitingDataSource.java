@@ -0,0 +1,125 @@
+package com.example.taskmanager.common.config;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 同時に取得できる接続数をセマフォで制限するDataSource.
+ *
+ * <p>仮想スレッドではリクエストごとにスレッドが生成されるため、スレッドプールによる流量制御が働かない。
+ * 接続の取得前に許可を得ることで、コネクションプールへの同時要求数を上限以下に抑え、
+ * 待機中のスレッドがプールの待ち行列に殺到することを防ぐ。</p>
+ *
+ * <p>許可は接続のクローズ時に返却する。待機時間内に許可を得られない場合は
+ * {@link SQLTransientConnectionException}をスローする。</p>
+ */
+public class ConcurrencyLimitingDataSource extends DelegatingDataSource {
+
+    /** 接続数の許可 */
+    private final Semaphore permits;
+
+    /** 許可を待つ最大時間（ナノ秒） */
+    private final long acquireTimeoutNanos;
+
+    /**
+     * 制限を指定してDataSourceを生成する.
+     *
+     * @param targetDataSource 委譲先のDataSource
+     * @param maxConcurrent    同時に取得できる接続数の上限
+     * @param acquireTimeout   許可を待つ最大時間
+     */
+    public ConcurrencyLimitingDataSource(DataSource targetDataSource, int maxConcurrent, Duration acquireTimeout) {
+        super(targetDataSource);
+        this.permits = new Semaphore(maxConcurrent, true);
+        this.acquireTimeoutNanos = acquireTimeout.toNanos();
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        acquire();
+        try {
+            return limited(super.getConnection());
+        } catch (SQLException | RuntimeException ex) {
+            permits.release();
+            throw ex;
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        acquire();
+        try {
+            return limited(super.getConnection(username, password));
+        } catch (SQLException | RuntimeException ex) {
+            permits.release();
+            throw ex;
+        }
+    }
+
+    /**
+     * 現在取得可能な許可の数を取得する.
+     *
+     * @return 取得可能な許可の数
+     */
+    public int getAvailablePermits() {
+        return permits.availablePermits();
+    }
+
+    /**
+     * 許可を取得する.
+     *
+     * @throws SQLException 待機時間内に取得できなかった場合、または割り込まれた場合
+     */
+    private void acquire() throws SQLException {
+        try {
+            if (!permits.tryAcquire(acquireTimeoutNanos, TimeUnit.NANOSECONDS)) {
+                throw new SQLTransientConnectionException(
+                        "Timed out waiting for a database connection permit");
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new SQLTransientConnectionException(
+                    "Interrupted while waiting for a database connection permit", ex);
+        }
+    }
+
+    /**
+     * クローズ時に許可を返却する接続のプロキシを生成する.
+     *
+     * @param target 委譲先の接続
+     * @return 接続のプロキシ
+     */
+    private Connection limited(Connection target) {
+        AtomicBoolean released = new AtomicBoolean();
+        return (Connection) Proxy.newProxyInstance(
+                Connection.class.getClassLoader(),
+                new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    if ("close".equals(method.getName()) && method.getParameterCount() == 0) {
+                        try {
+                            target.close();
+                        } finally {
+                            if (released.compareAndSet(false, true)) {
+                                permits.release();
+                            }
+                        }
+                        return null;
+                    }
+                    try {
+                        return method.invoke(target, args);
+                    } catch (InvocationTargetException ex) {
+                        throw ex.getTargetException();
+                    }
+                });
+    }
+}
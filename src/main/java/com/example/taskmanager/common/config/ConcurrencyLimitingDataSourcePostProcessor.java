@@ -0,0 +1,37 @@
+package com.example.taskmanager.common.config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+
+/**
+ * DataSourceを{@link ConcurrencyLimitingDataSource}で包むBeanPostProcessor.
+ *
+ * <p>{@code app.datasource.limiter.enabled=true}の場合のみ登録される。
+ * MyBatis・トランザクションマネージャーは包んだ後のDataSourceを使用する。</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "app.datasource.limiter", name = "enabled", havingValue = "true")
+public class ConcurrencyLimitingDataSourcePostProcessor implements BeanPostProcessor {
+
+    /** 同時接続数制限の設定（BeanPostProcessorの早期生成を避けるため遅延取得する） */
+    private final ObjectProvider<DataSourceLimiterProperties> properties;
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof DataSource dataSource && !(bean instanceof ConcurrencyLimitingDataSource)) {
+            DataSourceLimiterProperties limiter = properties.getObject();
+            log.info("Limiting concurrent connections of '{}' to {}", beanName, limiter.getMaxConcurrent());
+            return new ConcurrencyLimitingDataSource(dataSource, limiter.getMaxConcurrent(),
+                    limiter.getAcquireTimeout());
+        }
+        return bean;
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.taskmanager.common.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * DataSourceの同時接続数制限の設定.
+ *
+ * <p>application.ymlの{@code app.datasource.limiter}配下の値をバインドする。</p>
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.datasource.limiter")
+public class DataSourceLimiterProperties {
+
+    /** 同時接続数の制限を有効にするかどうか */
+    private boolean enabled = false;
+
+    /** 同時に取得できる接続数の上限（コネクションプールの最大数以下にすること） */
+    private int maxConcurrent = 10;
+
+    /** 接続の取得を待つ最大時間 */
+    private Duration acquireTimeout = Duration.ofSeconds(5);
+}
@@ -0,0 +1,104 @@
+package com.example.taskmanager.common.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * バージョン管理されたスキーマ初期化処理.
+ *
+ * <p>{@code schema_version}テーブルに適用済みのバージョンを記録し、未適用のバージョンのスクリプトのみを実行する。
+ * 永続化されたDBを使用する本番プロファイルで、再起動のたびに初期データが投入されることを防ぐ。</p>
+ *
+ * <p>バージョン1はインメモリDBと同じschema.sql・data.sqlを使用する。
+ * 以降のスキーマ変更は、schema.sqlを修正したうえで差分のスクリプトを{@link #MIGRATIONS}に追加すること。</p>
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "app.schema", name = "versioning-enabled", havingValue = "true")
+public class SchemaVersionInitializer implements InitializingBean {
+
+    /** バージョンごとのスクリプト（バージョンの昇順） */
+    static final List<Migration> MIGRATIONS = List.of(
+            new Migration(1, "初期スキーマと初期データ", List.of("classpath:schema.sql", "classpath:data.sql")),
+            new Migration(2, "tasksにバージョン列を追加", List.of("classpath:db/migration/v2_tasks_version.sql")),
+            new Migration(3, "task_categoriesにタスク件数列を追加",
+                    List.of("classpath:db/migration/v3_task_categories_task_count.sql")),
+            new Migration(4, "tasksの絞り込み用インデックスを複合インデックスに置き換え",
+                    List.of("classpath:db/migration/v4_tasks_search_indexes.sql")),
+            new Migration(5, "tasksの期限日インデックスにステータスを追加",
+                    List.of("classpath:db/migration/v5_tasks_due_date_status_index.sql")),
+            new Migration(6, "タスク・カテゴリーの変更履歴テーブルを追加",
+                    List.of("classpath:db/migration/v6_task_history.sql")),
+            new Migration(7, "tasksの期限日インデックスを一覧の並び順に合わせて置き換え",
+                    List.of("classpath:db/migration/v7_tasks_due_date_id_index.sql"))
+    );
+
+    /** データソース */
+    private final DataSource dataSource;
+
+    /** スクリプトの読み込み */
+    private final ResourceLoader resourceLoader;
+
+    /** JdbcTemplate */
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * データソースを指定して初期化処理を生成する.
+     *
+     * @param dataSource     データソース
+     * @param resourceLoader スクリプトの読み込み
+     */
+    public SchemaVersionInitializer(DataSource dataSource, ResourceLoader resourceLoader) {
+        this.dataSource = dataSource;
+        this.resourceLoader = resourceLoader;
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    /**
+     * 未適用のバージョンのスクリプトを順に実行する.
+     */
+    @Override
+    public void afterPropertiesSet() {
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS schema_version ("
+                + " version INT PRIMARY KEY,"
+                + " description VARCHAR(200) NOT NULL,"
+                + " installed_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP)");
+        Integer current = jdbcTemplate.queryForObject("SELECT MAX(version) FROM schema_version", Integer.class);
+        int installed = current != null ? current : 0;
+        for (Migration migration : MIGRATIONS) {
+            if (migration.version() <= installed) {
+                continue;
+            }
+            log.info("Applying schema version {}: {}", migration.version(), migration.description());
+            ResourceDatabasePopulator populator = new ResourceDatabasePopulator();
+            populator.setSqlScriptEncoding(StandardCharsets.UTF_8.name());
+            for (String location : migration.scripts()) {
+                populator.addScript(resourceLoader.getResource(location));
+            }
+            populator.execute(dataSource);
+            jdbcTemplate.update("INSERT INTO schema_version (version, description) VALUES (?, ?)",
+                    migration.version(), migration.description());
+            installed = migration.version();
+        }
+        log.info("Schema is up to date: version={}", installed);
+    }
+
+    /**
+     * 1バージョン分のスクリプト.
+     *
+     * @param version     バージョン
+     * @param description 変更内容
+     * @param scripts     実行するスクリプトの場所（実行順）
+     */
+    record Migration(int version, String description, List<String> scripts) {
+    }
+}
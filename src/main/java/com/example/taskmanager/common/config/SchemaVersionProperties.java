@@ -0,0 +1,33 @@
+package com.example.taskmanager.common.config;
+
+import com.example.taskmanager.common.typehandler.EnumStorage;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * スキーマ（バージョン管理・列の格納形式）の設定.
+ *
+ * <p>application.ymlの{@code app.schema}配下の値をバインドする。</p>
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.schema")
+public class SchemaVersionProperties {
+
+    /**
+     * スキーマバージョン管理を有効にするかどうか.
+     *
+     * <p>有効な場合、未適用のバージョンのスクリプトのみを実行する。
+     * 起動のたびにschema.sql・data.sqlを実行する{@code spring.sql.init}とは併用しないこと。</p>
+     */
+    private boolean versioningEnabled = false;
+
+    /**
+     * tasksのstatus・priority列の格納形式.
+     *
+     * <p>CODEとする場合は、先に db/migration/optional/tasks_enum_codes.sql で列をSMALLINTに変換すること
+     * （インメモリDBでは enum-codes プロファイルが初期データの投入後に変換する）。</p>
+     */
+    private EnumStorage enumStorage = EnumStorage.NAME;
+}
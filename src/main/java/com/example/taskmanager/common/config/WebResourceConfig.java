@@ -0,0 +1,44 @@
+package com.example.taskmanager.common.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.CacheControl;
+import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import org.springframework.web.servlet.resource.EncodedResourceResolver;
+import org.springframework.web.servlet.resource.VersionResourceResolver;
+
+import java.time.Duration;
+
+/**
+ * WebJars（Bootstrap・Bootstrap Icons）の配信設定.
+ *
+ * <p>Spring Bootの既定の{@code /webjars/**}の設定を置き換え、次のとおり配信する。</p>
+ * <ul>
+ *   <li>テンプレートの{@code @{/webjars/...}}のURLに内容のハッシュを付与する（ResourceUrlEncodingFilterが変換する）。
+ *       内容が変わるとURLも変わるため、1年間・immutableのキャッシュを許可する。</li>
+ *   <li>ビルド時に生成した{@code .br}・{@code .gz}がある場合は、Accept-Encodingに応じてそれを返す
+ *       （生成はpom.xmlのprecompress-webjarsを参照）。</li>
+ * </ul>
+ */
+@Configuration
+public class WebResourceConfig implements WebMvcConfigurer {
+
+    /** WebJarsのURLパターン */
+    static final String WEBJARS_PATTERN = "/webjars/**";
+
+    /** WebJarsのクラスパス上の位置 */
+    static final String WEBJARS_LOCATION = "classpath:/META-INF/resources/webjars/";
+
+    /** キャッシュの有効期間 */
+    static final Duration CACHE_PERIOD = Duration.ofDays(365);
+
+    @Override
+    public void addResourceHandlers(ResourceHandlerRegistry registry) {
+        registry.addResourceHandler(WEBJARS_PATTERN)
+                .addResourceLocations(WEBJARS_LOCATION)
+                .setCacheControl(CacheControl.maxAge(CACHE_PERIOD).cachePublic().immutable())
+                .resourceChain(true)
+                .addResolver(new EncodedResourceResolver())
+                .addResolver(new VersionResourceResolver().addContentVersionStrategy("/**"));
+    }
+}
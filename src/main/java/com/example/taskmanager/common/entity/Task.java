@@ -1,5 +1,7 @@
 package com.example.taskmanager.common.entity;
 
+import com.example.taskmanager.common.enums.TaskPriority;
+import com.example.taskmanager.common.enums.TaskStatus;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 
@@ -51,7 +53,7 @@ public class Task {
      *
      * @mbg.generated
      */
-    private String status;
+    private TaskStatus status;
 
     /**
      * Database Column Remarks:
@@ -62,7 +64,7 @@ public class Task {
      *
      * @mbg.generated
      */
-    private String priority;
+    private TaskPriority priority;
 
     /**
      * Database Column Remarks:
@@ -108,6 +110,17 @@ public class Task {
      */
     private LocalDateTime updatedAt;
 
+    /**
+     * Database Column Remarks:
+     *   バージョン（楽観ロック用）
+     *
+     * This field was generated by MyBatis Generator.
+     * This field corresponds to the database column TASKS.VERSION
+     *
+     * @mbg.generated
+     */
+    private Integer version;
+
     /**
      * This method was generated by MyBatis Generator.
      * This method returns the value of the database column TASKS.ID
@@ -188,7 +201,7 @@ public class Task {
      *
      * @mbg.generated
      */
-    public String getStatus() {
+    public TaskStatus getStatus() {
         return status;
     }
 
@@ -200,8 +213,8 @@ public class Task {
      *
      * @mbg.generated
      */
-    public void setStatus(String status) {
-        this.status = status == null ? null : status.trim();
+    public void setStatus(TaskStatus status) {
+        this.status = status;
     }
 
     /**
@@ -212,7 +225,7 @@ public class Task {
      *
      * @mbg.generated
      */
-    public String getPriority() {
+    public TaskPriority getPriority() {
         return priority;
     }
 
@@ -224,8 +237,8 @@ public class Task {
      *
      * @mbg.generated
      */
-    public void setPriority(String priority) {
-        this.priority = priority == null ? null : priority.trim();
+    public void setPriority(TaskPriority priority) {
+        this.priority = priority;
     }
 
     /**
@@ -323,4 +336,28 @@ public class Task {
     public void setUpdatedAt(LocalDateTime updatedAt) {
         this.updatedAt = updatedAt;
     }
+
+    /**
+     * This method was generated by MyBatis Generator.
+     * This method returns the value of the database column TASKS.VERSION
+     *
+     * @return the value of TASKS.VERSION
+     *
+     * @mbg.generated
+     */
+    public Integer getVersion() {
+        return version;
+    }
+
+    /**
+     * This method was generated by MyBatis Generator.
+     * This method sets the value of the database column TASKS.VERSION
+     *
+     * @param version the value for TASKS.VERSION
+     *
+     * @mbg.generated
+     */
+    public void setVersion(Integer version) {
+        this.version = version;
+    }
 }
\ No newline at end of file
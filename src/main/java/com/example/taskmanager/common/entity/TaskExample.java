@@ -1,5 +1,7 @@
 package com.example.taskmanager.common.entity;
 
+import com.example.taskmanager.common.enums.TaskPriority;
+import com.example.taskmanager.common.enums.TaskStatus;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -406,62 +408,62 @@ public class TaskExample {
             return (Criteria) this;
         }
 
-        public Criteria andStatusEqualTo(String value) {
+        public Criteria andStatusEqualTo(TaskStatus value) {
             addCriterion("STATUS =", value, "status");
             return (Criteria) this;
         }
 
-        public Criteria andStatusNotEqualTo(String value) {
+        public Criteria andStatusNotEqualTo(TaskStatus value) {
             addCriterion("STATUS <>", value, "status");
             return (Criteria) this;
         }
 
-        public Criteria andStatusGreaterThan(String value) {
+        public Criteria andStatusGreaterThan(TaskStatus value) {
             addCriterion("STATUS >", value, "status");
             return (Criteria) this;
         }
 
-        public Criteria andStatusGreaterThanOrEqualTo(String value) {
+        public Criteria andStatusGreaterThanOrEqualTo(TaskStatus value) {
             addCriterion("STATUS >=", value, "status");
             return (Criteria) this;
         }
 
-        public Criteria andStatusLessThan(String value) {
+        public Criteria andStatusLessThan(TaskStatus value) {
             addCriterion("STATUS <", value, "status");
             return (Criteria) this;
         }
 
-        public Criteria andStatusLessThanOrEqualTo(String value) {
+        public Criteria andStatusLessThanOrEqualTo(TaskStatus value) {
             addCriterion("STATUS <=", value, "status");
             return (Criteria) this;
         }
 
-        public Criteria andStatusLike(String value) {
+        public Criteria andStatusLike(TaskStatus value) {
             addCriterion("STATUS like", value, "status");
             return (Criteria) this;
         }
 
-        public Criteria andStatusNotLike(String value) {
+        public Criteria andStatusNotLike(TaskStatus value) {
             addCriterion("STATUS not like", value, "status");
             return (Criteria) this;
         }
 
-        public Criteria andStatusIn(List<String> values) {
+        public Criteria andStatusIn(List<TaskStatus> values) {
             addCriterion("STATUS in", values, "status");
             return (Criteria) this;
         }
 
-        public Criteria andStatusNotIn(List<String> values) {
+        public Criteria andStatusNotIn(List<TaskStatus> values) {
             addCriterion("STATUS not in", values, "status");
             return (Criteria) this;
         }
 
-        public Criteria andStatusBetween(String value1, String value2) {
+        public Criteria andStatusBetween(TaskStatus value1, TaskStatus value2) {
             addCriterion("STATUS between", value1, value2, "status");
             return (Criteria) this;
         }
 
-        public Criteria andStatusNotBetween(String value1, String value2) {
+        public Criteria andStatusNotBetween(TaskStatus value1, TaskStatus value2) {
             addCriterion("STATUS not between", value1, value2, "status");
             return (Criteria) this;
         }
@@ -476,62 +478,62 @@ public class TaskExample {
             return (Criteria) this;
         }
 
-        public Criteria andPriorityEqualTo(String value) {
+        public Criteria andPriorityEqualTo(TaskPriority value) {
             addCriterion("PRIORITY =", value, "priority");
             return (Criteria) this;
         }
 
-        public Criteria andPriorityNotEqualTo(String value) {
+        public Criteria andPriorityNotEqualTo(TaskPriority value) {
             addCriterion("PRIORITY <>", value, "priority");
             return (Criteria) this;
         }
 
-        public Criteria andPriorityGreaterThan(String value) {
+        public Criteria andPriorityGreaterThan(TaskPriority value) {
             addCriterion("PRIORITY >", value, "priority");
             return (Criteria) this;
         }
 
-        public Criteria andPriorityGreaterThanOrEqualTo(String value) {
+        public Criteria andPriorityGreaterThanOrEqualTo(TaskPriority value) {
             addCriterion("PRIORITY >=", value, "priority");
             return (Criteria) this;
         }
 
-        public Criteria andPriorityLessThan(String value) {
+        public Criteria andPriorityLessThan(TaskPriority value) {
             addCriterion("PRIORITY <", value, "priority");
             return (Criteria) this;
         }
 
-        public Criteria andPriorityLessThanOrEqualTo(String value) {
+        public Criteria andPriorityLessThanOrEqualTo(TaskPriority value) {
             addCriterion("PRIORITY <=", value, "priority");
             return (Criteria) this;
         }
 
-        public Criteria andPriorityLike(String value) {
+        public Criteria andPriorityLike(TaskPriority value) {
             addCriterion("PRIORITY like", value, "priority");
             return (Criteria) this;
         }
 
-        public Criteria andPriorityNotLike(String value) {
+        public Criteria andPriorityNotLike(TaskPriority value) {
             addCriterion("PRIORITY not like", value, "priority");
             return (Criteria) this;
         }
 
-        public Criteria andPriorityIn(List<String> values) {
+        public Criteria andPriorityIn(List<TaskPriority> values) {
             addCriterion("PRIORITY in", values, "priority");
             return (Criteria) this;
         }
 
-        public Criteria andPriorityNotIn(List<String> values) {
+        public Criteria andPriorityNotIn(List<TaskPriority> values) {
             addCriterion("PRIORITY not in", values, "priority");
             return (Criteria) this;
         }
 
-        public Criteria andPriorityBetween(String value1, String value2) {
+        public Criteria andPriorityBetween(TaskPriority value1, TaskPriority value2) {
             addCriterion("PRIORITY between", value1, value2, "priority");
             return (Criteria) this;
         }
 
-        public Criteria andPriorityNotBetween(String value1, String value2) {
+        public Criteria andPriorityNotBetween(TaskPriority value1, TaskPriority value2) {
             addCriterion("PRIORITY not between", value1, value2, "priority");
             return (Criteria) this;
         }
@@ -775,6 +777,66 @@ public class TaskExample {
             addCriterion("UPDATED_AT not between", value1, value2, "updatedAt");
             return (Criteria) this;
         }
+
+        public Criteria andVersionIsNull() {
+            addCriterion("VERSION is null");
+            return (Criteria) this;
+        }
+
+        public Criteria andVersionIsNotNull() {
+            addCriterion("VERSION is not null");
+            return (Criteria) this;
+        }
+
+        public Criteria andVersionEqualTo(Integer value) {
+            addCriterion("VERSION =", value, "version");
+            return (Criteria) this;
+        }
+
+        public Criteria andVersionNotEqualTo(Integer value) {
+            addCriterion("VERSION <>", value, "version");
+            return (Criteria) this;
+        }
+
+        public Criteria andVersionGreaterThan(Integer value) {
+            addCriterion("VERSION >", value, "version");
+            return (Criteria) this;
+        }
+
+        public Criteria andVersionGreaterThanOrEqualTo(Integer value) {
+            addCriterion("VERSION >=", value, "version");
+            return (Criteria) this;
+        }
+
+        public Criteria andVersionLessThan(Integer value) {
+            addCriterion("VERSION <", value, "version");
+            return (Criteria) this;
+        }
+
+        public Criteria andVersionLessThanOrEqualTo(Integer value) {
+            addCriterion("VERSION <=", value, "version");
+            return (Criteria) this;
+        }
+
+        public Criteria andVersionIn(List<Integer> values) {
+            addCriterion("VERSION in", values, "version");
+            return (Criteria) this;
+        }
+
+        public Criteria andVersionNotIn(List<Integer> values) {
+            addCriterion("VERSION not in", values, "version");
+            return (Criteria) this;
+        }
+
+        public Criteria andVersionBetween(Integer value1, Integer value2) {
+            addCriterion("VERSION between", value1, value2, "version");
+            return (Criteria) this;
+        }
+
+        public Criteria andVersionNotBetween(Integer value1, Integer value2) {
+            addCriterion("VERSION not between", value1, value2, "version");
+            return (Criteria) this;
+        }
     }
 
     /**
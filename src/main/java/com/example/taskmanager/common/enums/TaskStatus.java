@@ -7,6 +7,8 @@ import lombok.RequiredArgsConstructor;
  * タスクのステータスを表す列挙型.
  *
  * <p>タスクの進捗状態を管理するために使用する。</p>
+ *
+ * <p>定数の序数はDBの格納値（app.schema.enum-storage=CODE の場合）となるため、末尾以外に追加・並べ替えしないこと。</p>
  */
 @Getter
 @RequiredArgsConstructor
@@ -0,0 +1,13 @@
+package com.example.taskmanager.common.event;
+
+/**
+ * カテゴリーが変更されたことを通知するイベント.
+ *
+ * <p>CategoryServiceImplの登録・更新・削除時に発行される。
+ * 購読側は{@code @TransactionalEventListener}でコミット後に受け取ること。</p>
+ *
+ * @param categoryId 変更されたカテゴリーのID
+ * @param changeType 変更種別
+ */
+public record CategoryChangedEvent(Long categoryId, ChangeType changeType) {
+}
@@ -0,0 +1,26 @@
+package com.example.taskmanager.common.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * データ変更の種別を表す列挙型.
+ *
+ * <p>変更イベントの購読側で、登録・更新・削除に応じた処理を切り替えるために使用する。</p>
+ */
+@Getter
+@RequiredArgsConstructor
+public enum ChangeType {
+
+    /** 登録 */
+    CREATED("登録"),
+
+    /** 更新 */
+    UPDATED("更新"),
+
+    /** 削除 */
+    DELETED("削除");
+
+    /** 画面表示用の名称 */
+    private final String displayName;
+}
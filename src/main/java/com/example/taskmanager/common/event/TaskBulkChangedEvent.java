@@ -0,0 +1,50 @@
+package com.example.taskmanager.common.event;
+
+import java.util.List;
+
+/**
+ * 複数のタスクがまとめて変更されたことを通知するイベント.
+ *
+ * <p>一括取込・一括変更・一括削除など、1件ごとの変更内容を通知しない処理の完了時に発行される。
+ * 対象のタスクIDを{@link #taskIds()}に設定するため、購読側は変更種別に応じて該当するタスクの状態のみを更新してよい。
+ * 一括取込では登録されたタスクのIDとなる。</p>
+ *
+ * @param changeType   変更種別
+ * @param taskIds      変更対象として指定されたタスクID（一括変更・一括削除では存在しないIDを含むことがある）
+ * @param affectedRows 変更された行数
+ */
+public record TaskBulkChangedEvent(ChangeType changeType, List<Long> taskIds, int affectedRows) {
+
+    /**
+     * 一括登録イベントを生成する.
+     *
+     * @param taskIds      登録されたタスクID
+     * @param affectedRows 登録された行数
+     * @return 一括変更イベント
+     */
+    public static TaskBulkChangedEvent created(List<Long> taskIds, int affectedRows) {
+        return new TaskBulkChangedEvent(ChangeType.CREATED, List.copyOf(taskIds), affectedRows);
+    }
+
+    /**
+     * 一括更新イベントを生成する.
+     *
+     * @param taskIds      更新対象のタスクID
+     * @param affectedRows 更新された行数
+     * @return 一括変更イベント
+     */
+    public static TaskBulkChangedEvent updated(List<Long> taskIds, int affectedRows) {
+        return new TaskBulkChangedEvent(ChangeType.UPDATED, List.copyOf(taskIds), affectedRows);
+    }
+
+    /**
+     * 一括削除イベントを生成する.
+     *
+     * @param taskIds      削除対象のタスクID
+     * @param affectedRows 削除された行数
+     * @return 一括変更イベント
+     */
+    public static TaskBulkChangedEvent deleted(List<Long> taskIds, int affectedRows) {
+        return new TaskBulkChangedEvent(ChangeType.DELETED, List.copyOf(taskIds), affectedRows);
+    }
+}
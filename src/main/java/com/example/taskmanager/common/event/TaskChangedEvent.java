@@ -0,0 +1,48 @@
+package com.example.taskmanager.common.event;
+
+import com.example.taskmanager.task.dto.TaskDto;
+
+/**
+ * タスクが変更されたことを通知するイベント.
+ *
+ * <p>TaskServiceImplの登録・更新・削除時に発行される。
+ * 購読側は{@code @TransactionalEventListener}でコミット後に受け取ること。</p>
+ *
+ * @param taskId     変更されたタスクのID
+ * @param changeType 変更種別
+ * @param before     変更前のタスク（登録の場合はnull）
+ * @param after      変更後のタスク（削除の場合はnull）
+ */
+public record TaskChangedEvent(Long taskId, ChangeType changeType, TaskDto before, TaskDto after) {
+
+    /**
+     * 登録イベントを生成する.
+     *
+     * @param after 登録されたタスク
+     * @return タスク変更イベント
+     */
+    public static TaskChangedEvent created(TaskDto after) {
+        return new TaskChangedEvent(after.getId(), ChangeType.CREATED, null, after);
+    }
+
+    /**
+     * 更新イベントを生成する.
+     *
+     * @param before 更新前のタスク
+     * @param after  更新後のタスク
+     * @return タスク変更イベント
+     */
+    public static TaskChangedEvent updated(TaskDto before, TaskDto after) {
+        return new TaskChangedEvent(after.getId(), ChangeType.UPDATED, before, after);
+    }
+
+    /**
+     * 削除イベントを生成する.
+     *
+     * @param before 削除されたタスク
+     * @return タスク変更イベント
+     */
+    public static TaskChangedEvent deleted(TaskDto before) {
+        return new TaskChangedEvent(before.getId(), ChangeType.DELETED, before, null);
+    }
+}
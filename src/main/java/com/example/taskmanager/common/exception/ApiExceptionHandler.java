@@ -0,0 +1,116 @@
+package com.example.taskmanager.common.exception;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ProblemDetail;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.validation.FieldError;
+import org.springframework.web.ErrorResponse;
+import org.springframework.web.bind.MethodArgumentNotValidException;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * REST API用の例外ハンドラー.
+ *
+ * <p>{@link RestController}を付与したコントローラーで発生した例外を捕捉し、
+ * エラーページの代わりにRFC 9457形式（application/problem+json）のレスポンスを返す。
+ * 画面用の{@link GlobalExceptionHandler}より先に適用されるよう、優先順位を最上位にする。</p>
+ */
+@Slf4j
+@RestControllerAdvice(annotations = RestController.class)
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class ApiExceptionHandler {
+
+    /**
+     * タスク未発見例外を処理する.
+     *
+     * @param ex 発生した例外
+     * @return 404のエラー詳細
+     */
+    @ExceptionHandler(TaskNotFoundException.class)
+    public ProblemDetail handleTaskNotFound(TaskNotFoundException ex) {
+        log.warn("Task not found: {}", ex.getMessage());
+        return ProblemDetail.forStatusAndDetail(HttpStatus.NOT_FOUND, ex.getMessage());
+    }
+
+    /**
+     * カテゴリー未発見例外を処理する.
+     *
+     * @param ex 発生した例外
+     * @return 404のエラー詳細
+     */
+    @ExceptionHandler(CategoryNotFoundException.class)
+    public ProblemDetail handleCategoryNotFound(CategoryNotFoundException ex) {
+        log.warn("Category not found: {}", ex.getMessage());
+        return ProblemDetail.forStatusAndDetail(HttpStatus.NOT_FOUND, ex.getMessage());
+    }
+
+    /**
+     * タスク更新競合例外を処理する.
+     *
+     * @param ex 発生した例外
+     * @return 409のエラー詳細
+     */
+    @ExceptionHandler(TaskConflictException.class)
+    public ProblemDetail handleTaskConflict(TaskConflictException ex) {
+        log.warn("Task update conflict: id={}", ex.getTaskId());
+        return ProblemDetail.forStatusAndDetail(HttpStatus.CONFLICT, ex.getMessage());
+    }
+
+    /**
+     * 入力検証エラーを処理する.
+     *
+     * @param ex 発生した例外
+     * @return 400のエラー詳細（項目ごとのメッセージをerrorsに設定する）
+     */
+    @ExceptionHandler(MethodArgumentNotValidException.class)
+    public ProblemDetail handleValidation(MethodArgumentNotValidException ex) {
+        Map<String, String> errors = new LinkedHashMap<>();
+        for (FieldError error : ex.getBindingResult().getFieldErrors()) {
+            errors.putIfAbsent(error.getField(), error.getDefaultMessage());
+        }
+        ProblemDetail problem = ProblemDetail.forStatusAndDetail(HttpStatus.BAD_REQUEST, "入力内容に誤りがあります");
+        problem.setProperty("errors", errors);
+        return problem;
+    }
+
+    /**
+     * リクエストパラメータ・本文の誤りを処理する.
+     *
+     * @param ex 発生した例外
+     * @return 400のエラー詳細
+     */
+    @ExceptionHandler({InvalidRequestException.class, MethodArgumentTypeMismatchException.class,
+            HttpMessageNotReadableException.class})
+    public ProblemDetail handleBadRequest(Exception ex) {
+        log.warn("Bad API request: {}", ex.getMessage());
+        String detail = ex instanceof InvalidRequestException ? ex.getMessage() : "リクエストの形式が不正です";
+        return ProblemDetail.forStatusAndDetail(HttpStatus.BAD_REQUEST, detail);
+    }
+
+    /**
+     * その他の例外を処理する.
+     *
+     * <p>Spring MVCの標準例外（{@link ErrorResponse}）は、例外が持つステータス・エラー詳細をそのまま返す。</p>
+     *
+     * @param ex 発生した例外
+     * @return エラー詳細（標準例外以外は500）
+     */
+    @ExceptionHandler(Exception.class)
+    public ProblemDetail handleException(Exception ex) {
+        if (ex instanceof ErrorResponse errorResponse) {
+            log.warn("API request failed: {}", ex.getMessage());
+            return errorResponse.getBody();
+        }
+        log.error("Unexpected API error occurred", ex);
+        return ProblemDetail.forStatusAndDetail(HttpStatus.INTERNAL_SERVER_ERROR, "システムエラーが発生しました");
+    }
+}
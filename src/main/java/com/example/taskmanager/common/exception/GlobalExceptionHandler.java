@@ -1,9 +1,12 @@
 package com.example.taskmanager.common.exception;
 
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 
 /**
@@ -30,6 +33,22 @@ public class GlobalExceptionHandler {
         return "error/404";
     }
 
+    /**
+     * タスク更新競合例外を処理する.
+     *
+     * @param ex    発生した例外
+     * @param model ビューに渡すモデル
+     * @return 409エラーページのビュー名
+     */
+    @ExceptionHandler(TaskConflictException.class)
+    @ResponseStatus(HttpStatus.CONFLICT)
+    public String handleTaskConflict(TaskConflictException ex, Model model) {
+        log.warn("Task update conflict: id={}", ex.getTaskId());
+        model.addAttribute("errorMessage", ex.getMessage());
+        model.addAttribute("taskId", ex.getTaskId());
+        return "error/409";
+    }
+
     /**
      * カテゴリー未発見例外を処理する.
      *
@@ -61,6 +80,38 @@ public class GlobalExceptionHandler {
         return "redirect:/categories";
     }
 
+    /**
+     * リクエストパラメータの型変換エラーを処理する.
+     *
+     * <p>列挙型のパラメータ（並び順など）に定義外の値が指定された場合を含む。</p>
+     *
+     * @param ex    発生した例外
+     * @param model ビューに渡すモデル
+     * @return 400エラーページのビュー名
+     */
+    @ExceptionHandler(MethodArgumentTypeMismatchException.class)
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    public String handleTypeMismatch(MethodArgumentTypeMismatchException ex, Model model) {
+        log.warn("Invalid request parameter: {}={}", ex.getName(), ex.getValue());
+        model.addAttribute("errorMessage", "パラメータ「" + ex.getName() + "」の値が不正です");
+        return "error/400";
+    }
+
+    /**
+     * 型変換・入力検証では検出できないリクエストパラメータの誤りを処理する.
+     *
+     * @param ex    発生した例外
+     * @param model ビューに渡すモデル
+     * @return 400エラーページのビュー名
+     */
+    @ExceptionHandler(InvalidRequestException.class)
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    public String handleInvalidRequest(InvalidRequestException ex, Model model) {
+        log.warn("Invalid request: {}", ex.getMessage());
+        model.addAttribute("errorMessage", ex.getMessage());
+        return "error/400";
+    }
+
     /**
      * その他の例外を処理する.
      *
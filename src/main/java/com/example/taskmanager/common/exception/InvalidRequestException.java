@@ -0,0 +1,18 @@
+package com.example.taskmanager.common.exception;
+
+/**
+ * リクエストパラメータが不正な場合にスローされる例外.
+ *
+ * <p>型変換・入力検証では検出できないパラメータの誤り（不正なカーソル・未知の項目名・範囲外の日数など）に使用する。</p>
+ */
+public class InvalidRequestException extends RuntimeException {
+
+    /**
+     * メッセージを指定して例外を生成する.
+     *
+     * @param message エラーメッセージ
+     */
+    public InvalidRequestException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.taskmanager.common.exception;
+
+/**
+ * タスクの更新が競合した場合にスローされる例外.
+ *
+ * <p>編集開始後に他の利用者がタスクを更新しており、送信されたバージョンが
+ * データベース上のバージョンと一致しない場合に使用する。</p>
+ */
+public class TaskConflictException extends RuntimeException {
+
+    /** 競合したタスクのID */
+    private final Long taskId;
+
+    /**
+     * タスクIDを指定して例外を生成する.
+     *
+     * @param taskId 競合したタスクのID
+     */
+    public TaskConflictException(Long taskId) {
+        super("他のユーザーがこのタスクを更新しています。最新の内容を確認してから再度編集してください。");
+        this.taskId = taskId;
+    }
+
+    /**
+     * 競合したタスクのIDを取得する.
+     *
+     * @return タスクID
+     */
+    public Long getTaskId() {
+        return taskId;
+    }
+}
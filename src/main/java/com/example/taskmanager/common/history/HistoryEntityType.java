@@ -0,0 +1,23 @@
+package com.example.taskmanager.common.history;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 変更履歴の対象を表す列挙型.
+ *
+ * <p>task_historyのentity_type列に定数名で格納する。</p>
+ */
+@Getter
+@RequiredArgsConstructor
+public enum HistoryEntityType {
+
+    /** タスク */
+    TASK("タスク"),
+
+    /** カテゴリー */
+    CATEGORY("カテゴリー");
+
+    /** 画面表示用の名称 */
+    private final String displayName;
+}
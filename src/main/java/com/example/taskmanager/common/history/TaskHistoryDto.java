@@ -0,0 +1,42 @@
+package com.example.taskmanager.common.history;
+
+import com.example.taskmanager.common.event.ChangeType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 変更履歴のデータ転送オブジェクト.
+ *
+ * <p>task_historyの1行を表す。登録時はIDを設定せず、取得時のみIDが設定される。</p>
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskHistoryDto {
+
+    /** 変更履歴ID */
+    private Long id;
+
+    /** 変更の対象 */
+    private HistoryEntityType entityType;
+
+    /** 対象のID（対象が不明な一括取込の場合はnull） */
+    private Long entityId;
+
+    /** 変更種別 */
+    private ChangeType changeType;
+
+    /** 変更後のバージョン（削除の場合は削除前のバージョン。不明な場合はnull） */
+    private Integer version;
+
+    /** 変更内容の要約 */
+    private String summary;
+
+    /** 変更日時（コミット後にイベントを受け取った日時） */
+    private LocalDateTime changedAt;
+}
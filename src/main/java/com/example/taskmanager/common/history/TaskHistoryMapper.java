@@ -0,0 +1,35 @@
+package com.example.taskmanager.common.history;
+
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.util.List;
+
+/**
+ * 変更履歴のマッパーインターフェース.
+ *
+ * <p>SQLマッピングはresources/mapper/custom/history/TaskHistoryMapper.xmlで定義。</p>
+ */
+@Mapper
+public interface TaskHistoryMapper {
+
+    /**
+     * 変更履歴を複数行のINSERT文1回で登録する.
+     *
+     * @param entries 登録する変更履歴（1件以上）
+     * @return 登録した行数
+     */
+    int insertBatch(@Param("entries") List<TaskHistoryDto> entries);
+
+    /**
+     * 対象の変更履歴を新しい順に取得する.
+     *
+     * @param entityType 変更の対象
+     * @param entityId   対象のID
+     * @param limit      取得する最大件数
+     * @return 変更履歴のリスト（IDの降順）
+     */
+    List<TaskHistoryDto> selectByEntity(@Param("entityType") HistoryEntityType entityType,
+                                        @Param("entityId") Long entityId,
+                                        @Param("limit") int limit);
+}
@@ -0,0 +1,33 @@
+package com.example.taskmanager.common.history;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 変更履歴の設定.
+ *
+ * <p>application.ymlの{@code app.history}配下の値をバインドする。</p>
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.history")
+public class TaskHistoryProperties {
+
+    /** タスク・カテゴリーの変更履歴を記録するかどうか */
+    private boolean enabled = true;
+
+    /** 書き込み待ちにできる変更履歴の件数 */
+    private int queueCapacity = 10000;
+
+    /** 1回のINSERT文で登録する最大件数 */
+    private int batchSize = 200;
+
+    /** 書き込み待ちがあふれた場合に空きを待つ時間（経過後は呼び出し元のスレッドで直接登録する） */
+    private Duration offerTimeout = Duration.ofMillis(100);
+
+    /** 停止時に書き込み用のスレッドの終了を待つ時間（残りは停止処理のスレッドで登録する） */
+    private Duration shutdownTimeout = Duration.ofSeconds(10);
+}
@@ -0,0 +1,176 @@
+package com.example.taskmanager.common.history;
+
+import com.example.taskmanager.common.event.CategoryChangedEvent;
+import com.example.taskmanager.common.event.ChangeType;
+import com.example.taskmanager.common.event.TaskBulkChangedEvent;
+import com.example.taskmanager.common.event.TaskChangedEvent;
+import com.example.taskmanager.task.dto.TaskDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * タスク・カテゴリーの変更のコミット後に変更履歴を組み立てるコンポーネント.
+ *
+ * <p>変更イベントから変更履歴を組み立てて{@link TaskHistoryWriter}の書き込み待ちに積む。
+ * DBへの登録は書き込み用のスレッドで行うため、変更処理のトランザクション・応答時間には含まれない。
+ * ロールバックされた変更はイベントが配信されないため記録しない。</p>
+ *
+ * <p>タスク1件の更新は変更前後のタスクを比較し、変更された項目を要約に記録する。
+ * 一括取込・一括変更・一括削除は変更内容を持たないため、対象のタスクIDごとに種別のみを記録する。</p>
+ */
+@Component
+@RequiredArgsConstructor
+public class TaskHistoryRecorder {
+
+    /** 要約の最大文字数（task_history.summaryの桁数） */
+    static final int MAX_SUMMARY_LENGTH = 1000;
+
+    /** 期限日の表示形式 */
+    private static final DateTimeFormatter DUE_DATE_FORMAT = DateTimeFormatter.ofPattern("yyyy/MM/dd");
+
+    /** 設定 */
+    private final TaskHistoryProperties properties;
+
+    /** 変更履歴の書き込み */
+    private final TaskHistoryWriter taskHistoryWriter;
+
+    /**
+     * タスク変更のコミット後に変更履歴を記録する.
+     *
+     * @param event タスク変更イベント
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        TaskDto current = event.after() != null ? event.after() : event.before();
+        taskHistoryWriter.enqueue(List.of(TaskHistoryDto.builder()
+                .entityType(HistoryEntityType.TASK)
+                .entityId(event.taskId())
+                .changeType(event.changeType())
+                .version(current != null ? current.getVersion() : null)
+                .summary(truncate(summarize(event)))
+                .changedAt(LocalDateTime.now())
+                .build()));
+    }
+
+    /**
+     * 一括変更のコミット後に変更履歴を記録する.
+     *
+     * @param event 一括変更イベント
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskBulkChanged(TaskBulkChangedEvent event) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        String summary = "一括" + event.changeType().getDisplayName();
+        List<TaskHistoryDto> entries = new ArrayList<>(event.taskIds().size());
+        for (Long taskId : event.taskIds()) {
+            entries.add(TaskHistoryDto.builder()
+                    .entityType(HistoryEntityType.TASK)
+                    .entityId(taskId)
+                    .changeType(event.changeType())
+                    .summary(summary)
+                    .changedAt(now)
+                    .build());
+        }
+        taskHistoryWriter.enqueue(entries);
+    }
+
+    /**
+     * カテゴリー変更のコミット後に変更履歴を記録する.
+     *
+     * @param event カテゴリー変更イベント
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCategoryChanged(CategoryChangedEvent event) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        taskHistoryWriter.enqueue(List.of(TaskHistoryDto.builder()
+                .entityType(HistoryEntityType.CATEGORY)
+                .entityId(event.categoryId())
+                .changeType(event.changeType())
+                .summary("カテゴリーを" + event.changeType().getDisplayName())
+                .changedAt(LocalDateTime.now())
+                .build()));
+    }
+
+    /**
+     * タスク1件の変更内容を要約する.
+     *
+     * @param event タスク変更イベント
+     * @return 要約
+     */
+    static String summarize(TaskChangedEvent event) {
+        if (event.changeType() != ChangeType.UPDATED || event.before() == null || event.after() == null) {
+            TaskDto task = event.after() != null ? event.after() : event.before();
+            String title = task != null ? task.getTitle() : null;
+            return "「" + Objects.requireNonNullElse(title, "") + "」を" + event.changeType().getDisplayName();
+        }
+        TaskDto before = event.before();
+        TaskDto after = event.after();
+        List<String> changes = new ArrayList<>();
+        addChange(changes, "タイトル", before.getTitle(), after.getTitle());
+        if (!Objects.equals(before.getDescription(), after.getDescription())) {
+            changes.add("説明を変更");
+        }
+        if (before.getStatus() != after.getStatus()) {
+            changes.add("ステータス: " + before.getStatusDisplayName() + " → " + after.getStatusDisplayName());
+        }
+        if (before.getPriority() != after.getPriority()) {
+            changes.add("優先度: " + before.getPriorityDisplayName() + " → " + after.getPriorityDisplayName());
+        }
+        if (!Objects.equals(before.getCategoryId(), after.getCategoryId())) {
+            addChange(changes, "カテゴリー", before.getCategoryName(), after.getCategoryName());
+        }
+        addChange(changes, "期限", format(before.getDueDate()), format(after.getDueDate()));
+        return changes.isEmpty() ? "変更なし" : String.join("、", changes);
+    }
+
+    /**
+     * 値が異なる場合に変更内容を追加する.
+     *
+     * @param changes 変更内容のリスト
+     * @param label   項目名
+     * @param before  変更前の値
+     * @param after   変更後の値
+     */
+    private static void addChange(List<String> changes, String label, String before, String after) {
+        if (!Objects.equals(before, after)) {
+            changes.add(label + ": " + Objects.requireNonNullElse(before, "なし")
+                    + " → " + Objects.requireNonNullElse(after, "なし"));
+        }
+    }
+
+    /**
+     * 期限日を表示形式に変換する.
+     *
+     * @param dueDate 期限日
+     * @return 表示形式の期限日（nullの場合はnull）
+     */
+    private static String format(LocalDate dueDate) {
+        return dueDate != null ? dueDate.format(DUE_DATE_FORMAT) : null;
+    }
+
+    /**
+     * 要約を最大文字数に切り詰める.
+     *
+     * @param summary 要約
+     * @return 最大文字数以下の要約
+     */
+    private static String truncate(String summary) {
+        return summary.length() <= MAX_SUMMARY_LENGTH ? summary : summary.substring(0, MAX_SUMMARY_LENGTH - 1) + "…";
+    }
+}
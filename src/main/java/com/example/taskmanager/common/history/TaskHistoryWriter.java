@@ -0,0 +1,289 @@
+package com.example.taskmanager.common.history;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 変更履歴を書き込み用のスレッドでまとめてDBへ登録するコンポーネント.
+ *
+ * <p>変更履歴は上限付きのキューに積み、書き込み用のスレッドがキューにある分を
+ * 最大{@code app.history.batch-size}件ずつ複数行のINSERT文1回で登録する。
+ * 変更が少ない間は1件ずつ直ちに登録され、変更が集中した場合ほど1回の登録件数が増える。
+ * そのため、変更処理のスレッドは変更履歴の登録を待たない。</p>
+ *
+ * <p>DBへの登録が追いつかずキューがあふれた場合は、{@code app.history.offer-timeout}だけ空きを待った後、
+ * 呼び出し元のスレッドで直接登録する。変更履歴を破棄せず、変更処理の速度を登録の速度まで落とす（背圧）。
+ * 停止時は新たな変更履歴を直接登録に切り替え、書き込み用のスレッドの終了を待ってからキューの残りを登録する。</p>
+ *
+ * <p>登録は常に新しいトランザクション（REQUIRES_NEW）で行い、コミットする。
+ * 直接登録はコミット後のイベント処理から呼ばれ、終了したトランザクションの接続がまだスレッドに残っているため、
+ * そのまま登録するとコミットされずに接続の返却時にロールバックされる。</p>
+ *
+ * <p>登録に失敗した変更履歴は再試行せず、内容をエラーログに出力する。</p>
+ */
+@Slf4j
+@Component
+public class TaskHistoryWriter {
+
+    /** 書き込み待ちの件数のメトリクス名 */
+    static final String QUEUE_GAUGE = "task.history.queue";
+
+    /** 登録した件数のメトリクス名 */
+    static final String WRITTEN_COUNTER = "task.history.written";
+
+    /** キューがあふれて呼び出し元のスレッドで登録した件数のメトリクス名 */
+    static final String DIRECT_WRITE_COUNTER = "task.history.direct.writes";
+
+    /** 登録に失敗した件数のメトリクス名 */
+    static final String FAILURE_COUNTER = "task.history.failures";
+
+    /** キューが空の場合に停止要求を確認する間隔（ミリ秒） */
+    private static final long POLL_INTERVAL_MILLIS = 100;
+
+    /** 登録回数を数える区画の数（タスクIDから区画を選ぶ） */
+    private static final int GENERATION_SLOTS = 1024;
+
+    /** 設定 */
+    private final TaskHistoryProperties properties;
+
+    /** 変更履歴マッパー */
+    private final TaskHistoryMapper taskHistoryMapper;
+
+    /** 書き込み待ちの変更履歴 */
+    private final BlockingQueue<TaskHistoryDto> queue;
+
+    /** 登録用のトランザクション（常に新しいトランザクションを開始する） */
+    private final TransactionTemplate transactionTemplate;
+
+    /** 書き込み用のスレッド */
+    private final Thread worker;
+
+    /** タスクIDの区画ごとの登録回数（詳細画面の検証子に使用する） */
+    private final AtomicLongArray generations = new AtomicLongArray(GENERATION_SLOTS);
+
+    /** 登録した件数 */
+    private final Counter writtenCounter;
+
+    /** キューがあふれて呼び出し元のスレッドで登録した件数 */
+    private final Counter directWriteCounter;
+
+    /** 登録に失敗した件数 */
+    private final Counter failureCounter;
+
+    /** 書き込み用のスレッドが動作中かどうか */
+    private volatile boolean running;
+
+    /**
+     * コンストラクタ.
+     *
+     * @param properties         設定
+     * @param taskHistoryMapper  変更履歴マッパー
+     * @param transactionManager トランザクションマネージャー
+     * @param meterRegistry      メトリクスの登録先
+     */
+    public TaskHistoryWriter(TaskHistoryProperties properties, TaskHistoryMapper taskHistoryMapper,
+                             PlatformTransactionManager transactionManager, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.taskHistoryMapper = taskHistoryMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.queue = new ArrayBlockingQueue<>(properties.getQueueCapacity());
+        this.worker = Thread.ofPlatform().name("task-history-writer").daemon().unstarted(this::run);
+        Gauge.builder(QUEUE_GAUGE, queue, Collection::size)
+                .description("書き込み待ちの変更履歴の件数")
+                .register(meterRegistry);
+        this.writtenCounter = Counter.builder(WRITTEN_COUNTER)
+                .description("登録した変更履歴の件数")
+                .register(meterRegistry);
+        this.directWriteCounter = Counter.builder(DIRECT_WRITE_COUNTER)
+                .description("書き込み待ちがあふれて呼び出し元のスレッドで登録した変更履歴の件数")
+                .register(meterRegistry);
+        this.failureCounter = Counter.builder(FAILURE_COUNTER)
+                .description("登録に失敗した変更履歴の件数")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 書き込み用のスレッドを開始する.
+     */
+    @PostConstruct
+    public void start() {
+        running = true;
+        worker.start();
+    }
+
+    /**
+     * 書き込み用のスレッドを停止し、書き込み待ちの変更履歴をすべて登録する.
+     */
+    @PreDestroy
+    public void shutdown() {
+        running = false;
+        try {
+            if (!worker.join(properties.getShutdownTimeout())) {
+                log.warn("Task history writer did not stop in time: queued={}", queue.size());
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+        flush();
+    }
+
+    /**
+     * 変更履歴を書き込み待ちに積む.
+     *
+     * <p>キューに空きがない場合は空きを待ち、待っても空かない場合は呼び出し元のスレッドで登録する。
+     * 一度空きを待って空かなかった場合、残りの変更履歴は待たずに直接登録する。</p>
+     *
+     * @param entries 変更履歴
+     */
+    public void enqueue(List<TaskHistoryDto> entries) {
+        List<TaskHistoryDto> overflow = new ArrayList<>();
+        long timeoutMillis = properties.getOfferTimeout().toMillis();
+        for (TaskHistoryDto entry : entries) {
+            if (!running || !overflow.isEmpty() || !offer(entry, timeoutMillis)) {
+                overflow.add(entry);
+            }
+        }
+        if (!overflow.isEmpty()) {
+            directWriteCounter.increment(overflow.size());
+            writeAll(overflow);
+        }
+        if (!running) {
+            // 停止処理と同時に積まれた分を取り残さない
+            flush();
+        }
+    }
+
+    /**
+     * 書き込み待ちの変更履歴を呼び出し元のスレッドで登録する.
+     *
+     * <p>書き込み用のスレッドが登録中の分は含まない。</p>
+     */
+    public void flush() {
+        List<TaskHistoryDto> batch = new ArrayList<>(properties.getBatchSize());
+        while (queue.drainTo(batch, properties.getBatchSize()) > 0) {
+            write(batch);
+            batch.clear();
+        }
+    }
+
+    /**
+     * タスクの変更履歴を登録した回数を取得する.
+     *
+     * <p>タスクの変更履歴が登録されるたびに増えるため、変更履歴を表示する画面の検証子に含めることで、
+     * 変更の直後に描画された画面（変更履歴の登録前）が以降も304で返され続けることを防ぐ。
+     * 回数はタスクIDで選んだ区画ごとに数えるため、同じ区画の他のタスクの登録でも増える（検証子が変わるだけで、古い画面は返さない）。</p>
+     *
+     * @param taskId タスクID
+     * @return 登録した回数
+     */
+    public long getGeneration(Long taskId) {
+        return generations.get(slot(taskId));
+    }
+
+    /**
+     * 書き込み待ちの件数を取得する.
+     *
+     * @return 書き込み待ちの件数
+     */
+    public int getQueueSize() {
+        return queue.size();
+    }
+
+    /**
+     * キューにある分を最大件数ずつ取り出して登録する処理を、停止要求があるまで繰り返す.
+     */
+    private void run() {
+        List<TaskHistoryDto> batch = new ArrayList<>(properties.getBatchSize());
+        while (running) {
+            try {
+                TaskHistoryDto first = queue.poll(POLL_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, properties.getBatchSize() - 1);
+                write(batch);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * キューの空きを待って変更履歴を積む.
+     *
+     * @param entry         変更履歴
+     * @param timeoutMillis 空きを待つ時間（ミリ秒）
+     * @return 積めた場合はtrue
+     */
+    private boolean offer(TaskHistoryDto entry, long timeoutMillis) {
+        try {
+            return queue.offer(entry, timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * 変更履歴を最大件数ずつに分けて登録する.
+     *
+     * @param entries 変更履歴
+     */
+    private void writeAll(List<TaskHistoryDto> entries) {
+        int batchSize = properties.getBatchSize();
+        for (int from = 0; from < entries.size(); from += batchSize) {
+            write(entries.subList(from, Math.min(from + batchSize, entries.size())));
+        }
+    }
+
+    /**
+     * 変更履歴を複数行のINSERT文1回で登録する.
+     *
+     * @param batch 変更履歴（1件以上）
+     */
+    private void write(List<TaskHistoryDto> batch) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> taskHistoryMapper.insertBatch(batch));
+            writtenCounter.increment(batch.size());
+            for (TaskHistoryDto entry : batch) {
+                if (entry.getEntityType() == HistoryEntityType.TASK && entry.getEntityId() != null) {
+                    generations.incrementAndGet(slot(entry.getEntityId()));
+                }
+            }
+        } catch (RuntimeException ex) {
+            failureCounter.increment(batch.size());
+            log.error("Failed to write task history: entries={}", batch, ex);
+        }
+    }
+
+    /**
+     * タスクIDから登録回数の区画を選ぶ.
+     *
+     * @param taskId タスクID
+     * @return 区画の番号
+     */
+    private static int slot(Long taskId) {
+        return Math.floorMod(taskId, GENERATION_SLOTS);
+    }
+}
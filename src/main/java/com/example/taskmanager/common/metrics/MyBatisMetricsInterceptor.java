@@ -0,0 +1,150 @@
+package com.example.taskmanager.common.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.apache.ibatis.cache.CacheKey;
+import org.apache.ibatis.executor.Executor;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.plugin.Interceptor;
+import org.apache.ibatis.plugin.Intercepts;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.plugin.Signature;
+import org.apache.ibatis.session.ResultHandler;
+import org.apache.ibatis.session.RowBounds;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * マップドステートメントごとの実行時間と件数を記録するMyBatisインターセプター.
+ *
+ * <p>ステートメントID（例: {@code TaskCustomMapper.selectAllWithCategory}）をタグとして、
+ * 以下のメトリクスを記録する。</p>
+ * <ul>
+ *   <li>{@code mybatis.statement}: 実行時間（Timer）</li>
+ *   <li>{@code mybatis.statement.rows}: 取得件数・更新件数（DistributionSummary）</li>
+ * </ul>
+ *
+ * <p>カーソル取得は読み出し前に返るため実行時間のみを記録し、件数は記録しない。
+ * BATCH実行の更新件数は確定しないため記録しない。</p>
+ *
+ * <p>メーターはステートメントごとに初回のみ登録し、以降は保持したものに記録する。</p>
+ */
+@Component
+@RequiredArgsConstructor
+@Intercepts({
+        @Signature(type = Executor.class, method = "query",
+                args = {MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class}),
+        @Signature(type = Executor.class, method = "query",
+                args = {MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class,
+                        CacheKey.class, BoundSql.class}),
+        @Signature(type = Executor.class, method = "queryCursor",
+                args = {MappedStatement.class, Object.class, RowBounds.class}),
+        @Signature(type = Executor.class, method = "update",
+                args = {MappedStatement.class, Object.class})
+})
+public class MyBatisMetricsInterceptor implements Interceptor {
+
+    /** 実行時間のメトリクス名 */
+    static final String TIMER_NAME = "mybatis.statement";
+
+    /** 件数のメトリクス名 */
+    static final String ROWS_NAME = "mybatis.statement.rows";
+
+    /** メトリクスの登録先 */
+    private final MeterRegistry meterRegistry;
+
+    /** ステートメントID・結果ごとの実行時間のTimer */
+    private final Map<TimerKey, Timer> timers = new ConcurrentHashMap<>();
+
+    /** ステートメントIDごとの件数のDistributionSummary */
+    private final Map<String, DistributionSummary> rowSummaries = new ConcurrentHashMap<>();
+
+    @Override
+    public Object intercept(Invocation invocation) throws Throwable {
+        MappedStatement statement = (MappedStatement) invocation.getArgs()[0];
+        long start = System.nanoTime();
+        String outcome = "SUCCESS";
+        try {
+            Object result = invocation.proceed();
+            recordRows(statement, result);
+            return result;
+        } catch (Throwable ex) {
+            outcome = "ERROR";
+            throw ex;
+        } finally {
+            timers.computeIfAbsent(new TimerKey(statement.getId(), outcome), key -> registerTimer(statement, key))
+                    .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * 取得件数・更新件数を記録する.
+     *
+     * @param statement マップドステートメント
+     * @param result    実行結果
+     */
+    private void recordRows(MappedStatement statement, Object result) {
+        long rows;
+        if (result instanceof Collection<?> list) {
+            rows = list.size();
+        } else if (result instanceof Integer count && count >= 0) {
+            rows = count;
+        } else {
+            return;
+        }
+        rowSummaries.computeIfAbsent(statement.getId(), id -> DistributionSummary.builder(ROWS_NAME)
+                        .description("MyBatisステートメントの取得件数・更新件数")
+                        .baseUnit("rows")
+                        .tag("statement", shortId(id))
+                        .tag("command", statement.getSqlCommandType().name())
+                        .register(meterRegistry))
+                .record(rows);
+    }
+
+    /**
+     * 実行時間のTimerを登録する.
+     *
+     * @param statement マップドステートメント
+     * @param key       ステートメントIDと結果
+     * @return 登録したTimer
+     */
+    private Timer registerTimer(MappedStatement statement, TimerKey key) {
+        return Timer.builder(TIMER_NAME)
+                .description("MyBatisステートメントの実行時間")
+                .tag("statement", shortId(key.statementId()))
+                .tag("command", statement.getSqlCommandType().name())
+                .tag("outcome", key.outcome())
+                .register(meterRegistry);
+    }
+
+    /**
+     * ステートメントIDからパッケージ名を除く.
+     *
+     * @param id ステートメントID（例: com.example.taskmanager.task.mapper.TaskCustomMapper.selectAll）
+     * @return マッパー名とステートメント名（例: TaskCustomMapper.selectAll）
+     */
+    static String shortId(String id) {
+        int method = id.lastIndexOf('.');
+        if (method < 0) {
+            return id;
+        }
+        int mapper = id.lastIndexOf('.', method - 1);
+        return mapper < 0 ? id : id.substring(mapper + 1);
+    }
+
+    /**
+     * 実行時間のTimerのキー.
+     *
+     * @param statementId ステートメントID（パッケージ名を含む）
+     * @param outcome     結果（SUCCESS・ERROR）
+     */
+    private record TimerKey(String statementId, String outcome) {
+    }
+}
@@ -0,0 +1,88 @@
+package com.example.taskmanager.common.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * サービスのpublicメソッドの実行時間を記録するアスペクト.
+ *
+ * <p>{@code service}パッケージ配下の{@code *ServiceImpl}クラスを対象とし、
+ * {@code service.method}（Timer）にクラス名・メソッド名・例外名をタグとして記録する。
+ * トランザクションの開始・コミットを含めた時間となるよう、トランザクションより外側で計測する。
+ * Timerはクラス・メソッド・例外の組み合わせごとに初回のみ登録し、以降は保持したものに記録する。</p>
+ */
+@Aspect
+@Component
+@RequiredArgsConstructor
+public class ServiceMetricsAspect implements Ordered {
+
+    /** 実行時間のメトリクス名 */
+    static final String TIMER_NAME = "service.method";
+
+    /** メトリクスの登録先 */
+    private final MeterRegistry meterRegistry;
+
+    /** クラス・メソッド・例外ごとのTimer */
+    private final Map<TimerKey, Timer> timers = new ConcurrentHashMap<>();
+
+    /**
+     * サービスメソッドの実行時間を記録する.
+     *
+     * @param joinPoint 実行対象のメソッド
+     * @return メソッドの戻り値
+     * @throws Throwable メソッドがスローした例外
+     */
+    @Around("execution(public * com.example.taskmanager..service.*ServiceImpl.*(..))")
+    public Object time(ProceedingJoinPoint joinPoint) throws Throwable {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String exception = "none";
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable ex) {
+            exception = ex.getClass().getSimpleName();
+            throw ex;
+        } finally {
+            TimerKey key = new TimerKey(joinPoint.getTarget().getClass(), joinPoint.getSignature().getName(), exception);
+            sample.stop(timers.computeIfAbsent(key, this::registerTimer));
+        }
+    }
+
+    /**
+     * 実行時間のTimerを登録する.
+     *
+     * @param key クラス・メソッド・例外
+     * @return 登録したTimer
+     */
+    private Timer registerTimer(TimerKey key) {
+        return Timer.builder(TIMER_NAME)
+                .description("サービスメソッドの実行時間")
+                .tag("class", key.targetClass().getSimpleName())
+                .tag("method", key.method())
+                .tag("exception", key.exception())
+                .register(meterRegistry);
+    }
+
+    @Override
+    public int getOrder() {
+        return HIGHEST_PRECEDENCE;
+    }
+
+    /**
+     * Timerのキー.
+     *
+     * @param targetClass 対象のクラス
+     * @param method      メソッド名
+     * @param exception   例外名（正常終了の場合はnone）
+     */
+    private record TimerKey(Class<?> targetClass, String method, String exception) {
+    }
+}
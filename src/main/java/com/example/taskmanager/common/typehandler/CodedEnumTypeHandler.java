@@ -0,0 +1,128 @@
+package com.example.taskmanager.common.typehandler;
+
+import org.apache.ibatis.type.BaseTypeHandler;
+import org.apache.ibatis.type.JdbcType;
+
+import java.sql.CallableStatement;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * 列挙型を定数名または序数で読み書きするTypeHandlerの基底クラス.
+ *
+ * <p>格納形式（{@link EnumStorage}）に応じて次のとおり変換する。</p>
+ * <ul>
+ *   <li>NAME: 文字列で読み書きする。読み出しは定数の配列を定数名で照合するため、
+ *       MyBatis標準のEnumTypeHandler（{@code Enum.valueOf}）と異なりクラスごとの名前表を引かない。</li>
+ *   <li>CODE: 序数をSMALLINTで読み書きする。読み出しは{@code getInt}と配列の添字参照のみとなり、
+ *       行ごとの文字列の生成も発生しない。</li>
+ * </ul>
+ *
+ * <p>CODE形式では序数がそのままDBの値となるため、対象の列挙型の定数は末尾以外に追加・並べ替えしないこと。</p>
+ *
+ * @param <E> 列挙型
+ */
+public abstract class CodedEnumTypeHandler<E extends Enum<E>> extends BaseTypeHandler<E> {
+
+    /** 列挙型 */
+    private final Class<E> type;
+
+    /** 序数の順の定数 */
+    private final E[] constants;
+
+    /** 格納形式 */
+    private final EnumStorage storage;
+
+    /**
+     * コンストラクタ.
+     *
+     * @param type    列挙型
+     * @param storage 格納形式
+     */
+    protected CodedEnumTypeHandler(Class<E> type, EnumStorage storage) {
+        this.type = type;
+        this.constants = type.getEnumConstants();
+        this.storage = storage;
+    }
+
+    /**
+     * 格納形式を取得する.
+     *
+     * @return 格納形式
+     */
+    public EnumStorage getStorage() {
+        return storage;
+    }
+
+    @Override
+    public void setNonNullParameter(PreparedStatement ps, int i, E parameter, JdbcType jdbcType)
+            throws SQLException {
+        if (storage == EnumStorage.CODE) {
+            ps.setShort(i, (short) parameter.ordinal());
+        } else {
+            ps.setString(i, parameter.name());
+        }
+    }
+
+    @Override
+    public E getNullableResult(ResultSet rs, String columnName) throws SQLException {
+        if (storage == EnumStorage.CODE) {
+            int code = rs.getInt(columnName);
+            return code == 0 && rs.wasNull() ? null : fromCode(code);
+        }
+        return fromName(rs.getString(columnName));
+    }
+
+    @Override
+    public E getNullableResult(ResultSet rs, int columnIndex) throws SQLException {
+        if (storage == EnumStorage.CODE) {
+            int code = rs.getInt(columnIndex);
+            return code == 0 && rs.wasNull() ? null : fromCode(code);
+        }
+        return fromName(rs.getString(columnIndex));
+    }
+
+    @Override
+    public E getNullableResult(CallableStatement cs, int columnIndex) throws SQLException {
+        if (storage == EnumStorage.CODE) {
+            int code = cs.getInt(columnIndex);
+            return code == 0 && cs.wasNull() ? null : fromCode(code);
+        }
+        return fromName(cs.getString(columnIndex));
+    }
+
+    /**
+     * 序数から定数を取得する.
+     *
+     * @param code 序数
+     * @return 定数
+     * @throws IllegalArgumentException 序数に対応する定数がない場合
+     */
+    E fromCode(int code) {
+        if (code < 0 || code >= constants.length) {
+            throw new IllegalArgumentException(
+                    "Cannot convert " + code + " to " + type.getSimpleName() + " by ordinal value.");
+        }
+        return constants[code];
+    }
+
+    /**
+     * 定数名から定数を取得する.
+     *
+     * @param name 定数名（nullの場合はnullを返す）
+     * @return 定数
+     * @throws IllegalArgumentException 定数名に対応する定数がない場合
+     */
+    E fromName(String name) {
+        if (name == null) {
+            return null;
+        }
+        for (E constant : constants) {
+            if (constant.name().equals(name)) {
+                return constant;
+            }
+        }
+        throw new IllegalArgumentException("No enum constant " + type.getSimpleName() + "." + name);
+    }
+}
@@ -0,0 +1,15 @@
+package com.example.taskmanager.common.typehandler;
+
+/**
+ * 列挙型の列のDB上の格納形式を表す列挙型.
+ *
+ * <p>{@link CodedEnumTypeHandler}が読み書きの方法を切り替えるために使用する。</p>
+ */
+public enum EnumStorage {
+
+    /** 定数名を文字列（VARCHAR）で格納する */
+    NAME,
+
+    /** 定数の序数をSMALLINTで格納する */
+    CODE
+}
@@ -0,0 +1,25 @@
+package com.example.taskmanager.common.typehandler;
+
+import com.example.taskmanager.common.config.SchemaVersionProperties;
+import com.example.taskmanager.common.enums.TaskPriority;
+import org.apache.ibatis.type.MappedTypes;
+import org.springframework.stereotype.Component;
+
+/**
+ * {@link TaskPriority}のTypeHandler.
+ *
+ * <p>Beanとして登録するとMyBatisの既定のTypeHandlerとなるため、Mapper XMLでの指定は不要。</p>
+ */
+@Component
+@MappedTypes(TaskPriority.class)
+public class TaskPriorityTypeHandler extends CodedEnumTypeHandler<TaskPriority> {
+
+    /**
+     * コンストラクタ.
+     *
+     * @param properties スキーマの設定（列の格納形式）
+     */
+    public TaskPriorityTypeHandler(SchemaVersionProperties properties) {
+        super(TaskPriority.class, properties.getEnumStorage());
+    }
+}
@@ -0,0 +1,25 @@
+package com.example.taskmanager.common.typehandler;
+
+import com.example.taskmanager.common.config.SchemaVersionProperties;
+import com.example.taskmanager.common.enums.TaskStatus;
+import org.apache.ibatis.type.MappedTypes;
+import org.springframework.stereotype.Component;
+
+/**
+ * {@link TaskStatus}のTypeHandler.
+ *
+ * <p>Beanとして登録するとMyBatisの既定のTypeHandlerとなるため、Mapper XMLでの指定は不要。</p>
+ */
+@Component
+@MappedTypes(TaskStatus.class)
+public class TaskStatusTypeHandler extends CodedEnumTypeHandler<TaskStatus> {
+
+    /**
+     * コンストラクタ.
+     *
+     * @param properties スキーマの設定（列の格納形式）
+     */
+    public TaskStatusTypeHandler(SchemaVersionProperties properties) {
+        super(TaskStatus.class, properties.getEnumStorage());
+    }
+}
@@ -0,0 +1,348 @@
+package com.example.taskmanager.task.controller;
+
+import com.example.taskmanager.common.enums.TaskPriority;
+import com.example.taskmanager.common.enums.TaskStatus;
+import com.example.taskmanager.common.exception.InvalidRequestException;
+import com.example.taskmanager.task.dto.TaskDto;
+import com.example.taskmanager.task.form.TaskBulkForm;
+import com.example.taskmanager.task.form.TaskForm;
+import com.example.taskmanager.task.model.TaskCursor;
+import com.example.taskmanager.task.model.TaskDueRange;
+import com.example.taskmanager.task.model.TaskSearchCondition;
+import com.example.taskmanager.task.model.TaskSortKey;
+import com.example.taskmanager.task.service.TaskService;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.Valid;
+import jakarta.validation.groups.Default;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * タスクのREST APIコントローラー.
+ *
+ * <p>一覧・期限別の一覧はキーセットページングで1ページ分を返し、サービスのカーソル読み出しから
+ * JacksonのJsonGeneratorでレスポンスへ直接書き出す（結果をリストに展開しない）。
+ * タスクを返すすべてのAPIで{@code fields}パラメータによる項目射影に対応する。
+ * 一覧では説明・更新日時が指定されない限り、それらのカラムをDBから取得しない。</p>
+ *
+ * <p>更新は画面と同様に楽観ロックを行うため、取得時の{@code version}を送信すること。
+ * 一括変更・一括削除は楽観ロックを行わず、処理件数を返す。</p>
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/v1/tasks")
+@RequiredArgsConstructor
+public class TaskApiController {
+
+    /** 1ページあたりの件数の既定値 */
+    static final int DEFAULT_LIMIT = 100;
+
+    /** 1ページあたりの件数の上限 */
+    static final int MAX_LIMIT = 1000;
+
+    /** タスクサービス */
+    private final TaskService taskService;
+
+    /** JSON変換用のObjectMapper */
+    private final ObjectMapper objectMapper;
+
+    /**
+     * タスクを1ページ分取得する.
+     *
+     * <p>レスポンスは{@code {"items":[...],"nextCursor":"..."}}の形式とする。
+     * 最終ページの場合、nextCursorはnullとなる。絞り込み条件・並び順は画面の一覧と同じ。</p>
+     *
+     * @param status     フィルター用ステータス（任意、複数可）
+     * @param priority   フィルター用優先度（任意、複数可）
+     * @param categoryId フィルター用カテゴリーID（任意、複数可）
+     * @param dueFrom    フィルター用期限日の開始日（任意）
+     * @param dueTo      フィルター用期限日の終了日（任意）
+     * @param sort       並び順（任意、既定は作成日時の新しい順）
+     * @param cursor     次ページ取得用のカーソル（任意）
+     * @param limit      1ページあたりの件数（1〜{@value #MAX_LIMIT}）
+     * @param fields     出力する項目名（カンマ区切り、任意）
+     * @return JSONを書き出すレスポンス
+     */
+    @GetMapping
+    public ResponseEntity<StreamingResponseBody> list(
+            @RequestParam(required = false) List<TaskStatus> status,
+            @RequestParam(required = false) List<TaskPriority> priority,
+            @RequestParam(required = false) List<Long> categoryId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dueFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dueTo,
+            @RequestParam(required = false) TaskSortKey sort,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "" + DEFAULT_LIMIT) int limit,
+            @RequestParam(required = false) String fields) {
+        TaskSearchCondition condition = TaskSearchCondition.builder()
+                .statuses(status)
+                .priorities(priority)
+                .categoryIds(categoryId)
+                .dueDateFrom(dueFrom)
+                .dueDateTo(dueTo)
+                .sort(sort)
+                .build();
+        log.debug("GET /api/v1/tasks - condition={}, cursor={}, limit={}, fields={}", condition, cursor, limit, fields);
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new InvalidRequestException("limitは1以上" + MAX_LIMIT + "以下で指定してください: " + limit);
+        }
+        TaskCursor pageCursor = decodeCursor(cursor);
+        return streamPage(fields, (includeDetails, action) ->
+                taskService.forEachInPage(condition, pageCursor, limit, includeDetails, action));
+    }
+
+    /**
+     * 期限切れ・今日が期限・期限間近の未完了タスクを1ページ分取得する.
+     *
+     * <p>レスポンスの形式は{@link #list}と同じ。期限日の近い順（同じ期限日はID順）に返す。</p>
+     *
+     * @param range  抽出範囲
+     * @param days   期限間近の日数（1〜{@value TaskDueRange#MAX_DAYS}、範囲がSOONの場合のみ使用する）
+     * @param cursor 次ページ取得用のカーソル（任意）
+     * @param limit  1ページあたりの件数（1〜{@value #MAX_LIMIT}）
+     * @param fields 出力する項目名（カンマ区切り、任意）
+     * @return JSONを書き出すレスポンス
+     */
+    @GetMapping("/due")
+    public ResponseEntity<StreamingResponseBody> due(
+            @RequestParam TaskDueRange range,
+            @RequestParam(defaultValue = "" + TaskDueRange.DEFAULT_DAYS) int days,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "" + DEFAULT_LIMIT) int limit,
+            @RequestParam(required = false) String fields) {
+        log.debug("GET /api/v1/tasks/due - range={}, days={}, cursor={}, limit={}, fields={}",
+                range, days, cursor, limit, fields);
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new InvalidRequestException("limitは1以上" + MAX_LIMIT + "以下で指定してください: " + limit);
+        }
+        if (range == TaskDueRange.SOON && (days < 1 || days > TaskDueRange.MAX_DAYS)) {
+            // 書き出し開始後は400を返せないため、サービスを呼び出す前に検証する
+            throw new InvalidRequestException("daysは1以上" + TaskDueRange.MAX_DAYS + "以下で指定してください: " + days);
+        }
+        TaskCursor pageCursor = decodeCursor(cursor);
+        return streamPage(fields, (includeDetails, action) ->
+                taskService.forEachDue(range, days, pageCursor, limit, includeDetails, action));
+    }
+
+    /**
+     * タスクを1件取得する.
+     *
+     * @param id     タスクID
+     * @param fields 出力する項目名（カンマ区切り、任意）
+     * @return タスクのJSON
+     */
+    @GetMapping("/{id}")
+    public ResponseEntity<byte[]> get(@PathVariable Long id, @RequestParam(required = false) String fields) {
+        log.debug("GET /api/v1/tasks/{}", id);
+        Set<String> selected = TaskJsonWriter.parseFields(fields);
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON)
+                .body(toJson(taskService.findById(id), selected));
+    }
+
+    /**
+     * タスクを登録する.
+     *
+     * @param taskForm 登録するタスク
+     * @param fields   出力する項目名（カンマ区切り、任意）
+     * @return 登録したタスクのJSON（201）
+     */
+    @PostMapping
+    public ResponseEntity<byte[]> create(@Valid @RequestBody TaskForm taskForm,
+                                         @RequestParam(required = false) String fields) {
+        log.debug("POST /api/v1/tasks - {}", taskForm.getTitle());
+        Set<String> selected = TaskJsonWriter.parseFields(fields);
+        TaskDto created = taskService.create(taskForm);
+        return ResponseEntity.created(URI.create("/api/v1/tasks/" + created.getId()))
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(toJson(created, selected));
+    }
+
+    /**
+     * タスクを更新する.
+     *
+     * @param id       タスクID
+     * @param taskForm 更新内容（versionに取得時のバージョンを指定する）
+     * @param fields   出力する項目名（カンマ区切り、任意）
+     * @return 更新したタスクのJSON
+     */
+    @PutMapping("/{id}")
+    public ResponseEntity<byte[]> update(@PathVariable Long id,
+                                         @Validated({Default.class, TaskForm.Update.class})
+                                         @RequestBody TaskForm taskForm,
+                                         @RequestParam(required = false) String fields) {
+        log.debug("PUT /api/v1/tasks/{} - {}", id, taskForm.getTitle());
+        Set<String> selected = TaskJsonWriter.parseFields(fields);
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON)
+                .body(toJson(taskService.update(id, taskForm), selected));
+    }
+
+    /**
+     * タスクを削除する.
+     *
+     * @param id タスクID
+     * @return 204
+     */
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Void> delete(@PathVariable Long id) {
+        log.debug("DELETE /api/v1/tasks/{}", id);
+        taskService.delete(id);
+        return ResponseEntity.noContent().build();
+    }
+
+    /**
+     * 複数のタスクのステータス・優先度・カテゴリーをまとめて変更する.
+     *
+     * <p>レスポンスは{@code {"affected":n}}の形式とする（存在しないIDは件数に含まない）。</p>
+     *
+     * @param bulkForm 対象のIDと変更内容（nullの項目は変更しない）
+     * @return 更新件数のJSON
+     */
+    @PostMapping("/bulk")
+    public Map<String, Integer> bulkUpdate(@Valid @RequestBody TaskBulkForm bulkForm) {
+        log.debug("POST /api/v1/tasks/bulk - ids={}", bulkForm.getIds().size());
+        return Map.of("affected", taskService.bulkUpdate(bulkForm));
+    }
+
+    /**
+     * 複数のタスクをまとめて削除する.
+     *
+     * <p>レスポンスは{@code {"affected":n}}の形式とする（存在しないIDは件数に含まない）。</p>
+     *
+     * @param bulkForm 対象のID（変更内容は使用しない）
+     * @return 削除件数のJSON
+     */
+    @PostMapping("/bulk-delete")
+    public Map<String, Integer> bulkDelete(@Valid @RequestBody TaskBulkForm bulkForm) {
+        log.debug("POST /api/v1/tasks/bulk-delete - ids={}", bulkForm.getIds().size());
+        return Map.of("affected", taskService.bulkDelete(bulkForm.getIds()));
+    }
+
+    /**
+     * 1ページ分のタスクを{@code {"items":[...],"nextCursor":"..."}}の形式で書き出すレスポンスを生成する.
+     *
+     * @param fields 出力する項目名（カンマ区切り、任意）
+     * @param page   1ページ分のタスクを読み出す処理
+     * @return JSONを書き出すレスポンス
+     */
+    private ResponseEntity<StreamingResponseBody> streamPage(String fields, PageReader page) {
+        Set<String> selected = TaskJsonWriter.parseFields(fields);
+        boolean includeDetails = TaskJsonWriter.requiresDetails(selected);
+
+        StreamingResponseBody body = out -> {
+            try (JsonGenerator generator = createGenerator(out)) {
+                generator.writeStartObject();
+                generator.writeArrayFieldStart("items");
+                TaskCursor next = page.forEach(includeDetails, task -> writeTask(generator, task, selected));
+                generator.writeEndArray();
+                generator.writeStringField("nextCursor", next != null ? next.encode() : null);
+                generator.writeEndObject();
+            }
+        };
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(body);
+    }
+
+    /**
+     * タスク1件をJSONのバイト列に変換する.
+     *
+     * @param task   タスクDTO
+     * @param fields 出力する項目名
+     * @return UTF-8のJSON
+     */
+    private byte[] toJson(TaskDto task, Set<String> fields) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(512);
+        try (JsonGenerator generator = createGenerator(out)) {
+            TaskJsonWriter.write(generator, task, fields);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * タスク1件を書き出す（カーソル読み出しの処理から呼び出す）.
+     *
+     * @param generator 書き出し先
+     * @param task      タスクDTO
+     * @param fields    出力する項目名
+     */
+    private void writeTask(JsonGenerator generator, TaskDto task, Set<String> fields) {
+        try {
+            TaskJsonWriter.write(generator, task, fields);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    /**
+     * UTF-8のJsonGeneratorを生成する.
+     *
+     * <p>クローズ時に出力先はクローズしない。</p>
+     *
+     * @param out 出力先
+     * @return JsonGenerator
+     * @throws IOException 生成に失敗した場合
+     */
+    private JsonGenerator createGenerator(OutputStream out) throws IOException {
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(out, JsonEncoding.UTF8);
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        return generator;
+    }
+
+    /**
+     * リクエストパラメータのカーソル文字列を復元する.
+     *
+     * @param cursor カーソル文字列
+     * @return 復元したカーソル（先頭ページの場合はnull）
+     * @throws InvalidRequestException 形式が不正な場合
+     */
+    private TaskCursor decodeCursor(String cursor) {
+        try {
+            return TaskCursor.decode(cursor);
+        } catch (IllegalArgumentException ex) {
+            throw new InvalidRequestException("cursorの形式が不正です");
+        }
+    }
+
+    /**
+     * 1ページ分のタスクを読み出す処理.
+     */
+    @FunctionalInterface
+    private interface PageReader {
+
+        /**
+         * 1ページ分のタスクを1件ずつ処理する.
+         *
+         * @param includeDetails 説明・更新日時を取得する場合はtrue
+         * @param action         各タスクDTOに対する処理
+         * @return 次ページ取得用のカーソル（最終ページの場合はnull）
+         */
+        TaskCursor forEach(boolean includeDetails, Consumer<TaskDto> action);
+    }
+}
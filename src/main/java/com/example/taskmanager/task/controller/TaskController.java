@@ -5,23 +5,38 @@ import com.example.taskmanager.common.enums.TaskPriority;
 import com.example.taskmanager.common.enums.TaskStatus;
 import com.example.taskmanager.task.converter.TaskConverter;
 import com.example.taskmanager.task.dto.TaskDto;
+import com.example.taskmanager.task.dto.TaskListItemDto;
+import com.example.taskmanager.task.form.TaskBulkForm;
 import com.example.taskmanager.task.form.TaskForm;
+import com.example.taskmanager.task.model.TaskCursor;
+import com.example.taskmanager.task.model.TaskDueRange;
+import com.example.taskmanager.task.model.TaskPage;
+import com.example.taskmanager.task.model.TaskSearchCondition;
+import com.example.taskmanager.task.model.TaskSortKey;
+import com.example.taskmanager.task.model.TaskValidator;
 import com.example.taskmanager.task.service.TaskService;
 import jakarta.validation.Valid;
+import jakarta.validation.groups.Default;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.validation.BindingResult;
+import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
+import org.springframework.web.servlet.support.RequestContextUtils;
 
+import java.time.LocalDate;
 import java.util.List;
 
 /**
  * タスク管理のコントローラー.
  *
- * <p>タスクの一覧表示、詳細表示、登録、編集、削除を行う。</p>
+ * <p>タスクの一覧表示、期限別の表示、詳細表示、登録、編集、削除、一覧で選択したタスクの一括変更・一括削除を行う。</p>
  */
 @Slf4j
 @Controller
@@ -29,58 +44,142 @@ import java.util.List;
 @RequiredArgsConstructor
 public class TaskController {
 
+    /** 一覧画面の1ページあたりの表示件数 */
+    static final int PAGE_SIZE = 50;
+
+    /** 詳細画面に表示する変更履歴の件数 */
+    static final int HISTORY_LIMIT = 20;
+
     /** タスクサービス */
     private final TaskService taskService;
 
     /** タスクコンバーター */
     private final TaskConverter taskConverter;
 
+    /** タスク一覧の行の描画結果のキャッシュ */
+    private final TaskListRowCache taskListRowCache;
+
     /**
      * タスク一覧を表示する.
      *
-     * @param status     フィルター用ステータス（任意）
-     * @param priority   フィルター用優先度（任意）
-     * @param categoryId フィルター用カテゴリーID（任意）
+     * <p>ステータス・優先度・カテゴリーは複数指定でき（同じ項目内はOR条件）、期限日の範囲と並び順を指定できる。
+     * 指定された並び順でキーセットページングを行い、1ページ分のみを表示する。
+     * キーワードが指定された場合は全文検索を行い、関連度の高い順に1ページ分のみを表示する。</p>
+     *
+     * <p>前回の表示以降にタスク・カテゴリーの変更がない場合は、検索・描画を行わずに304を返す。
+     * 行の描画結果のキャッシュが有効な場合は、変更のない行は描画済みのHTMLを使用する。</p>
+     *
+     * @param q          検索キーワード（任意）
+     * @param status     フィルター用ステータス（任意、複数可）
+     * @param priority   フィルター用優先度（任意、複数可）
+     * @param categoryId フィルター用カテゴリーID（任意、複数可）
+     * @param dueFrom    フィルター用期限日の開始日（任意）
+     * @param dueTo      フィルター用期限日の終了日（任意）
+     * @param sort       並び順（任意、既定は作成日時の新しい順）
+     * @param cursor     次ページ取得用のカーソル（任意）
+     * @param webRequest 条件付きGETの判定に使用するリクエスト
      * @param model      ビューに渡すモデル
-     * @return タスク一覧画面のビュー名
+     * @return タスク一覧画面のビュー名（304を返す場合はnull）
      */
     @GetMapping
-    public String list(@RequestParam(required = false) TaskStatus status,
-                       @RequestParam(required = false) TaskPriority priority,
-                       @RequestParam(required = false) Long categoryId,
+    public String list(@RequestParam(required = false) String q,
+                       @RequestParam(required = false) List<TaskStatus> status,
+                       @RequestParam(required = false) List<TaskPriority> priority,
+                       @RequestParam(required = false) List<Long> categoryId,
+                       @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dueFrom,
+                       @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dueTo,
+                       @RequestParam(required = false) TaskSortKey sort,
+                       @RequestParam(required = false) String cursor,
+                       ServletWebRequest webRequest,
                        Model model) {
-        log.debug("GET /tasks - status={}, priority={}, categoryId={}", status, priority, categoryId);
+        TaskSearchCondition condition = TaskSearchCondition.builder()
+                .statuses(status)
+                .priorities(priority)
+                .categoryIds(categoryId)
+                .dueDateFrom(dueFrom)
+                .dueDateTo(dueTo)
+                .sort(sort)
+                .build();
+        log.debug("GET /tasks - q={}, condition={}, cursor={}", q, condition, cursor);
 
-        List<TaskDto> tasks;
-        if (status != null || priority != null || categoryId != null) {
-            tasks = taskService.findByCondition(status, priority, categoryId);
-        } else {
-            tasks = taskService.findAll();
+        if (checkNotModified(taskService.getListValidator(), webRequest)) {
+            return null;
         }
 
+        long generation = taskListRowCache.currentGeneration();
+        List<TaskListItemDto> tasks;
+        if (q != null && !q.isBlank()) {
+            tasks = taskService.search(q, condition, PAGE_SIZE);
+            model.addAttribute("nextCursor", null);
+            model.addAttribute("firstPage", true);
+        } else {
+            TaskPage page = taskService.findPage(condition, decodeCursor(cursor), PAGE_SIZE);
+            tasks = page.tasks();
+            model.addAttribute("nextCursor", page.hasNext() ? page.nextCursor().encode() : null);
+            model.addAttribute("firstPage", cursor == null || cursor.isBlank());
+        }
         model.addAttribute("tasks", tasks);
+        if (taskListRowCache.isEnabled()) {
+            model.addAttribute("taskRows", taskListRowCache.render(tasks, generation,
+                    webRequest.getRequest(), webRequest.getResponse()));
+        }
         model.addAttribute("statuses", TaskStatus.values());
         model.addAttribute("priorities", TaskPriority.values());
+        model.addAttribute("sortKeys", TaskSortKey.values());
         model.addAttribute("categories", taskService.findAllCategories());
-        model.addAttribute("selectedStatus", status);
-        model.addAttribute("selectedPriority", priority);
-        model.addAttribute("selectedCategoryId", categoryId);
+        model.addAttribute("query", q);
+        model.addAttribute("condition", condition);
 
         return "task/list";
     }
 
+    /**
+     * 期限切れ・今日が期限・期限間近の未完了タスクを表示する.
+     *
+     * <p>期限日の近い順にキーセットページングを行い、1ページ分のみを表示する。</p>
+     *
+     * @param range  抽出範囲（任意、既定は期限切れ）
+     * @param days   期限間近の日数（任意、既定は{@value TaskDueRange#DEFAULT_DAYS}日）
+     * @param cursor 次ページ取得用のカーソル（任意）
+     * @param model  ビューに渡すモデル
+     * @return 期限別タスク画面のビュー名
+     */
+    @GetMapping("/due")
+    public String due(@RequestParam(defaultValue = "OVERDUE") TaskDueRange range,
+                      @RequestParam(defaultValue = "" + TaskDueRange.DEFAULT_DAYS) int days,
+                      @RequestParam(required = false) String cursor,
+                      Model model) {
+        log.debug("GET /tasks/due - range={}, days={}, cursor={}", range, days, cursor);
+        TaskPage page = taskService.findDue(range, days, decodeCursor(cursor), PAGE_SIZE);
+        model.addAttribute("tasks", page.tasks());
+        model.addAttribute("nextCursor", page.hasNext() ? page.nextCursor().encode() : null);
+        model.addAttribute("firstPage", cursor == null || cursor.isBlank());
+        model.addAttribute("ranges", TaskDueRange.values());
+        model.addAttribute("range", range);
+        model.addAttribute("days", days);
+        return "task/due";
+    }
+
     /**
      * タスク詳細を表示する.
      *
-     * @param id    表示するタスクのID
-     * @param model ビューに渡すモデル
-     * @return タスク詳細画面のビュー名
+     * <p>前回の表示以降にタスクが更新されていない場合は、カテゴリー情報の取得・描画を行わずに304を返す。
+     * 変更履歴は新しい順に{@value #HISTORY_LIMIT}件まで表示する。</p>
+     *
+     * @param id         表示するタスクのID
+     * @param webRequest 条件付きGETの判定に使用するリクエスト
+     * @param model      ビューに渡すモデル
+     * @return タスク詳細画面のビュー名（304を返す場合はnull）
      */
     @GetMapping("/{id}")
-    public String detail(@PathVariable Long id, Model model) {
+    public String detail(@PathVariable Long id, ServletWebRequest webRequest, Model model) {
         log.debug("GET /tasks/{}", id);
+        if (checkNotModified(taskService.getValidator(id), webRequest)) {
+            return null;
+        }
         TaskDto task = taskService.findById(id);
         model.addAttribute("task", task);
+        model.addAttribute("histories", taskService.findHistory(id, HISTORY_LIMIT));
         return "task/detail";
     }
 
@@ -162,7 +261,8 @@ public class TaskController {
      */
     @PostMapping("/{id}")
     public String update(@PathVariable Long id,
-                         @Valid @ModelAttribute TaskForm taskForm,
+                         @Validated({Default.class, TaskForm.Update.class})
+                         @ModelAttribute TaskForm taskForm,
                          BindingResult bindingResult,
                          Model model,
                          RedirectAttributes redirectAttributes) {
@@ -195,4 +295,92 @@ public class TaskController {
         redirectAttributes.addFlashAttribute("successMessage", "タスクを削除しました");
         return "redirect:/tasks";
     }
+
+    /**
+     * 一覧で選択したタスクのステータス・優先度・カテゴリーをまとめて変更する.
+     *
+     * <p>選択がない・変更する項目がない場合は変更せず、一覧画面にエラーメッセージを表示する。</p>
+     *
+     * @param bulkForm           一括変更のフォームデータ
+     * @param bindingResult      バリデーション結果
+     * @param redirectAttributes リダイレクト時に渡す属性
+     * @return タスク一覧画面へのリダイレクト
+     */
+    @PostMapping("/bulk")
+    public String bulkUpdate(@Valid @ModelAttribute TaskBulkForm bulkForm,
+                             BindingResult bindingResult,
+                             RedirectAttributes redirectAttributes) {
+        log.debug("POST /tasks/bulk - ids={}", bulkForm.getIds());
+        if (bindingResult.hasErrors()) {
+            redirectAttributes.addFlashAttribute("errorMessage", bindingResult.getAllErrors().get(0).getDefaultMessage());
+            return "redirect:/tasks";
+        }
+        if (!bulkForm.hasChanges()) {
+            redirectAttributes.addFlashAttribute("errorMessage", "変更する項目を選択してください");
+            return "redirect:/tasks";
+        }
+        int updated = taskService.bulkUpdate(bulkForm);
+        redirectAttributes.addFlashAttribute("successMessage", updated + "件のタスクを変更しました");
+        return "redirect:/tasks";
+    }
+
+    /**
+     * 一覧で選択したタスクをまとめて削除する.
+     *
+     * @param bulkForm           一括削除のフォームデータ（IDのみ使用する）
+     * @param bindingResult      バリデーション結果
+     * @param redirectAttributes リダイレクト時に渡す属性
+     * @return タスク一覧画面へのリダイレクト
+     */
+    @PostMapping("/bulk/delete")
+    public String bulkDelete(@Valid @ModelAttribute TaskBulkForm bulkForm,
+                             BindingResult bindingResult,
+                             RedirectAttributes redirectAttributes) {
+        log.debug("POST /tasks/bulk/delete - ids={}", bulkForm.getIds());
+        if (bindingResult.hasErrors()) {
+            redirectAttributes.addFlashAttribute("errorMessage", bindingResult.getAllErrors().get(0).getDefaultMessage());
+            return "redirect:/tasks";
+        }
+        int deleted = taskService.bulkDelete(bulkForm.getIds());
+        redirectAttributes.addFlashAttribute("successMessage", deleted + "件のタスクを削除しました");
+        return "redirect:/tasks";
+    }
+
+    /**
+     * 条件付きGETを判定し、ETag・Last-Modifiedヘッダーを設定する.
+     *
+     * <p>リダイレクト直後の完了メッセージ（フラッシュ属性）は画面ごとに異なるため、
+     * フラッシュ属性がある場合は判定せず常に描画する。
+     * ブラウザが毎回再検証するよう、Cache-Controlにno-cacheを設定する。</p>
+     *
+     * @param validator  検証子（nullの場合は判定しない）
+     * @param webRequest リクエスト
+     * @return 304を返す場合はtrue
+     */
+    private boolean checkNotModified(TaskValidator validator, ServletWebRequest webRequest) {
+        if (validator == null || RequestContextUtils.getInputFlashMap(webRequest.getRequest()) != null) {
+            return false;
+        }
+        if (webRequest.getResponse() != null) {
+            webRequest.getResponse().setHeader(HttpHeaders.CACHE_CONTROL, "no-cache");
+        }
+        return webRequest.checkNotModified(validator.eTag(), validator.lastModified());
+    }
+
+    /**
+     * リクエストパラメータのカーソル文字列を復元する.
+     *
+     * <p>改ざん等で形式が不正な場合は先頭ページとして扱う。</p>
+     *
+     * @param cursor カーソル文字列
+     * @return 復元したカーソル（先頭ページの場合はnull）
+     */
+    private TaskCursor decodeCursor(String cursor) {
+        try {
+            return TaskCursor.decode(cursor);
+        } catch (IllegalArgumentException ex) {
+            log.warn("Invalid cursor ignored: {}", cursor);
+            return null;
+        }
+    }
 }
@@ -0,0 +1,39 @@
+package com.example.taskmanager.task.controller;
+
+import com.example.taskmanager.task.dto.TaskCountDto;
+import com.example.taskmanager.task.service.TaskService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.ResponseBody;
+
+import java.util.List;
+
+/**
+ * タスク集計（ダッシュボード）のコントローラー.
+ *
+ * <p>ステータス・優先度・カテゴリーごとのタスク件数をJSONで返す。</p>
+ */
+@Slf4j
+@Controller
+@RequestMapping("/tasks")
+@RequiredArgsConstructor
+public class TaskDashboardController {
+
+    /** タスクサービス */
+    private final TaskService taskService;
+
+    /**
+     * ステータス・優先度・カテゴリーごとのタスク件数を取得する.
+     *
+     * @return 件数のリスト（0件の組み合わせは含まない）
+     */
+    @GetMapping("/counts")
+    @ResponseBody
+    public List<TaskCountDto> counts() {
+        log.debug("GET /tasks/counts");
+        return taskService.countTasks();
+    }
+}
@@ -0,0 +1,339 @@
+package com.example.taskmanager.task.controller;
+
+import com.example.taskmanager.common.event.CategoryChangedEvent;
+import com.example.taskmanager.common.event.ChangeType;
+import com.example.taskmanager.common.event.TaskBulkChangedEvent;
+import com.example.taskmanager.common.event.TaskChangedEvent;
+import com.example.taskmanager.task.dto.TaskDto;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.format.DateTimeFormatter;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * タスクの変更をタスク一覧画面へServer-Sent Eventsで配信するコンポーネント.
+ *
+ * <p>タスク・カテゴリーの変更のコミット後にイベントを組み立て、接続中のすべてのクライアントへ送信する。
+ * イベントのJSONは1回だけ生成し、全クライアントで共有する。</p>
+ *
+ * <p>待機中の接続はServletの非同期処理として保持するため、スレッドを占有しない。
+ * 送信はクライアントごとの上限付きキューに積み、送信待ちがあるクライアントのみ仮想スレッドで書き出す。
+ * そのため、コミットしたリクエストのスレッドが遅いクライアントへの書き込みで待たされることはない。
+ * キューがあふれたクライアントには再読み込みを促すイベントを送って切断する
+ * （ブラウザーは自動的に再接続する）。</p>
+ */
+@Slf4j
+@Component
+public class TaskEventBroadcaster {
+
+    /** タスク1件の変更イベント名 */
+    static final String TASK_EVENT = "task";
+
+    /** 一覧の再読み込みを促すイベント名 */
+    static final String RELOAD_EVENT = "reload";
+
+    /** 接続数のメトリクス名 */
+    static final String SUBSCRIBERS_GAUGE = "task.events.subscribers";
+
+    /** 送信待ちがあふれて切断した件数のメトリクス名 */
+    static final String OVERFLOW_COUNTER = "task.events.overflows";
+
+    /** 期限日の表示形式（一覧の行と合わせる） */
+    private static final DateTimeFormatter DUE_DATE_FORMAT = DateTimeFormatter.ofPattern("yyyy/MM/dd");
+
+    /** 設定 */
+    private final TaskEventProperties properties;
+
+    /** JSON変換用のObjectMapper */
+    private final ObjectMapper objectMapper;
+
+    /** 接続中のクライアント */
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+
+    /** 送信用の仮想スレッド */
+    private final ExecutorService writers =
+            Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("task-events-", 0).factory());
+
+    /** ハートビートの送信スケジューラー */
+    private final ScheduledExecutorService heartbeatScheduler = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("task-events-heartbeat").daemon().factory());
+
+    /** ハートビート */
+    private final Set<DataWithMediaType> heartbeatEvent = SseEmitter.event().comment("heartbeat").build();
+
+    /** 再読み込みを促すイベント */
+    private final Set<DataWithMediaType> reloadEvent = SseEmitter.event().name(RELOAD_EVENT).data("{}").build();
+
+    /** 送信待ちがあふれて切断した件数 */
+    private final Counter overflowCounter;
+
+    /**
+     * コンストラクタ.
+     *
+     * @param properties    設定
+     * @param objectMapper  JSON変換用のObjectMapper
+     * @param meterRegistry メトリクスの登録先
+     */
+    public TaskEventBroadcaster(TaskEventProperties properties, ObjectMapper objectMapper,
+                                MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+        Gauge.builder(SUBSCRIBERS_GAUGE, subscribers, Set::size)
+                .description("タスク変更通知の接続数")
+                .register(meterRegistry);
+        this.overflowCounter = Counter.builder(OVERFLOW_COUNTER)
+                .description("送信待ちがあふれて切断したタスク変更通知の接続数")
+                .register(meterRegistry);
+    }
+
+    /**
+     * ハートビートの送信を開始する.
+     */
+    @PostConstruct
+    public void start() {
+        long interval = properties.getHeartbeatInterval().toMillis();
+        heartbeatScheduler.scheduleAtFixedRate(() -> broadcast(heartbeatEvent),
+                interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * すべての接続を終了し、スレッドを停止する.
+     */
+    @PreDestroy
+    public void shutdown() {
+        heartbeatScheduler.shutdownNow();
+        subscribers.forEach(subscriber -> subscriber.emitter.complete());
+        subscribers.clear();
+        writers.shutdown();
+    }
+
+    /**
+     * 新しい接続を受け付ける.
+     *
+     * @return クライアントへイベントを送信するエミッター
+     */
+    public SseEmitter subscribe() {
+        SseEmitter emitter = new SseEmitter(properties.getTimeout().toMillis());
+        register(emitter);
+        return emitter;
+    }
+
+    /**
+     * エミッターを接続中のクライアントとして登録する.
+     *
+     * @param emitter エミッター
+     */
+    void register(SseEmitter emitter) {
+        Subscriber subscriber = new Subscriber(emitter, new ArrayBlockingQueue<>(properties.getBufferSize()));
+        emitter.onTimeout(emitter::complete);
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onError(ex -> subscribers.remove(subscriber));
+        subscribers.add(subscriber);
+        enqueue(subscriber, SseEmitter.event()
+                .reconnectTime(properties.getReconnectDelay().toMillis())
+                .comment("connected")
+                .build());
+    }
+
+    /**
+     * 接続数を取得する.
+     *
+     * @return 接続数
+     */
+    public int getSubscriberCount() {
+        return subscribers.size();
+    }
+
+    /**
+     * タスク変更のコミット後に変更内容を配信する.
+     *
+     * @param event タスク変更イベント
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        if (subscribers.isEmpty()) {
+            return;
+        }
+        String json;
+        try {
+            json = objectMapper.writeValueAsString(TaskEventData.of(event));
+        } catch (JsonProcessingException ex) {
+            log.warn("Failed to serialize task event: id={}", event.taskId(), ex);
+            return;
+        }
+        broadcast(SseEmitter.event().name(TASK_EVENT).data(json, MediaType.APPLICATION_JSON).build());
+    }
+
+    /**
+     * 一括変更のコミット後に一覧の再読み込みを促す.
+     *
+     * @param event 一括変更イベント
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskBulkChanged(TaskBulkChangedEvent event) {
+        broadcast(reloadEvent);
+    }
+
+    /**
+     * カテゴリー変更のコミット後に一覧の再読み込みを促す.
+     *
+     * @param event カテゴリー変更イベント
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCategoryChanged(CategoryChangedEvent event) {
+        broadcast(reloadEvent);
+    }
+
+    /**
+     * すべてのクライアントの送信待ちにイベントを積む.
+     *
+     * @param event イベント
+     */
+    private void broadcast(Set<DataWithMediaType> event) {
+        for (Subscriber subscriber : subscribers) {
+            enqueue(subscriber, event);
+        }
+    }
+
+    /**
+     * クライアントの送信待ちにイベントを積み、送信中でなければ送信を開始する.
+     *
+     * <p>送信待ちがあふれた場合は配信対象から外し、送信用のスレッドで再読み込みを促して切断する。
+     * エミッターの終了は書き込み中の送信を待つため、呼び出し元のスレッドでは行わない。</p>
+     *
+     * @param subscriber クライアント
+     * @param event      イベント
+     */
+    private void enqueue(Subscriber subscriber, Set<DataWithMediaType> event) {
+        if (!subscriber.queue.offer(event)) {
+            if (subscribers.remove(subscriber)) {
+                overflowCounter.increment();
+                log.debug("Task event buffer overflowed, closing subscriber");
+            }
+            subscriber.overflowed = true;
+        }
+        if (subscriber.draining.compareAndSet(false, true)) {
+            writers.execute(() -> drain(subscriber));
+        }
+    }
+
+    /**
+     * クライアントの送信待ちがなくなるまで送信する.
+     *
+     * @param subscriber クライアント
+     */
+    private void drain(Subscriber subscriber) {
+        try {
+            do {
+                Set<DataWithMediaType> event;
+                while (!subscriber.overflowed && (event = subscriber.queue.poll()) != null) {
+                    subscriber.emitter.send(event);
+                }
+                if (subscriber.overflowed) {
+                    subscriber.queue.clear();
+                    subscriber.emitter.send(reloadEvent);
+                    subscriber.emitter.complete();
+                    return;
+                }
+                subscriber.draining.set(false);
+            } while (!subscriber.queue.isEmpty() && subscriber.draining.compareAndSet(false, true));
+        } catch (IOException | IllegalStateException ex) {
+            // クライアントの切断、またはタイムアウト等で終了済みのエミッター
+            log.debug("Task event subscriber disconnected: {}", ex.getMessage());
+            subscribers.remove(subscriber);
+            subscriber.emitter.completeWithError(ex);
+        }
+    }
+
+    /**
+     * 接続中のクライアント.
+     */
+    private static final class Subscriber {
+
+        /** エミッター */
+        private final SseEmitter emitter;
+
+        /** 送信待ちのイベント */
+        private final BlockingQueue<Set<DataWithMediaType>> queue;
+
+        /** 送信用のスレッドが動作中かどうか */
+        private final AtomicBoolean draining = new AtomicBoolean();
+
+        /** 送信待ちがあふれたかどうか */
+        private volatile boolean overflowed;
+
+        /**
+         * コンストラクタ.
+         *
+         * @param emitter エミッター
+         * @param queue   送信待ちのイベント
+         */
+        private Subscriber(SseEmitter emitter, BlockingQueue<Set<DataWithMediaType>> queue) {
+            this.emitter = emitter;
+            this.queue = queue;
+        }
+    }
+
+    /**
+     * タスク変更イベントのデータ.
+     *
+     * <p>一覧の行の書き換えに必要な項目のみを含める。削除の場合はtype・idのみとなる。</p>
+     *
+     * @param type          変更種別
+     * @param id            タスクID
+     * @param version       バージョン
+     * @param title         タイトル
+     * @param status        ステータス
+     * @param statusName    ステータスの表示名
+     * @param priority      優先度
+     * @param priorityName  優先度の表示名
+     * @param categoryId    カテゴリーID
+     * @param categoryName  カテゴリー名
+     * @param categoryColor カテゴリー色
+     * @param dueDate       期限日（yyyy/MM/dd）
+     */
+    record TaskEventData(ChangeType type, Long id, Integer version, String title,
+                         String status, String statusName, String priority, String priorityName,
+                         Long categoryId, String categoryName, String categoryColor, String dueDate) {
+
+        /**
+         * タスク変更イベントから生成する.
+         *
+         * @param event タスク変更イベント
+         * @return イベントのデータ
+         */
+        static TaskEventData of(TaskChangedEvent event) {
+            TaskDto task = event.after();
+            if (task == null) {
+                return new TaskEventData(event.changeType(), event.taskId(),
+                        null, null, null, null, null, null, null, null, null, null);
+            }
+            return new TaskEventData(event.changeType(), task.getId(), task.getVersion(), task.getTitle(),
+                    task.getStatus() != null ? task.getStatus().name() : null, task.getStatusDisplayName(),
+                    task.getPriority() != null ? task.getPriority().name() : null, task.getPriorityDisplayName(),
+                    task.getCategoryId(), task.getCategoryName(), task.getCategoryColor(),
+                    task.getDueDate() != null ? task.getDueDate().format(DUE_DATE_FORMAT) : null);
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.example.taskmanager.task.controller;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.ResponseBody;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * タスク変更通知のコントローラー.
+ *
+ * <p>タスク一覧画面がServer-Sent Eventsで接続し、他の利用者による変更を受け取って行を書き換える。
+ * 再読み込みによるポーリングを不要にする。</p>
+ */
+@Slf4j
+@Controller
+@RequestMapping("/tasks")
+@RequiredArgsConstructor
+public class TaskEventController {
+
+    /** タスク変更通知の配信 */
+    private final TaskEventBroadcaster taskEventBroadcaster;
+
+    /**
+     * タスク変更通知の接続を開始する.
+     *
+     * @return イベントを送信するエミッター
+     */
+    @GetMapping(path = "/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @ResponseBody
+    public SseEmitter events() {
+        log.debug("GET /tasks/events");
+        return taskEventBroadcaster.subscribe();
+    }
+}
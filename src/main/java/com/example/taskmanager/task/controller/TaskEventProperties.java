@@ -0,0 +1,30 @@
+package com.example.taskmanager.task.controller;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * タスク変更通知（Server-Sent Events）の設定.
+ *
+ * <p>application.ymlの{@code app.task.events}配下の値をバインドする。</p>
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.task.events")
+public class TaskEventProperties {
+
+    /** 接続ごとに送信待ちにできるイベント数（超えた場合は再読み込みを促して切断する） */
+    private int bufferSize = 64;
+
+    /** ハートビート（コメント行）の送信間隔（切断された接続の検出とプロキシのタイムアウト防止） */
+    private Duration heartbeatInterval = Duration.ofSeconds(30);
+
+    /** 接続の最大維持時間（経過後はブラウザーが自動的に再接続する） */
+    private Duration timeout = Duration.ofMinutes(30);
+
+    /** 切断時にブラウザーが再接続するまでの待ち時間 */
+    private Duration reconnectDelay = Duration.ofSeconds(3);
+}
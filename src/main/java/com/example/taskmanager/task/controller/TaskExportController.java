@@ -0,0 +1,170 @@
+package com.example.taskmanager.task.controller;
+
+import com.example.taskmanager.task.dto.TaskDto;
+import com.example.taskmanager.task.service.TaskService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * タスクエクスポートのコントローラー.
+ *
+ * <p>全タスクをCSVまたはNDJSON形式でレスポンスに直接書き出す。
+ * サービスのカーソル読み出しと組み合わせ、件数に関わらずメモリ使用量を一定に保つ。</p>
+ */
+@Slf4j
+@Controller
+@RequestMapping("/tasks")
+@RequiredArgsConstructor
+public class TaskExportController {
+
+    /** CSVのヘッダー行 */
+    private static final String CSV_HEADER =
+            "id,title,description,status,priority,category_id,category_name,due_date,created_at,updated_at";
+
+    /** Excelで文字化けしないよう先頭に付与するBOM */
+    private static final char UTF8_BOM = '\uFEFF';
+
+    /** タスクサービス */
+    private final TaskService taskService;
+
+    /** JSON変換用のObjectMapper */
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 全タスクをCSV形式でエクスポートする.
+     *
+     * @return CSVを書き出すレスポンス
+     */
+    @GetMapping("/export.csv")
+    public ResponseEntity<StreamingResponseBody> exportCsv() {
+        log.debug("GET /tasks/export.csv");
+        StreamingResponseBody body = out -> {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+            writer.write(UTF8_BOM);
+            writer.write(CSV_HEADER);
+            writer.write("\r\n");
+            taskService.forEachTask(task -> writeCsvRow(writer, task));
+            writer.flush();
+        };
+        return attachment("tasks.csv", new MediaType("text", "csv", StandardCharsets.UTF_8), body);
+    }
+
+    /**
+     * 全タスクをNDJSON形式（1行1JSON）でエクスポートする.
+     *
+     * @return NDJSONを書き出すレスポンス
+     */
+    @GetMapping("/export.ndjson")
+    public ResponseEntity<StreamingResponseBody> exportNdjson() {
+        log.debug("GET /tasks/export.ndjson");
+        ObjectWriter jsonWriter = objectMapper.writerFor(TaskDto.class);
+        StreamingResponseBody body = out -> {
+            taskService.forEachTask(task -> writeJsonLine(out, jsonWriter, task));
+            out.flush();
+        };
+        return attachment("tasks.ndjson", MediaType.APPLICATION_NDJSON, body);
+    }
+
+    /**
+     * ダウンロード用のレスポンスを生成する.
+     *
+     * @param filename    ダウンロード時のファイル名
+     * @param contentType コンテンツタイプ
+     * @param body        レスポンス本文の書き出し処理
+     * @return ダウンロード用のレスポンス
+     */
+    private ResponseEntity<StreamingResponseBody> attachment(String filename, MediaType contentType,
+                                                             StreamingResponseBody body) {
+        return ResponseEntity.ok()
+                .contentType(contentType)
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename(filename).build().toString())
+                .body(body);
+    }
+
+    /**
+     * タスク1件をCSVの1行として書き出す.
+     *
+     * @param writer 書き出し先
+     * @param task   タスクDTO
+     */
+    private void writeCsvRow(Writer writer, TaskDto task) {
+        try {
+            writer.write(String.valueOf(task.getId()));
+            writer.write(',');
+            writer.write(csv(task.getTitle()));
+            writer.write(',');
+            writer.write(csv(task.getDescription()));
+            writer.write(',');
+            writer.write(csv(task.getStatus()));
+            writer.write(',');
+            writer.write(csv(task.getPriority()));
+            writer.write(',');
+            writer.write(csv(task.getCategoryId()));
+            writer.write(',');
+            writer.write(csv(task.getCategoryName()));
+            writer.write(',');
+            writer.write(csv(task.getDueDate()));
+            writer.write(',');
+            writer.write(csv(task.getCreatedAt()));
+            writer.write(',');
+            writer.write(csv(task.getUpdatedAt()));
+            writer.write("\r\n");
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    /**
+     * タスク1件をJSONの1行として書き出す.
+     *
+     * @param out        書き出し先
+     * @param jsonWriter TaskDto用のObjectWriter
+     * @param task       タスクDTO
+     */
+    private void writeJsonLine(OutputStream out, ObjectWriter jsonWriter, TaskDto task) {
+        try {
+            out.write(jsonWriter.writeValueAsBytes(task));
+            out.write('\n');
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    /**
+     * 値をCSVのフィールドとしてエスケープする.
+     *
+     * <p>カンマ・ダブルクォート・改行を含む場合はダブルクォートで囲む。</p>
+     *
+     * @param value 値（nullの場合は空文字）
+     * @return エスケープ後の文字列
+     */
+    static String csv(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text = value.toString();
+        if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+            return text;
+        }
+        return '"' + text.replace("\"", "\"\"") + '"';
+    }
+}
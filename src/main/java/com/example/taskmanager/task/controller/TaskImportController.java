@@ -0,0 +1,92 @@
+package com.example.taskmanager.task.controller;
+
+import com.example.taskmanager.task.dto.TaskImportResult;
+import com.example.taskmanager.task.form.TaskForm;
+import com.example.taskmanager.task.service.TaskImportService;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseBody;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+
+/**
+ * タスク一括取込のコントローラー.
+ *
+ * <p>CSVまたはJSONで受け取ったタスクを一括登録し、行ごとのエラーを含む取込結果をJSONで返す。</p>
+ */
+@Slf4j
+@Controller
+@RequestMapping("/tasks")
+@RequiredArgsConstructor
+public class TaskImportController {
+
+    /** JSON配列として読み込む型 */
+    private static final TypeReference<List<TaskForm>> FORM_LIST_TYPE = new TypeReference<>() {
+    };
+
+    /** タスク一括取込サービス */
+    private final TaskImportService taskImportService;
+
+    /** JSON変換用のObjectMapper */
+    private final ObjectMapper objectMapper;
+
+    /**
+     * アップロードされたファイルからタスクを一括登録する.
+     *
+     * <p>拡張子が.jsonの場合はタスクフォームのJSON配列、それ以外はCSVとして読み込む。</p>
+     *
+     * @param file アップロードされたファイル
+     * @return 取込結果
+     * @throws IOException ファイルの読み込みに失敗した場合
+     */
+    @PostMapping(value = "/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @ResponseBody
+    public TaskImportResult importFile(@RequestParam("file") MultipartFile file) throws IOException {
+        log.debug("POST /tasks/import - file={}, size={}", file.getOriginalFilename(), file.getSize());
+        String filename = file.getOriginalFilename();
+        try (InputStream in = file.getInputStream()) {
+            if (filename != null && filename.toLowerCase().endsWith(".json")) {
+                return taskImportService.importForms(objectMapper.readValue(in, FORM_LIST_TYPE));
+            }
+            return taskImportService.importCsv(in);
+        }
+    }
+
+    /**
+     * リクエスト本文のJSON配列からタスクを一括登録する.
+     *
+     * @param forms タスクフォームのリスト
+     * @return 取込結果
+     */
+    @PostMapping(value = "/import", consumes = MediaType.APPLICATION_JSON_VALUE)
+    @ResponseBody
+    public TaskImportResult importJson(@RequestBody List<TaskForm> forms) {
+        log.debug("POST /tasks/import - {} rows", forms.size());
+        return taskImportService.importForms(forms);
+    }
+
+    /**
+     * リクエスト本文のCSVからタスクを一括登録する.
+     *
+     * @param body CSVのリクエスト本文
+     * @return 取込結果
+     * @throws IOException 本文の読み込みに失敗した場合
+     */
+    @PostMapping(value = "/import", consumes = "text/csv")
+    @ResponseBody
+    public TaskImportResult importCsv(InputStream body) throws IOException {
+        log.debug("POST /tasks/import - csv body");
+        return taskImportService.importCsv(body);
+    }
+}
@@ -0,0 +1,127 @@
+package com.example.taskmanager.task.controller;
+
+import com.example.taskmanager.common.exception.InvalidRequestException;
+import com.example.taskmanager.task.dto.TaskDto;
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import java.io.IOException;
+import java.time.format.DateTimeFormatter;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * タスクをJSONとして書き出す処理.
+ *
+ * <p>JacksonのJsonGeneratorへ項目ごとに直接書き出し、指定された項目のみを出力する（項目射影）。
+ * 項目の出力順は{@link #FIELD_NAMES}の順で固定とし、日付・日時はISO-8601形式の文字列とする。</p>
+ */
+final class TaskJsonWriter {
+
+    /** 出力可能な項目名（出力順） */
+    static final List<String> FIELD_NAMES = List.of(
+            "id", "title", "description", "status", "priority", "categoryId", "categoryName", "categoryColor",
+            "dueDate", "createdAt", "updatedAt", "version");
+
+    /** 一覧の取得時に説明・更新日時のカラムが必要となる項目名 */
+    private static final Set<String> DETAIL_FIELD_NAMES = Set.of("description", "updatedAt");
+
+    private TaskJsonWriter() {
+    }
+
+    /**
+     * カンマ区切りの項目名を解析する.
+     *
+     * @param fields カンマ区切りの項目名（nullまたは空文字の場合は全項目）
+     * @return 出力する項目名
+     * @throws InvalidRequestException 未知の項目名が含まれる場合
+     */
+    static Set<String> parseFields(String fields) {
+        if (fields == null || fields.isBlank()) {
+            return Set.copyOf(FIELD_NAMES);
+        }
+        Set<String> selected = new LinkedHashSet<>();
+        for (String field : fields.split(",")) {
+            String name = field.trim();
+            if (name.isEmpty()) {
+                continue;
+            }
+            if (!FIELD_NAMES.contains(name)) {
+                throw new InvalidRequestException("未知の項目名です: " + name + "（指定可能な項目: "
+                        + String.join(",", FIELD_NAMES) + "）");
+            }
+            selected.add(name);
+        }
+        if (selected.isEmpty()) {
+            return Set.copyOf(FIELD_NAMES);
+        }
+        return selected;
+    }
+
+    /**
+     * 出力する項目に説明・更新日時が含まれるかを判定する.
+     *
+     * @param fields 出力する項目名
+     * @return 含まれる場合はtrue
+     */
+    static boolean requiresDetails(Set<String> fields) {
+        for (String name : DETAIL_FIELD_NAMES) {
+            if (fields.contains(name)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * タスク1件をJSONオブジェクトとして書き出す.
+     *
+     * @param generator 書き出し先
+     * @param task      タスクDTO
+     * @param fields    出力する項目名
+     * @throws IOException 書き出しに失敗した場合
+     */
+    static void write(JsonGenerator generator, TaskDto task, Set<String> fields) throws IOException {
+        generator.writeStartObject();
+        for (String name : FIELD_NAMES) {
+            if (!fields.contains(name)) {
+                continue;
+            }
+            generator.writeFieldName(name);
+            switch (name) {
+                case "id" -> writeNumber(generator, task.getId());
+                case "title" -> generator.writeString(task.getTitle());
+                case "description" -> generator.writeString(task.getDescription());
+                case "status" -> generator.writeString(task.getStatus() != null ? task.getStatus().name() : null);
+                case "priority" -> generator.writeString(task.getPriority() != null ? task.getPriority().name() : null);
+                case "categoryId" -> writeNumber(generator, task.getCategoryId());
+                case "categoryName" -> generator.writeString(task.getCategoryName());
+                case "categoryColor" -> generator.writeString(task.getCategoryColor());
+                case "dueDate" -> generator.writeString(task.getDueDate() != null
+                        ? DateTimeFormatter.ISO_LOCAL_DATE.format(task.getDueDate()) : null);
+                case "createdAt" -> generator.writeString(task.getCreatedAt() != null
+                        ? DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(task.getCreatedAt()) : null);
+                case "updatedAt" -> generator.writeString(task.getUpdatedAt() != null
+                        ? DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(task.getUpdatedAt()) : null);
+                case "version" -> writeNumber(generator, task.getVersion());
+                default -> throw new IllegalStateException("Unexpected field: " + name);
+            }
+        }
+        generator.writeEndObject();
+    }
+
+    /**
+     * 数値を書き出す（nullの場合はnull）.
+     *
+     * @param generator 書き出し先
+     * @param value     値
+     * @throws IOException 書き出しに失敗した場合
+     */
+    private static void writeNumber(JsonGenerator generator, Number value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+        } else {
+            generator.writeNumber(value.longValue());
+        }
+    }
+}
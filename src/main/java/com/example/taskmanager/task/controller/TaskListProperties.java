@@ -0,0 +1,22 @@
+package com.example.taskmanager.task.controller;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * タスク一覧画面の設定.
+ *
+ * <p>application.ymlの{@code app.task.list}配下の値をバインドする。</p>
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.task.list")
+public class TaskListProperties {
+
+    /** 一覧の行の描画結果をキャッシュするかどうか（テンプレートを編集する開発時はfalseとする） */
+    private boolean rowCacheEnabled = false;
+
+    /** キャッシュする行数の上限（超えた場合はすべて破棄する） */
+    private int rowCacheMaxEntries = 10000;
+}
@@ -0,0 +1,225 @@
+package com.example.taskmanager.task.controller;
+
+import com.example.taskmanager.common.cache.CategoryCache;
+import com.example.taskmanager.common.event.ChangeType;
+import com.example.taskmanager.common.event.TaskBulkChangedEvent;
+import com.example.taskmanager.common.event.TaskChangedEvent;
+import com.example.taskmanager.task.dto.TaskListItemDto;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.thymeleaf.ITemplateEngine;
+import org.thymeleaf.context.WebContext;
+import org.thymeleaf.web.servlet.JakartaServletWebApplication;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * タスク一覧の行の描画結果（HTML）のキャッシュ.
+ *
+ * <p>一覧の1行分（task/list-row.html の row フラグメント）を行単位で描画し、
+ * タスクID・バージョン・カテゴリーの世代番号をキーとして保持する。
+ * タスクは更新のたびにバージョンが加算され、カテゴリー名・色の変更は世代番号が進むため、
+ * いずれも変わっていない行は再評価せずに描画済みのHTMLをそのまま使用する。</p>
+ *
+ * <p>削除・一括削除のコミット後に該当する行を破棄する。
+ * 行数が上限に達した場合はすべて破棄する。</p>
+ *
+ * <p>{@link TaskListProperties#isRowCacheEnabled()}がfalseの場合は使用しない。</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TaskListRowCache {
+
+    /** 行のテンプレート名 */
+    static final String ROW_TEMPLATE = "task/list-row";
+
+    /** 行のフラグメントのセレクター */
+    static final Set<String> ROW_SELECTOR = Set.of("row");
+
+    /** テンプレートエンジン */
+    private final ITemplateEngine templateEngine;
+
+    /** カテゴリーキャッシュ（世代番号の参照用） */
+    private final CategoryCache categoryCache;
+
+    /** タスク一覧画面の設定 */
+    private final TaskListProperties properties;
+
+    /** タスクIDごとの描画結果 */
+    private final ConcurrentMap<Long, Row> rows = new ConcurrentHashMap<>();
+
+    /** ヒット件数 */
+    private final LongAdder hitCount = new LongAdder();
+
+    /** ミス件数 */
+    private final LongAdder missCount = new LongAdder();
+
+    /**
+     * キャッシュが有効かどうかを返す.
+     *
+     * @return 有効な場合はtrue
+     */
+    public boolean isEnabled() {
+        return properties.isRowCacheEnabled();
+    }
+
+    /**
+     * 現在のカテゴリーの世代番号を取得する.
+     *
+     * <p>タスクをDBから取得する前に呼び出し、その値を{@link #render}に渡すこと。
+     * 取得後に読み出すと、取得中に変更されたカテゴリーの古い内容を新しい世代番号で保持するおそれがある。</p>
+     *
+     * @return 世代番号
+     */
+    public long currentGeneration() {
+        return categoryCache.getGeneration();
+    }
+
+    /**
+     * タスク一覧の行を描画する.
+     *
+     * <p>キャッシュにない行のみテンプレートを評価する。</p>
+     *
+     * @param tasks      一覧のタスク
+     * @param generation タスクの取得前に{@link #currentGeneration()}で取得した世代番号
+     * @param request    リクエスト（リンクURLの生成に使用する）
+     * @param response   レスポンス（リンクURLの生成に使用する）
+     * @return 行ごとのHTML
+     */
+    public List<String> render(List<TaskListItemDto> tasks, long generation,
+                               HttpServletRequest request, HttpServletResponse response) {
+        List<String> result = new ArrayList<>(tasks.size());
+        WebContext context = null;
+        for (TaskListItemDto task : tasks) {
+            Row cached = rows.get(task.getId());
+            if (cached != null && cached.matches(task.getVersion(), generation)) {
+                hitCount.increment();
+                result.add(cached.html());
+                continue;
+            }
+            missCount.increment();
+            if (context == null) {
+                context = createContext(request, response);
+            }
+            context.setVariable("task", task);
+            String html = templateEngine.process(ROW_TEMPLATE, ROW_SELECTOR, context);
+            put(task.getId(), new Row(task.getVersion(), generation, html));
+            result.add(html);
+        }
+        return result;
+    }
+
+    /**
+     * キャッシュをすべて破棄する.
+     */
+    public void invalidate() {
+        rows.clear();
+        log.debug("Task list row cache invalidated");
+    }
+
+    /**
+     * タスク削除のコミット後に該当する行を破棄する.
+     *
+     * <p>登録・更新はバージョンで判定できるため破棄しない。</p>
+     *
+     * @param event タスク変更イベント
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        if (event.after() == null) {
+            rows.remove(event.taskId());
+        }
+    }
+
+    /**
+     * 一括変更のコミット後に該当する行を破棄する.
+     *
+     * <p>一括削除は対象の行のみを破棄する。一括更新はバージョンで判定できるため破棄しない。
+     * 一括登録は新しいタスクIDの行のみとなり、キャッシュにないため何もしない。</p>
+     *
+     * @param event 一括変更イベント
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskBulkChanged(TaskBulkChangedEvent event) {
+        if (event.changeType() == ChangeType.DELETED) {
+            event.taskIds().forEach(rows::remove);
+        }
+    }
+
+    /**
+     * ヒット件数を取得する.
+     *
+     * @return ヒット件数
+     */
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    /**
+     * ミス件数を取得する.
+     *
+     * @return ミス件数
+     */
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    /**
+     * 描画結果を保持する。上限に達している場合は先にすべて破棄する.
+     *
+     * @param id  タスクID
+     * @param row 描画結果
+     */
+    private void put(Long id, Row row) {
+        if (rows.size() >= properties.getRowCacheMaxEntries() && !rows.containsKey(id)) {
+            log.debug("Task list row cache reached {} entries", properties.getRowCacheMaxEntries());
+            rows.clear();
+        }
+        rows.put(id, row);
+    }
+
+    /**
+     * 行のテンプレートを評価するためのコンテキストを生成する.
+     *
+     * @param request  リクエスト
+     * @param response レスポンス
+     * @return コンテキスト
+     */
+    private WebContext createContext(HttpServletRequest request, HttpServletResponse response) {
+        JakartaServletWebApplication application =
+                JakartaServletWebApplication.buildApplication(request.getServletContext());
+        return new WebContext(application.buildExchange(request, response), request.getLocale());
+    }
+
+    /**
+     * 1行分の描画結果.
+     *
+     * @param version    描画時のタスクのバージョン
+     * @param generation 描画時のカテゴリーの世代番号
+     * @param html       描画結果
+     */
+    private record Row(Integer version, long generation, String html) {
+
+        /**
+         * キャッシュキーが一致するかを判定する.
+         *
+         * @param currentVersion    タスクの現在のバージョン
+         * @param currentGeneration カテゴリーの現在の世代番号
+         * @return 一致する場合はtrue
+         */
+        boolean matches(Integer currentVersion, long currentGeneration) {
+            return generation == currentGeneration && Objects.equals(version, currentVersion);
+        }
+    }
+}
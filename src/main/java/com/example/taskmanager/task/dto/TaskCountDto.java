@@ -0,0 +1,30 @@
+package com.example.taskmanager.task.dto;
+
+import com.example.taskmanager.common.enums.TaskPriority;
+import com.example.taskmanager.common.enums.TaskStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * ステータス・優先度・カテゴリーごとのタスク件数.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskCountDto {
+
+    /** ステータス */
+    private TaskStatus status;
+
+    /** 優先度 */
+    private TaskPriority priority;
+
+    /** カテゴリーID（未分類の場合はnull） */
+    private Long categoryId;
+
+    /** 件数 */
+    private long count;
+}
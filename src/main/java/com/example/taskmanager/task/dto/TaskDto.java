@@ -17,7 +17,7 @@ import java.time.LocalDateTime;
  * カテゴリー情報も含めて一括で取得・表示するために使用する。</p>
  */
 @Data
-@Builder
+@Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
 public class TaskDto {
@@ -55,6 +55,9 @@ public class TaskDto {
     /** 更新日時 */
     private LocalDateTime updatedAt;
 
+    /** バージョン（楽観ロック用） */
+    private Integer version;
+
     /**
      * ステータスの表示名を取得する.
      *
@@ -0,0 +1,24 @@
+package com.example.taskmanager.task.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * タスク一括取込でエラーとなった行の情報.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskImportError {
+
+    /** 行番号（CSVはヘッダー行を1行目、JSONは配列の1件目を1とする） */
+    private int rowNumber;
+
+    /** エラーメッセージのリスト */
+    private List<String> messages;
+}
@@ -0,0 +1,35 @@
+package com.example.taskmanager.task.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * タスク一括取込の結果.
+ *
+ * <p>取込件数と、エラーとなった行ごとの理由を保持する。</p>
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskImportResult {
+
+    /** 入力された行数 */
+    private int totalRows;
+
+    /** 登録できた行数 */
+    private int importedRows;
+
+    /** エラーとなった行数 */
+    private int failedRows;
+
+    /** 処理時間（ミリ秒） */
+    private long elapsedMillis;
+
+    /** エラーとなった行の情報 */
+    private List<TaskImportError> errors;
+}
@@ -0,0 +1,72 @@
+package com.example.taskmanager.task.dto;
+
+import com.example.taskmanager.common.enums.TaskPriority;
+import com.example.taskmanager.common.enums.TaskStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * タスク一覧表示用のデータ転送オブジェクト.
+ *
+ * <p>一覧画面に表示する項目のみを保持する。説明（TEXT型で長くなり得る）と更新日時は
+ * 一覧では使用しないため、DBからも取得しない。作成日時はキーセットページングのカーソルに使用する。</p>
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskListItemDto {
+
+    /** タスクID */
+    private Long id;
+
+    /** タイトル */
+    private String title;
+
+    /** ステータス */
+    private TaskStatus status;
+
+    /** 優先度 */
+    private TaskPriority priority;
+
+    /** カテゴリーID */
+    private Long categoryId;
+
+    /** カテゴリー名 */
+    private String categoryName;
+
+    /** カテゴリー色 */
+    private String categoryColor;
+
+    /** 期限日 */
+    private LocalDate dueDate;
+
+    /** 作成日時（ページングのカーソル用） */
+    private LocalDateTime createdAt;
+
+    /** バージョン（更新のたびに加算されるため、行の描画結果のキャッシュキーに使用する） */
+    private Integer version;
+
+    /**
+     * ステータスの表示名を取得する.
+     *
+     * @return ステータスの表示名、ステータスがnullの場合は空文字
+     */
+    public String getStatusDisplayName() {
+        return status != null ? status.getDisplayName() : "";
+    }
+
+    /**
+     * 優先度の表示名を取得する.
+     *
+     * @return 優先度の表示名、優先度がnullの場合は空文字
+     */
+    public String getPriorityDisplayName() {
+        return priority != null ? priority.getDisplayName() : "";
+    }
+}
@@ -0,0 +1,54 @@
+package com.example.taskmanager.task.form;
+
+import com.example.taskmanager.common.enums.TaskPriority;
+import com.example.taskmanager.common.enums.TaskStatus;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * タスクの一括変更・一括削除のフォームクラス.
+ *
+ * <p>一覧画面で選択したタスクのIDと変更内容を保持する。APIのリクエストボディとしても使用する。
+ * 変更内容はnullの項目を変更しない。一括削除ではIDのみを使用する。</p>
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskBulkForm {
+
+    /** 一度に変更できるタスクの件数の上限 */
+    public static final int MAX_IDS = 1000;
+
+    /** 対象のタスクID（必須、最大{@value #MAX_IDS}件） */
+    @NotEmpty(message = "タスクを選択してください")
+    @Size(max = MAX_IDS, message = "一度に変更できるタスクは" + MAX_IDS + "件までです")
+    private List<Long> ids;
+
+    /** 変更後のステータス（nullの場合は変更しない） */
+    private TaskStatus status;
+
+    /** 変更後の優先度（nullの場合は変更しない） */
+    private TaskPriority priority;
+
+    /** 変更後のカテゴリーID（nullの場合は変更しない） */
+    private Long categoryId;
+
+    /** カテゴリーを外す場合はtrue（categoryIdより優先する） */
+    private boolean clearCategory;
+
+    /**
+     * 変更する項目が指定されているかどうかを返す.
+     *
+     * @return いずれかの項目を変更する場合はtrue
+     */
+    public boolean hasChanges() {
+        return status != null || priority != null || categoryId != null || clearCategory;
+    }
+}
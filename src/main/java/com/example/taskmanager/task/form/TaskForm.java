@@ -17,7 +17,8 @@ import java.time.LocalDate;
  * タスクのフォームクラス.
  *
  * <p>タスクの新規登録・編集時に画面から受け取るデータを保持する。
- * バリデーションアノテーションによる入力検証を行う。</p>
+ * バリデーションアノテーションによる入力検証を行う。
+ * 更新時のみの検証は{@link Update}グループに属し、更新の入力検証では既定のグループとあわせて指定する。</p>
  */
 @Data
 @Builder
@@ -48,4 +49,14 @@ public class TaskForm {
     /** 期限日（任意） */
     @DateTimeFormat(pattern = "yyyy-MM-dd")
     private LocalDate dueDate;
+
+    /** バージョン（更新時は必須で、編集開始時点の値を送信する。新規登録時は未使用） */
+    @NotNull(groups = Update.class, message = "バージョンを指定してください")
+    private Integer version;
+
+    /**
+     * 更新時のみ適用する入力検証のグループ.
+     */
+    public interface Update {
+    }
 }
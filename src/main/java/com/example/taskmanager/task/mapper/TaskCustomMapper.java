@@ -1,10 +1,18 @@
 package com.example.taskmanager.task.mapper;
 
 import com.example.taskmanager.common.entity.Task;
+import com.example.taskmanager.common.enums.TaskPriority;
+import com.example.taskmanager.common.enums.TaskStatus;
+import com.example.taskmanager.task.dto.TaskCountDto;
 import com.example.taskmanager.task.dto.TaskDto;
+import com.example.taskmanager.task.dto.TaskListItemDto;
+import com.example.taskmanager.task.model.TaskSearchCondition;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.cursor.Cursor;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 
 /**
@@ -28,13 +36,13 @@ public interface TaskCustomMapper {
      *
      * <p>各パラメータがnullの場合、その条件は無視される。</p>
      *
-     * @param status ステータス（TODO, IN_PROGRESS, DONE）
-     * @param priority 優先度（HIGH, MEDIUM, LOW）
+     * @param status ステータス
+     * @param priority 優先度
      * @param categoryId カテゴリーID
      * @return 条件に一致するタスクエンティティのリスト
      */
-    List<Task> selectByCondition(@Param("status") String status,
-                                  @Param("priority") String priority,
+    List<Task> selectByCondition(@Param("status") TaskStatus status,
+                                  @Param("priority") TaskPriority priority,
                                   @Param("categoryId") Long categoryId);
 
     /**
@@ -45,6 +53,16 @@ public interface TaskCustomMapper {
      */
     Task selectById(@Param("id") Long id);
 
+    /**
+     * IDを指定してタスクのバージョンと更新日時のみを取得する.
+     *
+     * <p>詳細画面の条件付きGETで使用する。JOINを行わず、主キーのみで検索する。</p>
+     *
+     * @param id タスクID
+     * @return id・updatedAt・versionのみを設定したタスクエンティティ（存在しない場合はnull）
+     */
+    Task selectVersionById(@Param("id") Long id);
+
     /**
      * カテゴリー情報を含む全タスクを取得する.
      *
@@ -54,19 +72,205 @@ public interface TaskCustomMapper {
      */
     List<TaskDto> selectAllWithCategory();
 
+    /**
+     * カテゴリー情報を含む全タスクをカーソルで取得する.
+     *
+     * <p>結果をリストに展開せず1件ずつ読み出すため、エクスポート等の大量件数の処理に使用する。
+     * 戻り値のCursorはトランザクション内で読み切り、クローズすること。</p>
+     *
+     * @return カテゴリー情報付きTaskDtoのカーソル
+     */
+    Cursor<TaskDto> selectAllWithCategoryCursor();
+
     /**
      * カテゴリー情報を含むタスクを条件指定で検索する.
      *
-     * <p>各パラメータがnullの場合、その条件は無視される。</p>
+     * <p>並び順は検索条件の並び順に従う。</p>
      *
-     * @param status ステータス（TODO, IN_PROGRESS, DONE）
-     * @param priority 優先度（HIGH, MEDIUM, LOW）
-     * @param categoryId カテゴリーID
+     * @param condition 検索条件
      * @return 条件に一致するカテゴリー情報付きTaskDtoのリスト
      */
-    List<TaskDto> selectByConditionWithCategory(@Param("status") String status,
-                                                 @Param("priority") String priority,
-                                                 @Param("categoryId") Long categoryId);
+    List<TaskDto> selectByConditionWithCategory(@Param("condition") TaskSearchCondition condition);
+
+    /**
+     * 一覧表示用のタスクをキーセット方式で1ページ分取得する.
+     *
+     * <p>並び順は検索条件の並び順（同じ値の行はIDの同じ向き）に従う。カーソルが指定された場合は
+     * その行より後ろの行のみを返す。作成日時の並び順ではcursorCreatedAt、期限日の並び順ではcursorDueDateを使用する
+     * （期限日の並び順でcursorDueDateがnullの場合は、期限日が未設定の行の途中とみなす）。
+     * 説明・更新日時は取得しない。</p>
+     *
+     * @param condition 検索条件
+     * @param cursorCreatedAt 直前ページ末尾の作成日時（先頭ページの場合はnull）
+     * @param cursorDueDate 直前ページ末尾の期限日
+     * @param cursorId 直前ページ末尾のタスクID（先頭ページの場合はnull）
+     * @param limit 取得件数の上限
+     * @return 一覧表示用DTOのリスト
+     */
+    List<TaskListItemDto> selectListPage(@Param("condition") TaskSearchCondition condition,
+                                         @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+                                         @Param("cursorDueDate") LocalDate cursorDueDate,
+                                         @Param("cursorId") Long cursorId,
+                                         @Param("limit") int limit);
+
+    /**
+     * カテゴリー情報を含むタスクをキーセット方式で1ページ分、カーソルで取得する.
+     *
+     * <p>条件・並び順は{@link #selectListPage}と同じ。説明・更新日時はincludeDetailsがtrueの場合のみ取得し、
+     * falseの場合はnullとなる。戻り値のCursorはトランザクション内で読み切り、クローズすること。</p>
+     *
+     * @param condition 検索条件
+     * @param cursorCreatedAt 直前ページ末尾の作成日時（先頭ページの場合はnull）
+     * @param cursorDueDate 直前ページ末尾の期限日
+     * @param cursorId 直前ページ末尾のタスクID（先頭ページの場合はnull）
+     * @param limit 取得件数の上限
+     * @param includeDetails 説明・更新日時を取得する場合はtrue
+     * @return カテゴリー情報付きTaskDtoのカーソル
+     */
+    Cursor<TaskDto> selectPageWithCategoryCursor(@Param("condition") TaskSearchCondition condition,
+                                                 @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+                                                 @Param("cursorDueDate") LocalDate cursorDueDate,
+                                                 @Param("cursorId") Long cursorId,
+                                                 @Param("limit") int limit,
+                                                 @Param("includeDetails") boolean includeDetails);
+
+    /**
+     * 全文検索インデックスの構築用に、全タスクのID・タイトル・説明をIDの昇順にカーソルで取得する.
+     *
+     * <p>その他の項目はnullとなる。戻り値のCursorはトランザクション内で読み切り、クローズすること。</p>
+     *
+     * @return ID・タイトル・説明のみを設定したTaskDtoのカーソル
+     */
+    Cursor<TaskDto> selectSearchTextsCursor();
+
+    /**
+     * 全文検索の候補の照合用に、タスクのID・タイトル・説明をIDのリストで取得する.
+     *
+     * <p>返却順は不定。その他の項目はnullとなる。</p>
+     *
+     * @param ids タスクIDのリスト（空でないこと）
+     * @return ID・タイトル・説明のみを設定したTaskDtoのリスト
+     */
+    List<TaskDto> selectSearchTextsByIds(@Param("ids") List<Long> ids);
+
+    /**
+     * 一覧表示用のタスクをIDのリストで取得する.
+     *
+     * <p>全文検索でヒットしたタスクの取得に使用する。返却順は不定のため、呼び出し側で並べ替えること
+     * （検索条件の並び順は使用しない）。説明・更新日時は取得しない。</p>
+     *
+     * @param ids タスクIDのリスト（空でないこと）
+     * @param condition 検索条件
+     * @return 一覧表示用DTOのリスト
+     */
+    List<TaskListItemDto> selectListItemsByIds(@Param("ids") List<Long> ids,
+                                               @Param("condition") TaskSearchCondition condition);
+
+    /**
+     * ステータス・優先度・カテゴリーごとにタスク件数を集計する.
+     *
+     * <p>件数が0の組み合わせは返さない。</p>
+     *
+     * @return 集計結果のリスト
+     */
+    List<TaskCountDto> countByStatusPriorityCategory();
+
+    /**
+     * 一括取込用にタスクを1件登録する.
+     *
+     * <p>BATCH実行時にすべての行が同一SQLとなるよう、登録カラムを固定している。
+     * 採番されたIDは、BATCH実行時はバッチの送信（flushStatements）後にエンティティへ設定される。
+     * 作成日時・更新日時はDBの既定値を使用する。</p>
+     *
+     * @param task 登録するタスクエンティティ
+     * @return 登録件数（BATCH実行時は不定）
+     */
+    int insertForImport(Task task);
+
+    /**
+     * バージョンが一致する場合のみタスクを更新し、更新前の行を返す.
+     *
+     * <p>H2のデータ変更デルタテーブル（OLD TABLE）により、更新と更新前の行の取得を1文で行う。
+     * タイトル・説明・ステータス・優先度・カテゴリーID・期限日・更新日時をすべて上書きする（nullも反映する）。
+     * バージョンは1加算する。</p>
+     *
+     * @param task 更新内容（idで対象を、versionで更新前のバージョンを指定する）
+     * @return 更新前のタスクエンティティ（対象が存在しない場合・バージョンが一致しない場合はnull）
+     */
+    Task updateReturningOld(Task task);
+
+    /**
+     * タスクを削除し、削除前の行を返す.
+     *
+     * <p>H2のデータ変更デルタテーブル（OLD TABLE）により、削除と削除前の行の取得を1文で行う。</p>
+     *
+     * @param id タスクID
+     * @return 削除前のタスクエンティティ（対象が存在しない場合はnull）
+     */
+    Task deleteReturningOld(@Param("id") Long id);
+
+    /**
+     * IDを指定して複数のタスクのステータス・優先度・カテゴリーを1文でまとめて更新する.
+     *
+     * <p>各項目がnullの場合、その項目は変更しない。clearCategoryがtrueの場合はカテゴリーをNULLにする
+     * （categoryIdより優先する）。更新日時は指定値で上書きし、バージョンは1加算する（楽観ロックは行わない）。</p>
+     *
+     * @param ids タスクIDのリスト（空でないこと）
+     * @param status 変更後のステータス
+     * @param priority 変更後の優先度
+     * @param categoryId 変更後のカテゴリーID
+     * @param clearCategory カテゴリーを外す場合はtrue
+     * @param updatedAt 更新日時
+     * @return 更新件数
+     */
+    int bulkUpdate(@Param("ids") List<Long> ids,
+                   @Param("status") TaskStatus status,
+                   @Param("priority") TaskPriority priority,
+                   @Param("categoryId") Long categoryId,
+                   @Param("clearCategory") boolean clearCategory,
+                   @Param("updatedAt") LocalDateTime updatedAt);
+
+    /**
+     * {@link #bulkUpdate}と同じ更新を行い、更新前の行のIDとカテゴリーIDを返す.
+     *
+     * <p>H2のデータ変更デルタテーブル（OLD TABLE）により、更新と更新前のカテゴリーの取得を1文で行う。
+     * カテゴリーを変更する場合に、更新した行の更新前のカテゴリーからタスク件数を減算するために使用する。</p>
+     *
+     * @param ids タスクIDのリスト（空でないこと）
+     * @param status 変更後のステータス
+     * @param priority 変更後の優先度
+     * @param categoryId 変更後のカテゴリーID
+     * @param clearCategory カテゴリーを外す場合はtrue
+     * @param updatedAt 更新日時
+     * @return 更新前のタスクエンティティ（ID・カテゴリーIDのみ設定）のリスト
+     */
+    List<Task> bulkUpdateReturningOld(@Param("ids") List<Long> ids,
+                                      @Param("status") TaskStatus status,
+                                      @Param("priority") TaskPriority priority,
+                                      @Param("categoryId") Long categoryId,
+                                      @Param("clearCategory") boolean clearCategory,
+                                      @Param("updatedAt") LocalDateTime updatedAt);
+
+    /**
+     * IDを指定して複数のタスクを1文でまとめて削除し、削除前の行のIDとカテゴリーIDを返す.
+     *
+     * <p>H2のデータ変更デルタテーブル（OLD TABLE）により、削除と削除前のカテゴリーの取得を1文で行う。</p>
+     *
+     * @param ids タスクIDのリスト（空でないこと）
+     * @return 削除前のタスクエンティティ（ID・カテゴリーIDのみ設定）のリスト
+     */
+    List<Task> bulkDeleteReturningOld(@Param("ids") List<Long> ids);
+
+    /**
+     * カテゴリーのタスク件数を加減算する.
+     *
+     * <p>タスクの登録・更新・削除と同じトランザクションで呼び出すこと。</p>
+     *
+     * @param categoryId カテゴリーID
+     * @param delta 加算する値（減算する場合は負の値）
+     * @return 更新件数（カテゴリーが存在しない場合は0）
+     */
+    int addCategoryTaskCount(@Param("categoryId") Long categoryId, @Param("delta") int delta);
 
     /**
      * カテゴリー情報を含むタスクをIDで1件取得する.
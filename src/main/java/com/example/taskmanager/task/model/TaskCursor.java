@@ -0,0 +1,89 @@
+package com.example.taskmanager.task.model;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * タスク一覧のキーセットページング用カーソル.
+ *
+ * <p>一覧の並び順（{@link TaskSortKey}）における直前ページ末尾の行を表す。
+ * 作成日時の並び順では作成日時とID、期限日の並び順では期限日とIDを使用し、もう一方はnullとする。
+ * 期限日の並び順で期限日がnullの場合は、期限日が未設定の行の途中であることを表す。
+ * 画面・APIとの受け渡しには {@link #encode()} で生成した不透明な文字列を使用する。</p>
+ *
+ * @param createdAt 直前ページ末尾のタスクの作成日時
+ * @param dueDate   直前ページ末尾のタスクの期限日
+ * @param id        直前ページ末尾のタスクのID
+ */
+public record TaskCursor(LocalDateTime createdAt, LocalDate dueDate, Long id) {
+
+    /** 各項目の区切り文字 */
+    private static final String SEPARATOR = "|";
+
+    /**
+     * 作成日時の並び順のカーソルを生成する.
+     *
+     * @param createdAt 直前ページ末尾のタスクの作成日時
+     * @param id        直前ページ末尾のタスクのID
+     */
+    public TaskCursor(LocalDateTime createdAt, Long id) {
+        this(createdAt, null, id);
+    }
+
+    /**
+     * 並び順に応じて、直前ページ末尾の行からカーソルを生成する.
+     *
+     * @param sort      並び順
+     * @param createdAt 末尾のタスクの作成日時
+     * @param dueDate   末尾のタスクの期限日
+     * @param id        末尾のタスクのID
+     * @return カーソル
+     */
+    public static TaskCursor of(TaskSortKey sort, LocalDateTime createdAt, LocalDate dueDate, Long id) {
+        return sort.isDueDate() ? new TaskCursor(null, dueDate, id) : new TaskCursor(createdAt, null, id);
+    }
+
+    /**
+     * カーソルをURLセーフな文字列に変換する.
+     *
+     * @return エンコード済みのカーソル文字列
+     */
+    public String encode() {
+        String raw = (createdAt != null ? createdAt.toString() : "") + SEPARATOR
+                + (dueDate != null ? dueDate.toString() : "") + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * エンコード済みの文字列からカーソルを復元する.
+     *
+     * <p>期限日を含まない旧形式（作成日時とIDのみ）も受け付ける。</p>
+     *
+     * @param token エンコード済みのカーソル文字列
+     * @return 復元したカーソル（nullまたは空文字の場合はnull）
+     * @throws IllegalArgumentException 形式が不正な場合
+     */
+    public static TaskCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\" + SEPARATOR, -1);
+            if (parts.length == 2) {
+                return new TaskCursor(LocalDateTime.parse(parts[0]), Long.valueOf(parts[1]));
+            }
+            if (parts.length != 3) {
+                throw new IllegalArgumentException("カーソルの形式が不正です: " + token);
+            }
+            return new TaskCursor(parts[0].isEmpty() ? null : LocalDateTime.parse(parts[0]),
+                    parts[1].isEmpty() ? null : LocalDate.parse(parts[1]),
+                    Long.valueOf(parts[2]));
+        } catch (DateTimeParseException | IllegalArgumentException ex) {
+            throw new IllegalArgumentException("カーソルの形式が不正です: " + token, ex);
+        }
+    }
+}
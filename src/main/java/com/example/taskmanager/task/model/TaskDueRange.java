@@ -0,0 +1,65 @@
+package com.example.taskmanager.task.model;
+
+import com.example.taskmanager.common.enums.TaskStatus;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * 期限日によるタスクの抽出範囲を表す列挙型.
+ *
+ * <p>いずれの範囲も完了していない（ステータスが完了以外の）タスクを対象とし、期限日の近い順に並べる。
+ * 期限日の範囲条件のみで絞り込むため、(due_date, status)のインデックスの範囲走査で取得できる。</p>
+ */
+@Getter
+@RequiredArgsConstructor
+public enum TaskDueRange {
+
+    /** 期限切れ（期限日が今日より前） */
+    OVERDUE("期限切れ"),
+
+    /** 今日が期限 */
+    TODAY("今日が期限"),
+
+    /** 期限間近（期限日が今日から指定日数後まで） */
+    SOON("期限間近");
+
+    /** 期限間近の日数の既定値 */
+    public static final int DEFAULT_DAYS = 7;
+
+    /** 期限間近の日数の上限 */
+    public static final int MAX_DAYS = 365;
+
+    /** 完了していないステータス */
+    private static final Set<TaskStatus> OPEN_STATUSES = EnumSet.complementOf(EnumSet.of(TaskStatus.DONE));
+
+    /** 画面表示用の名称 */
+    private final String displayName;
+
+    /**
+     * 範囲に該当するタスクの検索条件を生成する.
+     *
+     * @param today 今日の日付
+     * @param days  期限間近の日数（{@link #SOON}の場合のみ使用する。1〜{@value #MAX_DAYS}）
+     * @return 完了していないタスクを期限日の近い順に取得する検索条件
+     * @throws IllegalArgumentException 期限間近の日数が範囲外の場合
+     */
+    public TaskSearchCondition toCondition(LocalDate today, int days) {
+        TaskSearchCondition.TaskSearchConditionBuilder builder = TaskSearchCondition.builder()
+                .statuses(OPEN_STATUSES)
+                .sort(TaskSortKey.DUE_DATE_ASC);
+        return switch (this) {
+            case OVERDUE -> builder.dueDateTo(today.minusDays(1)).build();
+            case TODAY -> builder.dueDateFrom(today).dueDateTo(today).build();
+            case SOON -> {
+                if (days < 1 || days > MAX_DAYS) {
+                    throw new IllegalArgumentException("days must be between 1 and " + MAX_DAYS + ": " + days);
+                }
+                yield builder.dueDateFrom(today).dueDateTo(today.plusDays(days)).build();
+            }
+        };
+    }
+}
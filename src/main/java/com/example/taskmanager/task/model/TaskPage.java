@@ -0,0 +1,23 @@
+package com.example.taskmanager.task.model;
+
+import com.example.taskmanager.task.dto.TaskListItemDto;
+
+import java.util.List;
+
+/**
+ * タスク一覧の1ページ分の検索結果.
+ *
+ * @param tasks      ページ内のタスク一覧表示用DTOのリスト
+ * @param nextCursor 次ページ取得用のカーソル（最終ページの場合はnull）
+ */
+public record TaskPage(List<TaskListItemDto> tasks, TaskCursor nextCursor) {
+
+    /**
+     * 次ページが存在するかを判定する.
+     *
+     * @return 次ページが存在する場合はtrue
+     */
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+}
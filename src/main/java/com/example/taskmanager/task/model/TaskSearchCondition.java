@@ -0,0 +1,104 @@
+package com.example.taskmanager.task.model;
+
+import com.example.taskmanager.common.enums.TaskPriority;
+import com.example.taskmanager.common.enums.TaskStatus;
+import lombok.Builder;
+import lombok.Value;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * タスク一覧の検索条件.
+ *
+ * <p>ステータス・優先度・カテゴリーはそれぞれ複数指定でき、同じ項目内はOR条件（IN）、項目間はAND条件とする。
+ * 空の項目は条件なしとする。期限日の範囲は両端を含み、範囲を指定した場合は期限日が未設定のタスクを含まない。</p>
+ *
+ * <p>MyBatisのマッパーXMLから参照するため、JavaBeans形式のgetterを持つ不変クラスとする。</p>
+ */
+@Value
+public class TaskSearchCondition {
+
+    /** 条件なし（全件を作成日時の新しい順） */
+    public static final TaskSearchCondition ALL = TaskSearchCondition.builder().build();
+
+    /** ステータス（空の場合は条件なし） */
+    Set<TaskStatus> statuses;
+
+    /** 優先度（空の場合は条件なし） */
+    Set<TaskPriority> priorities;
+
+    /** カテゴリーID（空の場合は条件なし） */
+    Set<Long> categoryIds;
+
+    /** 期限日の開始日（nullの場合は条件なし） */
+    LocalDate dueDateFrom;
+
+    /** 期限日の終了日（nullの場合は条件なし） */
+    LocalDate dueDateTo;
+
+    /** 並び順 */
+    TaskSortKey sort;
+
+    /**
+     * 検索条件を生成する.
+     *
+     * <p>nullの集合は空とし、集合内のnullは取り除く。並び順がnullの場合は作成日時の新しい順とする。</p>
+     *
+     * @param statuses    ステータス
+     * @param priorities  優先度
+     * @param categoryIds カテゴリーID
+     * @param dueDateFrom 期限日の開始日
+     * @param dueDateTo   期限日の終了日
+     * @param sort        並び順
+     */
+    @Builder
+    public TaskSearchCondition(Collection<TaskStatus> statuses, Collection<TaskPriority> priorities,
+                               Collection<Long> categoryIds, LocalDate dueDateFrom, LocalDate dueDateTo,
+                               TaskSortKey sort) {
+        this.statuses = copyOf(statuses);
+        this.priorities = copyOf(priorities);
+        this.categoryIds = copyOf(categoryIds);
+        this.dueDateFrom = dueDateFrom;
+        this.dueDateTo = dueDateTo;
+        this.sort = sort != null ? sort : TaskSortKey.CREATED_DESC;
+    }
+
+    /**
+     * 値を1つずつ指定して検索条件を生成する.
+     *
+     * @param status     ステータス（nullの場合は条件なし）
+     * @param priority   優先度（nullの場合は条件なし）
+     * @param categoryId カテゴリーID（nullの場合は条件なし）
+     * @return 作成日時の新しい順の検索条件
+     */
+    public static TaskSearchCondition of(TaskStatus status, TaskPriority priority, Long categoryId) {
+        return TaskSearchCondition.builder()
+                .statuses(Collections.singleton(status))
+                .priorities(Collections.singleton(priority))
+                .categoryIds(Collections.singleton(categoryId))
+                .build();
+    }
+
+    /**
+     * 集合から検索条件用の不変の集合を生成する.
+     *
+     * @param values 値の集合（null可）
+     * @param <T>    値の型
+     * @return nullを除いた不変の集合（指定順を保持する）
+     */
+    private static <T> Set<T> copyOf(Collection<T> values) {
+        if (values == null || values.isEmpty()) {
+            return Set.of();
+        }
+        Set<T> copy = values.stream()
+                .filter(Objects::nonNull)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+        return Collections.unmodifiableSet(copy);
+    }
+}
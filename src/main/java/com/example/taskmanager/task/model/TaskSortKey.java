@@ -0,0 +1,40 @@
+package com.example.taskmanager.task.model;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * タスク一覧の並び順を表す列挙型.
+ *
+ * <p>並び順に指定できる値の一覧（ホワイトリスト）を兼ねる。ORDER BY句はマッパーXMLで定数ごとに固定し、
+ * 画面・APIから受け取った値をSQLに埋め込まない。同じ値の行はIDで並べ、キーセットページングの順序を一意にする。
+ * 期限日の並び順では、期限日が未設定のタスクを最後に並べる。</p>
+ */
+@Getter
+@RequiredArgsConstructor
+public enum TaskSortKey {
+
+    /** 作成日時の新しい順（既定） */
+    CREATED_DESC("作成日時の新しい順"),
+
+    /** 作成日時の古い順 */
+    CREATED_ASC("作成日時の古い順"),
+
+    /** 期限日の近い順 */
+    DUE_DATE_ASC("期限日の近い順"),
+
+    /** 期限日の遠い順 */
+    DUE_DATE_DESC("期限日の遠い順");
+
+    /** 画面表示用の名称 */
+    private final String displayName;
+
+    /**
+     * 期限日による並び順かどうかを判定する.
+     *
+     * @return 期限日による並び順の場合はtrue
+     */
+    public boolean isDueDate() {
+        return this == DUE_DATE_ASC || this == DUE_DATE_DESC;
+    }
+}
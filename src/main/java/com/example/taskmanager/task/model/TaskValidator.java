@@ -0,0 +1,12 @@
+package com.example.taskmanager.task.model;
+
+/**
+ * 条件付きGETで使用する画面の検証子.
+ *
+ * <p>表示内容が変わりうる変更があった場合に必ず値が変わるよう生成する。</p>
+ *
+ * @param eTag         ETag（ダブルクォートで囲んだ文字列）
+ * @param lastModified 最終更新日時（エポックミリ秒）
+ */
+public record TaskValidator(String eTag, long lastModified) {
+}
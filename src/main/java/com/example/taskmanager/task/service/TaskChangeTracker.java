@@ -0,0 +1,118 @@
+package com.example.taskmanager.task.service;
+
+import com.example.taskmanager.common.cache.CategoryCache;
+import com.example.taskmanager.common.event.CategoryChangedEvent;
+import com.example.taskmanager.common.event.TaskBulkChangedEvent;
+import com.example.taskmanager.common.event.TaskChangedEvent;
+import com.example.taskmanager.common.history.TaskHistoryWriter;
+import com.example.taskmanager.task.model.TaskValidator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * タスク画面の条件付きGET用に変更を追跡するコンポーネント.
+ *
+ * <p>タスク・カテゴリーの変更のコミット後に変更回数を進め、一覧画面の検証子とする。
+ * 変更回数はメモリ上で保持するため、起動時刻を検証子に含めて再起動前の値と区別する
+ * （再起動によるテンプレートの変更も同時に検出できる）。</p>
+ *
+ * <p>コミット後に変更回数を進めるため、コミット直後に描画された画面が古い検証子を持つことはあるが、
+ * 古い内容が新しい検証子で返されることはない。</p>
+ */
+@Component
+@RequiredArgsConstructor
+public class TaskChangeTracker {
+
+    /** カテゴリーキャッシュ */
+    private final CategoryCache categoryCache;
+
+    /** 変更履歴の書き込み */
+    private final TaskHistoryWriter taskHistoryWriter;
+
+    /** 起動時刻（エポックミリ秒） */
+    private final long bootEpoch = System.currentTimeMillis();
+
+    /** 変更回数と最終変更日時 */
+    private final AtomicReference<State> state = new AtomicReference<>(new State(0, bootEpoch));
+
+    /**
+     * 一覧画面の検証子を取得する.
+     *
+     * @return 検証子
+     */
+    public TaskValidator getListValidator() {
+        State current = state.get();
+        return new TaskValidator("\"tasks-" + bootEpoch + "-" + current.count() + "\"", current.lastModified());
+    }
+
+    /**
+     * 詳細画面の検証子を取得する.
+     *
+     * <p>カテゴリー名・色も表示するため、カテゴリーキャッシュの世代番号を含める。
+     * 変更履歴はコミット後に非同期で登録されるため、このタスクの変更履歴の登録回数も含める
+     * （変更直後に描画した変更履歴の登録前の画面が、以降も304で返され続けないようにする）。</p>
+     *
+     * @param id        タスクID
+     * @param version   タスクのバージョン
+     * @param updatedAt タスクの更新日時
+     * @return 検証子
+     */
+    public TaskValidator getTaskValidator(Long id, Integer version, LocalDateTime updatedAt) {
+        String eTag = "\"task-" + id + "-" + version + "-" + categoryCache.getGeneration()
+                + "-" + taskHistoryWriter.getGeneration(id) + "-" + bootEpoch + "\"";
+        long lastModified = Math.max(bootEpoch, updatedAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
+        return new TaskValidator(eTag, lastModified);
+    }
+
+    /**
+     * 変更回数を進める.
+     */
+    public void markModified() {
+        long now = System.currentTimeMillis();
+        state.updateAndGet(current -> new State(current.count() + 1, Math.max(now, current.lastModified())));
+    }
+
+    /**
+     * タスク変更のコミット後に変更回数を進める.
+     *
+     * @param event タスク変更イベント
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        markModified();
+    }
+
+    /**
+     * 一括変更のコミット後に変更回数を進める.
+     *
+     * @param event 一括変更イベント
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskBulkChanged(TaskBulkChangedEvent event) {
+        markModified();
+    }
+
+    /**
+     * カテゴリー変更のコミット後に変更回数を進める.
+     *
+     * @param event カテゴリー変更イベント
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCategoryChanged(CategoryChangedEvent event) {
+        markModified();
+    }
+
+    /**
+     * 変更回数と最終変更日時.
+     *
+     * @param count        変更回数
+     * @param lastModified 最終変更日時（エポックミリ秒）
+     */
+    private record State(long count, long lastModified) {
+    }
+}
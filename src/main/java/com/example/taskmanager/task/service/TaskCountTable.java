@@ -0,0 +1,255 @@
+package com.example.taskmanager.task.service;
+
+import com.example.taskmanager.common.enums.TaskPriority;
+import com.example.taskmanager.common.enums.TaskStatus;
+import com.example.taskmanager.common.event.CategoryChangedEvent;
+import com.example.taskmanager.common.event.ChangeType;
+import com.example.taskmanager.common.event.TaskBulkChangedEvent;
+import com.example.taskmanager.common.event.TaskChangedEvent;
+import com.example.taskmanager.task.dto.TaskCountDto;
+import com.example.taskmanager.task.dto.TaskDto;
+import com.example.taskmanager.task.mapper.TaskCustomMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * ステータス・優先度・カテゴリーごとのタスク件数をメモリ上に保持する件数表.
+ *
+ * <p>初回参照時にDBで集計して読み込み、以降はタスク変更のコミット後に
+ * {@link TaskChangedEvent}を受けて差分だけを加減算する。参照時にタスク件数に比例する処理は行わない。</p>
+ *
+ * <p>一括取込やカテゴリー削除（外部キーによりcategory_idがnullになる）のように
+ * 行単位の差分が得られない変更では破棄し、次回参照時に再集計する。</p>
+ *
+ * <p>集計はロックを保持せずに行い、カテゴリーキャッシュと同じく世代番号で検証してから保持する。
+ * コミット済みでコミット後の加算がまだの変更は集計結果にすでに含まれるため、そのまま保持すると二重に数えられる。
+ * そこで、タスク変更のコミット前（{@link TransactionPhase#BEFORE_COMMIT}）からトランザクションの完了
+ * （{@link TransactionPhase#AFTER_COMPLETION}。コミット後の加算より後に呼ばれる）までを「コミット中」として数え、
+ * 集計中に世代番号が進んだ場合やコミット中の変更がある場合は集計結果を保持しない
+ * （呼び出し元には集計結果を返し、次回参照時に再集計する）。</p>
+ *
+ * <p>{@link TaskDashboardProperties#isCounterEnabled()}がfalseの場合は何もしない。</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TaskCountTable {
+
+    /** タスクカスタムマッパー */
+    private final TaskCustomMapper taskCustomMapper;
+
+    /** タスク集計の設定 */
+    private final TaskDashboardProperties properties;
+
+    /** 件数表のロック（仮想スレッドをキャリアスレッドに固定しないようsynchronizedは使用しない） */
+    private final Lock lock = new ReentrantLock();
+
+    /** 件数表（未読み込みの場合はnull）。lockを保持して参照・更新する */
+    private Map<Key, Long> counts;
+
+    /** 件数に影響する変更のたびに進む世代番号。lockを保持して参照・更新する */
+    private long generation;
+
+    /** コミット中のタスク変更の数。lockを保持して参照・更新する */
+    private int pending;
+
+    /**
+     * 件数表が有効かどうかを返す.
+     *
+     * @return 有効な場合はtrue
+     */
+    public boolean isEnabled() {
+        return properties.isCounterEnabled();
+    }
+
+    /**
+     * 現在の件数を取得する.
+     *
+     * @return ステータス・優先度・カテゴリーごとの件数（0件の組み合わせは含まない）
+     */
+    public List<TaskCountDto> getCounts() {
+        long loadGeneration;
+        lock.lock();
+        try {
+            if (counts != null) {
+                return toList(counts);
+            }
+            loadGeneration = generation;
+        } finally {
+            lock.unlock();
+        }
+        Map<Key, Long> loaded = load();
+        lock.lock();
+        try {
+            if (counts != null) {
+                return toList(counts);
+            }
+            if (generation == loadGeneration && pending == 0) {
+                counts = loaded;
+            } else {
+                log.debug("Task count table changed during load, not keeping the result");
+            }
+            return toList(loaded);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 件数表を破棄する。次回参照時に再集計する.
+     */
+    public void invalidate() {
+        lock.lock();
+        try {
+            counts = null;
+            generation++;
+        } finally {
+            lock.unlock();
+        }
+        log.debug("Task count table invalidated");
+    }
+
+    /**
+     * タスク変更のコミット前に、コミット中の変更として数える.
+     *
+     * @param event タスク変更イベント
+     */
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onTaskChanging(TaskChangedEvent event) {
+        if (!isEnabled()) {
+            return;
+        }
+        lock.lock();
+        try {
+            pending++;
+            generation++;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * タスク変更のトランザクションの完了後（コミット・ロールバックとも）に、コミット中の変更から外す.
+     *
+     * @param event タスク変更イベント
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMPLETION, fallbackExecution = true)
+    public void onTaskChangeCompleted(TaskChangedEvent event) {
+        if (!isEnabled()) {
+            return;
+        }
+        lock.lock();
+        try {
+            pending--;
+            generation++;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * タスク変更のコミット後に件数を加減算する.
+     *
+     * @param event タスク変更イベント
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        if (!isEnabled()) {
+            return;
+        }
+        lock.lock();
+        try {
+            if (counts == null) {
+                return;
+            }
+            if (event.before() != null) {
+                add(event.before(), -1);
+            }
+            if (event.after() != null) {
+                add(event.after(), 1);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 一括変更のコミット後に件数表を破棄する.
+     *
+     * @param event 一括変更イベント
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskBulkChanged(TaskBulkChangedEvent event) {
+        invalidate();
+    }
+
+    /**
+     * カテゴリー削除のコミット後に件数表を破棄する.
+     *
+     * @param event カテゴリー変更イベント
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCategoryChanged(CategoryChangedEvent event) {
+        if (event.changeType() == ChangeType.DELETED) {
+            invalidate();
+        }
+    }
+
+    /**
+     * タスク1件分の件数を加減算する。lockを保持して呼び出すこと.
+     *
+     * @param task  タスクDTO
+     * @param delta 加算する値
+     */
+    private void add(TaskDto task, long delta) {
+        Key key = new Key(task.getStatus(), task.getPriority(), task.getCategoryId());
+        counts.merge(key, delta, (current, d) -> current + d == 0 ? null : current + d);
+    }
+
+    /**
+     * 件数表をリストに変換する.
+     *
+     * @param source 件数表
+     * @return ステータス・優先度・カテゴリーごとの件数
+     */
+    private static List<TaskCountDto> toList(Map<Key, Long> source) {
+        List<TaskCountDto> result = new ArrayList<>(source.size());
+        source.forEach((key, count) -> result.add(
+                new TaskCountDto(key.status(), key.priority(), key.categoryId(), count)));
+        return result;
+    }
+
+    /**
+     * DBで集計して件数表を読み込む.
+     *
+     * @return 件数表
+     */
+    private Map<Key, Long> load() {
+        log.debug("Loading task count table");
+        Map<Key, Long> loaded = new HashMap<>();
+        for (TaskCountDto row : taskCustomMapper.countByStatusPriorityCategory()) {
+            loaded.put(new Key(row.getStatus(), row.getPriority(), row.getCategoryId()), row.getCount());
+        }
+        return loaded;
+    }
+
+    /**
+     * 件数表のキー.
+     *
+     * @param status     ステータス
+     * @param priority   優先度
+     * @param categoryId カテゴリーID（未分類の場合はnull）
+     */
+    private record Key(TaskStatus status, TaskPriority priority, Long categoryId) {
+    }
+}
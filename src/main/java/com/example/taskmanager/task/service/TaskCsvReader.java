@@ -0,0 +1,111 @@
+package com.example.taskmanager.task.service;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * タスク一括取込用のCSVリーダー.
+ *
+ * <p>RFC 4180形式（ダブルクォートによる囲み、""によるエスケープ、囲み内の改行）に対応する。
+ * 先頭のBOMは読み飛ばす。</p>
+ */
+class TaskCsvReader {
+
+    /** UTF-8のBOM */
+    private static final int BOM = '\uFEFF';
+
+    /** 読み込み元 */
+    private final Reader reader;
+
+    /** 先読みした1文字（未先読みの場合は-2） */
+    private int peeked = -2;
+
+    /** 先頭の文字を読み込み済みかどうか */
+    private boolean started;
+
+    /**
+     * 読み込み元を指定してリーダーを生成する.
+     *
+     * @param reader 読み込み元（呼び出し側でバッファリングすること）
+     */
+    TaskCsvReader(Reader reader) {
+        this.reader = reader;
+    }
+
+    /**
+     * 1レコードを読み込む.
+     *
+     * @return フィールドのリスト（入力の終端に達した場合はnull）
+     * @throws IOException 読み込みに失敗した場合
+     */
+    List<String> readRecord() throws IOException {
+        int ch = read();
+        if (ch == -1) {
+            return null;
+        }
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        while (true) {
+            if (quoted) {
+                if (ch == -1) {
+                    fields.add(field.toString());
+                    return fields;
+                }
+                if (ch == '"') {
+                    int next = read();
+                    if (next == '"') {
+                        field.append('"');
+                    } else {
+                        quoted = false;
+                        ch = next;
+                        continue;
+                    }
+                } else {
+                    field.append((char) ch);
+                }
+            } else if (ch == '"' && field.isEmpty()) {
+                quoted = true;
+            } else if (ch == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (ch == '\r' || ch == '\n' || ch == -1) {
+                if (ch == '\r') {
+                    int next = read();
+                    if (next != '\n') {
+                        peeked = next;
+                    }
+                }
+                fields.add(field.toString());
+                return fields;
+            } else {
+                field.append((char) ch);
+            }
+            ch = read();
+        }
+    }
+
+    /**
+     * 1文字読み込む.
+     *
+     * @return 読み込んだ文字（終端の場合は-1）
+     * @throws IOException 読み込みに失敗した場合
+     */
+    private int read() throws IOException {
+        if (peeked != -2) {
+            int ch = peeked;
+            peeked = -2;
+            return ch;
+        }
+        int ch = reader.read();
+        if (!started) {
+            started = true;
+            if (ch == BOM) {
+                ch = reader.read();
+            }
+        }
+        return ch;
+    }
+}
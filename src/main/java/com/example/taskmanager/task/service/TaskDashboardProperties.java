@@ -0,0 +1,19 @@
+package com.example.taskmanager.task.service;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * タスク集計（ダッシュボード）の設定.
+ *
+ * <p>application.ymlの{@code app.task.dashboard}配下の値をバインドする。</p>
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.task.dashboard")
+public class TaskDashboardProperties {
+
+    /** インメモリの件数表を使用するかどうか（falseの場合は毎回DBで集計する） */
+    private boolean counterEnabled = false;
+}
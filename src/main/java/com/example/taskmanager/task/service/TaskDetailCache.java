@@ -0,0 +1,185 @@
+package com.example.taskmanager.task.service;
+
+import com.example.taskmanager.common.cache.CategoryCache;
+import com.example.taskmanager.common.entity.TaskCategory;
+import com.example.taskmanager.common.event.CategoryChangedEvent;
+import com.example.taskmanager.common.event.ChangeType;
+import com.example.taskmanager.common.event.TaskBulkChangedEvent;
+import com.example.taskmanager.common.event.TaskChangedEvent;
+import com.example.taskmanager.task.dto.TaskDto;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * タスク詳細（{@link TaskService#findById(Long)}の結果）をタスクIDごとに保持するキャッシュ.
+ *
+ * <p>件数の上限を超えた場合は、Caffeineにより参照頻度・参照時期の低いものから破棄する。
+ * タスクの更新・削除・一括変更のコミット後に該当するタスクを破棄し、次回参照時にDBから再取得する。
+ * 登録・一括取込は未キャッシュのタスクのみが対象となるため何もしない。</p>
+ *
+ * <p>カテゴリー名・カテゴリー色はキャッシュに保持せず、取得のたびに{@link CategoryCache}の値で上書きする。
+ * そのため、カテゴリーの名前・色の変更ではタスクを破棄しない。カテゴリーの削除時のみすべて破棄する。</p>
+ *
+ * <p>破棄のたびに世代番号を進める。DBから取得する前に{@link #getGeneration()}で世代番号を記録し、
+ * {@link #put(TaskDto, long)}で渡すことで、取得中にコミットされた変更による古い値をキャッシュしない。</p>
+ *
+ * <p>ヒット率・破棄件数などは{@code cache.*}（{@code cache=task.detail}）および
+ * {@code task.detail.cache.hit.ratio}のメトリクスとして公開する。
+ * {@link TaskDetailCacheProperties#isEnabled()}がfalseの場合は何も保持しない。</p>
+ */
+@Slf4j
+@Component
+public class TaskDetailCache {
+
+    /** メトリクスのキャッシュ名 */
+    static final String CACHE_NAME = "task.detail";
+
+    /** ヒット率のメトリクス名 */
+    static final String HIT_RATIO_GAUGE = "task.detail.cache.hit.ratio";
+
+    /** 設定 */
+    private final TaskDetailCacheProperties properties;
+
+    /** カテゴリーキャッシュ */
+    private final CategoryCache categoryCache;
+
+    /** タスクIDごとのタスクDTO（カテゴリー名・カテゴリー色は保持しない） */
+    private final Cache<Long, TaskDto> cache;
+
+    /** 破棄のたびに進む世代番号 */
+    private final AtomicLong generation = new AtomicLong();
+
+    /**
+     * コンストラクタ.
+     *
+     * @param properties    設定
+     * @param categoryCache カテゴリーキャッシュ
+     * @param meterRegistry メトリクスの登録先
+     */
+    public TaskDetailCache(TaskDetailCacheProperties properties, CategoryCache categoryCache,
+                           MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.categoryCache = categoryCache;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxEntries())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+        Gauge.builder(HIT_RATIO_GAUGE, cache, c -> c.stats().hitRate())
+                .description("タスク詳細のキャッシュのヒット率")
+                .register(meterRegistry);
+    }
+
+    /**
+     * キャッシュが有効かどうかを返す.
+     *
+     * @return 有効な場合はtrue
+     */
+    public boolean isEnabled() {
+        return properties.isEnabled();
+    }
+
+    /**
+     * キャッシュからタスクを取得する.
+     *
+     * <p>返却するDTOは呼び出しごとに複製し、カテゴリー名・カテゴリー色を現在の値で設定する。</p>
+     *
+     * @param id タスクID
+     * @return タスクDTO（キャッシュにない場合・無効な場合はnull）
+     */
+    public TaskDto get(Long id) {
+        if (!isEnabled()) {
+            return null;
+        }
+        TaskDto cached = cache.getIfPresent(id);
+        if (cached == null) {
+            return null;
+        }
+        TaskDto task = cached.toBuilder().build();
+        TaskCategory category = task.getCategoryId() != null ? categoryCache.findById(task.getCategoryId()) : null;
+        task.setCategoryName(category != null ? category.getName() : null);
+        task.setCategoryColor(category != null ? category.getColor() : null);
+        return task;
+    }
+
+    /**
+     * 現在の世代番号を取得する.
+     *
+     * @return 世代番号
+     */
+    public long getGeneration() {
+        return generation.get();
+    }
+
+    /**
+     * DBから取得したタスクをキャッシュに格納する.
+     *
+     * <p>取得前に記録した世代番号から破棄が行われていた場合は格納しない。
+     * 破棄（世代番号を進めてから削除する）と同じキーに対して排他されるため、
+     * 破棄より前に格納した値は必ず削除され、破棄より後には格納されない。</p>
+     *
+     * @param task       DBから取得したタスクDTO
+     * @param generation 取得前に{@link #getGeneration()}で記録した世代番号
+     */
+    public void put(TaskDto task, long generation) {
+        if (!isEnabled()) {
+            return;
+        }
+        TaskDto copy = task.toBuilder().categoryName(null).categoryColor(null).build();
+        cache.asMap().compute(task.getId(),
+                (id, current) -> this.generation.get() == generation ? copy : current);
+    }
+
+    /**
+     * タスク変更のコミット後に、更新・削除されたタスクを破棄する.
+     *
+     * @param event タスク変更イベント
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        if (!isEnabled() || event.changeType() == ChangeType.CREATED) {
+            return;
+        }
+        generation.incrementAndGet();
+        cache.invalidate(event.taskId());
+    }
+
+    /**
+     * 一括更新・一括削除のコミット後に、対象のタスクを破棄する.
+     *
+     * @param event 一括変更イベント
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskBulkChanged(TaskBulkChangedEvent event) {
+        if (!isEnabled() || event.changeType() == ChangeType.CREATED || event.taskIds().isEmpty()) {
+            return;
+        }
+        generation.incrementAndGet();
+        cache.invalidateAll(event.taskIds());
+    }
+
+    /**
+     * カテゴリー削除のコミット後に、すべてのタスクを破棄する.
+     *
+     * <p>削除されたカテゴリーを参照していたタスクはDB上で未分類となるため、キャッシュのカテゴリーIDを使用しない。</p>
+     *
+     * @param event カテゴリー変更イベント
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCategoryChanged(CategoryChangedEvent event) {
+        if (!isEnabled() || event.changeType() != ChangeType.DELETED) {
+            return;
+        }
+        generation.incrementAndGet();
+        cache.invalidateAll();
+        log.debug("Task detail cache invalidated: categoryId={}", event.categoryId());
+    }
+}
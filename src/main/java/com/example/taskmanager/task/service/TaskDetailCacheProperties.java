@@ -0,0 +1,22 @@
+package com.example.taskmanager.task.service;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * タスク詳細のキャッシュの設定.
+ *
+ * <p>application.ymlの{@code app.task.detail-cache}配下の値をバインドする。</p>
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.task.detail-cache")
+public class TaskDetailCacheProperties {
+
+    /** タスク詳細をキャッシュするかどうか（falseの場合は毎回DBから取得する） */
+    private boolean enabled = false;
+
+    /** キャッシュするタスクの件数の上限（超えた場合は参照頻度の低いものから破棄する） */
+    private int maxEntries = 10000;
+}
@@ -0,0 +1,22 @@
+package com.example.taskmanager.task.service;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * タスク一括取込の設定.
+ *
+ * <p>application.ymlの{@code app.task.import}配下の値をバインドする。</p>
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.task.import")
+public class TaskImportProperties {
+
+    /** JDBCバッチとして一度に送信する行数 */
+    private int chunkSize = 500;
+
+    /** 1トランザクションでコミットする行数 */
+    private int commitInterval = 5000;
+}
@@ -0,0 +1,34 @@
+package com.example.taskmanager.task.service;
+
+import com.example.taskmanager.task.dto.TaskImportResult;
+import com.example.taskmanager.task.form.TaskForm;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+
+/**
+ * タスク一括取込のサービスインターフェース.
+ */
+public interface TaskImportService {
+
+    /**
+     * CSVからタスクを一括登録する.
+     *
+     * <p>1行目はヘッダー行とし、title, description, status, priority, category_id, due_date の列を
+     * 名前で対応付ける。それ以外の列は無視する。</p>
+     *
+     * @param in UTF-8のCSV入力
+     * @return 取込結果
+     * @throws IOException 入力の読み込みに失敗した場合
+     */
+    TaskImportResult importCsv(InputStream in) throws IOException;
+
+    /**
+     * フォームのリストからタスクを一括登録する.
+     *
+     * @param forms タスクフォームのリスト
+     * @return 取込結果
+     */
+    TaskImportResult importForms(List<TaskForm> forms);
+}
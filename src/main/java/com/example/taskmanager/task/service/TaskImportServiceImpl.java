@@ -0,0 +1,394 @@
+package com.example.taskmanager.task.service;
+
+import com.example.taskmanager.common.cache.CategoryCache;
+import com.example.taskmanager.common.entity.Task;
+import com.example.taskmanager.common.enums.TaskPriority;
+import com.example.taskmanager.common.enums.TaskStatus;
+import com.example.taskmanager.common.event.TaskBulkChangedEvent;
+import com.example.taskmanager.task.converter.TaskConverter;
+import com.example.taskmanager.task.dto.TaskImportError;
+import com.example.taskmanager.task.dto.TaskImportResult;
+import com.example.taskmanager.task.form.TaskForm;
+import com.example.taskmanager.task.mapper.TaskCustomMapper;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.ibatis.session.ExecutorType;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.mybatis.spring.SqlSessionTemplate;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * タスク一括取込のサービス実装クラス.
+ *
+ * <p>入力を1行ずつ読み込んで変換・入力検証を行い、有効な行が{@link TaskImportProperties#getCommitInterval()}件
+ * たまるごとにMyBatisのBATCH実行で登録してコミットする。保持する行はコミット単位分のみとなる。
+ * {@link TaskImportProperties#getChunkSize()}件ごとにJDBCバッチを送信する。
+ * コミット単位で登録に失敗した場合は、その単位の行をエラーとして報告し次の単位へ進む。
+ * 1件以上登録できた場合は、完了時に登録されたタスクのIDを設定した{@link TaskBulkChangedEvent}を発行する。</p>
+ */
+@Slf4j
+@Service
+public class TaskImportServiceImpl implements TaskImportService {
+
+    /** 一括取込の設定 */
+    private final TaskImportProperties properties;
+
+    /** BATCH実行用のSqlSessionTemplate */
+    private final SqlSessionTemplate batchSqlSessionTemplate;
+
+    /** トランザクションテンプレート */
+    private final TransactionTemplate transactionTemplate;
+
+    /** 入力検証 */
+    private final Validator validator;
+
+    /** カテゴリーキャッシュ */
+    private final CategoryCache categoryCache;
+
+    /** タスクコンバーター */
+    private final TaskConverter taskConverter;
+
+    /** イベント発行 */
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * 依存コンポーネントを指定してサービスを生成する.
+     *
+     * @param properties          一括取込の設定
+     * @param sqlSessionFactory   SqlSessionFactory
+     * @param transactionTemplate トランザクションテンプレート
+     * @param validator           入力検証
+     * @param categoryCache       カテゴリーキャッシュ
+     * @param taskConverter       タスクコンバーター
+     * @param eventPublisher      イベント発行
+     */
+    public TaskImportServiceImpl(TaskImportProperties properties,
+                                 SqlSessionFactory sqlSessionFactory,
+                                 TransactionTemplate transactionTemplate,
+                                 Validator validator,
+                                 CategoryCache categoryCache,
+                                 TaskConverter taskConverter,
+                                 ApplicationEventPublisher eventPublisher) {
+        this.properties = properties;
+        this.batchSqlSessionTemplate = new SqlSessionTemplate(sqlSessionFactory, ExecutorType.BATCH);
+        this.transactionTemplate = transactionTemplate;
+        this.validator = validator;
+        this.categoryCache = categoryCache;
+        this.taskConverter = taskConverter;
+        this.eventPublisher = eventPublisher;
+    }
+
+    /**
+     * CSVからタスクを一括登録する.
+     *
+     * @param in UTF-8のCSV入力
+     * @return 取込結果
+     * @throws IOException 入力の読み込みに失敗した場合
+     */
+    @Override
+    public TaskImportResult importCsv(InputStream in) throws IOException {
+        long start = System.currentTimeMillis();
+        TaskCsvReader reader = new TaskCsvReader(
+                new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8)));
+        List<String> header = reader.readRecord();
+        if (header == null) {
+            return toResult(0, 0, new ArrayList<>(), start);
+        }
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            columns.put(header.get(i).trim().toLowerCase(Locale.ROOT), i);
+        }
+
+        ImportRun run = new ImportRun();
+        int rowNumber = 1;
+        List<String> record;
+        while ((record = reader.readRecord()) != null) {
+            rowNumber++;
+            if (record.size() == 1 && record.get(0).isBlank()) {
+                continue;
+            }
+            List<String> messages = new ArrayList<>();
+            TaskForm form = toForm(columns, record, messages);
+            if (messages.isEmpty()) {
+                run.add(rowNumber, form);
+            } else {
+                run.reject(rowNumber, messages);
+            }
+        }
+        return run.finish(start);
+    }
+
+    /**
+     * フォームのリストからタスクを一括登録する.
+     *
+     * @param forms タスクフォームのリスト
+     * @return 取込結果
+     */
+    @Override
+    public TaskImportResult importForms(List<TaskForm> forms) {
+        long start = System.currentTimeMillis();
+        ImportRun run = new ImportRun();
+        for (int i = 0; i < forms.size(); i++) {
+            run.add(i + 1, forms.get(i));
+        }
+        return run.finish(start);
+    }
+
+    /**
+     * 1コミット単位の行をBATCH実行で登録する.
+     *
+     * <p>カテゴリーのタスク件数は、登録した行数をカテゴリーごとにまとめて同じトランザクションで加算する。</p>
+     *
+     * @param unit 登録する行
+     * @return 採番されたタスクID
+     */
+    private List<Long> insertUnit(List<ImportRow> unit) {
+        TaskCustomMapper mapper = batchSqlSessionTemplate.getMapper(TaskCustomMapper.class);
+        int chunkSize = Math.max(1, properties.getChunkSize());
+        int pending = 0;
+        List<Task> tasks = new ArrayList<>(unit.size());
+        Map<Long, Integer> categoryCounts = new HashMap<>();
+        for (ImportRow row : unit) {
+            Task task = taskConverter.toEntity(row.form());
+            mapper.insertForImport(task);
+            tasks.add(task);
+            if (task.getCategoryId() != null) {
+                categoryCounts.merge(task.getCategoryId(), 1, Integer::sum);
+            }
+            if (++pending == chunkSize) {
+                batchSqlSessionTemplate.flushStatements();
+                pending = 0;
+            }
+        }
+        categoryCounts.forEach(mapper::addCategoryTaskCount);
+        batchSqlSessionTemplate.flushStatements();
+        List<Long> ids = new ArrayList<>(tasks.size());
+        for (Task task : tasks) {
+            ids.add(task.getId());
+        }
+        return ids;
+    }
+
+    /**
+     * フォームの入力検証とカテゴリーの存在確認を行う.
+     *
+     * @param form タスクフォーム
+     * @return エラーメッセージのリスト（エラーがない場合は空）
+     */
+    private List<String> validate(TaskForm form) {
+        List<String> messages = new ArrayList<>();
+        if (form == null) {
+            messages.add("データがありません");
+            return messages;
+        }
+        Set<ConstraintViolation<TaskForm>> violations = validator.validate(form);
+        violations.stream()
+                .sorted(Comparator.comparing(violation -> violation.getPropertyPath().toString()))
+                .forEach(violation -> messages.add(violation.getMessage()));
+        if (form.getCategoryId() != null && categoryCache.findById(form.getCategoryId()) == null) {
+            messages.add("カテゴリーが存在しません: ID=" + form.getCategoryId());
+        }
+        return messages;
+    }
+
+    /**
+     * CSVの1レコードをタスクフォームに変換する.
+     *
+     * @param columns  列名と列番号の対応
+     * @param record   CSVの1レコード
+     * @param messages 変換エラーの格納先
+     * @return タスクフォーム
+     */
+    private TaskForm toForm(Map<String, Integer> columns, List<String> record, List<String> messages) {
+        TaskForm form = new TaskForm();
+        form.setTitle(value(columns, record, "title"));
+        form.setDescription(value(columns, record, "description"));
+
+        String status = value(columns, record, "status");
+        if (status != null) {
+            try {
+                form.setStatus(TaskStatus.valueOf(status));
+            } catch (IllegalArgumentException ex) {
+                messages.add("ステータスの値が不正です: " + status);
+            }
+        }
+        String priority = value(columns, record, "priority");
+        if (priority != null) {
+            try {
+                form.setPriority(TaskPriority.valueOf(priority));
+            } catch (IllegalArgumentException ex) {
+                messages.add("優先度の値が不正です: " + priority);
+            }
+        }
+        String categoryId = value(columns, record, "category_id");
+        if (categoryId != null) {
+            try {
+                form.setCategoryId(Long.valueOf(categoryId));
+            } catch (NumberFormatException ex) {
+                messages.add("カテゴリーIDの値が不正です: " + categoryId);
+            }
+        }
+        String dueDate = value(columns, record, "due_date");
+        if (dueDate != null) {
+            try {
+                form.setDueDate(LocalDate.parse(dueDate));
+            } catch (DateTimeParseException ex) {
+                messages.add("期限日の形式が不正です（例: 2025-12-31）: " + dueDate);
+            }
+        }
+        return form;
+    }
+
+    /**
+     * 列名を指定してレコードの値を取得する.
+     *
+     * @param columns 列名と列番号の対応
+     * @param record  CSVの1レコード
+     * @param name    列名
+     * @return 値（列がない場合・空文字の場合はnull）
+     */
+    private String value(Map<String, Integer> columns, List<String> record, String name) {
+        Integer index = columns.get(name);
+        if (index == null || index >= record.size()) {
+            return null;
+        }
+        String value = record.get(index).trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    /**
+     * 取込結果を生成する.
+     *
+     * @param totalRows    入力された行数
+     * @param importedRows 登録できた行数
+     * @param errors       エラー行の情報
+     * @param start        処理開始時刻（エポックミリ秒）
+     * @return 取込結果
+     */
+    private TaskImportResult toResult(int totalRows, int importedRows, List<TaskImportError> errors, long start) {
+        return TaskImportResult.builder()
+                .totalRows(totalRows)
+                .importedRows(importedRows)
+                .failedRows(errors.size())
+                .elapsedMillis(System.currentTimeMillis() - start)
+                .errors(errors)
+                .build();
+    }
+
+    /**
+     * 1回の取込の途中経過.
+     *
+     * <p>入力検証を通過した行をコミット単位分だけ保持し、たまるごとに登録する。</p>
+     */
+    private final class ImportRun {
+
+        /** コミット単位の行数 */
+        private final int commitInterval = Math.max(1, properties.getCommitInterval());
+
+        /** 登録待ちの行 */
+        private final List<ImportRow> unit = new ArrayList<>(commitInterval);
+
+        /** エラー行の情報 */
+        private final List<TaskImportError> errors = new ArrayList<>();
+
+        /** 登録されたタスクID */
+        private final List<Long> importedIds = new ArrayList<>();
+
+        /** 入力された行数 */
+        private int totalRows;
+
+        /**
+         * 行の入力検証を行い、有効な場合は登録待ちに加える.
+         *
+         * @param rowNumber 行番号
+         * @param form      タスクフォーム
+         */
+        void add(int rowNumber, TaskForm form) {
+            totalRows++;
+            List<String> messages = validate(form);
+            if (!messages.isEmpty()) {
+                errors.add(new TaskImportError(rowNumber, messages));
+                return;
+            }
+            unit.add(new ImportRow(rowNumber, form));
+            if (unit.size() == commitInterval) {
+                commit();
+            }
+        }
+
+        /**
+         * 変換に失敗した行をエラーとして記録する.
+         *
+         * @param rowNumber 行番号
+         * @param messages  エラーメッセージ
+         */
+        void reject(int rowNumber, List<String> messages) {
+            totalRows++;
+            errors.add(new TaskImportError(rowNumber, messages));
+        }
+
+        /**
+         * 残りの行を登録し、一括登録イベントを発行して取込結果を返す.
+         *
+         * @param start 処理開始時刻（エポックミリ秒）
+         * @return 取込結果
+         */
+        TaskImportResult finish(long start) {
+            commit();
+            errors.sort(Comparator.comparingInt(TaskImportError::getRowNumber));
+            log.info("Tasks imported: imported={}, failed={}", importedIds.size(), errors.size());
+            if (!importedIds.isEmpty()) {
+                eventPublisher.publishEvent(TaskBulkChangedEvent.created(importedIds, importedIds.size()));
+            }
+            return toResult(totalRows, importedIds.size(), errors, start);
+        }
+
+        /**
+         * 登録待ちの行を1トランザクションで登録する.
+         */
+        private void commit() {
+            if (unit.isEmpty()) {
+                return;
+            }
+            try {
+                importedIds.addAll(transactionTemplate.execute(status -> insertUnit(unit)));
+            } catch (DataAccessException | TransactionException ex) {
+                log.warn("Task import failed for rows {}-{}", unit.get(0).rowNumber(),
+                        unit.get(unit.size() - 1).rowNumber(), ex);
+                for (ImportRow row : unit) {
+                    errors.add(new TaskImportError(row.rowNumber(), List.of("登録に失敗しました")));
+                }
+            }
+            unit.clear();
+        }
+    }
+
+    /**
+     * 行番号付きの取込対象行.
+     *
+     * @param rowNumber 行番号
+     * @param form      タスクフォーム
+     */
+    private record ImportRow(int rowNumber, TaskForm form) {
+    }
+}
@@ -0,0 +1,489 @@
+package com.example.taskmanager.task.service;
+
+import com.example.taskmanager.common.event.TaskBulkChangedEvent;
+import com.example.taskmanager.common.event.TaskChangedEvent;
+import com.example.taskmanager.task.dto.TaskDto;
+import com.example.taskmanager.task.mapper.TaskCustomMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.ibatis.cursor.Cursor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+/**
+ * タスクのタイトル・説明を対象としたインメモリの転置インデックス.
+ *
+ * <p>{@link TaskSearchTokenizer}で分割したN-gramトークンごとに、タスクIDの昇順に並べた
+ * {@code long[]}と重み付き出現回数の{@code int[]}を保持する。タイトル・説明の本文は保持しない。
+ * 起動完了時に全タスクから構築し、以降はタスク変更のコミット後に
+ * {@link TaskChangedEvent}を受けて該当タスクのみを差し替える。</p>
+ *
+ * <p>検索語は空白区切りのAND条件とする。{@link #search(String)}はバイグラムで絞り込んだ候補を返し、
+ * {@link #filterMatches(String, List)}で候補の本文をDBから取得して検索語が含まれることを確認する。
+ * 2文字以下の検索語はトークンの一致がそのまま本文の一致となるため、DBでの確認を省略する。
+ * スコアはタイトルの出現を{@value #TITLE_WEIGHT}倍に重み付けしたTF-IDFの合計とする。</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TaskSearchIndex {
+
+    /** タイトル中の出現回数に掛ける重み */
+    static final int TITLE_WEIGHT = 3;
+
+    /** 一括登録されたタスクをDBから取得する際の1回あたりのID数 */
+    private static final int LOAD_CHUNK_SIZE = 500;
+
+    /** トークンの一致だけで本文の一致が確定する検索語の最大文字数 */
+    private static final int EXACT_WORD_LENGTH = 2;
+
+    /** タスクカスタムマッパー */
+    private final TaskCustomMapper taskCustomMapper;
+
+    /** トランザクションテンプレート */
+    private final TransactionTemplate transactionTemplate;
+
+    /** タスクの変更追跡 */
+    private final TaskChangeTracker taskChangeTracker;
+
+    /** インデックスの読み書きロック */
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /** 再構築を直列化するロック */
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+
+    /** 検索に使用するインデックス（読み書きロックを保持して参照・更新する） */
+    private Index current = new Index();
+
+    /** 再構築中に反映した差分（再構築中でない場合はnull、読み書きロックを保持して参照・更新する） */
+    private List<Consumer<Index>> pendingChanges;
+
+    /**
+     * キーワードに一致する候補のタスクIDをスコアの高い順に取得する.
+     *
+     * <p>3文字以上の検索語を含む場合、N-gram特有の誤検出を含む。
+     * 呼び出し側で{@link #filterMatches(String, List)}により確認すること。</p>
+     *
+     * @param query 検索キーワード（空白区切りでAND検索）
+     * @return 候補のタスクIDのリスト（スコアが同じ場合はIDの降順）
+     */
+    public List<Long> search(String query) {
+        List<String> words = TaskSearchTokenizer.words(TaskSearchTokenizer.normalize(query));
+        if (words.isEmpty()) {
+            return List.of();
+        }
+        List<Candidate> candidates = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            List<Postings> lists = new ArrayList<>();
+            Postings smallest = null;
+            for (String word : words) {
+                for (String token : TaskSearchTokenizer.queryTokens(word)) {
+                    Postings list = current.postings.get(token);
+                    if (list == null) {
+                        return List.of();
+                    }
+                    lists.add(list);
+                    if (smallest == null || list.size < smallest.size) {
+                        smallest = list;
+                    }
+                }
+            }
+
+            double documentCount = current.documents.size();
+            for (int i = 0; i < smallest.size; i++) {
+                long id = smallest.ids[i];
+                double score = 0;
+                boolean matched = true;
+                for (Postings list : lists) {
+                    int frequency = list.frequency(id);
+                    if (frequency == 0) {
+                        matched = false;
+                        break;
+                    }
+                    score += frequency * Math.log(1 + documentCount / list.size);
+                }
+                if (matched) {
+                    candidates.add(new Candidate(id, score));
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        candidates.sort(Comparator.comparingDouble(Candidate::score).thenComparingLong(Candidate::id).reversed());
+        return candidates.stream().map(Candidate::id).toList();
+    }
+
+    /**
+     * {@link #search(String)}の候補のうち、本文に検索語が含まれるタスクIDを絞り込む.
+     *
+     * <p>3文字以上の検索語を含む場合のみ、候補のタイトル・説明をDBから取得して正規化後の本文と照合する。
+     * 削除済みのタスクも取り除かれる。</p>
+     *
+     * @param query 検索キーワード（{@link #search(String)}と同じもの）
+     * @param ids   候補のタスクIDのリスト
+     * @return 一致したタスクIDのリスト（候補の順序を保持する）
+     */
+    public List<Long> filterMatches(String query, List<Long> ids) {
+        List<String> words = TaskSearchTokenizer.words(TaskSearchTokenizer.normalize(query));
+        if (ids.isEmpty()
+                || words.stream().allMatch(word -> word.codePointCount(0, word.length()) <= EXACT_WORD_LENGTH)) {
+            return ids;
+        }
+        Set<Long> matched = new HashSet<>();
+        for (TaskDto task : taskCustomMapper.selectSearchTextsByIds(ids)) {
+            String title = TaskSearchTokenizer.normalize(task.getTitle());
+            String description = TaskSearchTokenizer.normalize(task.getDescription());
+            if (words.stream().allMatch(word -> title.contains(word) || description.contains(word))) {
+                matched.add(task.getId());
+            }
+        }
+        return ids.stream().filter(matched::contains).toList();
+    }
+
+    /**
+     * タスクを登録する。登録済みの場合は内容を差し替える.
+     *
+     * @param task タスクDTO
+     */
+    public void index(TaskDto task) {
+        Long id = task.getId();
+        Map<String, Integer> frequencies = frequencies(task);
+        apply(index -> index.put(id, frequencies));
+    }
+
+    /**
+     * タスクを削除する.
+     *
+     * @param id タスクID
+     */
+    public void remove(Long id) {
+        apply(index -> index.remove(id));
+    }
+
+    /**
+     * 全タスクを読み込んでインデックスを作り直す.
+     *
+     * <p>新しいインデックスをロックの外で構築し、完成後に差し替える。構築中も検索と差分反映は従来のインデックスで行い、
+     * 構築中に反映した差分は差し替えの直前に新しいインデックスへ再適用する。
+     * 差分反映は冪等なため、構築時に読み込み済みの変更が再適用されても結果は変わらない。</p>
+     *
+     * <p>差し替え後に{@link TaskChangeTracker}の変更回数を進め、差し替え前の検索結果（起動直後の空の結果を含む）を
+     * 条件付きGETで返し続けないようにする。</p>
+     */
+    public void rebuild() {
+        rebuildLock.lock();
+        try {
+            long start = System.currentTimeMillis();
+            lock.writeLock().lock();
+            try {
+                pendingChanges = new ArrayList<>();
+            } finally {
+                lock.writeLock().unlock();
+            }
+
+            Index rebuilt = new Index();
+            try {
+                transactionTemplate.executeWithoutResult(status -> {
+                    try (Cursor<TaskDto> cursor = taskCustomMapper.selectSearchTextsCursor()) {
+                        for (TaskDto task : cursor) {
+                            rebuilt.put(task.getId(), frequencies(task));
+                        }
+                    } catch (IOException ex) {
+                        throw new UncheckedIOException(ex);
+                    }
+                });
+                rebuilt.trim();
+            } catch (RuntimeException ex) {
+                lock.writeLock().lock();
+                try {
+                    pendingChanges = null;
+                } finally {
+                    lock.writeLock().unlock();
+                }
+                throw ex;
+            }
+
+            lock.writeLock().lock();
+            try {
+                pendingChanges.forEach(change -> change.accept(rebuilt));
+                pendingChanges = null;
+                current = rebuilt;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            taskChangeTracker.markModified();
+            log.info("Task search index rebuilt: tasks={}, terms={}, elapsedMillis={}",
+                    rebuilt.documents.size(), rebuilt.postings.size(), System.currentTimeMillis() - start);
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    /**
+     * 登録済みのタスク件数を取得する.
+     *
+     * @return タスク件数
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return current.documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 起動完了時にインデックスを構築する.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuild();
+    }
+
+    /**
+     * タスク変更のコミット後にインデックスへ反映する.
+     *
+     * @param event タスク変更イベント
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        if (event.after() != null) {
+            index(event.after());
+        } else {
+            remove(event.taskId());
+        }
+    }
+
+    /**
+     * 一括変更のコミット後にインデックスへ反映する.
+     *
+     * <p>一括更新はタイトル・説明を変更しないため何もしない。
+     * 一括削除は対象のタスクのみを取り除き、一括登録は対象のタスクのタイトル・説明をDBから取得して登録する。</p>
+     *
+     * @param event 一括変更イベント
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskBulkChanged(TaskBulkChangedEvent event) {
+        switch (event.changeType()) {
+            case UPDATED -> {
+            }
+            case DELETED -> event.taskIds().forEach(this::remove);
+            case CREATED -> indexAll(event.taskIds());
+        }
+    }
+
+    /**
+     * 指定したタスクのタイトル・説明を{@value #LOAD_CHUNK_SIZE}件ずつDBから取得して登録する.
+     *
+     * @param ids タスクIDのリスト
+     */
+    private void indexAll(List<Long> ids) {
+        for (int from = 0; from < ids.size(); from += LOAD_CHUNK_SIZE) {
+            List<Long> chunk = ids.subList(from, Math.min(from + LOAD_CHUNK_SIZE, ids.size()));
+            taskCustomMapper.selectSearchTextsByIds(chunk).forEach(this::index);
+        }
+    }
+
+    /**
+     * 差分を検索用のインデックスに反映し、再構築中であれば再適用のために記録する.
+     *
+     * @param change 差分
+     */
+    private void apply(Consumer<Index> change) {
+        lock.writeLock().lock();
+        try {
+            change.accept(current);
+            if (pendingChanges != null) {
+                pendingChanges.add(change);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * タスクのトークンごとの重み付き出現回数を求める.
+     *
+     * @param task タスクDTO
+     * @return トークンと重み付き出現回数のマップ
+     */
+    private static Map<String, Integer> frequencies(TaskDto task) {
+        Map<String, Integer> frequencies = new HashMap<>();
+        TaskSearchTokenizer.termFrequencies(TaskSearchTokenizer.normalize(task.getTitle()))
+                .forEach((token, count) -> frequencies.merge(token, count * TITLE_WEIGHT, Integer::sum));
+        TaskSearchTokenizer.termFrequencies(TaskSearchTokenizer.normalize(task.getDescription()))
+                .forEach((token, count) -> frequencies.merge(token, count, Integer::sum));
+        return frequencies;
+    }
+
+    /**
+     * 転置リストとタスクごとの登録先の組.
+     */
+    private static final class Index {
+
+        /** トークンごとの転置リスト */
+        private final Map<String, Postings> postings = new HashMap<>();
+
+        /** タスクIDごとの登録先の転置リスト */
+        private final Map<Long, Postings[]> documents = new HashMap<>();
+
+        /**
+         * タスクを登録する。登録済みの場合は内容を差し替える.
+         *
+         * @param id          タスクID
+         * @param frequencies トークンと重み付き出現回数のマップ
+         */
+        void put(Long id, Map<String, Integer> frequencies) {
+            remove(id);
+            Postings[] lists = new Postings[frequencies.size()];
+            int i = 0;
+            for (Map.Entry<String, Integer> entry : frequencies.entrySet()) {
+                Postings list = postings.computeIfAbsent(entry.getKey(), Postings::new);
+                list.put(id, entry.getValue());
+                lists[i++] = list;
+            }
+            documents.put(id, lists);
+        }
+
+        /**
+         * タスクを削除する.
+         *
+         * @param id タスクID
+         */
+        void remove(Long id) {
+            Postings[] lists = documents.remove(id);
+            if (lists == null) {
+                return;
+            }
+            for (Postings list : lists) {
+                list.remove(id);
+                if (list.size == 0) {
+                    postings.remove(list.token);
+                }
+            }
+        }
+
+        /**
+         * 転置リストの余分な領域を解放する.
+         */
+        void trim() {
+            postings.values().forEach(Postings::trim);
+        }
+    }
+
+    /**
+     * 1トークンの転置リスト.
+     *
+     * <p>タスクIDの昇順に並べた配列で保持し、二分探索で参照する。
+     * IDの昇順に登録する場合（構築時・新規登録時）は末尾への追加となる。</p>
+     */
+    private static final class Postings {
+
+        /** トークン */
+        private final String token;
+
+        /** タスクID（昇順、先頭からsize件が有効） */
+        private long[] ids = new long[1];
+
+        /** 重み付き出現回数（idsと同じ位置に対応） */
+        private int[] frequencies = new int[1];
+
+        /** 登録件数 */
+        private int size;
+
+        Postings(String token) {
+            this.token = token;
+        }
+
+        /**
+         * 重み付き出現回数を取得する.
+         *
+         * @param id タスクID
+         * @return 重み付き出現回数（登録されていない場合は0）
+         */
+        int frequency(long id) {
+            int index = Arrays.binarySearch(ids, 0, size, id);
+            return index >= 0 ? frequencies[index] : 0;
+        }
+
+        /**
+         * タスクを登録する.
+         *
+         * @param id        タスクID
+         * @param frequency 重み付き出現回数
+         */
+        void put(long id, int frequency) {
+            int index = Arrays.binarySearch(ids, 0, size, id);
+            if (index >= 0) {
+                frequencies[index] = frequency;
+                return;
+            }
+            index = -index - 1;
+            if (size == ids.length) {
+                int capacity = size + Math.max(1, size >> 1);
+                ids = Arrays.copyOf(ids, capacity);
+                frequencies = Arrays.copyOf(frequencies, capacity);
+            }
+            System.arraycopy(ids, index, ids, index + 1, size - index);
+            System.arraycopy(frequencies, index, frequencies, index + 1, size - index);
+            ids[index] = id;
+            frequencies[index] = frequency;
+            size++;
+        }
+
+        /**
+         * タスクを削除する.
+         *
+         * @param id タスクID
+         */
+        void remove(long id) {
+            int index = Arrays.binarySearch(ids, 0, size, id);
+            if (index < 0) {
+                return;
+            }
+            System.arraycopy(ids, index + 1, ids, index, size - index - 1);
+            System.arraycopy(frequencies, index + 1, frequencies, index, size - index - 1);
+            size--;
+        }
+
+        /**
+         * 配列を登録件数に切り詰める.
+         */
+        void trim() {
+            if (size < ids.length) {
+                ids = Arrays.copyOf(ids, size);
+                frequencies = Arrays.copyOf(frequencies, size);
+            }
+        }
+    }
+
+    /**
+     * 検索の候補.
+     *
+     * @param id    タスクID
+     * @param score スコア
+     */
+    private record Candidate(long id, double score) {
+    }
+}
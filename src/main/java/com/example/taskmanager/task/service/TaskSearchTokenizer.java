@@ -0,0 +1,122 @@
+package com.example.taskmanager.task.service;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * タスク全文検索用のN-gramトークナイザー.
+ *
+ * <p>文字列をNFKC正規化・小文字化したうえで、空白・記号で区切られた語ごとに
+ * 1文字（ユニグラム）と2文字（バイグラム）のトークンに分割する。
+ * 分かち書きを必要としないため、日本語と英数字の混在した文字列をそのまま扱える。</p>
+ */
+final class TaskSearchTokenizer {
+
+    private TaskSearchTokenizer() {
+    }
+
+    /**
+     * 文字列を検索用に正規化する.
+     *
+     * <p>全角英数字・半角カナの表記ゆれを吸収し、英字を小文字にそろえる。</p>
+     *
+     * @param text 文字列（nullの場合は空文字）
+     * @return 正規化後の文字列
+     */
+    static String normalize(String text) {
+        if (text == null || text.isEmpty()) {
+            return "";
+        }
+        return Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * 正規化済みの文字列を語に分割する.
+     *
+     * <p>文字・数字以外の文字を区切りとして扱う。</p>
+     *
+     * @param normalized 正規化済みの文字列
+     * @return 語のリスト
+     */
+    static List<String> words(String normalized) {
+        List<String> words = new ArrayList<>();
+        int start = -1;
+        for (int i = 0; i < normalized.length(); ) {
+            int codePoint = normalized.codePointAt(i);
+            boolean wordChar = Character.isLetterOrDigit(codePoint)
+                    || Character.getType(codePoint) == Character.NON_SPACING_MARK;
+            if (wordChar && start < 0) {
+                start = i;
+            } else if (!wordChar && start >= 0) {
+                words.add(normalized.substring(start, i));
+                start = -1;
+            }
+            i += Character.charCount(codePoint);
+        }
+        if (start >= 0) {
+            words.add(normalized.substring(start));
+        }
+        return words;
+    }
+
+    /**
+     * 正規化済みの文字列をトークンに分割し、トークンごとの出現回数を数える.
+     *
+     * @param normalized 正規化済みの文字列
+     * @return トークンと出現回数のマップ
+     */
+    static Map<String, Integer> termFrequencies(String normalized) {
+        Map<String, Integer> frequencies = new HashMap<>();
+        for (String word : words(normalized)) {
+            for (String token : tokens(word)) {
+                frequencies.merge(token, 1, Integer::sum);
+            }
+        }
+        return frequencies;
+    }
+
+    /**
+     * 1語をユニグラムとバイグラムに分割する.
+     *
+     * @param word 語
+     * @return トークンのリスト（重複を含む）
+     */
+    static List<String> tokens(String word) {
+        int[] codePoints = word.codePoints().toArray();
+        List<String> tokens = new ArrayList<>(codePoints.length * 2);
+        for (int i = 0; i < codePoints.length; i++) {
+            tokens.add(new String(codePoints, i, 1));
+            if (i + 1 < codePoints.length) {
+                tokens.add(new String(codePoints, i, 2));
+            }
+        }
+        return tokens;
+    }
+
+    /**
+     * 検索語に一致する候補を絞り込むためのトークンを返す.
+     *
+     * <p>2文字以上の語はバイグラムのみ、1文字の語はユニグラムを使用する。</p>
+     *
+     * @param word 正規化済みの検索語
+     * @return トークンのリスト（重複を除く）
+     */
+    static List<String> queryTokens(String word) {
+        int[] codePoints = word.codePoints().toArray();
+        if (codePoints.length == 1) {
+            return List.of(word);
+        }
+        List<String> tokens = new ArrayList<>(codePoints.length - 1);
+        for (int i = 0; i + 1 < codePoints.length; i++) {
+            String token = new String(codePoints, i, 2);
+            if (!tokens.contains(token)) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+}
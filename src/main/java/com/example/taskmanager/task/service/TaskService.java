@@ -1,12 +1,20 @@
 package com.example.taskmanager.task.service;
 
 import com.example.taskmanager.common.entity.TaskCategory;
-import com.example.taskmanager.common.enums.TaskPriority;
-import com.example.taskmanager.common.enums.TaskStatus;
+import com.example.taskmanager.common.history.TaskHistoryDto;
+import com.example.taskmanager.task.dto.TaskCountDto;
 import com.example.taskmanager.task.dto.TaskDto;
+import com.example.taskmanager.task.dto.TaskListItemDto;
+import com.example.taskmanager.task.form.TaskBulkForm;
 import com.example.taskmanager.task.form.TaskForm;
+import com.example.taskmanager.task.model.TaskCursor;
+import com.example.taskmanager.task.model.TaskDueRange;
+import com.example.taskmanager.task.model.TaskPage;
+import com.example.taskmanager.task.model.TaskSearchCondition;
+import com.example.taskmanager.task.model.TaskValidator;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * タスク管理のサービスインターフェース.
@@ -20,15 +28,103 @@ public interface TaskService {
      */
     List<TaskDto> findAll();
 
+    /**
+     * 全タスクを作成日時の降順で1件ずつ処理する.
+     *
+     * <p>結果をリストに展開しないため、件数に関わらずメモリ使用量は一定となる。</p>
+     *
+     * @param action 各タスクDTOに対する処理
+     */
+    void forEachTask(Consumer<TaskDto> action);
+
     /**
      * 条件を指定してタスクを検索する.
      *
-     * @param status     ステータス（nullの場合は条件なし）
-     * @param priority   優先度（nullの場合は条件なし）
-     * @param categoryId カテゴリーID（nullの場合は条件なし）
+     * @param condition 検索条件（並び順を含む）
      * @return 条件に一致するタスクDTOのリスト
      */
-    List<TaskDto> findByCondition(TaskStatus status, TaskPriority priority, Long categoryId);
+    List<TaskDto> findByCondition(TaskSearchCondition condition);
+
+    /**
+     * 条件を指定してタスクを1ページ分取得する.
+     *
+     * <p>検索条件の並び順（同じ値の行はIDの同じ向き）でキーセットページングを行う。
+     * 一覧表示用のため、説明・更新日時は取得しない。</p>
+     *
+     * @param condition 検索条件（並び順を含む）
+     * @param cursor    直前ページのカーソル（先頭ページの場合はnull。同じ並び順で取得したものを指定すること）
+     * @param size      1ページあたりの件数
+     * @return 1ページ分の検索結果
+     */
+    TaskPage findPage(TaskSearchCondition condition, TaskCursor cursor, int size);
+
+    /**
+     * 条件を指定してタスクを1ページ分、1件ずつ処理する.
+     *
+     * <p>{@link #findPage}と同じ条件・並び順で、結果をリストに展開せずに処理する。
+     * 説明・更新日時はincludeDetailsがtrueの場合のみ取得し、falseの場合はnullとなる。</p>
+     *
+     * @param condition      検索条件（並び順を含む）
+     * @param cursor         直前ページのカーソル（先頭ページの場合はnull）
+     * @param size           1ページあたりの件数（1以上）
+     * @param includeDetails 説明・更新日時を取得する場合はtrue
+     * @param action         各タスクDTOに対する処理
+     * @return 次ページ取得用のカーソル（最終ページの場合はnull）
+     */
+    TaskCursor forEachInPage(TaskSearchCondition condition, TaskCursor cursor, int size, boolean includeDetails,
+                             Consumer<TaskDto> action);
+
+    /**
+     * 期限日の範囲に該当する未完了のタスクを1ページ分取得する.
+     *
+     * <p>期限日の近い順（同じ期限日はID順）でキーセットページングを行う。
+     * 一覧表示用のため、説明・更新日時は取得しない。</p>
+     *
+     * @param range  抽出範囲（期限切れ・今日が期限・期限間近）
+     * @param days   期限間近の日数（範囲が期限間近の場合のみ使用する）
+     * @param cursor 直前ページのカーソル（先頭ページの場合はnull）
+     * @param size   1ページあたりの件数
+     * @return 1ページ分の検索結果
+     * @throws com.example.taskmanager.common.exception.InvalidRequestException 期限間近の日数が範囲外の場合
+     */
+    TaskPage findDue(TaskDueRange range, int days, TaskCursor cursor, int size);
+
+    /**
+     * 期限日の範囲に該当する未完了のタスクを1ページ分、1件ずつ処理する.
+     *
+     * <p>{@link #findDue}と同じ条件・並び順で、結果をリストに展開せずに処理する。</p>
+     *
+     * @param range          抽出範囲（期限切れ・今日が期限・期限間近）
+     * @param days           期限間近の日数（範囲が期限間近の場合のみ使用する）
+     * @param cursor         直前ページのカーソル（先頭ページの場合はnull）
+     * @param size           1ページあたりの件数（1以上）
+     * @param includeDetails 説明・更新日時を取得する場合はtrue
+     * @param action         各タスクDTOに対する処理
+     * @return 次ページ取得用のカーソル（最終ページの場合はnull）
+     * @throws com.example.taskmanager.common.exception.InvalidRequestException 期限間近の日数が範囲外の場合
+     */
+    TaskCursor forEachDue(TaskDueRange range, int days, TaskCursor cursor, int size, boolean includeDetails,
+                          Consumer<TaskDto> action);
+
+    /**
+     * キーワードでタスクを全文検索する.
+     *
+     * <p>タイトル・説明を対象とし、関連度の高い順に返す（検索条件の並び順は使用しない）。
+     * 一覧表示用のため、説明・更新日時は取得しない。</p>
+     *
+     * @param query     検索キーワード（空白区切りでAND検索）
+     * @param condition 絞り込み条件
+     * @param limit     取得件数の上限
+     * @return 検索結果の一覧表示用DTOのリスト
+     */
+    List<TaskListItemDto> search(String query, TaskSearchCondition condition, int limit);
+
+    /**
+     * ステータス・優先度・カテゴリーごとのタスク件数を取得する.
+     *
+     * @return 件数のリスト（0件の組み合わせは含まない）
+     */
+    List<TaskCountDto> countTasks();
 
     /**
      * IDを指定してタスクを取得する.
@@ -39,6 +135,36 @@ public interface TaskService {
      */
     TaskDto findById(Long id);
 
+    /**
+     * タスク一覧画面の検証子を取得する.
+     *
+     * <p>DBアクセスは行わない。</p>
+     *
+     * @return 検証子
+     */
+    TaskValidator getListValidator();
+
+    /**
+     * タスク詳細画面の検証子を取得する.
+     *
+     * <p>主キー検索でバージョン・更新日時のみを取得する。</p>
+     *
+     * @param id タスクID
+     * @return 検証子（タスクが存在しない場合はnull）
+     */
+    TaskValidator getValidator(Long id);
+
+    /**
+     * タスクの変更履歴を新しい順に取得する.
+     *
+     * <p>変更履歴はコミット後に非同期で登録されるため、直前の変更が含まれないことがある。</p>
+     *
+     * @param id    タスクID
+     * @param limit 取得する最大件数
+     * @return 変更履歴のリスト（新しい順）
+     */
+    List<TaskHistoryDto> findHistory(Long id, int limit);
+
     /**
      * タスクを新規作成する.
      *
@@ -50,10 +176,13 @@ public interface TaskService {
     /**
      * タスクを更新する.
      *
+     * <p>フォームのバージョンが最新の場合のみ更新する。</p>
+     *
      * @param id   更新するタスクのID
      * @param form タスクフォーム
      * @return 更新されたタスクDTO
      * @throws com.example.taskmanager.common.exception.TaskNotFoundException タスクが見つからない場合
+     * @throws com.example.taskmanager.common.exception.TaskConflictException フォームのバージョンが最新でない場合
      */
     TaskDto update(Long id, TaskForm form);
 
@@ -65,6 +194,29 @@ public interface TaskService {
      */
     void delete(Long id);
 
+    /**
+     * 複数のタスクのステータス・優先度・カテゴリーをまとめて変更する.
+     *
+     * <p>1つのトランザクション内の1文で更新する。楽観ロックは行わず、存在しないIDは無視する。</p>
+     *
+     * @param form 一括変更フォーム（nullの項目は変更しない）
+     * @return 更新件数
+     * @throws com.example.taskmanager.common.exception.InvalidRequestException
+     *         対象のIDがない・上限を超える場合、変更する項目がない場合、カテゴリーが存在しない場合
+     */
+    int bulkUpdate(TaskBulkForm form);
+
+    /**
+     * 複数のタスクをまとめて削除する.
+     *
+     * <p>1つのトランザクション内の1文で削除する。存在しないIDは無視する。</p>
+     *
+     * @param ids 削除するタスクのIDのリスト
+     * @return 削除件数
+     * @throws com.example.taskmanager.common.exception.InvalidRequestException 対象のIDがない・上限を超える場合
+     */
+    int bulkDelete(List<Long> ids);
+
     /**
      * 全カテゴリーを表示順で取得する.
      *
@@ -1,47 +1,96 @@
 package com.example.taskmanager.task.service;
 
+import com.example.taskmanager.common.cache.CategoryCache;
 import com.example.taskmanager.common.entity.Task;
 import com.example.taskmanager.common.entity.TaskCategory;
-import com.example.taskmanager.common.entity.TaskCategoryExample;
-import com.example.taskmanager.common.enums.TaskPriority;
-import com.example.taskmanager.common.enums.TaskStatus;
+import com.example.taskmanager.common.event.TaskBulkChangedEvent;
+import com.example.taskmanager.common.event.TaskChangedEvent;
+import com.example.taskmanager.common.exception.InvalidRequestException;
+import com.example.taskmanager.common.exception.TaskConflictException;
 import com.example.taskmanager.common.exception.TaskNotFoundException;
-import com.example.taskmanager.common.mapper.TaskCategoryMapper;
+import com.example.taskmanager.common.history.HistoryEntityType;
+import com.example.taskmanager.common.history.TaskHistoryDto;
+import com.example.taskmanager.common.history.TaskHistoryMapper;
 import com.example.taskmanager.common.mapper.TaskMapper;
 import com.example.taskmanager.task.converter.TaskConverter;
+import com.example.taskmanager.task.dto.TaskCountDto;
 import com.example.taskmanager.task.dto.TaskDto;
+import com.example.taskmanager.task.dto.TaskListItemDto;
+import com.example.taskmanager.task.form.TaskBulkForm;
 import com.example.taskmanager.task.form.TaskForm;
 import com.example.taskmanager.task.mapper.TaskCustomMapper;
+import com.example.taskmanager.task.model.TaskCursor;
+import com.example.taskmanager.task.model.TaskDueRange;
+import com.example.taskmanager.task.model.TaskPage;
+import com.example.taskmanager.task.model.TaskSearchCondition;
+import com.example.taskmanager.task.model.TaskValidator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.ibatis.cursor.Cursor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.function.Consumer;
 
 /**
  * タスク管理のサービス実装クラス.
  *
  * <p>タスクのCRUD操作およびカテゴリー取得機能を提供する。
- * トランザクション管理を行い、データの整合性を保証する。</p>
+ * トランザクション管理を行い、データの整合性を保証する。
+ * 登録・更新・削除時は{@link TaskChangedEvent}を、一括変更・一括削除時は{@link TaskBulkChangedEvent}を発行する。</p>
+ *
+ * <p>カテゴリーのタスク件数（task_categories.task_count）は、タスクの変更と同じトランザクションで加減算する。</p>
  */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class TaskServiceImpl implements TaskService {
 
+    /** 全文検索結果をDBから取得する際の1回あたりのID数 */
+    private static final int SEARCH_FETCH_SIZE = 500;
+
     /** タスクマッパー（自動生成） */
     private final TaskMapper taskMapper;
 
     /** タスクカスタムマッパー */
     private final TaskCustomMapper taskCustomMapper;
 
-    /** カテゴリーマッパー */
-    private final TaskCategoryMapper taskCategoryMapper;
+    /** カテゴリーキャッシュ */
+    private final CategoryCache categoryCache;
 
     /** タスクコンバーター */
     private final TaskConverter taskConverter;
 
+    /** タスク件数表 */
+    private final TaskCountTable taskCountTable;
+
+    /** タスク全文検索インデックス */
+    private final TaskSearchIndex taskSearchIndex;
+
+    /** タスク変更の追跡 */
+    private final TaskChangeTracker taskChangeTracker;
+
+    /** タスク詳細のキャッシュ */
+    private final TaskDetailCache taskDetailCache;
+
+    /** 変更履歴マッパー */
+    private final TaskHistoryMapper taskHistoryMapper;
+
+    /** イベント発行 */
+    private final ApplicationEventPublisher eventPublisher;
+
     /**
      * 全タスクを取得する.
      *
@@ -54,44 +103,267 @@ public class TaskServiceImpl implements TaskService {
         return taskCustomMapper.selectAllWithCategory();
     }
 
+    /**
+     * 全タスクを作成日時の降順で1件ずつ処理する.
+     *
+     * <p>MyBatisのCursorで読み出し、トランザクション終了前にクローズする。</p>
+     *
+     * @param action 各タスクDTOに対する処理
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public void forEachTask(Consumer<TaskDto> action) {
+        log.debug("Iterating all tasks with category");
+        try (Cursor<TaskDto> cursor = taskCustomMapper.selectAllWithCategoryCursor()) {
+            cursor.forEach(action);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
     /**
      * 条件を指定してタスクを検索する.
      *
-     * @param status     ステータス（nullの場合は条件なし）
-     * @param priority   優先度（nullの場合は条件なし）
-     * @param categoryId カテゴリーID（nullの場合は条件なし）
+     * @param condition 検索条件（並び順を含む）
      * @return 条件に一致するタスクDTOのリスト
      */
     @Override
     @Transactional(readOnly = true)
-    public List<TaskDto> findByCondition(TaskStatus status, TaskPriority priority, Long categoryId) {
-        log.debug("Finding tasks by condition: status={}, priority={}, categoryId={}", status, priority, categoryId);
-        String statusStr = status != null ? status.name() : null;
-        String priorityStr = priority != null ? priority.name() : null;
-        return taskCustomMapper.selectByConditionWithCategory(statusStr, priorityStr, categoryId);
+    public List<TaskDto> findByCondition(TaskSearchCondition condition) {
+        log.debug("Finding tasks by condition: {}", condition);
+        return taskCustomMapper.selectByConditionWithCategory(condition);
+    }
+
+    /**
+     * 条件を指定してタスクを1ページ分取得する.
+     *
+     * <p>次ページの有無を判定するため、指定件数より1件多く取得する。</p>
+     *
+     * @param condition 検索条件（並び順を含む）
+     * @param cursor    直前ページのカーソル（先頭ページの場合はnull）
+     * @param size      1ページあたりの件数
+     * @return 1ページ分の検索結果
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public TaskPage findPage(TaskSearchCondition condition, TaskCursor cursor, int size) {
+        log.debug("Finding task page: condition={}, cursor={}, size={}", condition, cursor, size);
+        List<TaskListItemDto> rows = taskCustomMapper.selectListPage(condition,
+                cursor != null ? cursor.createdAt() : null,
+                cursor != null ? cursor.dueDate() : null,
+                cursor != null ? cursor.id() : null,
+                size + 1);
+        if (rows.size() <= size) {
+            return new TaskPage(rows, null);
+        }
+        List<TaskListItemDto> tasks = new ArrayList<>(rows.subList(0, size));
+        TaskListItemDto last = tasks.get(size - 1);
+        return new TaskPage(tasks, TaskCursor.of(condition.getSort(), last.getCreatedAt(), last.getDueDate(),
+                last.getId()));
+    }
+
+    /**
+     * 条件を指定してタスクを1ページ分、1件ずつ処理する.
+     *
+     * <p>MyBatisのCursorで指定件数より1件多く読み出し、超過した1件は処理せずに次ページの有無の判定にのみ使用する。</p>
+     *
+     * @param condition      検索条件（並び順を含む）
+     * @param cursor         直前ページのカーソル（先頭ページの場合はnull）
+     * @param size           1ページあたりの件数（1以上）
+     * @param includeDetails 説明・更新日時を取得する場合はtrue
+     * @param action         各タスクDTOに対する処理
+     * @return 次ページ取得用のカーソル（最終ページの場合はnull）
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public TaskCursor forEachInPage(TaskSearchCondition condition, TaskCursor cursor, int size,
+                                    boolean includeDetails, Consumer<TaskDto> action) {
+        log.debug("Iterating task page: condition={}, cursor={}, size={}, includeDetails={}",
+                condition, cursor, size, includeDetails);
+        try (Cursor<TaskDto> rows = taskCustomMapper.selectPageWithCategoryCursor(condition,
+                cursor != null ? cursor.createdAt() : null,
+                cursor != null ? cursor.dueDate() : null,
+                cursor != null ? cursor.id() : null,
+                size + 1, includeDetails)) {
+            int count = 0;
+            TaskDto last = null;
+            for (TaskDto task : rows) {
+                if (count == size) {
+                    return TaskCursor.of(condition.getSort(), last.getCreatedAt(), last.getDueDate(), last.getId());
+                }
+                action.accept(task);
+                last = task;
+                count++;
+            }
+            return null;
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    /**
+     * 期限日の範囲に該当する未完了のタスクを1ページ分取得する.
+     *
+     * <p>範囲を今日の日付から検索条件に変換し、{@link #findPage}で取得する。</p>
+     *
+     * @param range  抽出範囲（期限切れ・今日が期限・期限間近）
+     * @param days   期限間近の日数（範囲が期限間近の場合のみ使用する）
+     * @param cursor 直前ページのカーソル（先頭ページの場合はnull）
+     * @param size   1ページあたりの件数
+     * @return 1ページ分の検索結果
+     * @throws InvalidRequestException 期限間近の日数が範囲外の場合
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public TaskPage findDue(TaskDueRange range, int days, TaskCursor cursor, int size) {
+        return findPage(dueCondition(range, days), cursor, size);
+    }
+
+    /**
+     * 期限日の範囲に該当する未完了のタスクを1ページ分、1件ずつ処理する.
+     *
+     * @param range          抽出範囲（期限切れ・今日が期限・期限間近）
+     * @param days           期限間近の日数（範囲が期限間近の場合のみ使用する）
+     * @param cursor         直前ページのカーソル（先頭ページの場合はnull）
+     * @param size           1ページあたりの件数（1以上）
+     * @param includeDetails 説明・更新日時を取得する場合はtrue
+     * @param action         各タスクDTOに対する処理
+     * @return 次ページ取得用のカーソル（最終ページの場合はnull）
+     * @throws InvalidRequestException 期限間近の日数が範囲外の場合
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public TaskCursor forEachDue(TaskDueRange range, int days, TaskCursor cursor, int size,
+                                 boolean includeDetails, Consumer<TaskDto> action) {
+        return forEachInPage(dueCondition(range, days), cursor, size, includeDetails, action);
+    }
+
+    /**
+     * キーワードでタスクを全文検索する.
+     *
+     * <p>{@link TaskSearchIndex}で関連度順の候補のタスクIDを求め、上位から順に本文との照合と
+     * DBでの絞り込み条件の適用を行いながら取得する。</p>
+     *
+     * @param query     検索キーワード（空白区切りでAND検索）
+     * @param condition 絞り込み条件
+     * @param limit     取得件数の上限
+     * @return 検索結果の一覧表示用DTOのリスト
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<TaskListItemDto> search(String query, TaskSearchCondition condition, int limit) {
+        log.debug("Searching tasks: query={}, condition={}", query, condition);
+        List<Long> ids = taskSearchIndex.search(query);
+        List<TaskListItemDto> result = new ArrayList<>(Math.min(limit, ids.size()));
+        for (int from = 0; from < ids.size() && result.size() < limit; from += SEARCH_FETCH_SIZE) {
+            List<Long> chunk = taskSearchIndex.filterMatches(query,
+                    ids.subList(from, Math.min(from + SEARCH_FETCH_SIZE, ids.size())));
+            if (chunk.isEmpty()) {
+                continue;
+            }
+            Map<Long, TaskListItemDto> found = new HashMap<>();
+            for (TaskListItemDto task : taskCustomMapper.selectListItemsByIds(chunk, condition)) {
+                found.put(task.getId(), task);
+            }
+            for (Long id : chunk) {
+                TaskListItemDto task = found.get(id);
+                if (task != null && result.size() < limit) {
+                    result.add(task);
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * ステータス・優先度・カテゴリーごとのタスク件数を取得する.
+     *
+     * <p>件数表が有効な場合はメモリ上の件数を返し、無効な場合はDBで集計する。
+     * メモリ上の件数を返す場合に接続を取得しないよう、トランザクションは開始しない（DBアクセスは集計の1文のみ）。</p>
+     *
+     * @return 件数のリスト（0件の組み合わせは含まない）
+     */
+    @Override
+    public List<TaskCountDto> countTasks() {
+        log.debug("Counting tasks by status, priority and category");
+        if (taskCountTable.isEnabled()) {
+            return taskCountTable.getCounts();
+        }
+        return taskCustomMapper.countByStatusPriorityCategory();
     }
 
     /**
      * IDを指定してタスクを取得する.
      *
+     * <p>タスク詳細のキャッシュにある場合はDBにアクセスしない。
+     * キャッシュにない場合のみDBから取得してキャッシュに格納する。
+     * キャッシュのヒット時に接続を取得しないよう、トランザクションは開始しない（DBアクセスは1文のみ）。</p>
+     *
      * @param id タスクID
      * @return タスクDTO
      * @throws TaskNotFoundException タスクが見つからない場合
      */
     @Override
-    @Transactional(readOnly = true)
     public TaskDto findById(Long id) {
         log.debug("Finding task by id: {}", id);
+        TaskDto cached = taskDetailCache.get(id);
+        if (cached != null) {
+            return cached;
+        }
+        long generation = taskDetailCache.getGeneration();
         TaskDto task = taskCustomMapper.selectByIdWithCategory(id);
         if (task == null) {
             throw new TaskNotFoundException(id);
         }
+        taskDetailCache.put(task, generation);
         return task;
     }
 
+    /**
+     * タスク一覧画面の検証子を取得する.
+     *
+     * @return 検証子
+     */
+    @Override
+    public TaskValidator getListValidator() {
+        return taskChangeTracker.getListValidator();
+    }
+
+    /**
+     * タスク詳細画面の検証子を取得する.
+     *
+     * @param id タスクID
+     * @return 検証子（タスクが存在しない場合はnull）
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public TaskValidator getValidator(Long id) {
+        Task task = taskCustomMapper.selectVersionById(id);
+        if (task == null) {
+            return null;
+        }
+        return taskChangeTracker.getTaskValidator(task.getId(), task.getVersion(), task.getUpdatedAt());
+    }
+
+    /**
+     * タスクの変更履歴を新しい順に取得する.
+     *
+     * @param id    タスクID
+     * @param limit 取得する最大件数
+     * @return 変更履歴のリスト（新しい順）
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<TaskHistoryDto> findHistory(Long id, int limit) {
+        return taskHistoryMapper.selectByEntity(HistoryEntityType.TASK, id, limit);
+    }
+
     /**
      * タスクを新規作成する.
      *
+     * <p>作成日時・更新日時をアプリケーション側で設定して登録し、
+     * 返却するDTOは登録したエンティティとカテゴリーキャッシュから組み立てる（DBアクセスは登録とカテゴリーのタスク件数の加算のみ）。</p>
+     *
      * @param form タスクフォーム
      * @return 作成されたタスクDTO
      */
@@ -100,36 +372,60 @@ public class TaskServiceImpl implements TaskService {
     public TaskDto create(TaskForm form) {
         log.debug("Creating task: {}", form.getTitle());
         Task task = taskConverter.toEntity(form);
+        LocalDateTime now = now();
+        task.setCreatedAt(now);
+        task.setUpdatedAt(now);
+        task.setVersion(0);
         taskMapper.insertSelective(task);
+        moveCategoryTaskCount(null, task.getCategoryId());
         log.info("Task created: id={}", task.getId());
-        return taskCustomMapper.selectByIdWithCategory(task.getId());
+        TaskDto created = toDtoWithCategory(task);
+        eventPublisher.publishEvent(TaskChangedEvent.created(created));
+        return created;
     }
 
     /**
      * タスクを更新する.
      *
+     * <p>フォームのバージョンがDB上のバージョンと一致する場合のみ更新する（楽観ロック）。
+     * 更新と更新前の行の取得を1文で行い、競合がなければDBアクセスは1回のみとなる（カテゴリーを変更した場合はタスク件数の加減算を加える）。
+     * 更新前の行が返らない場合のみ存在確認を行い、未存在と競合を区別する。
+     * 返却するDTOは更新したエンティティとカテゴリーキャッシュから組み立てる。</p>
+     *
      * @param id   更新するタスクのID
      * @param form タスクフォーム
      * @return 更新されたタスクDTO
      * @throws TaskNotFoundException タスクが見つからない場合
+     * @throws TaskConflictException  編集開始後に他の更新が行われていた場合
      */
     @Override
     @Transactional
     public TaskDto update(Long id, TaskForm form) {
         log.debug("Updating task: id={}", id);
-        Task existingTask = taskMapper.selectByPrimaryKey(id);
+        Task task = taskConverter.toEntity(form);
+        task.setId(id);
+        task.setUpdatedAt(now());
+        Task existingTask = taskCustomMapper.updateReturningOld(task);
         if (existingTask == null) {
-            throw new TaskNotFoundException(id);
+            if (taskMapper.selectByPrimaryKey(id) == null) {
+                throw new TaskNotFoundException(id);
+            }
+            throw new TaskConflictException(id);
         }
-        taskConverter.updateEntity(form, existingTask);
-        taskMapper.updateByPrimaryKeySelective(existingTask);
+        moveCategoryTaskCount(existingTask.getCategoryId(), task.getCategoryId());
+        task.setCreatedAt(existingTask.getCreatedAt());
+        task.setVersion(existingTask.getVersion() + 1);
         log.info("Task updated: id={}", id);
-        return taskCustomMapper.selectByIdWithCategory(id);
+        TaskDto updated = toDtoWithCategory(task);
+        eventPublisher.publishEvent(TaskChangedEvent.updated(toDtoWithCategory(existingTask), updated));
+        return updated;
     }
 
     /**
      * タスクを削除する.
      *
+     * <p>削除と削除前の行の取得を1文で行う（DBアクセスは削除とカテゴリーのタスク件数の減算のみ）。</p>
+     *
      * @param id 削除するタスクのID
      * @throws TaskNotFoundException タスクが見つからない場合
      */
@@ -137,25 +433,200 @@ public class TaskServiceImpl implements TaskService {
     @Transactional
     public void delete(Long id) {
         log.debug("Deleting task: id={}", id);
-        Task existingTask = taskMapper.selectByPrimaryKey(id);
+        Task existingTask = taskCustomMapper.deleteReturningOld(id);
         if (existingTask == null) {
             throw new TaskNotFoundException(id);
         }
-        taskMapper.deleteByPrimaryKey(id);
+        moveCategoryTaskCount(existingTask.getCategoryId(), null);
         log.info("Task deleted: id={}", id);
+        eventPublisher.publishEvent(TaskChangedEvent.deleted(toDtoWithCategory(existingTask)));
+    }
+
+    /**
+     * 複数のタスクのステータス・優先度・カテゴリーをまとめて変更する.
+     *
+     * <p>{@code UPDATE ... WHERE id IN (...)}の1文で更新するため、件数に関わらずDBアクセスの回数は一定となる。
+     * カテゴリーを変更する場合は、更新と更新前のカテゴリーの取得を1文で行い（OLD TABLE）、
+     * 更新前後のカテゴリーのタスク件数の加減算をカテゴリーごとに加える。
+     * 更新と同じ文で更新前のカテゴリーを取得するため、同時に行われた他の更新によるカテゴリーの変更と食い違わない。
+     * 変更内容は{@link TaskBulkChangedEvent}（対象のIDのみ）で通知する。</p>
+     *
+     * @param form 一括変更フォーム（nullの項目は変更しない）
+     * @return 更新件数
+     * @throws InvalidRequestException 対象のIDがない・上限を超える場合、変更する項目がない場合、カテゴリーが存在しない場合
+     */
+    @Override
+    @Transactional
+    public int bulkUpdate(TaskBulkForm form) {
+        List<Long> ids = normalizeIds(form.getIds());
+        if (!form.hasChanges()) {
+            throw new InvalidRequestException("変更する項目を指定してください");
+        }
+        if (!form.isClearCategory() && form.getCategoryId() != null
+                && categoryCache.findById(form.getCategoryId()) == null) {
+            throw new InvalidRequestException("カテゴリーが存在しません: " + form.getCategoryId());
+        }
+        log.debug("Bulk updating tasks: ids={}, status={}, priority={}, categoryId={}, clearCategory={}",
+                ids.size(), form.getStatus(), form.getPriority(), form.getCategoryId(), form.isClearCategory());
+        int updated;
+        if (form.isClearCategory() || form.getCategoryId() != null) {
+            List<Task> oldRows = taskCustomMapper.bulkUpdateReturningOld(ids, form.getStatus(), form.getPriority(),
+                    form.getCategoryId(), form.isClearCategory(), now());
+            moveCategoryTaskCounts(oldRows, form.isClearCategory() ? null : form.getCategoryId());
+            updated = oldRows.size();
+        } else {
+            updated = taskCustomMapper.bulkUpdate(ids, form.getStatus(), form.getPriority(), null, false, now());
+        }
+        log.info("Tasks bulk updated: requested={}, updated={}", ids.size(), updated);
+        if (updated > 0) {
+            eventPublisher.publishEvent(TaskBulkChangedEvent.updated(ids, updated));
+        }
+        return updated;
+    }
+
+    /**
+     * 複数のタスクをまとめて削除する.
+     *
+     * <p>{@code DELETE ... WHERE id IN (...)}の1文で削除と削除前のカテゴリーの取得を行い（OLD TABLE）、
+     * 削除前のカテゴリーのタスク件数の減算をカテゴリーごとに加える。</p>
+     *
+     * @param ids 削除するタスクのIDのリスト
+     * @return 削除件数
+     * @throws InvalidRequestException 対象のIDがない・上限を超える場合
+     */
+    @Override
+    @Transactional
+    public int bulkDelete(List<Long> ids) {
+        List<Long> targets = normalizeIds(ids);
+        log.debug("Bulk deleting tasks: ids={}", targets.size());
+        List<Task> oldRows = taskCustomMapper.bulkDeleteReturningOld(targets);
+        moveCategoryTaskCounts(oldRows, null);
+        int deleted = oldRows.size();
+        log.info("Tasks bulk deleted: requested={}, deleted={}", targets.size(), deleted);
+        if (deleted > 0) {
+            eventPublisher.publishEvent(TaskBulkChangedEvent.deleted(targets, deleted));
+        }
+        return deleted;
     }
 
     /**
      * 全カテゴリーを表示順で取得する.
      *
-     * @return カテゴリーエンティティのリスト
+     * <p>{@link CategoryCache}のスナップショットを返すため、返却値は変更しないこと。</p>
+     *
+     * @return カテゴリーエンティティの不変リスト
      */
     @Override
-    @Transactional(readOnly = true)
     public List<TaskCategory> findAllCategories() {
         log.debug("Finding all categories");
-        TaskCategoryExample example = new TaskCategoryExample();
-        example.setOrderByClause("DISPLAY_ORDER ASC");
-        return taskCategoryMapper.selectByExample(example);
+        return categoryCache.findAll();
+    }
+
+    /**
+     * タスクエンティティをカテゴリー情報付きのDTOに変換する.
+     *
+     * <p>カテゴリー名・色はカテゴリーキャッシュから設定する。</p>
+     *
+     * @param task タスクエンティティ
+     * @return カテゴリー情報付きTaskDto
+     */
+    private TaskDto toDtoWithCategory(Task task) {
+        TaskDto dto = taskConverter.toDto(task);
+        if (task.getCategoryId() != null) {
+            TaskCategory category = categoryCache.findById(task.getCategoryId());
+            if (category != null) {
+                dto.setCategoryName(category.getName());
+                dto.setCategoryColor(category.getColor());
+            }
+        }
+        return dto;
+    }
+
+    /**
+     * 一括変更・一括削除の変更前の行から、カテゴリーのタスク件数をカテゴリーごとにまとめて加減算する.
+     *
+     * <p>同時に行われる他の一括変更とロックの順序が食い違わないよう、カテゴリーIDの昇順で更新する。</p>
+     *
+     * @param oldRows 変更前の行（カテゴリーIDのみ使用する）
+     * @param to      変更後のカテゴリーID（削除の場合・未分類にする場合はnull）
+     */
+    private void moveCategoryTaskCounts(List<Task> oldRows, Long to) {
+        Map<Long, Integer> deltas = new TreeMap<>();
+        for (Task oldRow : oldRows) {
+            if (oldRow.getCategoryId() != null) {
+                deltas.merge(oldRow.getCategoryId(), -1, Integer::sum);
+            }
+            if (to != null) {
+                deltas.merge(to, 1, Integer::sum);
+            }
+        }
+        deltas.forEach((categoryId, delta) -> {
+            if (delta != 0) {
+                taskCustomMapper.addCategoryTaskCount(categoryId, delta);
+            }
+        });
+    }
+
+    /**
+     * タスク1件のカテゴリーの変更に合わせて、カテゴリーのタスク件数を加減算する.
+     *
+     * @param from 変更前のカテゴリーID（登録の場合・未分類の場合はnull）
+     * @param to   変更後のカテゴリーID（削除の場合・未分類の場合はnull）
+     */
+    private void moveCategoryTaskCount(Long from, Long to) {
+        if (Objects.equals(from, to)) {
+            return;
+        }
+        if (from != null) {
+            taskCustomMapper.addCategoryTaskCount(from, -1);
+        }
+        if (to != null) {
+            taskCustomMapper.addCategoryTaskCount(to, 1);
+        }
+    }
+
+    /**
+     * 一括変更・一括削除の対象のIDからnullと重複を取り除く.
+     *
+     * @param ids 対象のタスクID
+     * @return 重複のないタスクIDのリスト
+     * @throws InvalidRequestException 対象のIDがない・上限を超える場合
+     */
+    private List<Long> normalizeIds(List<Long> ids) {
+        List<Long> result = ids == null ? List.of() : ids.stream().filter(Objects::nonNull).distinct().toList();
+        if (result.isEmpty()) {
+            throw new InvalidRequestException("対象のタスクを指定してください");
+        }
+        if (result.size() > TaskBulkForm.MAX_IDS) {
+            throw new InvalidRequestException("一度に変更できるタスクは" + TaskBulkForm.MAX_IDS + "件までです: "
+                    + result.size());
+        }
+        return result;
+    }
+
+    /**
+     * 期限日の範囲を今日の日付から検索条件に変換する.
+     *
+     * @param range 抽出範囲
+     * @param days  期限間近の日数
+     * @return 検索条件
+     * @throws InvalidRequestException 範囲が期限間近で、日数が範囲外の場合
+     */
+    private TaskSearchCondition dueCondition(TaskDueRange range, int days) {
+        if (range == TaskDueRange.SOON && (days < 1 || days > TaskDueRange.MAX_DAYS)) {
+            throw new InvalidRequestException("daysは1以上" + TaskDueRange.MAX_DAYS + "以下で指定してください: " + days);
+        }
+        return range.toCondition(LocalDate.now(), days);
+    }
+
+    /**
+     * 作成日時・更新日時に設定する現在日時を取得する.
+     *
+     * <p>DBのTIMESTAMP型の精度に合わせてマイクロ秒で切り捨てる。</p>
+     *
+     * @return 現在日時
+     */
+    private LocalDateTime now() {
+        return LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
     }
 }
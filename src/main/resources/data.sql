@@ -12,3 +12,7 @@ INSERT INTO tasks (title, description, status, priority, category_id, due_date)
 ('ドキュメント更新', 'API仕様書を最新版に更新', 'DONE', 'LOW', 1, '2025-12-01'),
 ('バグ修正 #123', 'ログイン画面のバリデーションエラーを修正', 'TODO', 'HIGH', 1, '2025-12-20'),
 ('ユニットテスト作成', 'サービス層のテストカバレッジを向上', 'IN_PROGRESS', 'MEDIUM', 3, '2025-12-25');
+
+-- カテゴリーごとのタスク件数
+UPDATE task_categories c
+SET task_count = (SELECT COUNT(*) FROM tasks t WHERE t.category_id = c.id);
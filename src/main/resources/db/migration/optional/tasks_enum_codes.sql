@@ -0,0 +1,27 @@
+-- tasks の status・priority を定数名（VARCHAR）から序数（SMALLINT）に変換する（任意）
+-- 適用後は app.schema.enum-storage=CODE で起動すること。
+-- 値は TaskStatus・TaskPriority の定数の序数と一致させる（定数を並べ替えた場合はここも変更する）。
+ALTER TABLE tasks ADD COLUMN status_code SMALLINT;
+ALTER TABLE tasks ADD COLUMN priority_code SMALLINT;
+
+UPDATE tasks SET
+    status_code = CASE status WHEN 'TODO' THEN 0 WHEN 'IN_PROGRESS' THEN 1 WHEN 'DONE' THEN 2 END,
+    priority_code = CASE priority WHEN 'LOW' THEN 0 WHEN 'MEDIUM' THEN 1 WHEN 'HIGH' THEN 2 END;
+
+DROP INDEX IF EXISTS idx_tasks_status;
+DROP INDEX IF EXISTS idx_tasks_priority;
+DROP INDEX IF EXISTS idx_tasks_status_created_at_id;
+DROP INDEX IF EXISTS idx_tasks_priority_created_at_id;
+DROP INDEX IF EXISTS idx_tasks_due_date_status;
+ALTER TABLE tasks DROP COLUMN status;
+ALTER TABLE tasks DROP COLUMN priority;
+
+ALTER TABLE tasks ALTER COLUMN status_code RENAME TO status;
+ALTER TABLE tasks ALTER COLUMN priority_code RENAME TO priority;
+ALTER TABLE tasks ALTER COLUMN status SET DEFAULT 0;
+ALTER TABLE tasks ALTER COLUMN status SET NOT NULL;
+ALTER TABLE tasks ALTER COLUMN priority SET DEFAULT 1;
+ALTER TABLE tasks ALTER COLUMN priority SET NOT NULL;
+
+CREATE INDEX IF NOT EXISTS idx_tasks_status_created_at_id ON tasks(status, created_at DESC, id DESC);
+CREATE INDEX IF NOT EXISTS idx_tasks_priority_created_at_id ON tasks(priority, created_at DESC, id DESC);
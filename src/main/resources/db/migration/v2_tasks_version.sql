@@ -0,0 +1,2 @@
+-- tasks テーブルに楽観ロック用のバージョン列を追加
+ALTER TABLE tasks ADD COLUMN IF NOT EXISTS version INT NOT NULL DEFAULT 0;
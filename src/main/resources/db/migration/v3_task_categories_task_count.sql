@@ -0,0 +1,5 @@
+-- task_categories にタスク件数列を追加し、既存のタスクから集計する
+ALTER TABLE task_categories ADD COLUMN IF NOT EXISTS task_count INT NOT NULL DEFAULT 0;
+
+UPDATE task_categories c
+SET task_count = (SELECT COUNT(*) FROM tasks t WHERE t.category_id = c.id);
@@ -0,0 +1,8 @@
+-- tasks の絞り込み用インデックスを、絞り込み列 + 既定の並び順（created_at DESC, id DESC）の複合インデックスに置き換える
+CREATE INDEX IF NOT EXISTS idx_tasks_status_created_at_id ON tasks(status, created_at DESC, id DESC);
+CREATE INDEX IF NOT EXISTS idx_tasks_priority_created_at_id ON tasks(priority, created_at DESC, id DESC);
+CREATE INDEX IF NOT EXISTS idx_tasks_category_created_at_id ON tasks(category_id, created_at DESC, id DESC);
+
+DROP INDEX IF EXISTS idx_tasks_status;
+DROP INDEX IF EXISTS idx_tasks_priority;
+DROP INDEX IF EXISTS idx_tasks_category_id;
@@ -0,0 +1,4 @@
+-- tasks の期限日インデックスを (due_date, status) の複合インデックスに置き換える
+CREATE INDEX IF NOT EXISTS idx_tasks_due_date_status ON tasks(due_date, status);
+
+DROP INDEX IF EXISTS idx_tasks_due_date;
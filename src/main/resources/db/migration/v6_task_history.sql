@@ -0,0 +1,12 @@
+-- タスク・カテゴリーの変更履歴テーブルを追加する
+CREATE TABLE IF NOT EXISTS task_history (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    entity_type VARCHAR(10) NOT NULL,
+    entity_id BIGINT,
+    change_type VARCHAR(10) NOT NULL,
+    version INT,
+    summary VARCHAR(1000) NOT NULL,
+    changed_at TIMESTAMP NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_task_history_entity ON task_history(entity_type, entity_id, id DESC);
@@ -0,0 +1,5 @@
+-- tasks の期限日インデックスを (due_date, status) から一覧の並び順と同じ (due_date NULLS LAST, id) に置き換える
+-- (due_date, status) は同じ期限日の中でステータス順に並ぶため、期限日順の先頭ページの取得で範囲全体の並べ替えが必要だった
+CREATE INDEX IF NOT EXISTS idx_tasks_due_date_id ON tasks(due_date NULLS LAST, id);
+
+DROP INDEX IF EXISTS idx_tasks_due_date_status;
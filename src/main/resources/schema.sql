@@ -6,7 +6,9 @@ CREATE TABLE IF NOT EXISTS task_categories (
     color VARCHAR(7) DEFAULT '#6c757d',
     display_order INT DEFAULT 0,
     created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
-    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    -- このカテゴリーのタスク件数（タスクの登録・更新・削除と同じトランザクションで加減算する）
+    task_count INT NOT NULL DEFAULT 0
 );
 
 -- タスクカテゴリーインデックス
@@ -24,11 +26,32 @@ CREATE TABLE IF NOT EXISTS tasks (
     due_date DATE,
     created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
     updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    version INT NOT NULL DEFAULT 0,
     CONSTRAINT fk_tasks_category FOREIGN KEY (category_id) REFERENCES task_categories(id) ON DELETE SET NULL
 );
 
 -- タスクインデックス作成
-CREATE INDEX IF NOT EXISTS idx_tasks_status ON tasks(status);
-CREATE INDEX IF NOT EXISTS idx_tasks_priority ON tasks(priority);
-CREATE INDEX IF NOT EXISTS idx_tasks_category_id ON tasks(category_id);
-CREATE INDEX IF NOT EXISTS idx_tasks_due_date ON tasks(due_date);
+-- 一覧の絞り込み用（絞り込み列 + 既定の並び順。値を1つ指定した場合は並べ替えなしで先頭から読める）
+CREATE INDEX IF NOT EXISTS idx_tasks_status_created_at_id ON tasks(status, created_at DESC, id DESC);
+CREATE INDEX IF NOT EXISTS idx_tasks_priority_created_at_id ON tasks(priority, created_at DESC, id DESC);
+CREATE INDEX IF NOT EXISTS idx_tasks_category_created_at_id ON tasks(category_id, created_at DESC, id DESC);
+-- 期限日による抽出用（期限切れ・今日が期限・期限間近。ORDER BY due_date ASC NULLS LAST, id ASC の順に格納し、
+-- 期限日の範囲を並べ替えなしで先頭から読みながら未完了かどうかを判定する）
+CREATE INDEX IF NOT EXISTS idx_tasks_due_date_id ON tasks(due_date NULLS LAST, id);
+-- 一覧のキーセットページング用（ORDER BY created_at DESC, id DESC）
+CREATE INDEX IF NOT EXISTS idx_tasks_created_at_id ON tasks(created_at DESC, id DESC);
+
+-- 変更履歴テーブル作成（タスク・カテゴリーの変更をコミット後に非同期で登録する。対象の削除後も保持するため外部キーは設定しない）
+CREATE TABLE IF NOT EXISTS task_history (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    entity_type VARCHAR(10) NOT NULL,
+    entity_id BIGINT,
+    change_type VARCHAR(10) NOT NULL,
+    version INT,
+    summary VARCHAR(1000) NOT NULL,
+    changed_at TIMESTAMP NOT NULL
+);
+
+-- 変更履歴インデックス作成
+-- 対象ごとの新しい順の取得用（詳細画面の変更履歴）
+CREATE INDEX IF NOT EXISTS idx_task_history_entity ON task_history(entity_type, entity_id, id DESC);
@@ -0,0 +1,67 @@
+package com.example.taskmanager.category.controller;
+
+import com.example.taskmanager.category.dto.CategoryDto;
+import com.example.taskmanager.category.service.CategoryService;
+import com.example.taskmanager.common.exception.CategoryNotFoundException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * CategoryApiControllerの単体テスト.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@DisplayName("CategoryApiControllerのテスト")
+class CategoryApiControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private CategoryService categoryService;
+
+    @Test
+    @DisplayName("全カテゴリーを返す")
+    void shouldReturnAllCategories() throws Exception {
+        // given
+        CategoryDto category = CategoryDto.builder()
+                .id(1L)
+                .name("仕事")
+                .color("#007bff")
+                .displayOrder(1)
+                .build();
+        when(categoryService.findAll()).thenReturn(List.of(category));
+
+        // when & then
+        mockMvc.perform(get("/api/v1/categories"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$[0].id").value(1))
+                .andExpect(jsonPath("$[0].name").value("仕事"));
+    }
+
+    @Test
+    @DisplayName("存在しないカテゴリーは404を返す")
+    void shouldReturnNotFound() throws Exception {
+        // given
+        when(categoryService.findById(999L)).thenThrow(new CategoryNotFoundException(999L));
+
+        // when & then
+        mockMvc.perform(get("/api/v1/categories/999"))
+                .andExpect(status().isNotFound())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_PROBLEM_JSON))
+                .andExpect(jsonPath("$.detail").value("カテゴリーが見つかりません: ID=999"));
+    }
+}
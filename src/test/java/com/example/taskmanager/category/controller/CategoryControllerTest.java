@@ -100,6 +100,37 @@ class CategoryControllerTest {
 
             verify(categoryService).findAll();
         }
+
+        @Test
+        @DisplayName("タスクが登録されているカテゴリーは削除ボタンを無効にする")
+        void shouldDisableDeleteForCategoryInUse() throws Exception {
+            // given
+            CategoryDto inUse = CategoryDto.builder()
+                    .id(1L)
+                    .name("仕事")
+                    .color("#007bff")
+                    .displayOrder(1)
+                    .taskCount(3)
+                    .build();
+            CategoryDto unused = CategoryDto.builder()
+                    .id(2L)
+                    .name("プライベート")
+                    .color("#28a745")
+                    .displayOrder(2)
+                    .taskCount(0)
+                    .build();
+            when(categoryService.findAll()).thenReturn(List.of(inUse, unused));
+
+            // when & then
+            mockMvc.perform(get("/categories"))
+                    .andExpect(status().isOk())
+                    .andExpect(content().string(containsString(">3</a>")))
+                    .andExpect(content().string(stringContainsInOrder(
+                            "data-id=\"1\"", "タスクが登録されているため削除できません", "disabled=\"disabled\"",
+                            "data-id=\"2\"")))
+                    .andExpect(content().string(not(stringContainsInOrder(
+                            "タスクが登録されているため削除できません", "タスクが登録されているため削除できません"))));
+        }
     }
 
     @Nested
@@ -4,8 +4,11 @@ import com.example.taskmanager.category.converter.CategoryConverter;
 import com.example.taskmanager.category.dto.CategoryDto;
 import com.example.taskmanager.category.form.CategoryForm;
 import com.example.taskmanager.category.mapper.CategoryCustomMapper;
+import com.example.taskmanager.common.cache.CategoryCache;
+import com.example.taskmanager.common.cache.CategoryTaskCountCache;
 import com.example.taskmanager.common.entity.TaskCategory;
-import com.example.taskmanager.common.entity.TaskCategoryExample;
+import com.example.taskmanager.common.event.CategoryChangedEvent;
+import com.example.taskmanager.common.event.ChangeType;
 import com.example.taskmanager.common.exception.CategoryInUseException;
 import com.example.taskmanager.common.exception.CategoryNotFoundException;
 import com.example.taskmanager.common.mapper.TaskCategoryMapper;
@@ -17,10 +20,12 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -43,6 +48,15 @@ class CategoryServiceImplTest {
     @Mock
     private CategoryConverter categoryConverter;
 
+    @Mock
+    private CategoryCache categoryCache;
+
+    @Mock
+    private CategoryTaskCountCache categoryTaskCountCache;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private CategoryServiceImpl categoryService;
 
@@ -93,11 +107,12 @@ class CategoryServiceImplTest {
             category2.setDisplayOrder(2);
 
             List<TaskCategory> categories = Arrays.asList(testCategory, category2);
-            when(taskCategoryMapper.selectByExample(any(TaskCategoryExample.class))).thenReturn(categories);
+            when(categoryCache.findAll()).thenReturn(categories);
             when(categoryConverter.toDtoList(categories)).thenReturn(
                     Arrays.asList(testCategoryDto,
                             CategoryDto.builder().id(2L).name("プライベート").displayOrder(2).build())
             );
+            when(categoryTaskCountCache.findAll()).thenReturn(Map.of(1L, 4));
 
             // when
             List<CategoryDto> result = categoryService.findAll();
@@ -106,15 +121,17 @@ class CategoryServiceImplTest {
             assertThat(result).hasSize(2);
             assertThat(result.get(0).getName()).isEqualTo("仕事");
             assertThat(result.get(1).getName()).isEqualTo("プライベート");
-            verify(taskCategoryMapper).selectByExample(any(TaskCategoryExample.class));
+            assertThat(result).extracting(CategoryDto::getTaskCount).containsExactly(4, 0);
+            verify(categoryCache).findAll();
             verify(categoryConverter).toDtoList(categories);
+            verifyNoInteractions(categoryCustomMapper);
         }
 
         @Test
         @DisplayName("カテゴリーが存在しない場合は空のリストを返す")
         void shouldReturnEmptyListWhenNoCategories() {
             // given
-            when(taskCategoryMapper.selectByExample(any(TaskCategoryExample.class))).thenReturn(List.of());
+            when(categoryCache.findAll()).thenReturn(List.of());
             when(categoryConverter.toDtoList(List.of())).thenReturn(List.of());
 
             // when
@@ -122,7 +139,7 @@ class CategoryServiceImplTest {
 
             // then
             assertThat(result).isEmpty();
-            verify(taskCategoryMapper).selectByExample(any(TaskCategoryExample.class));
+            verify(categoryCache).findAll();
         }
 
         @Test
@@ -145,7 +162,7 @@ class CategoryServiceImplTest {
             category3.setDisplayOrder(1);
 
             List<TaskCategory> categories = Arrays.asList(category1, category2, category3);
-            when(taskCategoryMapper.selectByExample(any(TaskCategoryExample.class))).thenReturn(categories);
+            when(categoryCache.findAll()).thenReturn(categories);
 
             CategoryDto dto1 = CategoryDto.builder().id(1L).name("仕事").displayOrder(1).build();
             CategoryDto dto2 = CategoryDto.builder().id(2L).name("プライベート").displayOrder(1).build();
@@ -157,7 +174,7 @@ class CategoryServiceImplTest {
 
             // then
             assertThat(result).hasSize(3);
-            verify(taskCategoryMapper).selectByExample(any(TaskCategoryExample.class));
+            verify(categoryCache).findAll();
             verify(categoryConverter).toDtoList(categories);
         }
     }
@@ -170,7 +187,7 @@ class CategoryServiceImplTest {
         @DisplayName("IDでカテゴリーを取得できる")
         void shouldReturnCategoryById() {
             // given
-            when(taskCategoryMapper.selectByPrimaryKey(1L)).thenReturn(testCategory);
+            when(categoryCache.findById(1L)).thenReturn(testCategory);
             when(categoryConverter.toDto(testCategory)).thenReturn(testCategoryDto);
 
             // when
@@ -180,7 +197,7 @@ class CategoryServiceImplTest {
             assertThat(result.getId()).isEqualTo(1L);
             assertThat(result.getName()).isEqualTo("仕事");
             assertThat(result.getColor()).isEqualTo("#007bff");
-            verify(taskCategoryMapper).selectByPrimaryKey(1L);
+            verify(categoryCache).findById(1L);
             verify(categoryConverter).toDto(testCategory);
         }
 
@@ -188,13 +205,13 @@ class CategoryServiceImplTest {
         @DisplayName("存在しないIDの場合は例外をスローする")
         void shouldThrowExceptionWhenCategoryNotFound() {
             // given
-            when(taskCategoryMapper.selectByPrimaryKey(999L)).thenReturn(null);
+            when(categoryCache.findById(999L)).thenReturn(null);
 
             // when & then
             assertThatThrownBy(() -> categoryService.findById(999L))
                     .isInstanceOf(CategoryNotFoundException.class)
                     .hasMessageContaining("999");
-            verify(taskCategoryMapper).selectByPrimaryKey(999L);
+            verify(categoryCache).findById(999L);
             verify(categoryConverter, never()).toDto(any());
         }
     }
@@ -220,6 +237,7 @@ class CategoryServiceImplTest {
             verify(categoryConverter).toEntity(testCategoryForm);
             verify(taskCategoryMapper).insertSelective(any(TaskCategory.class));
             verify(categoryConverter).toDto(testCategory);
+            verify(eventPublisher).publishEvent(new CategoryChangedEvent(1L, ChangeType.CREATED));
         }
     }
 
@@ -261,6 +279,7 @@ class CategoryServiceImplTest {
             verify(categoryConverter).updateEntity(any(CategoryForm.class), any(TaskCategory.class));
             verify(taskCategoryMapper).updateByPrimaryKeySelective(any(TaskCategory.class));
             verify(categoryConverter).toDto(testCategory);
+            verify(eventPublisher).publishEvent(new CategoryChangedEvent(1L, ChangeType.UPDATED));
         }
 
         @Test
@@ -286,31 +305,29 @@ class CategoryServiceImplTest {
         @DisplayName("カテゴリーを削除できる")
         void shouldDeleteCategory() {
             // given
-            when(taskCategoryMapper.selectByPrimaryKey(1L)).thenReturn(testCategory);
-            when(categoryCustomMapper.countTasksByCategoryId(1L)).thenReturn(0L);
+            when(categoryCustomMapper.selectTaskCountForUpdate(1L)).thenReturn(0);
             when(taskCategoryMapper.deleteByPrimaryKey(1L)).thenReturn(1);
 
             // when
             categoryService.delete(1L);
 
             // then
-            verify(taskCategoryMapper).selectByPrimaryKey(1L);
-            verify(categoryCustomMapper).countTasksByCategoryId(1L);
+            verify(categoryCustomMapper).selectTaskCountForUpdate(1L);
+            verify(taskCategoryMapper, never()).selectByPrimaryKey(anyLong());
             verify(taskCategoryMapper).deleteByPrimaryKey(1L);
+            verify(eventPublisher).publishEvent(new CategoryChangedEvent(1L, ChangeType.DELETED));
         }
 
         @Test
         @DisplayName("存在しないカテゴリーの削除は例外をスローする")
         void shouldThrowExceptionWhenDeletingNonExistentCategory() {
             // given
-            when(taskCategoryMapper.selectByPrimaryKey(999L)).thenReturn(null);
+            when(categoryCustomMapper.selectTaskCountForUpdate(999L)).thenReturn(null);
 
             // when & then
             assertThatThrownBy(() -> categoryService.delete(999L))
                     .isInstanceOf(CategoryNotFoundException.class)
                     .hasMessageContaining("999");
-            verify(taskCategoryMapper).selectByPrimaryKey(999L);
-            verify(categoryCustomMapper, never()).countTasksByCategoryId(anyLong());
             verify(taskCategoryMapper, never()).deleteByPrimaryKey(anyLong());
         }
 
@@ -318,15 +335,12 @@ class CategoryServiceImplTest {
         @DisplayName("使用中のカテゴリーの削除は例外をスローする")
         void shouldThrowExceptionWhenDeletingCategoryInUse() {
             // given
-            when(taskCategoryMapper.selectByPrimaryKey(1L)).thenReturn(testCategory);
-            when(categoryCustomMapper.countTasksByCategoryId(1L)).thenReturn(5L);
+            when(categoryCustomMapper.selectTaskCountForUpdate(1L)).thenReturn(5);
 
             // when & then
             assertThatThrownBy(() -> categoryService.delete(1L))
                     .isInstanceOf(CategoryInUseException.class)
                     .hasMessageContaining("使用中のため削除できません");
-            verify(taskCategoryMapper).selectByPrimaryKey(1L);
-            verify(categoryCustomMapper).countTasksByCategoryId(1L);
             verify(taskCategoryMapper, never()).deleteByPrimaryKey(anyLong());
         }
     }
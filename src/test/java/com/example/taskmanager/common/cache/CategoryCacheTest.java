@@ -0,0 +1,103 @@
+package com.example.taskmanager.common.cache;
+
+import com.example.taskmanager.common.entity.TaskCategory;
+import com.example.taskmanager.common.entity.TaskCategoryExample;
+import com.example.taskmanager.common.event.CategoryChangedEvent;
+import com.example.taskmanager.common.event.ChangeType;
+import com.example.taskmanager.common.mapper.TaskCategoryMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * CategoryCacheの単体テスト.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CategoryCacheのテスト")
+class CategoryCacheTest {
+
+    @Mock
+    private TaskCategoryMapper taskCategoryMapper;
+
+    @InjectMocks
+    private CategoryCache categoryCache;
+
+    private TaskCategory testCategory;
+
+    @BeforeEach
+    void setUp() {
+        testCategory = new TaskCategory();
+        testCategory.setId(1L);
+        testCategory.setName("仕事");
+        testCategory.setDisplayOrder(1);
+    }
+
+    @Test
+    @DisplayName("2回目以降の参照はDBにアクセスしない")
+    void shouldLoadOnlyOnce() {
+        // given
+        when(taskCategoryMapper.selectByExample(any(TaskCategoryExample.class))).thenReturn(List.of(testCategory));
+
+        // when
+        List<TaskCategory> first = categoryCache.findAll();
+        List<TaskCategory> second = categoryCache.findAll();
+        TaskCategory byId = categoryCache.findById(1L);
+
+        // then
+        assertThat(first).containsExactly(testCategory);
+        assertThat(second).isSameAs(first);
+        assertThat(byId).isSameAs(testCategory);
+        assertThat(categoryCache.getMissCount()).isEqualTo(1);
+        assertThat(categoryCache.getHitCount()).isEqualTo(2);
+        verify(taskCategoryMapper, times(1)).selectByExample(any(TaskCategoryExample.class));
+    }
+
+    @Test
+    @DisplayName("存在しないIDの場合はnullを返す")
+    void shouldReturnNullWhenNotFound() {
+        // given
+        when(taskCategoryMapper.selectByExample(any(TaskCategoryExample.class))).thenReturn(List.of(testCategory));
+
+        // when & then
+        assertThat(categoryCache.findById(999L)).isNull();
+    }
+
+    @Test
+    @DisplayName("カテゴリー変更イベントで破棄され再読み込みされる")
+    void shouldReloadAfterCategoryChanged() {
+        // given
+        when(taskCategoryMapper.selectByExample(any(TaskCategoryExample.class))).thenReturn(List.of(testCategory));
+        categoryCache.findAll();
+        long generation = categoryCache.getGeneration();
+
+        // when
+        categoryCache.onCategoryChanged(new CategoryChangedEvent(1L, ChangeType.UPDATED));
+        categoryCache.findAll();
+
+        // then
+        assertThat(categoryCache.getGeneration()).isEqualTo(generation + 1);
+        verify(taskCategoryMapper, times(2)).selectByExample(any(TaskCategoryExample.class));
+    }
+
+    @Test
+    @DisplayName("返却されるリストは変更できない")
+    void shouldReturnImmutableList() {
+        // given
+        when(taskCategoryMapper.selectByExample(any(TaskCategoryExample.class))).thenReturn(List.of(testCategory));
+
+        // when & then
+        assertThatThrownBy(() -> categoryCache.findAll().add(new TaskCategory()))
+                .isInstanceOf(UnsupportedOperationException.class);
+    }
+}
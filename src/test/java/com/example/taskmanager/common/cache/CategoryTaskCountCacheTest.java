@@ -0,0 +1,132 @@
+package com.example.taskmanager.common.cache;
+
+import com.example.taskmanager.category.dto.CategoryTaskCountDto;
+import com.example.taskmanager.category.mapper.CategoryCustomMapper;
+import com.example.taskmanager.common.enums.TaskStatus;
+import com.example.taskmanager.common.event.CategoryChangedEvent;
+import com.example.taskmanager.common.event.ChangeType;
+import com.example.taskmanager.common.event.TaskBulkChangedEvent;
+import com.example.taskmanager.common.event.TaskChangedEvent;
+import com.example.taskmanager.task.dto.TaskDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+/**
+ * CategoryTaskCountCacheの単体テスト.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CategoryTaskCountCacheのテスト")
+class CategoryTaskCountCacheTest {
+
+    @Mock
+    private CategoryCustomMapper categoryCustomMapper;
+
+    @InjectMocks
+    private CategoryTaskCountCache categoryTaskCountCache;
+
+    @Test
+    @DisplayName("2回目以降の参照はDBにアクセスしない")
+    void shouldLoadOnlyOnce() {
+        // given
+        when(categoryCustomMapper.selectTaskCounts()).thenReturn(
+                List.of(new CategoryTaskCountDto(1L, 4), new CategoryTaskCountDto(2L, 0)));
+
+        // when
+        Map<Long, Integer> first = categoryTaskCountCache.findAll();
+        Map<Long, Integer> second = categoryTaskCountCache.findAll();
+
+        // then
+        assertThat(first).containsExactlyInAnyOrderEntriesOf(Map.of(1L, 4, 2L, 0));
+        assertThat(second).isSameAs(first);
+        verify(categoryCustomMapper, times(1)).selectTaskCounts();
+    }
+
+    @Test
+    @DisplayName("カテゴリーが変わるタスクの変更でのみ破棄する")
+    void shouldInvalidateWhenTaskCategoryChanges() {
+        // given
+        when(categoryCustomMapper.selectTaskCounts()).thenReturn(List.of(new CategoryTaskCountDto(1L, 1)));
+        categoryTaskCountCache.findAll();
+
+        // when（カテゴリー以外の更新・未分類のタスクの登録）
+        categoryTaskCountCache.onTaskChanged(TaskChangedEvent.updated(task(1L, 1L), task(1L, 1L)));
+        categoryTaskCountCache.onTaskChanged(TaskChangedEvent.created(task(2L, null)));
+        categoryTaskCountCache.findAll();
+
+        // then
+        verify(categoryCustomMapper, times(1)).selectTaskCounts();
+
+        // when（カテゴリーの変更・カテゴリー付きのタスクの削除）
+        categoryTaskCountCache.onTaskChanged(TaskChangedEvent.updated(task(1L, 1L), task(1L, 2L)));
+        categoryTaskCountCache.findAll();
+        categoryTaskCountCache.onTaskChanged(TaskChangedEvent.deleted(task(1L, 2L)));
+        categoryTaskCountCache.findAll();
+
+        // then
+        verify(categoryCustomMapper, times(3)).selectTaskCounts();
+    }
+
+    @Test
+    @DisplayName("一括変更・カテゴリーの登録・削除で破棄し、カテゴリーの更新では破棄しない")
+    void shouldInvalidateOnBulkChangeAndCategoryChange() {
+        // given
+        when(categoryCustomMapper.selectTaskCounts()).thenReturn(List.of(new CategoryTaskCountDto(1L, 1)));
+        categoryTaskCountCache.findAll();
+
+        // when
+        categoryTaskCountCache.onTaskBulkChanged(TaskBulkChangedEvent.updated(List.of(), 0));
+        categoryTaskCountCache.onCategoryChanged(new CategoryChangedEvent(1L, ChangeType.UPDATED));
+        categoryTaskCountCache.findAll();
+
+        // then
+        verify(categoryCustomMapper, times(1)).selectTaskCounts();
+
+        // when
+        categoryTaskCountCache.onTaskBulkChanged(TaskBulkChangedEvent.created(List.of(3L, 4L), 2));
+        categoryTaskCountCache.findAll();
+        categoryTaskCountCache.onCategoryChanged(new CategoryChangedEvent(1L, ChangeType.DELETED));
+        categoryTaskCountCache.findAll();
+
+        // then
+        verify(categoryCustomMapper, times(3)).selectTaskCounts();
+    }
+
+    @Test
+    @DisplayName("読み込み中に破棄された場合は次回参照時に再読み込みする")
+    void shouldReloadWhenInvalidatedDuringLoad() {
+        // given（読み込み中に件数が変わるコミットが行われる）
+        when(categoryCustomMapper.selectTaskCounts())
+                .thenAnswer(invocation -> {
+                    categoryTaskCountCache.invalidate();
+                    return List.of(new CategoryTaskCountDto(1L, 1));
+                })
+                .thenReturn(List.of(new CategoryTaskCountDto(1L, 2)));
+
+        // when
+        Map<Long, Integer> first = categoryTaskCountCache.findAll();
+        Map<Long, Integer> second = categoryTaskCountCache.findAll();
+
+        // then
+        assertThat(first).containsEntry(1L, 1);
+        assertThat(second).containsEntry(1L, 2);
+    }
+
+    private static TaskDto task(Long id, Long categoryId) {
+        return TaskDto.builder()
+                .id(id)
+                .title("件数テスト")
+                .status(TaskStatus.TODO)
+                .categoryId(categoryId)
+                .build();
+    }
+}
@@ -0,0 +1,98 @@
+package com.example.taskmanager.common.config;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+/**
+ * ConcurrencyLimitingDataSourceの単体テスト.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ConcurrencyLimitingDataSourceのテスト")
+class ConcurrencyLimitingDataSourceTest {
+
+    @Mock
+    private DataSource targetDataSource;
+
+    @Mock
+    private Connection connection;
+
+    private ConcurrencyLimitingDataSource dataSource;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new ConcurrencyLimitingDataSource(targetDataSource, 2, Duration.ofMillis(50));
+    }
+
+    @Test
+    @DisplayName("接続のクローズ時に許可を返却する")
+    void shouldReleasePermitOnClose() throws SQLException {
+        // given
+        when(targetDataSource.getConnection()).thenReturn(connection);
+
+        // when
+        Connection first = dataSource.getConnection();
+        Connection second = dataSource.getConnection();
+
+        // then
+        assertThat(dataSource.getAvailablePermits()).isZero();
+        first.close();
+        first.close();
+        assertThat(dataSource.getAvailablePermits()).isEqualTo(1);
+        second.close();
+        assertThat(dataSource.getAvailablePermits()).isEqualTo(2);
+        verify(connection, times(3)).close();
+    }
+
+    @Test
+    @DisplayName("上限に達している場合は待機時間後に例外をスローする")
+    void shouldThrowWhenLimitReached() throws SQLException {
+        // given
+        when(targetDataSource.getConnection()).thenReturn(connection);
+        dataSource.getConnection();
+        dataSource.getConnection();
+
+        // when & then
+        assertThatThrownBy(() -> dataSource.getConnection())
+                .isInstanceOf(SQLTransientConnectionException.class);
+        verify(targetDataSource, times(2)).getConnection();
+    }
+
+    @Test
+    @DisplayName("接続の取得に失敗した場合は許可を返却する")
+    void shouldReleasePermitWhenTargetFails() throws SQLException {
+        // given
+        when(targetDataSource.getConnection()).thenThrow(new SQLException("down"));
+
+        // when & then
+        assertThatThrownBy(() -> dataSource.getConnection()).isInstanceOf(SQLException.class);
+        assertThat(dataSource.getAvailablePermits()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("close以外の呼び出しは委譲先に渡す")
+    void shouldDelegateOtherMethods() throws SQLException {
+        // given
+        when(targetDataSource.getConnection()).thenReturn(connection);
+        when(connection.getAutoCommit()).thenReturn(true);
+
+        // when
+        Connection limited = dataSource.getConnection();
+
+        // then
+        assertThat(limited.getAutoCommit()).isTrue();
+    }
+}
@@ -0,0 +1,88 @@
+package com.example.taskmanager.common.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * SchemaVersionInitializerの単体テスト.
+ */
+@DisplayName("SchemaVersionInitializerのテスト")
+class SchemaVersionInitializerTest {
+
+    private DriverManagerDataSource dataSource;
+
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new DriverManagerDataSource("jdbc:h2:mem:schema_version_test;DB_CLOSE_DELAY=-1", "sa", "");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.execute("DROP ALL OBJECTS");
+    }
+
+    @Test
+    @DisplayName("初回起動時のみスキーマと初期データを投入する")
+    void shouldApplyScriptsOnlyOnce() {
+        // given
+        SchemaVersionInitializer initializer = new SchemaVersionInitializer(dataSource, new DefaultResourceLoader());
+
+        // when
+        initializer.afterPropertiesSet();
+        Integer tasksAfterFirstBoot = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM tasks", Integer.class);
+        jdbcTemplate.update("DELETE FROM tasks");
+        initializer.afterPropertiesSet();
+
+        // then
+        assertThat(tasksAfterFirstBoot).isPositive();
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM tasks", Integer.class)).isZero();
+        assertThat(jdbcTemplate.queryForObject("SELECT MAX(version) FROM schema_version", Integer.class))
+                .isEqualTo(SchemaVersionInitializer.MIGRATIONS.get(SchemaVersionInitializer.MIGRATIONS.size() - 1)
+                        .version());
+    }
+
+    @Test
+    @DisplayName("バージョン1のDBにはtasksのバージョン列・カテゴリーのタスク件数列・絞り込み用・期限日の複合インデックス・変更履歴テーブルを追加する")
+    void shouldMigrateVersionOneDatabase() {
+        // given
+        jdbcTemplate.execute("CREATE TABLE schema_version (version INT PRIMARY KEY,"
+                + " description VARCHAR(200) NOT NULL,"
+                + " installed_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP)");
+        jdbcTemplate.update("INSERT INTO schema_version (version, description) VALUES (1, 'v1')");
+        jdbcTemplate.execute("CREATE TABLE task_categories (id BIGINT PRIMARY KEY, name VARCHAR(50) NOT NULL)");
+        jdbcTemplate.update("INSERT INTO task_categories (id, name) VALUES (1, '仕事'), (2, '学習')");
+        jdbcTemplate.execute("CREATE TABLE tasks (id BIGINT AUTO_INCREMENT PRIMARY KEY, title VARCHAR(100) NOT NULL,"
+                + " status VARCHAR(20) NOT NULL DEFAULT 'TODO', priority VARCHAR(10) NOT NULL DEFAULT 'MEDIUM',"
+                + " category_id BIGINT, due_date DATE, created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP)");
+        jdbcTemplate.execute("CREATE INDEX idx_tasks_status ON tasks(status)");
+        jdbcTemplate.execute("CREATE INDEX idx_tasks_due_date ON tasks(due_date)");
+        jdbcTemplate.update("INSERT INTO tasks (title, category_id) VALUES ('既存タスク', 1), ('既存タスク2', 1)");
+        SchemaVersionInitializer initializer = new SchemaVersionInitializer(dataSource, new DefaultResourceLoader());
+
+        // when
+        initializer.afterPropertiesSet();
+
+        // then
+        assertThat(jdbcTemplate.queryForList("SELECT version FROM tasks", Integer.class)).containsOnly(0);
+        assertThat(jdbcTemplate.queryForList("SELECT task_count FROM task_categories ORDER BY id", Integer.class))
+                .containsExactly(2, 0);
+        assertThat(jdbcTemplate.queryForList("SELECT LOWER(index_name) FROM information_schema.indexes"
+                + " WHERE LOWER(table_name) = 'tasks'", String.class))
+                .contains("idx_tasks_status_created_at_id", "idx_tasks_category_created_at_id",
+                        "idx_tasks_due_date_id")
+                .doesNotContain("idx_tasks_status", "idx_tasks_due_date", "idx_tasks_due_date_status");
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM task_history", Integer.class)).isZero();
+        assertThat(jdbcTemplate.queryForObject("SELECT MAX(version) FROM schema_version", Integer.class))
+                .isEqualTo(7);
+    }
+}
@@ -0,0 +1,72 @@
+package com.example.taskmanager.common.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * WebResourceConfigのテスト.
+ *
+ * <p>事前圧縮ファイル（.gz）はMavenのprocess-resourcesで生成されるため、Maven経由で実行すること。</p>
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@DisplayName("WebResourceConfigのテスト")
+class WebResourceConfigTest {
+
+    private static final String BOOTSTRAP_CSS = "/webjars/bootstrap/css/bootstrap.min.css";
+
+    /** 画面に出力されるBootstrapのCSSのURL（WebJarsのバージョンと内容のハッシュ付き） */
+    private static final Pattern VERSIONED_BOOTSTRAP_CSS =
+            Pattern.compile("/webjars/bootstrap/[0-9][^/]*/css/bootstrap\\.min-[0-9a-f]{32}\\.css");
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    @DisplayName("WebJarsに1年間・immutableのキャッシュヘッダーを付与する")
+    void shouldServeWebJarsWithImmutableCacheControl() throws Exception {
+        mockMvc.perform(get(BOOTSTRAP_CSS))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, containsString("max-age=31536000")))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, containsString("public")))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, containsString("immutable")));
+    }
+
+    @Test
+    @DisplayName("gzipを受け入れるクライアントには事前圧縮したファイルを返す")
+    void shouldServePrecompressedGzip() throws Exception {
+        mockMvc.perform(get(BOOTSTRAP_CSS).header(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                .andExpect(header().string(HttpHeaders.VARY, containsString("Accept-Encoding")));
+    }
+
+    @Test
+    @DisplayName("画面のWebJarsのURLにバージョンと内容のハッシュを付与し、そのURLで取得できる")
+    void shouldVersionWebJarUrlsInPages() throws Exception {
+        // when
+        String html = mockMvc.perform(get("/categories"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        // then
+        Matcher matcher = VERSIONED_BOOTSTRAP_CSS.matcher(html);
+        assertThat(matcher.find()).isTrue();
+        mockMvc.perform(get(matcher.group()))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, containsString("immutable")));
+    }
+}
@@ -0,0 +1,161 @@
+package com.example.taskmanager.common.history;
+
+import com.example.taskmanager.common.enums.TaskPriority;
+import com.example.taskmanager.common.enums.TaskStatus;
+import com.example.taskmanager.common.event.CategoryChangedEvent;
+import com.example.taskmanager.common.event.ChangeType;
+import com.example.taskmanager.common.event.TaskBulkChangedEvent;
+import com.example.taskmanager.common.event.TaskChangedEvent;
+import com.example.taskmanager.task.dto.TaskDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * TaskHistoryRecorderの単体テスト.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TaskHistoryRecorderのテスト")
+class TaskHistoryRecorderTest {
+
+    @Mock
+    private TaskHistoryWriter taskHistoryWriter;
+
+    @Captor
+    private ArgumentCaptor<List<TaskHistoryDto>> entriesCaptor;
+
+    private TaskHistoryProperties properties;
+
+    private TaskHistoryRecorder recorder;
+
+    private TaskDto task;
+
+    @BeforeEach
+    void setUp() {
+        properties = new TaskHistoryProperties();
+        recorder = new TaskHistoryRecorder(properties, taskHistoryWriter);
+        task = TaskDto.builder()
+                .id(1L)
+                .title("履歴テスト")
+                .description("説明")
+                .status(TaskStatus.TODO)
+                .priority(TaskPriority.MEDIUM)
+                .categoryId(1L)
+                .categoryName("仕事")
+                .dueDate(LocalDate.of(2025, 12, 31))
+                .version(0)
+                .build();
+    }
+
+    @Test
+    @DisplayName("タスクの更新は変更された項目を要約に記録する")
+    void shouldSummarizeChangedFields() {
+        // given
+        TaskDto after = TaskDto.builder()
+                .id(1L)
+                .title("履歴テスト")
+                .description("説明")
+                .status(TaskStatus.IN_PROGRESS)
+                .priority(TaskPriority.MEDIUM)
+                .dueDate(LocalDate.of(2026, 1, 15))
+                .version(1)
+                .build();
+
+        // when
+        recorder.onTaskChanged(TaskChangedEvent.updated(task, after));
+
+        // then
+        verify(taskHistoryWriter).enqueue(entriesCaptor.capture());
+        assertThat(entriesCaptor.getValue()).singleElement().satisfies(entry -> {
+            assertThat(entry.getEntityType()).isEqualTo(HistoryEntityType.TASK);
+            assertThat(entry.getEntityId()).isEqualTo(1L);
+            assertThat(entry.getChangeType()).isEqualTo(ChangeType.UPDATED);
+            assertThat(entry.getVersion()).isEqualTo(1);
+            assertThat(entry.getSummary())
+                    .isEqualTo("ステータス: 未着手 → 進行中、カテゴリー: 仕事 → なし、期限: 2025/12/31 → 2026/01/15");
+            assertThat(entry.getChangedAt()).isNotNull();
+        });
+    }
+
+    @Test
+    @DisplayName("タスクの削除はタイトルと削除前のバージョンを記録する")
+    void shouldRecordDeletedTask() {
+        // when
+        recorder.onTaskChanged(TaskChangedEvent.deleted(task));
+
+        // then
+        verify(taskHistoryWriter).enqueue(entriesCaptor.capture());
+        assertThat(entriesCaptor.getValue()).singleElement().satisfies(entry -> {
+            assertThat(entry.getChangeType()).isEqualTo(ChangeType.DELETED);
+            assertThat(entry.getVersion()).isZero();
+            assertThat(entry.getSummary()).isEqualTo("「履歴テスト」を削除");
+        });
+    }
+
+    @Test
+    @DisplayName("一括変更・一括取込は対象のタスクIDごとに記録する")
+    void shouldRecordBulkChanges() {
+        // when
+        recorder.onTaskBulkChanged(TaskBulkChangedEvent.deleted(List.of(1L, 2L, 3L), 3));
+        recorder.onTaskBulkChanged(TaskBulkChangedEvent.created(List.of(10L, 11L), 2));
+
+        // then
+        verify(taskHistoryWriter, times(2)).enqueue(entriesCaptor.capture());
+        assertThat(entriesCaptor.getAllValues().get(0))
+                .extracting(TaskHistoryDto::getEntityId, TaskHistoryDto::getSummary)
+                .containsExactly(
+                        tuple(1L, "一括削除"),
+                        tuple(2L, "一括削除"),
+                        tuple(3L, "一括削除"));
+        assertThat(entriesCaptor.getAllValues().get(1))
+                .extracting(TaskHistoryDto::getEntityId, TaskHistoryDto::getChangeType, TaskHistoryDto::getSummary)
+                .containsExactly(
+                        tuple(10L, ChangeType.CREATED, "一括登録"),
+                        tuple(11L, ChangeType.CREATED, "一括登録"));
+    }
+
+    @Test
+    @DisplayName("カテゴリーの変更を記録する")
+    void shouldRecordCategoryChange() {
+        // when
+        recorder.onCategoryChanged(new CategoryChangedEvent(2L, ChangeType.UPDATED));
+
+        // then
+        verify(taskHistoryWriter).enqueue(entriesCaptor.capture());
+        assertThat(entriesCaptor.getValue()).singleElement().satisfies(entry -> {
+            assertThat(entry.getEntityType()).isEqualTo(HistoryEntityType.CATEGORY);
+            assertThat(entry.getEntityId()).isEqualTo(2L);
+            assertThat(entry.getSummary()).isEqualTo("カテゴリーを更新");
+        });
+    }
+
+    @Test
+    @DisplayName("無効な場合は記録しない")
+    void shouldNotRecordWhenDisabled() {
+        // given
+        properties.setEnabled(false);
+
+        // when
+        recorder.onTaskChanged(TaskChangedEvent.created(task));
+        recorder.onTaskBulkChanged(TaskBulkChangedEvent.created(List.of(10L), 1));
+        recorder.onCategoryChanged(new CategoryChangedEvent(1L, ChangeType.CREATED));
+
+        // then
+        verify(taskHistoryWriter, never()).enqueue(any());
+    }
+}
@@ -0,0 +1,290 @@
+package com.example.taskmanager.common.history;
+
+import com.example.taskmanager.common.event.ChangeType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * TaskHistoryWriterのテスト.
+ *
+ * <p>登録内容を記録するマッパー・トランザクションマネージャーを使用し、書き込み用のスレッドでの登録を待って検証する。</p>
+ */
+@DisplayName("TaskHistoryWriterのテスト")
+class TaskHistoryWriterTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final RecordingMapper mapper = new RecordingMapper();
+
+    private final RecordingTransactionManager transactionManager = new RecordingTransactionManager();
+
+    private TaskHistoryProperties properties;
+
+    private TaskHistoryWriter writer;
+
+    @BeforeEach
+    void setUp() {
+        properties = new TaskHistoryProperties();
+        properties.setBatchSize(3);
+        properties.setQueueCapacity(10);
+        properties.setOfferTimeout(Duration.ofMillis(10));
+        properties.setShutdownTimeout(Duration.ofMillis(100));
+    }
+
+    @AfterEach
+    void tearDown() {
+        mapper.release.countDown();
+        if (writer != null) {
+            writer.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("積んだ変更履歴を書き込み用のスレッドで登録する")
+    void shouldWriteOnWorkerThread() {
+        // given
+        startWriter();
+
+        // when
+        writer.enqueue(entries(1, 1));
+
+        // then
+        awaitUntil(() -> mapper.written().size() == 1);
+        assertThat(mapper.threads).containsOnly("task-history-writer");
+        assertThat(writer.getGeneration(1L)).isEqualTo(1);
+        assertThat(meterRegistry.counter(TaskHistoryWriter.WRITTEN_COUNTER).count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("登録中に積まれた変更履歴は最大件数ずつまとめて登録する")
+    void shouldWriteQueuedEntriesInBatches() {
+        // given
+        mapper.blockWorker = true;
+        startWriter();
+        writer.enqueue(entries(1, 1));
+        awaitUntil(() -> mapper.started.getCount() == 0);
+
+        // when
+        writer.enqueue(entries(2, 5));
+        mapper.release.countDown();
+
+        // then
+        awaitUntil(() -> mapper.written().size() == 6);
+        assertThat(mapper.batches).extracting(List::size).containsExactly(1, 3, 2);
+        assertThat(mapper.written()).extracting(TaskHistoryDto::getEntityId)
+                .containsExactly(1L, 2L, 3L, 4L, 5L, 6L);
+    }
+
+    @Test
+    @DisplayName("書き込み待ちがあふれた場合は呼び出し元のスレッドで登録する")
+    void shouldWriteDirectlyWhenQueueIsFull() {
+        // given
+        properties.setQueueCapacity(1);
+        mapper.blockWorker = true;
+        startWriter();
+        writer.enqueue(entries(1, 1));
+        awaitUntil(() -> mapper.started.getCount() == 0);
+
+        // when（1件は書き込み待ちに積まれ、残りの2件は直接登録される）
+        writer.enqueue(entries(2, 3));
+
+        // then
+        assertThat(mapper.written()).extracting(TaskHistoryDto::getEntityId).containsExactly(3L, 4L);
+        assertThat(mapper.threads).containsOnly(Thread.currentThread().getName());
+        assertThat(writer.getQueueSize()).isEqualTo(1);
+        assertThat(meterRegistry.counter(TaskHistoryWriter.DIRECT_WRITE_COUNTER).count()).isEqualTo(2.0);
+        // コミット後のイベント処理から呼ばれるため、呼び出し元のトランザクションとは別にコミットする
+        assertThat(transactionManager.definitions).extracting(TransactionDefinition::getPropagationBehavior)
+                .containsOnly(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        assertThat(transactionManager.commits.get()).isEqualTo(1);
+
+        mapper.release.countDown();
+        awaitUntil(() -> mapper.written().size() == 4);
+    }
+
+    @Test
+    @DisplayName("停止時に書き込み待ちの変更履歴をすべて登録する")
+    void shouldFlushQueuedEntriesOnShutdown() {
+        // given（書き込み用のスレッドが登録中のまま停止を待つ時間を過ぎる）
+        mapper.blockWorker = true;
+        startWriter();
+        writer.enqueue(entries(1, 1));
+        awaitUntil(() -> mapper.started.getCount() == 0);
+        writer.enqueue(entries(2, 4));
+
+        // when
+        writer.shutdown();
+
+        // then
+        assertThat(mapper.written()).extracting(TaskHistoryDto::getEntityId).containsExactly(2L, 3L, 4L, 5L);
+        assertThat(writer.getQueueSize()).isZero();
+
+        // 停止後に積まれた変更履歴は直接登録する
+        writer.enqueue(entries(6, 1));
+        assertThat(mapper.written()).extracting(TaskHistoryDto::getEntityId).contains(6L);
+    }
+
+    @Test
+    @DisplayName("登録に失敗しても以降の変更履歴は登録する")
+    void shouldContinueAfterFailure() {
+        // given
+        mapper.failNext = true;
+        startWriter();
+
+        // when
+        writer.enqueue(entries(1, 1));
+        awaitUntil(() -> meterRegistry.counter(TaskHistoryWriter.FAILURE_COUNTER).count() == 1.0);
+        writer.enqueue(entries(2, 1));
+
+        // then
+        awaitUntil(() -> mapper.written().size() == 1);
+        assertThat(mapper.written().get(0).getEntityId()).isEqualTo(2L);
+        assertThat(writer.getGeneration(1L)).isZero();
+        assertThat(writer.getGeneration(2L)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("登録回数は変更履歴を登録したタスクのみ増える")
+    void shouldCountGenerationPerTask() {
+        // given
+        startWriter();
+
+        // when
+        writer.enqueue(entries(2, 1));
+
+        // then
+        awaitUntil(() -> mapper.written().size() == 1);
+        assertThat(writer.getGeneration(2L)).isEqualTo(1);
+        assertThat(writer.getGeneration(1L)).isZero();
+        assertThat(writer.getGeneration(3L)).isZero();
+    }
+
+    private void startWriter() {
+        writer = new TaskHistoryWriter(properties, mapper, transactionManager, meterRegistry);
+        writer.start();
+    }
+
+    private static List<TaskHistoryDto> entries(long firstId, int count) {
+        return LongStream.range(firstId, firstId + count)
+                .mapToObj(id -> TaskHistoryDto.builder()
+                        .entityType(HistoryEntityType.TASK)
+                        .entityId(id)
+                        .changeType(ChangeType.UPDATED)
+                        .summary("変更なし")
+                        .changedAt(LocalDateTime.now())
+                        .build())
+                .toList();
+    }
+
+    /**
+     * 条件が満たされるまで待つ.
+     *
+     * @param condition 条件
+     */
+    private static void awaitUntil(BooleanSupplier condition) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime()).as("condition not met within 5 seconds").isLessThan(deadline);
+            try {
+                Thread.sleep(10);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(ex);
+            }
+        }
+    }
+
+    /**
+     * 登録内容を記録するマッパー.
+     *
+     * <p>{@link #blockWorker}がtrueの場合、書き込み用のスレッドでの最初の登録を{@link #release}まで待たせる。</p>
+     */
+    private static class RecordingMapper implements TaskHistoryMapper {
+
+        private final List<List<TaskHistoryDto>> batches = new CopyOnWriteArrayList<>();
+
+        private final List<String> threads = new CopyOnWriteArrayList<>();
+
+        private final CountDownLatch started = new CountDownLatch(1);
+
+        private final CountDownLatch release = new CountDownLatch(1);
+
+        private volatile boolean blockWorker;
+
+        private volatile boolean failNext;
+
+        @Override
+        public int insertBatch(List<TaskHistoryDto> entries) {
+            List<TaskHistoryDto> copy = List.copyOf(entries);
+            if (blockWorker && Thread.currentThread().getName().equals("task-history-writer")
+                    && started.getCount() > 0) {
+                started.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            if (failNext) {
+                failNext = false;
+                throw new IllegalStateException("insert failed");
+            }
+            batches.add(copy);
+            threads.add(Thread.currentThread().getName());
+            return copy.size();
+        }
+
+        @Override
+        public List<TaskHistoryDto> selectByEntity(HistoryEntityType entityType, Long entityId, int limit) {
+            return List.of();
+        }
+
+        private List<TaskHistoryDto> written() {
+            return batches.stream().flatMap(List::stream).toList();
+        }
+    }
+
+    /**
+     * 開始したトランザクションの定義とコミット回数を記録するトランザクションマネージャー.
+     */
+    private static class RecordingTransactionManager implements PlatformTransactionManager {
+
+        private final List<TransactionDefinition> definitions = new CopyOnWriteArrayList<>();
+
+        private final AtomicInteger commits = new AtomicInteger();
+
+        @Override
+        public TransactionStatus getTransaction(TransactionDefinition definition) {
+            definitions.add(definition);
+            return new SimpleTransactionStatus();
+        }
+
+        @Override
+        public void commit(TransactionStatus status) {
+            commits.incrementAndGet();
+        }
+
+        @Override
+        public void rollback(TransactionStatus status) {
+        }
+    }
+}
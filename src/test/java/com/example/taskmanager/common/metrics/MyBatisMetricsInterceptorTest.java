@@ -0,0 +1,80 @@
+package com.example.taskmanager.common.metrics;
+
+import com.example.taskmanager.category.service.CategoryService;
+import com.example.taskmanager.task.service.TaskService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * MyBatisMetricsInterceptorおよびServiceMetricsAspectのテスト.
+ */
+@SpringBootTest
+@DisplayName("MyBatisMetricsInterceptorのテスト")
+class MyBatisMetricsInterceptorTest {
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private CategoryService categoryService;
+
+    @Test
+    @DisplayName("ステートメントIDごとに実行時間と取得件数を記録する")
+    void shouldRecordStatementMetrics() {
+        // given
+        long before = count(MyBatisMetricsInterceptor.TIMER_NAME, "statement",
+                "TaskCustomMapper.selectAllWithCategory");
+
+        // when
+        int size = taskService.findAll().size();
+
+        // then
+        assertThat(count(MyBatisMetricsInterceptor.TIMER_NAME, "statement",
+                "TaskCustomMapper.selectAllWithCategory")).isEqualTo(before + 1);
+        assertThat(meterRegistry.get(MyBatisMetricsInterceptor.ROWS_NAME)
+                .tag("statement", "TaskCustomMapper.selectAllWithCategory")
+                .summary()
+                .max()).isGreaterThanOrEqualTo(size);
+    }
+
+    @Test
+    @DisplayName("サービスメソッドの実行時間を記録する")
+    void shouldRecordServiceMethodTimer() {
+        // given
+        long before = count(ServiceMetricsAspect.TIMER_NAME, "method", "findAll");
+
+        // when
+        categoryService.findAll();
+
+        // then
+        assertThat(meterRegistry.get(ServiceMetricsAspect.TIMER_NAME)
+                .tag("class", "CategoryServiceImpl")
+                .tag("method", "findAll")
+                .timer()
+                .count()).isGreaterThanOrEqualTo(1);
+        assertThat(count(ServiceMetricsAspect.TIMER_NAME, "method", "findAll")).isGreaterThan(before);
+    }
+
+    @Test
+    @DisplayName("ステートメントIDからパッケージ名を除く")
+    void shouldShortenStatementId() {
+        assertThat(MyBatisMetricsInterceptor.shortId("com.example.taskmanager.task.mapper.TaskCustomMapper.selectAll"))
+                .isEqualTo("TaskCustomMapper.selectAll");
+        assertThat(MyBatisMetricsInterceptor.shortId("selectAll")).isEqualTo("selectAll");
+    }
+
+    private long count(String name, String tagKey, String tagValue) {
+        return meterRegistry.find(name).tag(tagKey, tagValue).timers().stream()
+                .mapToLong(Timer::count)
+                .sum();
+    }
+}
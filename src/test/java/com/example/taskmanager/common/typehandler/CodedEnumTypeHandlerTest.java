@@ -0,0 +1,146 @@
+package com.example.taskmanager.common.typehandler;
+
+import com.example.taskmanager.common.config.SchemaVersionProperties;
+import com.example.taskmanager.common.enums.TaskPriority;
+import com.example.taskmanager.common.enums.TaskStatus;
+import org.apache.ibatis.type.JdbcType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * CodedEnumTypeHandlerのテスト.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CodedEnumTypeHandlerのテスト")
+class CodedEnumTypeHandlerTest {
+
+    @Mock
+    private ResultSet rs;
+
+    @Mock
+    private PreparedStatement ps;
+
+    private static SchemaVersionProperties properties(EnumStorage storage) {
+        SchemaVersionProperties properties = new SchemaVersionProperties();
+        properties.setEnumStorage(storage);
+        return properties;
+    }
+
+    @Nested
+    @DisplayName("NAME形式")
+    class NameStorageTest {
+
+        private final TaskStatusTypeHandler handler = new TaskStatusTypeHandler(properties(EnumStorage.NAME));
+
+        @Test
+        @DisplayName("定数名を列挙型に変換する")
+        void shouldReadByName() throws SQLException {
+            // given
+            when(rs.getString("status")).thenReturn("IN_PROGRESS");
+
+            // when
+            TaskStatus result = handler.getResult(rs, "status");
+
+            // then
+            assertThat(result).isEqualTo(TaskStatus.IN_PROGRESS);
+        }
+
+        @Test
+        @DisplayName("NULLの場合はnullを返す")
+        void shouldReturnNullForNull() throws SQLException {
+            // given
+            when(rs.getString("status")).thenReturn(null);
+
+            // when
+            TaskStatus result = handler.getResult(rs, "status");
+
+            // then
+            assertThat(result).isNull();
+        }
+
+        @Test
+        @DisplayName("未知の定数名の場合は例外をスローする")
+        void shouldRejectUnknownName() {
+            assertThatThrownBy(() -> handler.fromName("UNKNOWN"))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("TaskStatus.UNKNOWN");
+        }
+
+        @Test
+        @DisplayName("定数名を文字列として設定する")
+        void shouldWriteName() throws SQLException {
+            // when
+            handler.setParameter(ps, 1, TaskStatus.DONE, JdbcType.VARCHAR);
+
+            // then
+            verify(ps).setString(1, "DONE");
+        }
+    }
+
+    @Nested
+    @DisplayName("CODE形式")
+    class CodeStorageTest {
+
+        private final TaskPriorityTypeHandler handler = new TaskPriorityTypeHandler(properties(EnumStorage.CODE));
+
+        @Test
+        @DisplayName("序数を列挙型に変換する")
+        void shouldReadByCode() throws SQLException {
+            // given
+            when(rs.getInt("priority")).thenReturn(2);
+
+            // when
+            TaskPriority result = handler.getResult(rs, "priority");
+
+            // then
+            assertThat(result).isEqualTo(TaskPriority.HIGH);
+            verify(rs, never()).getString("priority");
+        }
+
+        @Test
+        @DisplayName("序数0と区別してNULLの場合はnullを返す")
+        void shouldReturnNullForNull() throws SQLException {
+            // given
+            when(rs.getInt("priority")).thenReturn(0);
+            when(rs.wasNull()).thenReturn(true);
+
+            // when
+            TaskPriority result = handler.getResult(rs, "priority");
+
+            // then
+            assertThat(result).isNull();
+        }
+
+        @Test
+        @DisplayName("範囲外の序数の場合は例外をスローする")
+        void shouldRejectUnknownCode() {
+            assertThatThrownBy(() -> handler.fromCode(3))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("TaskPriority");
+        }
+
+        @Test
+        @DisplayName("序数をSMALLINTとして設定する")
+        void shouldWriteCode() throws SQLException {
+            // when
+            handler.setParameter(ps, 1, TaskPriority.MEDIUM, JdbcType.VARCHAR);
+
+            // then
+            verify(ps).setShort(1, (short) 1);
+        }
+    }
+}
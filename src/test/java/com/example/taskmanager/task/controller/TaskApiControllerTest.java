@@ -0,0 +1,374 @@
+package com.example.taskmanager.task.controller;
+
+import com.example.taskmanager.common.enums.TaskPriority;
+import com.example.taskmanager.common.enums.TaskStatus;
+import com.example.taskmanager.common.exception.InvalidRequestException;
+import com.example.taskmanager.common.exception.TaskConflictException;
+import com.example.taskmanager.common.exception.TaskNotFoundException;
+import com.example.taskmanager.task.dto.TaskDto;
+import com.example.taskmanager.task.form.TaskBulkForm;
+import com.example.taskmanager.task.form.TaskForm;
+import com.example.taskmanager.task.model.TaskCursor;
+import com.example.taskmanager.task.model.TaskDueRange;
+import com.example.taskmanager.task.model.TaskSearchCondition;
+import com.example.taskmanager.task.model.TaskSortKey;
+import com.example.taskmanager.task.service.TaskService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * TaskApiControllerの単体テスト.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@DisplayName("TaskApiControllerのテスト")
+class TaskApiControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private TaskService taskService;
+
+    private TaskDto testTaskDto;
+
+    @BeforeEach
+    void setUp() {
+        testTaskDto = TaskDto.builder()
+                .id(1L)
+                .title("テストタスク")
+                .description("テストの説明")
+                .status(TaskStatus.TODO)
+                .priority(TaskPriority.HIGH)
+                .categoryId(1L)
+                .categoryName("仕事")
+                .categoryColor("#007bff")
+                .dueDate(LocalDate.of(2025, 12, 31))
+                .createdAt(LocalDateTime.of(2025, 6, 1, 9, 0))
+                .updatedAt(LocalDateTime.of(2025, 6, 1, 9, 0))
+                .version(2)
+                .build();
+    }
+
+    @Nested
+    @DisplayName("一覧取得のテスト")
+    class ListTest {
+
+        @Captor
+        private ArgumentCaptor<Consumer<TaskDto>> action;
+
+        @Test
+        @DisplayName("1ページ分と次ページのカーソルを返す")
+        void shouldStreamPageWithNextCursor() throws Exception {
+            // given
+            TaskCursor next = new TaskCursor(testTaskDto.getCreatedAt(), 1L);
+            doAnswer(invocation -> {
+                action.getValue().accept(testTaskDto);
+                return next;
+            }).when(taskService).forEachInPage(eq(TaskSearchCondition.builder()
+                    .statuses(List.of(TaskStatus.TODO, TaskStatus.DONE))
+                    .sort(TaskSortKey.CREATED_ASC)
+                    .build()), any(), eq(1), eq(true), action.capture());
+
+            // when
+            MvcResult result = mockMvc.perform(get("/api/v1/tasks")
+                            .param("status", "TODO,DONE")
+                            .param("sort", "CREATED_ASC")
+                            .param("limit", "1"))
+                    .andExpect(request().asyncStarted())
+                    .andReturn();
+
+            // then
+            mockMvc.perform(asyncDispatch(result))
+                    .andExpect(status().isOk())
+                    .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                    .andExpect(jsonPath("$.items[0].id").value(1))
+                    .andExpect(jsonPath("$.items[0].status").value("TODO"))
+                    .andExpect(jsonPath("$.items[0].dueDate").value("2025-12-31"))
+                    .andExpect(jsonPath("$.items[0].createdAt").value("2025-06-01T09:00:00"))
+                    .andExpect(jsonPath("$.items[0].version").value(2))
+                    .andExpect(jsonPath("$.nextCursor").value(next.encode()));
+        }
+
+        @Test
+        @DisplayName("fieldsで指定した項目のみを返し、説明・更新日時はDBから取得しない")
+        void shouldProjectFields() throws Exception {
+            // given
+            doAnswer(invocation -> {
+                action.getValue().accept(testTaskDto);
+                return null;
+            }).when(taskService).forEachInPage(any(), any(), anyInt(), eq(false), action.capture());
+
+            // when
+            MvcResult result = mockMvc.perform(get("/api/v1/tasks").param("fields", "id,title,status"))
+                    .andExpect(request().asyncStarted())
+                    .andReturn();
+
+            // then
+            mockMvc.perform(asyncDispatch(result))
+                    .andExpect(status().isOk())
+                    .andExpect(content().json(
+                            "{\"items\":[{\"id\":1,\"title\":\"テストタスク\",\"status\":\"TODO\"}],\"nextCursor\":null}",
+                            true));
+        }
+
+        @Test
+        @DisplayName("未知の項目名は400を返す")
+        void shouldRejectUnknownField() throws Exception {
+            mockMvc.perform(get("/api/v1/tasks").param("fields", "id,password"))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_PROBLEM_JSON))
+                    .andExpect(jsonPath("$.status").value(400));
+            verify(taskService, never()).forEachInPage(any(), any(), anyInt(), anyBoolean(), any());
+        }
+
+        @Test
+        @DisplayName("不正なカーソル・件数・絞り込み条件・並び順は400を返す")
+        void shouldRejectInvalidCursorAndLimit() throws Exception {
+            mockMvc.perform(get("/api/v1/tasks").param("cursor", "invalid"))
+                    .andExpect(status().isBadRequest());
+            mockMvc.perform(get("/api/v1/tasks").param("limit", "0"))
+                    .andExpect(status().isBadRequest());
+            mockMvc.perform(get("/api/v1/tasks").param("status", "UNKNOWN"))
+                    .andExpect(status().isBadRequest());
+            mockMvc.perform(get("/api/v1/tasks").param("dueFrom", "2025/12/01"))
+                    .andExpect(status().isBadRequest());
+            mockMvc.perform(get("/api/v1/tasks").param("sort", "created_at"))
+                    .andExpect(status().isBadRequest());
+        }
+    }
+
+    @Nested
+    @DisplayName("期限別一覧取得のテスト")
+    class DueTest {
+
+        @Captor
+        private ArgumentCaptor<Consumer<TaskDto>> action;
+
+        @Test
+        @DisplayName("期限間近のタスクを1ページ分返す")
+        void shouldReturnDueSoonPage() throws Exception {
+            // given
+            doAnswer(invocation -> {
+                action.getValue().accept(testTaskDto);
+                return null;
+            }).when(taskService).forEachDue(eq(TaskDueRange.SOON), eq(14), any(), eq(TaskApiController.DEFAULT_LIMIT),
+                    eq(false), action.capture());
+
+            // when
+            MvcResult result = mockMvc.perform(get("/api/v1/tasks/due")
+                            .param("range", "SOON")
+                            .param("days", "14")
+                            .param("fields", "id,dueDate"))
+                    .andExpect(request().asyncStarted())
+                    .andReturn();
+
+            // then
+            mockMvc.perform(asyncDispatch(result))
+                    .andExpect(status().isOk())
+                    .andExpect(content().json("{\"items\":[{\"id\":1,\"dueDate\":\"2025-12-31\"}],\"nextCursor\":null}",
+                            true));
+        }
+
+        @Test
+        @DisplayName("範囲の指定なし・未知の範囲・範囲外の日数は書き出し前に400を返す")
+        void shouldRejectInvalidRangeAndDays() throws Exception {
+            mockMvc.perform(get("/api/v1/tasks/due"))
+                    .andExpect(status().isBadRequest());
+            mockMvc.perform(get("/api/v1/tasks/due").param("range", "LATER"))
+                    .andExpect(status().isBadRequest());
+            mockMvc.perform(get("/api/v1/tasks/due").param("range", "SOON").param("days", "0"))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_PROBLEM_JSON));
+            verify(taskService, never()).forEachDue(any(), anyInt(), any(), anyInt(), anyBoolean(), any());
+        }
+    }
+
+    @Nested
+    @DisplayName("1件取得のテスト")
+    class GetTest {
+
+        @Test
+        @DisplayName("タスクを1件返す")
+        void shouldReturnTask() throws Exception {
+            // given
+            when(taskService.findById(1L)).thenReturn(testTaskDto);
+
+            // when & then
+            mockMvc.perform(get("/api/v1/tasks/1"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.title").value("テストタスク"))
+                    .andExpect(jsonPath("$.categoryName").value("仕事"))
+                    .andExpect(jsonPath("$.statusDisplayName").doesNotExist());
+        }
+
+        @Test
+        @DisplayName("存在しないタスクは404を返す")
+        void shouldReturnNotFound() throws Exception {
+            // given
+            when(taskService.findById(999L)).thenThrow(new TaskNotFoundException(999L));
+
+            // when & then
+            mockMvc.perform(get("/api/v1/tasks/999"))
+                    .andExpect(status().isNotFound())
+                    .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_PROBLEM_JSON))
+                    .andExpect(jsonPath("$.detail").value("タスクが見つかりません: ID=999"));
+        }
+    }
+
+    @Nested
+    @DisplayName("登録・更新・削除のテスト")
+    class WriteTest {
+
+        @Test
+        @DisplayName("タスクを登録し201を返す")
+        void shouldCreateTask() throws Exception {
+            // given
+            when(taskService.create(any(TaskForm.class))).thenReturn(testTaskDto);
+
+            // when & then
+            mockMvc.perform(post("/api/v1/tasks")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("{\"title\":\"テストタスク\",\"status\":\"TODO\",\"priority\":\"HIGH\"}"))
+                    .andExpect(status().isCreated())
+                    .andExpect(header().string("Location", "/api/v1/tasks/1"))
+                    .andExpect(jsonPath("$.id").value(1));
+        }
+
+        @Test
+        @DisplayName("入力検証エラーは項目ごとのメッセージとともに400を返す")
+        void shouldReturnValidationErrors() throws Exception {
+            mockMvc.perform(post("/api/v1/tasks")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("{\"title\":\"\",\"status\":\"TODO\"}"))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.errors.title").value("タイトルを入力してください"))
+                    .andExpect(jsonPath("$.errors.priority").value("優先度を選択してください"));
+            verify(taskService, never()).create(any());
+        }
+
+        @Test
+        @DisplayName("バージョンが未指定の更新は409ではなく400を返す")
+        void shouldRejectUpdateWithoutVersion() throws Exception {
+            mockMvc.perform(put("/api/v1/tasks/1")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("{\"title\":\"更新\",\"status\":\"DONE\",\"priority\":\"LOW\"}"))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.errors.version").value("バージョンを指定してください"));
+            verify(taskService, never()).update(any(), any());
+        }
+
+        @Test
+        @DisplayName("更新が競合した場合は409を返す")
+        void shouldReturnConflict() throws Exception {
+            // given
+            when(taskService.update(eq(1L), any(TaskForm.class))).thenThrow(new TaskConflictException(1L));
+
+            // when & then
+            mockMvc.perform(put("/api/v1/tasks/1")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("{\"title\":\"更新\",\"status\":\"DONE\",\"priority\":\"LOW\",\"version\":1}"))
+                    .andExpect(status().isConflict())
+                    .andExpect(jsonPath("$.status").value(409));
+        }
+
+        @Test
+        @DisplayName("タスクを削除し204を返す")
+        void shouldDeleteTask() throws Exception {
+            mockMvc.perform(delete("/api/v1/tasks/1"))
+                    .andExpect(status().isNoContent())
+                    .andExpect(content().string(""));
+            verify(taskService).delete(1L);
+        }
+    }
+
+    @Nested
+    @DisplayName("一括変更・一括削除のテスト")
+    class BulkTest {
+
+        @Test
+        @DisplayName("まとめて変更し、更新件数を返す")
+        void shouldBulkUpdate() throws Exception {
+            // given
+            when(taskService.bulkUpdate(any(TaskBulkForm.class))).thenReturn(2);
+
+            // when & then
+            mockMvc.perform(post("/api/v1/tasks/bulk")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("{\"ids\":[1,2,3],\"priority\":\"HIGH\",\"clearCategory\":true}"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.affected").value(2));
+            verify(taskService).bulkUpdate(argThat(form -> form.getIds().equals(List.of(1L, 2L, 3L))
+                    && form.getPriority() == TaskPriority.HIGH
+                    && form.isClearCategory()));
+        }
+
+        @Test
+        @DisplayName("IDが空の場合は400を返す")
+        void shouldRejectEmptyIds() throws Exception {
+            mockMvc.perform(post("/api/v1/tasks/bulk")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("{\"ids\":[],\"status\":\"DONE\"}"))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.errors.ids").value("タスクを選択してください"));
+            verify(taskService, never()).bulkUpdate(any());
+        }
+
+        @Test
+        @DisplayName("変更する項目がない場合は400を返す")
+        void shouldRejectNoChanges() throws Exception {
+            // given
+            when(taskService.bulkUpdate(any(TaskBulkForm.class)))
+                    .thenThrow(new InvalidRequestException("変更する項目を指定してください"));
+
+            // when & then
+            mockMvc.perform(post("/api/v1/tasks/bulk")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("{\"ids\":[1]}"))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.status").value(400));
+        }
+
+        @Test
+        @DisplayName("まとめて削除し、削除件数を返す")
+        void shouldBulkDelete() throws Exception {
+            // given
+            when(taskService.bulkDelete(List.of(1L, 2L))).thenReturn(1);
+
+            // when & then
+            mockMvc.perform(post("/api/v1/tasks/bulk-delete")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("{\"ids\":[1,2]}"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.affected").value(1));
+        }
+    }
+}
@@ -3,10 +3,23 @@ package com.example.taskmanager.task.controller;
 import com.example.taskmanager.common.entity.TaskCategory;
 import com.example.taskmanager.common.enums.TaskPriority;
 import com.example.taskmanager.common.enums.TaskStatus;
+import com.example.taskmanager.common.event.ChangeType;
+import com.example.taskmanager.common.exception.InvalidRequestException;
+import com.example.taskmanager.common.exception.TaskConflictException;
 import com.example.taskmanager.common.exception.TaskNotFoundException;
+import com.example.taskmanager.common.history.HistoryEntityType;
+import com.example.taskmanager.common.history.TaskHistoryDto;
 import com.example.taskmanager.task.converter.TaskConverter;
 import com.example.taskmanager.task.dto.TaskDto;
+import com.example.taskmanager.task.dto.TaskListItemDto;
+import com.example.taskmanager.task.form.TaskBulkForm;
 import com.example.taskmanager.task.form.TaskForm;
+import com.example.taskmanager.task.model.TaskCursor;
+import com.example.taskmanager.task.model.TaskDueRange;
+import com.example.taskmanager.task.model.TaskPage;
+import com.example.taskmanager.task.model.TaskSearchCondition;
+import com.example.taskmanager.task.model.TaskSortKey;
+import com.example.taskmanager.task.model.TaskValidator;
 import com.example.taskmanager.task.service.TaskService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -26,6 +39,7 @@ import java.util.List;
 
 import static org.hamcrest.Matchers.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
@@ -51,6 +65,7 @@ class TaskControllerTest {
     private TaskConverter taskConverter;
 
     private TaskDto testTaskDto;
+    private TaskListItemDto testListItem;
     private TaskForm testTaskForm;
     private List<TaskCategory> testCategories;
 
@@ -70,6 +85,18 @@ class TaskControllerTest {
                 .updatedAt(LocalDateTime.now())
                 .build();
 
+        testListItem = TaskListItemDto.builder()
+                .id(1L)
+                .title("テストタスク")
+                .status(TaskStatus.TODO)
+                .priority(TaskPriority.HIGH)
+                .categoryId(1L)
+                .categoryName("仕事")
+                .categoryColor("#007bff")
+                .dueDate(LocalDate.of(2025, 12, 31))
+                .createdAt(LocalDateTime.now())
+                .build();
+
         testTaskForm = TaskForm.builder()
                 .title("テストタスク")
                 .description("テストの説明")
@@ -94,8 +121,9 @@ class TaskControllerTest {
         @DisplayName("タスク一覧を表示できる")
         void shouldShowTaskList() throws Exception {
             // given
-            List<TaskDto> tasks = Arrays.asList(testTaskDto);
-            when(taskService.findAll()).thenReturn(tasks);
+            List<TaskListItemDto> tasks = List.of(testListItem);
+            when(taskService.findPage(TaskSearchCondition.ALL, null, TaskController.PAGE_SIZE))
+                    .thenReturn(new TaskPage(tasks, null));
             when(taskService.findAllCategories()).thenReturn(testCategories);
 
             // when & then
@@ -103,6 +131,54 @@ class TaskControllerTest {
                     .andExpect(status().isOk())
                     .andExpect(view().name("task/list"))
                     .andExpect(model().attributeExists("tasks"))
+                    .andExpect(model().attribute("tasks", hasSize(1)))
+                    .andExpect(model().attribute("nextCursor", nullValue()));
+        }
+
+        @Test
+        @DisplayName("次ページがある場合はカーソルを渡す")
+        void shouldPassNextCursorWhenHasNextPage() throws Exception {
+            // given
+            TaskCursor nextCursor = new TaskCursor(LocalDateTime.of(2025, 12, 1, 10, 0), 1L);
+            when(taskService.findPage(TaskSearchCondition.ALL, null, TaskController.PAGE_SIZE))
+                    .thenReturn(new TaskPage(List.of(testListItem), nextCursor));
+            when(taskService.findAllCategories()).thenReturn(testCategories);
+
+            // when & then
+            mockMvc.perform(get("/tasks"))
+                    .andExpect(status().isOk())
+                    .andExpect(model().attribute("nextCursor", nextCursor.encode()));
+        }
+
+        @Test
+        @DisplayName("カーソル指定で次ページを表示できる")
+        void shouldShowNextPageWithCursor() throws Exception {
+            // given
+            TaskCursor cursor = new TaskCursor(LocalDateTime.of(2025, 12, 1, 10, 0), 1L);
+            when(taskService.findPage(TaskSearchCondition.ALL, cursor, TaskController.PAGE_SIZE))
+                    .thenReturn(new TaskPage(List.of(), null));
+            when(taskService.findAllCategories()).thenReturn(testCategories);
+
+            // when & then
+            mockMvc.perform(get("/tasks")
+                            .param("cursor", cursor.encode()))
+                    .andExpect(status().isOk())
+                    .andExpect(view().name("task/list"))
+                    .andExpect(model().attribute("firstPage", false));
+        }
+
+        @Test
+        @DisplayName("不正なカーソルは先頭ページとして扱う")
+        void shouldIgnoreInvalidCursor() throws Exception {
+            // given
+            when(taskService.findPage(TaskSearchCondition.ALL, null, TaskController.PAGE_SIZE))
+                    .thenReturn(new TaskPage(List.of(testListItem), null));
+            when(taskService.findAllCategories()).thenReturn(testCategories);
+
+            // when & then
+            mockMvc.perform(get("/tasks")
+                            .param("cursor", "invalid!"))
+                    .andExpect(status().isOk())
                     .andExpect(model().attribute("tasks", hasSize(1)));
         }
 
@@ -110,8 +186,10 @@ class TaskControllerTest {
         @DisplayName("フィルター付きで一覧を表示できる")
         void shouldShowFilteredTaskList() throws Exception {
             // given
-            List<TaskDto> tasks = Arrays.asList(testTaskDto);
-            when(taskService.findByCondition(TaskStatus.TODO, null, null)).thenReturn(tasks);
+            List<TaskListItemDto> tasks = List.of(testListItem);
+            TaskSearchCondition condition = TaskSearchCondition.of(TaskStatus.TODO, null, null);
+            when(taskService.findPage(condition, null, TaskController.PAGE_SIZE))
+                    .thenReturn(new TaskPage(tasks, null));
             when(taskService.findAllCategories()).thenReturn(testCategories);
 
             // when & then
@@ -119,7 +197,200 @@ class TaskControllerTest {
                             .param("status", "TODO"))
                     .andExpect(status().isOk())
                     .andExpect(view().name("task/list"))
-                    .andExpect(model().attribute("selectedStatus", TaskStatus.TODO));
+                    .andExpect(model().attribute("condition", condition));
+        }
+
+        @Test
+        @DisplayName("複数値・期限日の範囲・並び順を指定して一覧を表示できる")
+        void shouldShowTaskListWithMultipleFilters() throws Exception {
+            // given
+            TaskSearchCondition condition = TaskSearchCondition.builder()
+                    .statuses(List.of(TaskStatus.TODO, TaskStatus.IN_PROGRESS))
+                    .priorities(List.of(TaskPriority.HIGH))
+                    .categoryIds(List.of(1L, 2L))
+                    .dueDateFrom(LocalDate.of(2025, 12, 1))
+                    .dueDateTo(LocalDate.of(2025, 12, 31))
+                    .sort(TaskSortKey.DUE_DATE_ASC)
+                    .build();
+            TaskCursor nextCursor = new TaskCursor(null, LocalDate.of(2025, 12, 31), 1L);
+            when(taskService.findPage(condition, null, TaskController.PAGE_SIZE))
+                    .thenReturn(new TaskPage(List.of(testListItem), nextCursor));
+            when(taskService.findAllCategories()).thenReturn(testCategories);
+
+            // when & then
+            mockMvc.perform(get("/tasks")
+                            .param("status", "TODO", "IN_PROGRESS")
+                            .param("priority", "HIGH")
+                            .param("categoryId", "1", "2")
+                            .param("dueFrom", "2025-12-01")
+                            .param("dueTo", "2025-12-31")
+                            .param("sort", "DUE_DATE_ASC"))
+                    .andExpect(status().isOk())
+                    .andExpect(model().attribute("condition", condition))
+                    .andExpect(content().string(containsString("status=TODO&amp;status=IN_PROGRESS")))
+                    .andExpect(content().string(containsString("sort=DUE_DATE_ASC")));
+        }
+
+        @Test
+        @DisplayName("並び順に未知の値を指定した場合は400を返す")
+        void shouldRejectUnknownSortKey() throws Exception {
+            // when & then
+            mockMvc.perform(get("/tasks")
+                            .param("sort", "title; DROP TABLE tasks"))
+                    .andExpect(status().isBadRequest());
+            verify(taskService, never()).findPage(any(), any(), anyInt());
+        }
+
+        @Test
+        @DisplayName("キーワード指定で全文検索の結果を表示できる")
+        void shouldShowSearchResultsWithKeyword() throws Exception {
+            // given
+            when(taskService.search("テスト", TaskSearchCondition.of(TaskStatus.TODO, null, null),
+                    TaskController.PAGE_SIZE))
+                    .thenReturn(List.of(testListItem));
+            when(taskService.findAllCategories()).thenReturn(testCategories);
+
+            // when & then
+            mockMvc.perform(get("/tasks")
+                            .param("q", "テスト")
+                            .param("status", "TODO"))
+                    .andExpect(status().isOk())
+                    .andExpect(view().name("task/list"))
+                    .andExpect(model().attribute("tasks", hasSize(1)))
+                    .andExpect(model().attribute("query", "テスト"))
+                    .andExpect(model().attribute("nextCursor", nullValue()));
+            verify(taskService, never()).findPage(any(), any(), anyInt());
+        }
+    }
+
+    @Nested
+    @DisplayName("期限別表示のテスト")
+    class DueTest {
+
+        @Test
+        @DisplayName("範囲を指定しない場合は期限切れのタスクを表示する")
+        void shouldShowOverdueTasksByDefault() throws Exception {
+            // given
+            TaskCursor next = new TaskCursor(null, LocalDate.of(2025, 12, 31), 1L);
+            when(taskService.findDue(TaskDueRange.OVERDUE, TaskDueRange.DEFAULT_DAYS, null, TaskController.PAGE_SIZE))
+                    .thenReturn(new TaskPage(List.of(testListItem), next));
+
+            // when & then
+            mockMvc.perform(get("/tasks/due"))
+                    .andExpect(status().isOk())
+                    .andExpect(view().name("task/due"))
+                    .andExpect(model().attribute("tasks", hasSize(1)))
+                    .andExpect(model().attribute("range", TaskDueRange.OVERDUE))
+                    .andExpect(model().attribute("nextCursor", next.encode()))
+                    .andExpect(content().string(containsString("テストタスク")));
+        }
+
+        @Test
+        @DisplayName("期限間近の日数を指定して表示できる")
+        void shouldShowDueSoonTasksWithDays() throws Exception {
+            // given
+            when(taskService.findDue(TaskDueRange.SOON, 3, null, TaskController.PAGE_SIZE))
+                    .thenReturn(new TaskPage(List.of(), null));
+
+            // when & then
+            mockMvc.perform(get("/tasks/due")
+                            .param("range", "SOON")
+                            .param("days", "3"))
+                    .andExpect(status().isOk())
+                    .andExpect(model().attribute("days", 3))
+                    .andExpect(content().string(containsString("該当するタスクはありません")));
+        }
+
+        @Test
+        @DisplayName("期限間近の日数が範囲外の場合は400を返す")
+        void shouldRejectOutOfRangeDays() throws Exception {
+            // given
+            when(taskService.findDue(TaskDueRange.SOON, 0, null, TaskController.PAGE_SIZE))
+                    .thenThrow(new InvalidRequestException("daysは1以上365以下で指定してください: 0"));
+
+            // when & then
+            mockMvc.perform(get("/tasks/due")
+                            .param("range", "SOON")
+                            .param("days", "0"))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(view().name("error/400"));
+        }
+    }
+
+    @Nested
+    @DisplayName("条件付きGETのテスト")
+    class ConditionalGetTest {
+
+        @Test
+        @DisplayName("一覧にETagを付与する")
+        void shouldSetETagOnTaskList() throws Exception {
+            // given
+            when(taskService.getListValidator()).thenReturn(new TaskValidator("\"tasks-1-0\"", 1_700_000_000_000L));
+            when(taskService.findPage(TaskSearchCondition.ALL, null, TaskController.PAGE_SIZE))
+                    .thenReturn(new TaskPage(List.of(testListItem), null));
+            when(taskService.findAllCategories()).thenReturn(testCategories);
+
+            // when & then
+            mockMvc.perform(get("/tasks"))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string("ETag", "\"tasks-1-0\""))
+                    .andExpect(header().exists("Last-Modified"))
+                    .andExpect(header().string("Cache-Control", "no-cache"));
+        }
+
+        @Test
+        @DisplayName("一覧のETagが一致する場合は検索せずに304を返す")
+        void shouldReturnNotModifiedForUnchangedTaskList() throws Exception {
+            // given
+            when(taskService.getListValidator()).thenReturn(new TaskValidator("\"tasks-1-0\"", 1_700_000_000_000L));
+
+            // when & then
+            mockMvc.perform(get("/tasks").header("If-None-Match", "\"tasks-1-0\""))
+                    .andExpect(status().isNotModified())
+                    .andExpect(content().string(""));
+            verify(taskService, never()).findPage(any(), any(), anyInt());
+            verify(taskService, never()).findAllCategories();
+        }
+
+        @Test
+        @DisplayName("詳細のETagが一致する場合は取得せずに304を返す")
+        void shouldReturnNotModifiedForUnchangedTaskDetail() throws Exception {
+            // given
+            when(taskService.getValidator(1L)).thenReturn(new TaskValidator("\"task-1-3\"", 1_700_000_000_000L));
+
+            // when & then
+            mockMvc.perform(get("/tasks/1").header("If-None-Match", "\"task-1-3\""))
+                    .andExpect(status().isNotModified());
+            verify(taskService, never()).findById(any());
+        }
+
+        @Test
+        @DisplayName("詳細のETagが異なる場合は描画する")
+        void shouldRenderChangedTaskDetail() throws Exception {
+            // given
+            when(taskService.getValidator(1L)).thenReturn(new TaskValidator("\"task-1-4\"", 1_700_000_000_000L));
+            when(taskService.findById(1L)).thenReturn(testTaskDto);
+
+            // when & then
+            mockMvc.perform(get("/tasks/1").header("If-None-Match", "\"task-1-3\""))
+                    .andExpect(status().isOk())
+                    .andExpect(view().name("task/detail"))
+                    .andExpect(header().string("ETag", "\"task-1-4\""));
+        }
+
+        @Test
+        @DisplayName("フラッシュメッセージがある場合はETagが一致しても描画する")
+        void shouldRenderWhenFlashMessageExists() throws Exception {
+            // given
+            when(taskService.getValidator(1L)).thenReturn(new TaskValidator("\"task-1-3\"", 1_700_000_000_000L));
+            when(taskService.findById(1L)).thenReturn(testTaskDto);
+
+            // when & then
+            mockMvc.perform(get("/tasks/1")
+                            .header("If-None-Match", "\"task-1-3\"")
+                            .flashAttr("successMessage", "タスクを更新しました"))
+                    .andExpect(status().isOk())
+                    .andExpect(view().name("task/detail"));
         }
     }
 
@@ -141,6 +412,39 @@ class TaskControllerTest {
                     .andExpect(model().attribute("task", hasProperty("title", is("テストタスク"))));
         }
 
+        @Test
+        @DisplayName("タスクの変更履歴を新しい順に表示する")
+        void shouldShowTaskHistory() throws Exception {
+            // given
+            when(taskService.findById(1L)).thenReturn(testTaskDto);
+            when(taskService.findHistory(1L, TaskController.HISTORY_LIMIT)).thenReturn(List.of(
+                    TaskHistoryDto.builder()
+                            .id(2L)
+                            .entityType(HistoryEntityType.TASK)
+                            .entityId(1L)
+                            .changeType(ChangeType.UPDATED)
+                            .version(1)
+                            .summary("ステータス: 未着手 → 進行中")
+                            .changedAt(LocalDateTime.of(2025, 12, 10, 9, 30))
+                            .build(),
+                    TaskHistoryDto.builder()
+                            .id(1L)
+                            .entityType(HistoryEntityType.TASK)
+                            .entityId(1L)
+                            .changeType(ChangeType.CREATED)
+                            .version(0)
+                            .summary("「テストタスク」を登録")
+                            .changedAt(LocalDateTime.of(2025, 12, 9, 18, 0))
+                            .build()));
+
+            // when & then
+            mockMvc.perform(get("/tasks/1"))
+                    .andExpect(status().isOk())
+                    .andExpect(model().attribute("histories", hasSize(2)))
+                    .andExpect(content().string(containsString("ステータス: 未着手 → 進行中")))
+                    .andExpect(content().string(containsString("2025/12/09 18:00")));
+        }
+
         @Test
         @DisplayName("存在しないタスクの詳細はエラーページを表示")
         void shouldShowErrorWhenTaskNotFound() throws Exception {
@@ -239,10 +543,48 @@ class TaskControllerTest {
                             .param("title", "更新タスク")
                             .param("description", "更新の説明")
                             .param("status", "IN_PROGRESS")
-                            .param("priority", "MEDIUM"))
+                            .param("priority", "MEDIUM")
+                            .param("version", "0"))
                     .andExpect(status().is3xxRedirection())
                     .andExpect(redirectedUrl("/tasks/1"));
         }
+
+        @Test
+        @DisplayName("バージョンが未指定の場合は更新せず編集フォームを再表示")
+        void shouldRejectUpdateWithoutVersion() throws Exception {
+            // given
+            when(taskService.findAllCategories()).thenReturn(testCategories);
+
+            // when & then
+            mockMvc.perform(post("/tasks/1")
+                            .param("title", "更新タスク")
+                            .param("status", "IN_PROGRESS")
+                            .param("priority", "MEDIUM"))
+                    .andExpect(status().isOk())
+                    .andExpect(view().name("task/edit"))
+                    .andExpect(model().attributeHasFieldErrors("taskForm", "version"))
+                    .andExpect(content().string(containsString("バージョンを指定してください")));
+            verify(taskService, never()).update(any(), any());
+        }
+
+        @Test
+        @DisplayName("更新が競合した場合は409で競合ページを表示")
+        void shouldShowConflictPageWhenVersionIsStale() throws Exception {
+            // given
+            when(taskService.update(eq(1L), any(TaskForm.class))).thenThrow(new TaskConflictException(1L));
+
+            // when & then
+            mockMvc.perform(post("/tasks/1")
+                            .param("title", "更新タスク")
+                            .param("status", "IN_PROGRESS")
+                            .param("priority", "MEDIUM")
+                            .param("version", "2"))
+                    .andExpect(status().isConflict())
+                    .andExpect(view().name("error/409"))
+                    .andExpect(model().attribute("taskId", 1L))
+                    .andExpect(model().attributeExists("errorMessage"));
+            verify(taskService).update(eq(1L), argThat(form -> Integer.valueOf(2).equals(form.getVersion())));
+        }
     }
 
     @Nested
@@ -261,4 +603,67 @@ class TaskControllerTest {
                     .andExpect(redirectedUrl("/tasks"));
         }
     }
+
+    @Nested
+    @DisplayName("一括変更・一括削除のテスト")
+    class BulkTest {
+
+        @Test
+        @DisplayName("選択したタスクをまとめて変更できる")
+        void shouldBulkUpdateTasks() throws Exception {
+            // given
+            when(taskService.bulkUpdate(any(TaskBulkForm.class))).thenReturn(2);
+
+            // when & then
+            mockMvc.perform(post("/tasks/bulk")
+                            .param("ids", "1", "2")
+                            .param("status", "DONE")
+                            .param("priority", "")
+                            .param("categoryId", ""))
+                    .andExpect(status().is3xxRedirection())
+                    .andExpect(redirectedUrl("/tasks"))
+                    .andExpect(flash().attribute("successMessage", "2件のタスクを変更しました"));
+            verify(taskService).bulkUpdate(argThat(form -> form.getIds().equals(List.of(1L, 2L))
+                    && form.getStatus() == TaskStatus.DONE
+                    && form.getPriority() == null
+                    && form.getCategoryId() == null));
+        }
+
+        @Test
+        @DisplayName("タスクを選択していない場合は変更しない")
+        void shouldRejectEmptySelection() throws Exception {
+            // when & then
+            mockMvc.perform(post("/tasks/bulk")
+                            .param("status", "DONE"))
+                    .andExpect(status().is3xxRedirection())
+                    .andExpect(redirectedUrl("/tasks"))
+                    .andExpect(flash().attribute("errorMessage", "タスクを選択してください"));
+            verify(taskService, never()).bulkUpdate(any());
+        }
+
+        @Test
+        @DisplayName("変更する項目がない場合は変更しない")
+        void shouldRejectNoChanges() throws Exception {
+            // when & then
+            mockMvc.perform(post("/tasks/bulk")
+                            .param("ids", "1"))
+                    .andExpect(status().is3xxRedirection())
+                    .andExpect(flash().attribute("errorMessage", "変更する項目を選択してください"));
+            verify(taskService, never()).bulkUpdate(any());
+        }
+
+        @Test
+        @DisplayName("選択したタスクをまとめて削除できる")
+        void shouldBulkDeleteTasks() throws Exception {
+            // given
+            when(taskService.bulkDelete(List.of(1L, 2L))).thenReturn(2);
+
+            // when & then
+            mockMvc.perform(post("/tasks/bulk/delete")
+                            .param("ids", "1", "2"))
+                    .andExpect(status().is3xxRedirection())
+                    .andExpect(redirectedUrl("/tasks"))
+                    .andExpect(flash().attribute("successMessage", "2件のタスクを削除しました"));
+        }
+    }
 }
@@ -0,0 +1,55 @@
+package com.example.taskmanager.task.controller;
+
+import com.example.taskmanager.common.enums.TaskPriority;
+import com.example.taskmanager.common.enums.TaskStatus;
+import com.example.taskmanager.task.dto.TaskCountDto;
+import com.example.taskmanager.task.service.TaskService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * TaskDashboardControllerの単体テスト.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@DisplayName("TaskDashboardControllerのテスト")
+class TaskDashboardControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private TaskService taskService;
+
+    @Test
+    @DisplayName("ステータス・優先度・カテゴリーごとの件数をJSONで返す")
+    void shouldReturnCountsAsJson() throws Exception {
+        // given
+        when(taskService.countTasks()).thenReturn(List.of(
+                new TaskCountDto(TaskStatus.TODO, TaskPriority.HIGH, 1L, 3L),
+                new TaskCountDto(TaskStatus.DONE, TaskPriority.LOW, null, 1L)));
+
+        // when & then
+        mockMvc.perform(get("/tasks/counts"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].status").value("TODO"))
+                .andExpect(jsonPath("$[0].priority").value("HIGH"))
+                .andExpect(jsonPath("$[0].categoryId").value(1))
+                .andExpect(jsonPath("$[0].count").value(3))
+                .andExpect(jsonPath("$[1].categoryId").doesNotExist());
+    }
+}
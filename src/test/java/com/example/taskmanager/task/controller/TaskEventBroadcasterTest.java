@@ -0,0 +1,246 @@
+package com.example.taskmanager.task.controller;
+
+import com.example.taskmanager.common.enums.TaskPriority;
+import com.example.taskmanager.common.enums.TaskStatus;
+import com.example.taskmanager.common.event.TaskBulkChangedEvent;
+import com.example.taskmanager.common.event.TaskChangedEvent;
+import com.example.taskmanager.task.dto.TaskDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * TaskEventBroadcasterのテスト.
+ *
+ * <p>送信内容を記録するエミッターを登録し、送信用のスレッドでの書き出しを待って検証する。</p>
+ */
+@DisplayName("TaskEventBroadcasterのテスト")
+class TaskEventBroadcasterTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private TaskEventProperties properties;
+
+    private TaskEventBroadcaster broadcaster;
+
+    private TaskDto task;
+
+    @BeforeEach
+    void setUp() {
+        properties = new TaskEventProperties();
+        broadcaster = new TaskEventBroadcaster(properties, new ObjectMapper(), meterRegistry);
+        task = TaskDto.builder()
+                .id(1L)
+                .title("通知テスト")
+                .status(TaskStatus.IN_PROGRESS)
+                .priority(TaskPriority.HIGH)
+                .categoryId(1L)
+                .categoryName("仕事")
+                .categoryColor("#007bff")
+                .dueDate(LocalDate.of(2025, 12, 31))
+                .version(1)
+                .build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        broadcaster.shutdown();
+    }
+
+    @Nested
+    @DisplayName("タスク変更の配信")
+    class OnTaskChangedTest {
+
+        @Test
+        @DisplayName("更新されたタスクの行の内容をすべての接続へ送信する")
+        void shouldBroadcastUpdatedTask() {
+            // given
+            RecordingEmitter first = new RecordingEmitter();
+            RecordingEmitter second = new RecordingEmitter();
+            broadcaster.register(first);
+            broadcaster.register(second);
+
+            // when
+            broadcaster.onTaskChanged(TaskChangedEvent.updated(task, task));
+
+            // then
+            for (RecordingEmitter emitter : List.of(first, second)) {
+                awaitUntil(() -> emitter.sent.size() == 2);
+                assertThat(emitter.sent.get(0)).contains("retry:3000").contains(":connected");
+                assertThat(emitter.sent.get(1))
+                        .contains("event:task")
+                        .contains("\"type\":\"UPDATED\"")
+                        .contains("\"id\":1")
+                        .contains("\"version\":1")
+                        .contains("\"status\":\"IN_PROGRESS\"")
+                        .contains("\"statusName\":\"進行中\"")
+                        .contains("\"categoryColor\":\"#007bff\"")
+                        .contains("\"dueDate\":\"2025/12/31\"");
+            }
+        }
+
+        @Test
+        @DisplayName("削除の場合は変更種別とIDのみを送信する")
+        void shouldBroadcastDeletedTaskId() {
+            // given
+            RecordingEmitter emitter = new RecordingEmitter();
+            broadcaster.register(emitter);
+
+            // when
+            broadcaster.onTaskChanged(TaskChangedEvent.deleted(task));
+
+            // then
+            awaitUntil(() -> emitter.sent.size() == 2);
+            assertThat(emitter.sent.get(1))
+                    .contains("\"type\":\"DELETED\"")
+                    .contains("\"id\":1")
+                    .contains("\"title\":null");
+        }
+
+        @Test
+        @DisplayName("一括変更の場合は再読み込みを促す")
+        void shouldBroadcastReloadOnBulkChange() {
+            // given
+            RecordingEmitter emitter = new RecordingEmitter();
+            broadcaster.register(emitter);
+
+            // when
+            broadcaster.onTaskBulkChanged(TaskBulkChangedEvent.created(List.of(100L), 1));
+
+            // then
+            awaitUntil(() -> emitter.sent.size() == 2);
+            assertThat(emitter.sent.get(1)).contains("event:reload");
+        }
+    }
+
+    @Nested
+    @DisplayName("接続の管理")
+    class SubscriberTest {
+
+        @Test
+        @DisplayName("送信待ちがあふれた接続は再読み込みを促して切断する")
+        void shouldCloseSubscriberWhenBufferOverflows() {
+            // given
+            properties.setBufferSize(2);
+            BlockingEmitter slow = new BlockingEmitter();
+            RecordingEmitter fast = new RecordingEmitter();
+            broadcaster.register(slow);
+            broadcaster.register(fast);
+            awaitUntil(() -> slow.sent.size() == 1);
+
+            awaitUntil(() -> fast.sent.size() == 1);
+
+            // when（受信の速いクライアントは1件ずつ送信し終えてから次を配信する）
+            for (int i = 0; i < 4; i++) {
+                int expected = i + 2;
+                broadcaster.onTaskChanged(TaskChangedEvent.updated(task, task));
+                awaitUntil(() -> fast.sent.size() == expected);
+            }
+            slow.release.countDown();
+
+            // then
+            awaitUntil(() -> slow.completed);
+            assertThat(slow.sent.get(slow.sent.size() - 1)).contains("event:reload");
+            assertThat(broadcaster.getSubscriberCount()).isEqualTo(1);
+            assertThat(meterRegistry.counter(TaskEventBroadcaster.OVERFLOW_COUNTER).count()).isEqualTo(1.0);
+            awaitUntil(() -> fast.sent.size() == 5);
+        }
+
+        @Test
+        @DisplayName("送信に失敗した接続は配信対象から外す")
+        void shouldRemoveDisconnectedSubscriber() {
+            // given
+            RecordingEmitter emitter = new RecordingEmitter();
+            emitter.disconnected = true;
+
+            // when
+            broadcaster.register(emitter);
+
+            // then
+            awaitUntil(() -> broadcaster.getSubscriberCount() == 0);
+            assertThat(meterRegistry.get(TaskEventBroadcaster.SUBSCRIBERS_GAUGE).gauge().value()).isZero();
+        }
+    }
+
+    /**
+     * 条件が満たされるまで待つ.
+     *
+     * @param condition 条件
+     */
+    private static void awaitUntil(BooleanSupplier condition) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime()).as("condition not met within 5 seconds").isLessThan(deadline);
+            try {
+                Thread.sleep(10);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(ex);
+            }
+        }
+    }
+
+    /**
+     * 送信内容を記録するエミッター.
+     */
+    private static class RecordingEmitter extends SseEmitter {
+
+        final List<String> sent = new CopyOnWriteArrayList<>();
+
+        volatile boolean disconnected;
+
+        volatile boolean completed;
+
+        @Override
+        public void send(Set<DataWithMediaType> items) throws IOException {
+            if (disconnected) {
+                throw new IOException("Broken pipe");
+            }
+            sent.add(items.stream().map(item -> item.getData().toString()).collect(Collectors.joining()));
+        }
+
+        @Override
+        public void complete() {
+            completed = true;
+            super.complete();
+        }
+    }
+
+    /**
+     * 2件目以降の送信を解放されるまで待たせるエミッター（受信の遅いクライアント）.
+     */
+    private static class BlockingEmitter extends RecordingEmitter {
+
+        final CountDownLatch release = new CountDownLatch(1);
+
+        @Override
+        public void send(Set<DataWithMediaType> items) throws IOException {
+            if (!sent.isEmpty()) {
+                try {
+                    release.await();
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                    throw new IOException(ex);
+                }
+            }
+            super.send(items);
+        }
+    }
+}
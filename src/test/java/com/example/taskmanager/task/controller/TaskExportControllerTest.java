@@ -0,0 +1,87 @@
+package com.example.taskmanager.task.controller;
+
+import com.example.taskmanager.common.enums.TaskPriority;
+import com.example.taskmanager.common.enums.TaskStatus;
+import com.example.taskmanager.task.dto.TaskDto;
+import com.example.taskmanager.task.service.TaskService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.function.Consumer;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * TaskExportControllerの単体テスト.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@DisplayName("TaskExportControllerのテスト")
+class TaskExportControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private TaskService taskService;
+
+    private TaskDto testTaskDto;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        testTaskDto = TaskDto.builder()
+                .id(1L)
+                .title("テスト, \"引用\"")
+                .status(TaskStatus.TODO)
+                .priority(TaskPriority.HIGH)
+                .dueDate(LocalDate.of(2025, 12, 31))
+                .build();
+
+        doAnswer(invocation -> {
+            invocation.getArgument(0, Consumer.class).accept(testTaskDto);
+            return null;
+        }).when(taskService).forEachTask(any());
+    }
+
+    @Test
+    @DisplayName("CSV形式でエクスポートできる")
+    void shouldExportCsv() throws Exception {
+        MvcResult result = mockMvc.perform(get("/tasks/export.csv"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Disposition", containsString("tasks.csv")))
+                .andExpect(content().string(containsString("1,\"テスト, \"\"引用\"\"\",,TODO,HIGH,,,2025-12-31,,")));
+    }
+
+    @Test
+    @DisplayName("NDJSON形式でエクスポートできる")
+    void shouldExportNdjson() throws Exception {
+        MvcResult result = mockMvc.perform(get("/tasks/export.ndjson"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith("application/x-ndjson"))
+                .andExpect(content().string(containsString("\"id\":1,")))
+                .andExpect(content().string(containsString("\"status\":\"TODO\"")));
+    }
+}
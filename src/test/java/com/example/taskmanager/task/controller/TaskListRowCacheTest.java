@@ -0,0 +1,158 @@
+package com.example.taskmanager.task.controller;
+
+import com.example.taskmanager.common.cache.CategoryCache;
+import com.example.taskmanager.common.enums.TaskPriority;
+import com.example.taskmanager.common.enums.TaskStatus;
+import com.example.taskmanager.common.event.TaskBulkChangedEvent;
+import com.example.taskmanager.common.event.TaskChangedEvent;
+import com.example.taskmanager.task.dto.TaskDto;
+import com.example.taskmanager.task.dto.TaskListItemDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * TaskListRowCacheのテスト.
+ *
+ * <p>実際のテンプレートエンジンで行のフラグメントを描画する。</p>
+ */
+@SpringBootTest(properties = "app.task.list.row-cache-enabled=true")
+@DisplayName("TaskListRowCacheのテスト")
+class TaskListRowCacheTest {
+
+    @Autowired
+    private TaskListRowCache taskListRowCache;
+
+    @Autowired
+    private CategoryCache categoryCache;
+
+    private final MockHttpServletRequest request = new MockHttpServletRequest();
+
+    private final MockHttpServletResponse response = new MockHttpServletResponse();
+
+    private TaskListItemDto task;
+
+    @BeforeEach
+    void setUp() {
+        taskListRowCache.invalidate();
+        task = TaskListItemDto.builder()
+                .id(1L)
+                .title("行キャッシュ<テスト>")
+                .status(TaskStatus.IN_PROGRESS)
+                .priority(TaskPriority.HIGH)
+                .categoryId(1L)
+                .categoryName("仕事")
+                .categoryColor("#007bff")
+                .dueDate(LocalDate.of(2025, 12, 31))
+                .createdAt(LocalDateTime.of(2025, 6, 1, 9, 0))
+                .version(0)
+                .build();
+    }
+
+    @Test
+    @DisplayName("行のフラグメントを描画し、2回目以降は描画済みのHTMLを返す")
+    void shouldRenderRowOnceAndReuseIt() {
+        // given
+        long generation = taskListRowCache.currentGeneration();
+        long misses = taskListRowCache.getMissCount();
+        long hits = taskListRowCache.getHitCount();
+
+        // when
+        String first = taskListRowCache.render(List.of(task), generation, request, response).get(0);
+        String second = taskListRowCache.render(List.of(task), generation, request, response).get(0);
+
+        // then
+        assertThat(first).startsWith("<tr data-task-id=\"1\" data-version=\"0\">")
+                .contains("href=\"/tasks/1\"")
+                .contains("行キャッシュ&lt;テスト&gt;")
+                .contains("bg-primary")
+                .contains("2025/12/31");
+        assertThat(second).isSameAs(first);
+        assertThat(taskListRowCache.getMissCount()).isEqualTo(misses + 1);
+        assertThat(taskListRowCache.getHitCount()).isEqualTo(hits + 1);
+    }
+
+    @Test
+    @DisplayName("バージョンが変わった行は描画し直す")
+    void shouldRerenderWhenVersionChanges() {
+        // given
+        long generation = taskListRowCache.currentGeneration();
+        taskListRowCache.render(List.of(task), generation, request, response);
+        task.setTitle("更新後のタイトル");
+        task.setVersion(1);
+
+        // when
+        String html = taskListRowCache.render(List.of(task), generation, request, response).get(0);
+
+        // then
+        assertThat(html).contains("更新後のタイトル");
+    }
+
+    @Test
+    @DisplayName("カテゴリーの世代番号が進んだ場合は描画し直す")
+    void shouldRerenderWhenCategoryGenerationChanges() {
+        // given
+        taskListRowCache.render(List.of(task), taskListRowCache.currentGeneration(), request, response);
+        categoryCache.invalidate();
+        task.setCategoryName("個人");
+
+        // when
+        String html = taskListRowCache.render(List.of(task), taskListRowCache.currentGeneration(),
+                request, response).get(0);
+
+        // then
+        assertThat(html).contains("個人");
+    }
+
+    @Test
+    @DisplayName("削除されたタスクの行を破棄する")
+    void shouldEvictDeletedTask() {
+        // given
+        long generation = taskListRowCache.currentGeneration();
+        taskListRowCache.render(List.of(task), generation, request, response);
+        long misses = taskListRowCache.getMissCount();
+
+        // when
+        taskListRowCache.onTaskChanged(TaskChangedEvent.deleted(TaskDto.builder().id(1L).build()));
+        taskListRowCache.render(List.of(task), generation, request, response);
+
+        // then
+        assertThat(taskListRowCache.getMissCount()).isEqualTo(misses + 1);
+    }
+
+    @Test
+    @DisplayName("一括削除されたタスクの行のみを破棄し、一括更新・一括取込では破棄しない")
+    void shouldEvictBulkDeletedTasksOnly() {
+        // given
+        TaskListItemDto other = TaskListItemDto.builder()
+                .id(2L)
+                .title("別のタスク")
+                .status(TaskStatus.TODO)
+                .priority(TaskPriority.LOW)
+                .createdAt(LocalDateTime.of(2025, 6, 2, 9, 0))
+                .version(0)
+                .build();
+        long generation = taskListRowCache.currentGeneration();
+        taskListRowCache.render(List.of(task, other), generation, request, response);
+        long misses = taskListRowCache.getMissCount();
+
+        // when
+        taskListRowCache.onTaskBulkChanged(TaskBulkChangedEvent.updated(List.of(1L, 2L), 2));
+        taskListRowCache.onTaskBulkChanged(TaskBulkChangedEvent.created(List.of(3L), 1));
+        taskListRowCache.onTaskBulkChanged(TaskBulkChangedEvent.deleted(List.of(2L), 1));
+        taskListRowCache.render(List.of(task, other), generation, request, response);
+
+        // then
+        assertThat(taskListRowCache.getMissCount()).isEqualTo(misses + 1);
+    }
+}
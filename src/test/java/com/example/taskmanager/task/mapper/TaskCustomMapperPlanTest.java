@@ -0,0 +1,174 @@
+package com.example.taskmanager.task.mapper;
+
+import com.example.taskmanager.common.enums.TaskPriority;
+import com.example.taskmanager.common.enums.TaskStatus;
+import com.example.taskmanager.task.model.TaskDueRange;
+import com.example.taskmanager.task.model.TaskSearchCondition;
+import com.example.taskmanager.task.model.TaskSortKey;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.scripting.defaults.DefaultParameterHandler;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * TaskCustomMapperの一覧検索の実行計画のテスト.
+ *
+ * <p>マッパーXMLが生成するSQLをそのままH2のEXPLAINに渡し、よく使う絞り込みの組み合わせで
+ * tasksを全件走査せず、インデックスから行を読むことを確認する。</p>
+ */
+@SpringBootTest
+@DisplayName("TaskCustomMapperの実行計画のテスト")
+class TaskCustomMapperPlanTest {
+
+    /** 一覧のキーセットページングのステートメントID */
+    private static final String SELECT_LIST_PAGE = TaskCustomMapper.class.getName() + ".selectListPage";
+
+    /** インデックスの順に読み、並べ替えを行わない場合の実行計画の表記 */
+    private static final String INDEX_SORTED = "/* index sorted */";
+
+    /** tasksを全件走査する場合の実行計画の表記 */
+    private static final String TASKS_TABLE_SCAN = "PUBLIC.TASKS.tableScan";
+
+    @Autowired
+    private SqlSessionFactory sqlSessionFactory;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Test
+    @DisplayName("ステータスの複数指定はステータスの複合インデックスを使用する")
+    void shouldUseStatusIndexForStatuses() throws SQLException {
+        // given
+        TaskSearchCondition condition = TaskSearchCondition.builder()
+                .statuses(List.of(TaskStatus.TODO, TaskStatus.IN_PROGRESS))
+                .build();
+
+        // when
+        String plan = explainListPage(condition, null, null, null);
+
+        // then
+        assertThat(plan).doesNotContain(TASKS_TABLE_SCAN).containsIgnoringCase("idx_tasks_status_created_at_id");
+    }
+
+    @Test
+    @DisplayName("ステータス1件とカーソルの指定はステータスの複合インデックスを使用する")
+    void shouldUseStatusIndexForSingleStatusWithCursor() throws SQLException {
+        // given
+        TaskSearchCondition condition = TaskSearchCondition.of(TaskStatus.TODO, null, null);
+
+        // when
+        String plan = explainListPage(condition, LocalDateTime.of(2025, 12, 1, 10, 0), null, 100L);
+
+        // then
+        assertThat(plan).doesNotContain(TASKS_TABLE_SCAN).containsIgnoringCase("idx_tasks_status_created_at_id");
+    }
+
+    @Test
+    @DisplayName("カテゴリーの複数指定と優先度の組み合わせはtasksを全件走査しない")
+    void shouldNotScanTasksForCategoriesAndPriority() throws SQLException {
+        // given
+        TaskSearchCondition condition = TaskSearchCondition.builder()
+                .priorities(List.of(TaskPriority.HIGH))
+                .categoryIds(List.of(1L, 2L))
+                .build();
+
+        // when
+        String plan = explainListPage(condition, null, null, null);
+
+        // then
+        assertThat(plan).doesNotContain(TASKS_TABLE_SCAN);
+    }
+
+    @Test
+    @DisplayName("期限日の範囲指定は期限日のインデックスを使用する")
+    void shouldUseDueDateIndexForDueDateRange() throws SQLException {
+        // given
+        TaskSearchCondition condition = TaskSearchCondition.builder()
+                .dueDateFrom(LocalDate.of(2025, 12, 1))
+                .dueDateTo(LocalDate.of(2025, 12, 31))
+                .sort(TaskSortKey.DUE_DATE_ASC)
+                .build();
+
+        // when
+        String plan = explainListPage(condition, null, LocalDate.of(2025, 12, 10), 100L);
+
+        // then
+        assertThat(plan).doesNotContain(TASKS_TABLE_SCAN).containsIgnoringCase("idx_tasks_due_date_id")
+                .contains(INDEX_SORTED);
+    }
+
+    @Test
+    @DisplayName("期限切れの抽出は期限日のインデックスを並べ替えなしで読む")
+    void shouldUseDueDateStatusIndexForOverdue() throws SQLException {
+        // given
+        TaskSearchCondition condition = TaskDueRange.OVERDUE.toCondition(LocalDate.of(2025, 12, 10), 0);
+
+        // when
+        String plan = explainListPage(condition, null, null, null);
+
+        // then
+        assertThat(plan).doesNotContain(TASKS_TABLE_SCAN).containsIgnoringCase("idx_tasks_due_date_id")
+                .contains(INDEX_SORTED);
+    }
+
+    @Test
+    @DisplayName("期限間近の抽出とカーソルの指定は期限日のインデックスを並べ替えなしで読む")
+    void shouldUseDueDateStatusIndexForDueSoonWithCursor() throws SQLException {
+        // given
+        TaskSearchCondition condition = TaskDueRange.SOON.toCondition(LocalDate.of(2025, 12, 10), 7);
+
+        // when
+        String plan = explainListPage(condition, null, LocalDate.of(2025, 12, 12), 100L);
+
+        // then
+        assertThat(plan).doesNotContain(TASKS_TABLE_SCAN).containsIgnoringCase("idx_tasks_due_date_id")
+                .contains(INDEX_SORTED);
+    }
+
+    /**
+     * selectListPageのSQLを生成し、実行計画を取得する.
+     *
+     * @param condition       検索条件
+     * @param cursorCreatedAt カーソルの作成日時
+     * @param cursorDueDate   カーソルの期限日
+     * @param cursorId        カーソルのタスクID
+     * @return 実行計画
+     */
+    private String explainListPage(TaskSearchCondition condition, LocalDateTime cursorCreatedAt,
+                                   LocalDate cursorDueDate, Long cursorId) throws SQLException {
+        Map<String, Object> parameter = new HashMap<>();
+        parameter.put("condition", condition);
+        parameter.put("cursorCreatedAt", cursorCreatedAt);
+        parameter.put("cursorDueDate", cursorDueDate);
+        parameter.put("cursorId", cursorId);
+        parameter.put("limit", 51);
+        MappedStatement statement = sqlSessionFactory.getConfiguration().getMappedStatement(SELECT_LIST_PAGE);
+        BoundSql boundSql = statement.getBoundSql(parameter);
+
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement explain = connection.prepareStatement("EXPLAIN " + boundSql.getSql())) {
+            new DefaultParameterHandler(statement, parameter, boundSql).setParameters(explain);
+            try (ResultSet rs = explain.executeQuery()) {
+                rs.next();
+                return rs.getString(1);
+            }
+        }
+    }
+}
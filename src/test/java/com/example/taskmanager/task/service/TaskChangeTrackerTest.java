@@ -0,0 +1,113 @@
+package com.example.taskmanager.task.service;
+
+import com.example.taskmanager.common.cache.CategoryCache;
+import com.example.taskmanager.common.event.CategoryChangedEvent;
+import com.example.taskmanager.common.event.ChangeType;
+import com.example.taskmanager.common.event.TaskBulkChangedEvent;
+import com.example.taskmanager.common.event.TaskChangedEvent;
+import com.example.taskmanager.common.history.TaskHistoryWriter;
+import com.example.taskmanager.task.dto.TaskDto;
+import com.example.taskmanager.task.model.TaskValidator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+/**
+ * TaskChangeTrackerの単体テスト.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TaskChangeTrackerのテスト")
+class TaskChangeTrackerTest {
+
+    @Mock
+    private CategoryCache categoryCache;
+
+    @Mock
+    private TaskHistoryWriter taskHistoryWriter;
+
+    private TaskChangeTracker taskChangeTracker;
+
+    @BeforeEach
+    void setUp() {
+        taskChangeTracker = new TaskChangeTracker(categoryCache, taskHistoryWriter);
+    }
+
+    @Test
+    @DisplayName("変更がなければ一覧の検証子は変わらない")
+    void shouldKeepListValidatorWithoutChanges() {
+        // when
+        TaskValidator first = taskChangeTracker.getListValidator();
+        TaskValidator second = taskChangeTracker.getListValidator();
+
+        // then
+        assertThat(second).isEqualTo(first);
+        assertThat(first.eTag()).startsWith("\"").endsWith("\"");
+    }
+
+    @Test
+    @DisplayName("タスク・一括・カテゴリーの変更ごとに一覧のETagが変わる")
+    void shouldChangeListValidatorOnEachChange() {
+        // given
+        TaskValidator initial = taskChangeTracker.getListValidator();
+
+        // when
+        taskChangeTracker.onTaskChanged(TaskChangedEvent.created(TaskDto.builder().id(1L).build()));
+        TaskValidator afterTask = taskChangeTracker.getListValidator();
+        taskChangeTracker.onTaskBulkChanged(TaskBulkChangedEvent.created(List.of(10L), 1));
+        TaskValidator afterBulk = taskChangeTracker.getListValidator();
+        taskChangeTracker.onCategoryChanged(new CategoryChangedEvent(1L, ChangeType.UPDATED));
+        TaskValidator afterCategory = taskChangeTracker.getListValidator();
+
+        // then
+        assertThat(afterTask.eTag()).isNotEqualTo(initial.eTag());
+        assertThat(afterBulk.eTag()).isNotEqualTo(afterTask.eTag());
+        assertThat(afterCategory.eTag()).isNotEqualTo(afterBulk.eTag());
+        assertThat(afterCategory.lastModified()).isGreaterThanOrEqualTo(initial.lastModified());
+    }
+
+    @Test
+    @DisplayName("詳細の検証子はバージョンとカテゴリーの世代番号で変わる")
+    void shouldChangeTaskValidatorWithVersionAndCategoryGeneration() {
+        // given
+        LocalDateTime updatedAt = LocalDateTime.now().plusMinutes(1);
+        when(categoryCache.getGeneration()).thenReturn(5L, 5L, 5L, 6L);
+
+        // when
+        TaskValidator first = taskChangeTracker.getTaskValidator(1L, 3, updatedAt);
+        TaskValidator same = taskChangeTracker.getTaskValidator(1L, 3, updatedAt);
+        TaskValidator nextVersion = taskChangeTracker.getTaskValidator(1L, 4, updatedAt);
+        TaskValidator nextGeneration = taskChangeTracker.getTaskValidator(1L, 3, updatedAt);
+
+        // then
+        assertThat(same).isEqualTo(first);
+        assertThat(nextVersion.eTag()).isNotEqualTo(first.eTag());
+        assertThat(nextGeneration.eTag()).isNotEqualTo(first.eTag());
+        assertThat(first.lastModified())
+                .isEqualTo(updatedAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
+    }
+
+    @Test
+    @DisplayName("詳細の検証子は変更履歴の登録ごとに変わる")
+    void shouldChangeTaskValidatorWhenHistoryWritten() {
+        // given
+        LocalDateTime updatedAt = LocalDateTime.now();
+        when(taskHistoryWriter.getGeneration(1L)).thenReturn(10L, 11L);
+
+        // when
+        TaskValidator beforeWrite = taskChangeTracker.getTaskValidator(1L, 3, updatedAt);
+        TaskValidator afterWrite = taskChangeTracker.getTaskValidator(1L, 3, updatedAt);
+
+        // then
+        assertThat(afterWrite.eTag()).isNotEqualTo(beforeWrite.eTag());
+    }
+}
@@ -0,0 +1,178 @@
+package com.example.taskmanager.task.service;
+
+import com.example.taskmanager.common.enums.TaskPriority;
+import com.example.taskmanager.common.enums.TaskStatus;
+import com.example.taskmanager.common.event.CategoryChangedEvent;
+import com.example.taskmanager.common.event.ChangeType;
+import com.example.taskmanager.common.event.TaskBulkChangedEvent;
+import com.example.taskmanager.common.event.TaskChangedEvent;
+import com.example.taskmanager.task.dto.TaskCountDto;
+import com.example.taskmanager.task.dto.TaskDto;
+import com.example.taskmanager.task.mapper.TaskCustomMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+/**
+ * TaskCountTableの単体テスト.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TaskCountTableのテスト")
+class TaskCountTableTest {
+
+    @Mock
+    private TaskCustomMapper taskCustomMapper;
+
+    private TaskCountTable taskCountTable;
+
+    @BeforeEach
+    void setUp() {
+        TaskDashboardProperties properties = new TaskDashboardProperties();
+        properties.setCounterEnabled(true);
+        taskCountTable = new TaskCountTable(taskCustomMapper, properties);
+    }
+
+    @Test
+    @DisplayName("初回参照時のみDBで集計する")
+    void shouldLoadOnlyOnce() {
+        // given
+        when(taskCustomMapper.countByStatusPriorityCategory())
+                .thenReturn(List.of(count(TaskStatus.TODO, TaskPriority.HIGH, 1L, 2)));
+
+        // when
+        taskCountTable.getCounts();
+        List<TaskCountDto> result = taskCountTable.getCounts();
+
+        // then
+        assertThat(result).containsExactly(count(TaskStatus.TODO, TaskPriority.HIGH, 1L, 2));
+        verify(taskCustomMapper, times(1)).countByStatusPriorityCategory();
+    }
+
+    @Test
+    @DisplayName("タスクの登録・更新・削除で件数を加減算する")
+    void shouldApplyTaskChanges() {
+        // given
+        when(taskCustomMapper.countByStatusPriorityCategory())
+                .thenReturn(List.of(count(TaskStatus.TODO, TaskPriority.HIGH, 1L, 1)));
+        taskCountTable.getCounts();
+        TaskDto todo = task(1L, TaskStatus.TODO);
+        TaskDto done = task(1L, TaskStatus.DONE);
+        TaskDto created = task(2L, TaskStatus.TODO);
+
+        // when
+        commit(TaskChangedEvent.created(created));
+        commit(TaskChangedEvent.updated(todo, done));
+        commit(TaskChangedEvent.deleted(created));
+
+        // then
+        assertThat(taskCountTable.getCounts())
+                .containsExactly(count(TaskStatus.DONE, TaskPriority.HIGH, 1L, 1));
+        verify(taskCustomMapper, times(1)).countByStatusPriorityCategory();
+    }
+
+    @Test
+    @DisplayName("未読み込みの場合は変更イベントを無視する")
+    void shouldIgnoreChangesBeforeLoad() {
+        // given
+        commit(TaskChangedEvent.created(task(1L, TaskStatus.TODO)));
+        when(taskCustomMapper.countByStatusPriorityCategory()).thenReturn(List.of());
+
+        // when
+        List<TaskCountDto> result = taskCountTable.getCounts();
+
+        // then
+        assertThat(result).isEmpty();
+    }
+
+    @Test
+    @DisplayName("一括変更とカテゴリー削除の後は再集計する")
+    void shouldReloadAfterBulkChangeAndCategoryDeletion() {
+        // given
+        when(taskCustomMapper.countByStatusPriorityCategory()).thenReturn(List.of());
+        taskCountTable.getCounts();
+
+        // when
+        taskCountTable.onTaskBulkChanged(TaskBulkChangedEvent.created(List.of(10L), 1));
+        taskCountTable.getCounts();
+        taskCountTable.onCategoryChanged(new CategoryChangedEvent(1L, ChangeType.UPDATED));
+        taskCountTable.getCounts();
+        taskCountTable.onCategoryChanged(new CategoryChangedEvent(1L, ChangeType.DELETED));
+        taskCountTable.getCounts();
+
+        // then
+        verify(taskCustomMapper, times(3)).countByStatusPriorityCategory();
+    }
+
+    @Test
+    @DisplayName("コミット中の変更がある間の集計結果は保持せず、コミット後の加算と二重に数えない")
+    void shouldNotKeepCountsLoadedWhileChangeIsCommitting() {
+        // given（集計結果はコミット済みの登録を含む）
+        TaskChangedEvent created = TaskChangedEvent.created(task(1L, TaskStatus.TODO));
+        when(taskCustomMapper.countByStatusPriorityCategory())
+                .thenReturn(List.of(count(TaskStatus.TODO, TaskPriority.HIGH, 1L, 1)));
+        taskCountTable.onTaskChanging(created);
+
+        // when
+        List<TaskCountDto> duringCommit = taskCountTable.getCounts();
+        taskCountTable.onTaskChanged(created);
+        taskCountTable.onTaskChangeCompleted(created);
+        List<TaskCountDto> afterCommit = taskCountTable.getCounts();
+
+        // then
+        assertThat(duringCommit).containsExactly(count(TaskStatus.TODO, TaskPriority.HIGH, 1L, 1));
+        assertThat(afterCommit).containsExactly(count(TaskStatus.TODO, TaskPriority.HIGH, 1L, 1));
+        verify(taskCustomMapper, times(2)).countByStatusPriorityCategory();
+    }
+
+    @Test
+    @DisplayName("集計中に破棄された場合は集計結果を保持しない")
+    void shouldNotKeepCountsInvalidatedDuringLoad() {
+        // given
+        when(taskCustomMapper.countByStatusPriorityCategory())
+                .thenAnswer(invocation -> {
+                    taskCountTable.onTaskBulkChanged(TaskBulkChangedEvent.created(List.of(10L), 1));
+                    return List.of();
+                })
+                .thenReturn(List.of());
+
+        // when
+        taskCountTable.getCounts();
+        taskCountTable.getCounts();
+        taskCountTable.getCounts();
+
+        // then
+        verify(taskCustomMapper, times(2)).countByStatusPriorityCategory();
+    }
+
+    /**
+     * タスク変更のコミット前・コミット後・完了後のイベントを順に配信する.
+     *
+     * @param event タスク変更イベント
+     */
+    private void commit(TaskChangedEvent event) {
+        taskCountTable.onTaskChanging(event);
+        taskCountTable.onTaskChanged(event);
+        taskCountTable.onTaskChangeCompleted(event);
+    }
+
+    private TaskDto task(Long id, TaskStatus status) {
+        return TaskDto.builder()
+                .id(id)
+                .status(status)
+                .priority(TaskPriority.HIGH)
+                .categoryId(1L)
+                .build();
+    }
+
+    private TaskCountDto count(TaskStatus status, TaskPriority priority, Long categoryId, long count) {
+        return new TaskCountDto(status, priority, categoryId, count);
+    }
+}
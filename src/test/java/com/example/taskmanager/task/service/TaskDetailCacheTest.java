@@ -0,0 +1,179 @@
+package com.example.taskmanager.task.service;
+
+import com.example.taskmanager.common.cache.CategoryCache;
+import com.example.taskmanager.common.entity.TaskCategory;
+import com.example.taskmanager.common.enums.TaskPriority;
+import com.example.taskmanager.common.enums.TaskStatus;
+import com.example.taskmanager.common.event.CategoryChangedEvent;
+import com.example.taskmanager.common.event.ChangeType;
+import com.example.taskmanager.common.event.TaskBulkChangedEvent;
+import com.example.taskmanager.common.event.TaskChangedEvent;
+import com.example.taskmanager.task.dto.TaskDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+/**
+ * TaskDetailCacheの単体テスト.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TaskDetailCacheのテスト")
+class TaskDetailCacheTest {
+
+    @Mock
+    private CategoryCache categoryCache;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private TaskDetailCacheProperties properties;
+
+    private TaskDetailCache taskDetailCache;
+
+    @BeforeEach
+    void setUp() {
+        properties = new TaskDetailCacheProperties();
+        properties.setEnabled(true);
+        taskDetailCache = new TaskDetailCache(properties, categoryCache, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("格納したタスクを複製して返す")
+    void shouldReturnCopyOfCachedTask() {
+        // given
+        when(categoryCache.findById(1L)).thenReturn(category(1L, "仕事", "#0d6efd"));
+        taskDetailCache.put(task(1L, 1L, 0), taskDetailCache.getGeneration());
+
+        // when
+        TaskDto first = taskDetailCache.get(1L);
+        first.setTitle("変更");
+        TaskDto second = taskDetailCache.get(1L);
+
+        // then
+        assertThat(second.getTitle()).isEqualTo("キャッシュテスト");
+        assertThat(second.getCategoryName()).isEqualTo("仕事");
+        assertThat(taskDetailCache.get(2L)).isNull();
+        assertThat(meterRegistry.get(TaskDetailCache.HIT_RATIO_GAUGE).gauge().value()).isEqualTo(2.0 / 3);
+    }
+
+    @Test
+    @DisplayName("カテゴリー名・カテゴリー色は取得時のカテゴリーキャッシュの値で設定する")
+    void shouldOverlayCurrentCategory() {
+        // given
+        when(categoryCache.findById(1L))
+                .thenReturn(category(1L, "仕事", "#0d6efd"))
+                .thenReturn(category(1L, "業務", "#dc3545"));
+        taskDetailCache.put(task(1L, 1L, 0), taskDetailCache.getGeneration());
+        taskDetailCache.get(1L);
+
+        // when（カテゴリーの名前・色を変更してもタスクは破棄しない）
+        taskDetailCache.onCategoryChanged(new CategoryChangedEvent(1L, ChangeType.UPDATED));
+        TaskDto result = taskDetailCache.get(1L);
+
+        // then
+        assertThat(result.getCategoryName()).isEqualTo("業務");
+        assertThat(result.getCategoryColor()).isEqualTo("#dc3545");
+    }
+
+    @Test
+    @DisplayName("タスクの更新・削除で該当するタスクのみ破棄し、登録では破棄しない")
+    void shouldInvalidateUpdatedAndDeletedTasks() {
+        // given
+        long generation = taskDetailCache.getGeneration();
+        taskDetailCache.put(task(1L, null, 0), generation);
+        taskDetailCache.put(task(2L, null, 0), generation);
+        taskDetailCache.put(task(3L, null, 0), generation);
+
+        // when
+        taskDetailCache.onTaskChanged(TaskChangedEvent.created(task(4L, null, 0)));
+        taskDetailCache.onTaskChanged(TaskChangedEvent.updated(task(1L, null, 0), task(1L, null, 1)));
+        taskDetailCache.onTaskChanged(TaskChangedEvent.deleted(task(2L, null, 0)));
+
+        // then
+        assertThat(taskDetailCache.get(1L)).isNull();
+        assertThat(taskDetailCache.get(2L)).isNull();
+        assertThat(taskDetailCache.get(3L)).isNotNull();
+        assertThat(taskDetailCache.getGeneration()).isEqualTo(generation + 2);
+    }
+
+    @Test
+    @DisplayName("一括更新の対象のタスクを破棄し、一括取込では破棄せず、カテゴリーの削除ではすべて破棄する")
+    void shouldInvalidateOnBulkChangeAndCategoryDeletion() {
+        // given
+        long generation = taskDetailCache.getGeneration();
+        taskDetailCache.put(task(1L, null, 0), generation);
+        taskDetailCache.put(task(2L, null, 0), generation);
+        taskDetailCache.put(task(3L, null, 0), generation);
+
+        // when
+        taskDetailCache.onTaskBulkChanged(TaskBulkChangedEvent.created(List.of(3L), 1));
+        taskDetailCache.onTaskBulkChanged(TaskBulkChangedEvent.updated(List.of(1L, 2L), 2));
+
+        // then
+        assertThat(taskDetailCache.get(1L)).isNull();
+        assertThat(taskDetailCache.get(2L)).isNull();
+        assertThat(taskDetailCache.get(3L)).isNotNull();
+
+        // when
+        taskDetailCache.onCategoryChanged(new CategoryChangedEvent(1L, ChangeType.DELETED));
+
+        // then
+        assertThat(taskDetailCache.get(3L)).isNull();
+    }
+
+    @Test
+    @DisplayName("取得中に破棄が行われた場合は格納しない")
+    void shouldNotPutWhenInvalidatedDuringLoad() {
+        // given（DBから取得する前に世代番号を記録する）
+        long generation = taskDetailCache.getGeneration();
+
+        // when（取得中に更新がコミットされる）
+        taskDetailCache.onTaskChanged(TaskChangedEvent.updated(task(1L, null, 0), task(1L, null, 1)));
+        taskDetailCache.put(task(1L, null, 0), generation);
+
+        // then
+        assertThat(taskDetailCache.get(1L)).isNull();
+    }
+
+    @Test
+    @DisplayName("無効な場合は格納しない")
+    void shouldNotCacheWhenDisabled() {
+        // given
+        properties.setEnabled(false);
+
+        // when
+        taskDetailCache.put(task(1L, null, 0), taskDetailCache.getGeneration());
+
+        // then
+        properties.setEnabled(true);
+        assertThat(taskDetailCache.get(1L)).isNull();
+        verifyNoInteractions(categoryCache);
+    }
+
+    private static TaskDto task(Long id, Long categoryId, int version) {
+        return TaskDto.builder()
+                .id(id)
+                .title("キャッシュテスト")
+                .status(TaskStatus.TODO)
+                .priority(TaskPriority.MEDIUM)
+                .categoryId(categoryId)
+                .version(version)
+                .build();
+    }
+
+    private static TaskCategory category(Long id, String name, String color) {
+        TaskCategory category = new TaskCategory();
+        category.setId(id);
+        category.setName(name);
+        category.setColor(color);
+        return category;
+    }
+}
@@ -0,0 +1,115 @@
+package com.example.taskmanager.task.service;
+
+import com.example.taskmanager.common.enums.TaskPriority;
+import com.example.taskmanager.common.enums.TaskStatus;
+import com.example.taskmanager.task.dto.TaskImportResult;
+import com.example.taskmanager.task.form.TaskForm;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * TaskImportServiceImplの結合テスト.
+ *
+ * <p>BATCH実行とコミット単位の動作を確認するため、H2に対して実際に登録する。</p>
+ */
+@SpringBootTest(properties = {
+        "app.task.import.chunk-size=2",
+        "app.task.import.commit-interval=3"
+})
+@DisplayName("TaskImportServiceImplのテスト")
+class TaskImportServiceImplTest {
+
+    /** テストで登録したタスクを識別するタイトルの接頭辞 */
+    private static final String PREFIX = "取込テスト";
+
+    @Autowired
+    private TaskImportService taskImportService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TaskSearchIndex taskSearchIndex;
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM tasks WHERE title LIKE ?", PREFIX + "%");
+        jdbcTemplate.update("UPDATE task_categories c"
+                + " SET task_count = (SELECT COUNT(*) FROM tasks t WHERE t.category_id = c.id)");
+    }
+
+    @Test
+    @DisplayName("CSVの有効な行を登録し、不正な行をエラーとして報告する")
+    void shouldImportValidCsvRowsAndReportErrors() throws Exception {
+        // given
+        String csv = "\uFEFFtitle,description,status,priority,category_id,due_date\r\n"
+                + PREFIX + "1,\"説明, カンマ付き\",TODO,HIGH,1,2025-12-31\r\n"
+                + PREFIX + "2,\"改行\n付き\",DONE,LOW,,\r\n"
+                + ",タイトルなし,TODO,HIGH,,\r\n"
+                + PREFIX + "4,,UNKNOWN,HIGH,,\r\n"
+                + PREFIX + "5,,TODO,HIGH,999,\r\n"
+                + PREFIX + "6,,IN_PROGRESS,MEDIUM,2,2026-01-15\r\n"
+                + PREFIX + "7,,TODO,MEDIUM,,\r\n";
+
+        int workCount = categoryTaskCount(1L);
+        int privateCount = categoryTaskCount(2L);
+
+        // when
+        TaskImportResult result = taskImportService.importCsv(
+                new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)));
+
+        // then
+        assertThat(result.getTotalRows()).isEqualTo(7);
+        assertThat(result.getImportedRows()).isEqualTo(4);
+        assertThat(result.getFailedRows()).isEqualTo(3);
+        assertThat(result.getErrors()).extracting("rowNumber").containsExactly(4, 5, 6);
+        assertThat(countImported()).isEqualTo(4);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT description FROM tasks WHERE title = ?", String.class, PREFIX + "2"))
+                .isEqualTo("改行\n付き");
+        assertThat(categoryTaskCount(1L)).isEqualTo(workCount + 1);
+        assertThat(categoryTaskCount(2L)).isEqualTo(privateCount + 1);
+        assertThat(taskSearchIndex.search(PREFIX)).containsAll(jdbcTemplate.queryForList(
+                "SELECT id FROM tasks WHERE title LIKE ?", Long.class, PREFIX + "%"));
+    }
+
+    @Test
+    @DisplayName("フォームのリストから登録できる")
+    void shouldImportForms() {
+        // given
+        List<TaskForm> forms = List.of(
+                TaskForm.builder().title(PREFIX + "A").status(TaskStatus.TODO).priority(TaskPriority.LOW).build(),
+                TaskForm.builder().title(PREFIX + "B").status(TaskStatus.DONE).priority(TaskPriority.HIGH).build(),
+                TaskForm.builder().title(PREFIX + "C").priority(TaskPriority.HIGH).build());
+
+        // when
+        TaskImportResult result = taskImportService.importForms(forms);
+
+        // then
+        assertThat(result.getImportedRows()).isEqualTo(2);
+        assertThat(result.getErrors()).hasSize(1);
+        assertThat(result.getErrors().get(0).getRowNumber()).isEqualTo(3);
+        assertThat(result.getErrors().get(0).getMessages()).containsExactly("ステータスを選択してください");
+        assertThat(countImported()).isEqualTo(2);
+    }
+
+    private int countImported() {
+        return jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM tasks WHERE title LIKE ?", Integer.class, PREFIX + "%");
+    }
+
+    private int categoryTaskCount(Long categoryId) {
+        return jdbcTemplate.queryForObject(
+                "SELECT task_count FROM task_categories WHERE id = ?", Integer.class, categoryId);
+    }
+}
@@ -0,0 +1,228 @@
+package com.example.taskmanager.task.service;
+
+import com.example.taskmanager.common.event.TaskBulkChangedEvent;
+import com.example.taskmanager.common.event.TaskChangedEvent;
+import com.example.taskmanager.task.dto.TaskDto;
+import com.example.taskmanager.task.mapper.TaskCustomMapper;
+import org.apache.ibatis.cursor.Cursor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+/**
+ * TaskSearchIndexの単体テスト.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TaskSearchIndexのテスト")
+class TaskSearchIndexTest {
+
+    @Mock
+    private TaskCustomMapper taskCustomMapper;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private TaskChangeTracker taskChangeTracker;
+
+    @InjectMocks
+    private TaskSearchIndex taskSearchIndex;
+
+    @BeforeEach
+    void setUp() {
+        taskSearchIndex.index(task(1L, "会議資料の作成", "来週の定例会議で使う資料を作成する"));
+        taskSearchIndex.index(task(2L, "買い物", "東京で会議用の文具を買う"));
+        taskSearchIndex.index(task(3L, "Spring Boot 学習", "ＳＰＲＩＮＧ公式ガイドを読む"));
+    }
+
+    @Test
+    @DisplayName("日本語のキーワードで検索できる")
+    void shouldSearchJapanese() {
+        assertThat(taskSearchIndex.search("会議")).containsExactly(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("タイトルに含まれるタスクを上位に返す")
+    void shouldRankTitleMatchesHigher() {
+        assertThat(taskSearchIndex.search("文具")).containsExactly(2L);
+        assertThat(taskSearchIndex.search("資料").get(0)).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("空白区切りの複数キーワードはAND条件で検索する")
+    void shouldSearchWithAllWords() {
+        assertThat(taskSearchIndex.search("会議　東京")).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("全角・大文字の表記ゆれを吸収する")
+    void shouldNormalizeWidthAndCase() {
+        assertThat(taskSearchIndex.search("spring")).containsExactly(3L);
+        assertThat(taskSearchIndex.search("ｂｏｏｔ")).containsExactly(3L);
+    }
+
+    @Test
+    @DisplayName("バイグラムがすべて含まれても連続していない場合はDBの本文との照合で取り除く")
+    void shouldNotMatchNonContiguousBigrams() {
+        // given
+        TaskDto kyoto = task(4L, "京都旅行", "東京から新幹線で移動する");
+        taskSearchIndex.index(kyoto);
+        when(taskCustomMapper.selectSearchTextsByIds(List.of(4L))).thenReturn(List.of(kyoto));
+
+        // when（「東京」「京都」はどちらも含むが「東京都」は含まない）
+        List<Long> candidates = taskSearchIndex.search("東京都");
+
+        // then
+        assertThat(candidates).containsExactly(4L);
+        assertThat(taskSearchIndex.filterMatches("東京都", candidates)).isEmpty();
+        assertThat(taskSearchIndex.search("京都")).containsExactly(4L);
+    }
+
+    @Test
+    @DisplayName("2文字以下のキーワードのみの場合はDBで照合しない")
+    void shouldNotQueryForShortWords() {
+        // when
+        List<Long> result = taskSearchIndex.filterMatches("会議 東", List.of(2L));
+
+        // then
+        assertThat(result).containsExactly(2L);
+        verifyNoInteractions(taskCustomMapper);
+    }
+
+    @Test
+    @DisplayName("3文字以上のキーワードは候補の順序を保ったまま本文に含まれるものに絞り込む")
+    void shouldFilterCandidatesByText() {
+        // given
+        when(taskCustomMapper.selectSearchTextsByIds(List.of(3L, 1L, 2L))).thenReturn(List.of(
+                task(1L, "会議資料の作成", "来週の定例会議で使う資料を作成する"),
+                task(3L, "Spring Boot 学習", "ＳＰＲＩＮＧ公式ガイドを読む")));
+
+        // when（2は削除済み）
+        List<Long> result = taskSearchIndex.filterMatches("ｓｐｒｉｎｇ", List.of(3L, 1L, 2L));
+
+        // then
+        assertThat(result).containsExactly(3L);
+    }
+
+    @Test
+    @DisplayName("再構築中にコミットされた変更は差し替え後のインデックスにも反映する")
+    void shouldReapplyChangesDuringRebuild() {
+        // given（DBの読み込み中に、読み込み済みのタスク1の削除とタスク5の登録がコミットされる）
+        doAnswer(invocation -> {
+            invocation.<Consumer<TransactionStatus>>getArgument(0).accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+        when(taskCustomMapper.selectSearchTextsCursor()).thenAnswer(invocation -> {
+            taskSearchIndex.onTaskChanged(TaskChangedEvent.deleted(task(1L, "会議資料の作成", null)));
+            taskSearchIndex.onTaskChanged(TaskChangedEvent.created(task(5L, "会議室の予約", null)));
+            return cursor(task(1L, "会議資料の作成", null), task(2L, "買い物", "東京で会議用の文具を買う"));
+        });
+
+        // when
+        taskSearchIndex.rebuild();
+
+        // then
+        assertThat(taskSearchIndex.search("会議")).containsExactly(5L, 2L);
+        assertThat(taskSearchIndex.size()).isEqualTo(2);
+        verify(taskChangeTracker).markModified();
+    }
+
+    @Test
+    @DisplayName("再構築に失敗した場合は差し替えず、変更回数も進めない")
+    void shouldNotMarkModifiedWhenRebuildFails() {
+        // given
+        doThrow(new IllegalStateException("DB error")).when(transactionTemplate).executeWithoutResult(any());
+
+        // when
+        assertThatThrownBy(() -> taskSearchIndex.rebuild()).isInstanceOf(IllegalStateException.class);
+
+        // then
+        assertThat(taskSearchIndex.search("会議")).containsExactly(1L, 2L);
+        verifyNoInteractions(taskChangeTracker);
+    }
+
+    @Test
+    @DisplayName("1文字のキーワードで検索できる")
+    void shouldSearchSingleCharacter() {
+        assertThat(taskSearchIndex.search("東")).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("更新・削除イベントを反映する")
+    void shouldApplyChangeEvents() {
+        // when
+        TaskDto before = task(2L, "買い物", "東京で会議用の文具を買う");
+        taskSearchIndex.onTaskChanged(TaskChangedEvent.updated(before, task(2L, "買い物", "近所で文具を買う")));
+        taskSearchIndex.onTaskChanged(TaskChangedEvent.deleted(task(1L, "会議資料の作成", null)));
+
+        // then
+        assertThat(taskSearchIndex.search("会議")).isEmpty();
+        assertThat(taskSearchIndex.search("近所")).containsExactly(2L);
+        assertThat(taskSearchIndex.size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("一括削除イベントは対象のタスクのみを取り除き、一括更新イベントでは作り直さない")
+    void shouldApplyBulkChangeEvents() {
+        // when
+        taskSearchIndex.onTaskBulkChanged(TaskBulkChangedEvent.updated(List.of(1L, 2L), 2));
+        taskSearchIndex.onTaskBulkChanged(TaskBulkChangedEvent.deleted(List.of(1L, 99L), 1));
+
+        // then
+        assertThat(taskSearchIndex.search("会議")).containsExactly(2L);
+        assertThat(taskSearchIndex.size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("一括取込イベントは登録されたタスクのみをDBから取得して登録する")
+    void shouldIndexBulkCreatedTasks() {
+        // given
+        when(taskCustomMapper.selectSearchTextsByIds(List.of(4L, 5L))).thenReturn(List.of(
+                task(4L, "会議室の予約", null),
+                task(5L, "議事録の送付", "定例会議の議事録")));
+
+        // when
+        taskSearchIndex.onTaskBulkChanged(TaskBulkChangedEvent.created(List.of(4L, 5L), 2));
+
+        // then
+        assertThat(taskSearchIndex.search("議事録")).containsExactly(5L);
+        assertThat(taskSearchIndex.search("会議")).contains(4L, 5L);
+        assertThat(taskSearchIndex.size()).isEqualTo(5);
+        verify(taskCustomMapper, never()).selectSearchTextsCursor();
+    }
+
+    @Test
+    @DisplayName("空のキーワードは何も返さない")
+    void shouldReturnEmptyForBlankQuery() {
+        assertThat(taskSearchIndex.search("  ")).isEmpty();
+        assertThat(taskSearchIndex.search(null)).isEmpty();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Cursor<TaskDto> cursor(TaskDto... tasks) {
+        Cursor<TaskDto> cursor = mock(Cursor.class);
+        when(cursor.iterator()).thenReturn(List.of(tasks).iterator());
+        return cursor;
+    }
+
+    private TaskDto task(Long id, String title, String description) {
+        return TaskDto.builder()
+                .id(id)
+                .title(title)
+                .description(description)
+                .build();
+    }
+}
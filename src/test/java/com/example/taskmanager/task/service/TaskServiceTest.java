@@ -1,34 +1,62 @@
 package com.example.taskmanager.task.service;
 
+import com.example.taskmanager.common.cache.CategoryCache;
 import com.example.taskmanager.common.entity.Task;
 import com.example.taskmanager.common.entity.TaskCategory;
-import com.example.taskmanager.common.entity.TaskCategoryExample;
 import com.example.taskmanager.common.enums.TaskPriority;
 import com.example.taskmanager.common.enums.TaskStatus;
+import com.example.taskmanager.common.event.ChangeType;
+import com.example.taskmanager.common.event.TaskBulkChangedEvent;
+import com.example.taskmanager.common.event.TaskChangedEvent;
+import com.example.taskmanager.common.exception.InvalidRequestException;
+import com.example.taskmanager.common.exception.TaskConflictException;
 import com.example.taskmanager.common.exception.TaskNotFoundException;
-import com.example.taskmanager.common.mapper.TaskCategoryMapper;
+import com.example.taskmanager.common.history.HistoryEntityType;
+import com.example.taskmanager.common.history.TaskHistoryDto;
+import com.example.taskmanager.common.history.TaskHistoryMapper;
 import com.example.taskmanager.common.mapper.TaskMapper;
 import com.example.taskmanager.task.converter.TaskConverter;
+import com.example.taskmanager.task.dto.TaskCountDto;
 import com.example.taskmanager.task.dto.TaskDto;
+import com.example.taskmanager.task.dto.TaskListItemDto;
+import com.example.taskmanager.task.form.TaskBulkForm;
 import com.example.taskmanager.task.form.TaskForm;
 import com.example.taskmanager.task.mapper.TaskCustomMapper;
+import com.example.taskmanager.task.model.TaskCursor;
+import com.example.taskmanager.task.model.TaskDueRange;
+import com.example.taskmanager.task.model.TaskPage;
+import com.example.taskmanager.task.model.TaskSearchCondition;
+import com.example.taskmanager.task.model.TaskSortKey;
+import com.example.taskmanager.task.model.TaskValidator;
+import org.apache.ibatis.cursor.Cursor;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Base64;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.AdditionalAnswers.returnsSecondArg;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.*;
 
 /**
@@ -45,11 +73,29 @@ class TaskServiceTest {
     private TaskCustomMapper taskCustomMapper;
 
     @Mock
-    private TaskCategoryMapper taskCategoryMapper;
+    private CategoryCache categoryCache;
 
     @Mock
     private TaskConverter taskConverter;
 
+    @Mock
+    private TaskCountTable taskCountTable;
+
+    @Mock
+    private TaskSearchIndex taskSearchIndex;
+
+    @Mock
+    private TaskChangeTracker taskChangeTracker;
+
+    @Mock
+    private TaskDetailCache taskDetailCache;
+
+    @Mock
+    private TaskHistoryMapper taskHistoryMapper;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private TaskServiceImpl taskService;
 
@@ -63,8 +109,8 @@ class TaskServiceTest {
         testTask.setId(1L);
         testTask.setTitle("テストタスク");
         testTask.setDescription("テストの説明");
-        testTask.setStatus("TODO");
-        testTask.setPriority("HIGH");
+        testTask.setStatus(TaskStatus.TODO);
+        testTask.setPriority(TaskPriority.HIGH);
         testTask.setCategoryId(1L);
         testTask.setDueDate(LocalDate.of(2025, 12, 31));
         testTask.setCreatedAt(LocalDateTime.now());
@@ -130,6 +176,79 @@ class TaskServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("forEachTaskのテスト")
+    class ForEachTaskTest {
+
+        @Test
+        @DisplayName("カーソルから読み出したタスクを順に処理しクローズする")
+        @SuppressWarnings("unchecked")
+        void shouldIterateCursorAndClose() throws Exception {
+            // given
+            Cursor<TaskDto> cursor = mock(Cursor.class);
+            when(cursor.iterator()).thenReturn(List.of(testTaskDto).iterator());
+            doCallRealMethod().when(cursor).forEach(any());
+            when(taskCustomMapper.selectAllWithCategoryCursor()).thenReturn(cursor);
+            List<TaskDto> received = new ArrayList<>();
+
+            // when
+            taskService.forEachTask(received::add);
+
+            // then
+            assertThat(received).containsExactly(testTaskDto);
+            verify(cursor).close();
+        }
+    }
+
+    @Nested
+    @DisplayName("forEachInPageのテスト")
+    class ForEachInPageTest {
+
+        @Test
+        @DisplayName("指定件数を超える行がある場合は処理せずに次ページのカーソルを返す")
+        @SuppressWarnings("unchecked")
+        void shouldReturnNextCursorWhenMoreRowsExist() throws Exception {
+            // given
+            TaskDto first = TaskDto.builder().id(3L).createdAt(LocalDateTime.of(2025, 6, 3, 9, 0)).build();
+            TaskDto second = TaskDto.builder().id(2L).createdAt(LocalDateTime.of(2025, 6, 2, 9, 0)).build();
+            TaskDto extra = TaskDto.builder().id(1L).createdAt(LocalDateTime.of(2025, 6, 1, 9, 0)).build();
+            Cursor<TaskDto> cursor = mock(Cursor.class);
+            when(cursor.iterator()).thenReturn(List.of(first, second, extra).iterator());
+            TaskSearchCondition condition = TaskSearchCondition.of(TaskStatus.TODO, null, null);
+            when(taskCustomMapper.selectPageWithCategoryCursor(condition, null, null, null, 3, true))
+                    .thenReturn(cursor);
+            List<TaskDto> received = new ArrayList<>();
+
+            // when
+            TaskCursor next = taskService.forEachInPage(condition, null, 2, true, received::add);
+
+            // then
+            assertThat(received).containsExactly(first, second);
+            assertThat(next).isEqualTo(new TaskCursor(second.getCreatedAt(), 2L));
+            verify(cursor).close();
+        }
+
+        @Test
+        @DisplayName("最終ページの場合はnullを返す")
+        @SuppressWarnings("unchecked")
+        void shouldReturnNullOnLastPage() throws Exception {
+            // given
+            Cursor<TaskDto> cursor = mock(Cursor.class);
+            when(cursor.iterator()).thenReturn(List.of(testTaskDto).iterator());
+            when(taskCustomMapper.selectPageWithCategoryCursor(TaskSearchCondition.ALL, null, null, null, 3, false))
+                    .thenReturn(cursor);
+            List<TaskDto> received = new ArrayList<>();
+
+            // when
+            TaskCursor next = taskService.forEachInPage(TaskSearchCondition.ALL, null, 2, false, received::add);
+
+            // then
+            assertThat(received).containsExactly(testTaskDto);
+            assertThat(next).isNull();
+            verify(cursor).close();
+        }
+    }
+
     @Nested
     @DisplayName("findByConditionのテスト")
     class FindByConditionTest {
@@ -139,28 +258,341 @@ class TaskServiceTest {
         void shouldReturnTasksByCondition() {
             // given
             List<TaskDto> taskDtos = Arrays.asList(testTaskDto);
-            when(taskCustomMapper.selectByConditionWithCategory("TODO", "HIGH", 1L)).thenReturn(taskDtos);
+            TaskSearchCondition condition = TaskSearchCondition.of(TaskStatus.TODO, TaskPriority.HIGH, 1L);
+            when(taskCustomMapper.selectByConditionWithCategory(condition)).thenReturn(taskDtos);
 
             // when
-            List<TaskDto> result = taskService.findByCondition(TaskStatus.TODO, TaskPriority.HIGH, 1L);
+            List<TaskDto> result = taskService.findByCondition(condition);
 
             // then
             assertThat(result).hasSize(1);
-            verify(taskCustomMapper).selectByConditionWithCategory("TODO", "HIGH", 1L);
+            verify(taskCustomMapper).selectByConditionWithCategory(condition);
+            assertThat(condition.getStatuses()).containsExactly(TaskStatus.TODO);
+            assertThat(condition.getPriorities()).containsExactly(TaskPriority.HIGH);
+            assertThat(condition.getCategoryIds()).containsExactly(1L);
         }
 
         @Test
         @DisplayName("条件がnullの場合はnullを渡す")
         void shouldPassNullWhenConditionIsNull() {
             // given
-            when(taskCustomMapper.selectByConditionWithCategory(null, null, null)).thenReturn(List.of());
+            TaskSearchCondition condition = TaskSearchCondition.of(null, null, null);
+            when(taskCustomMapper.selectByConditionWithCategory(condition)).thenReturn(List.of());
+
+            // when
+            List<TaskDto> result = taskService.findByCondition(condition);
+
+            // then（値がnullの項目は条件なしとなる）
+            assertThat(result).isEmpty();
+            verify(taskCustomMapper).selectByConditionWithCategory(condition);
+            assertThat(condition).isEqualTo(TaskSearchCondition.ALL);
+        }
+
+        @Test
+        @DisplayName("複数の値・期限日の範囲・並び順を指定してタスクを検索できる")
+        void shouldReturnTasksByMultiValueCondition() {
+            // given
+            List<TaskDto> taskDtos = Arrays.asList(testTaskDto);
+            TaskSearchCondition condition = TaskSearchCondition.builder()
+                    .statuses(List.of(TaskStatus.TODO, TaskStatus.IN_PROGRESS))
+                    .priorities(List.of(TaskPriority.HIGH))
+                    .categoryIds(List.of(1L, 2L))
+                    .dueDateFrom(LocalDate.of(2025, 12, 1))
+                    .dueDateTo(LocalDate.of(2025, 12, 31))
+                    .sort(TaskSortKey.DUE_DATE_ASC)
+                    .build();
+            when(taskCustomMapper.selectByConditionWithCategory(condition)).thenReturn(taskDtos);
+
+            // when
+            List<TaskDto> result = taskService.findByCondition(condition);
+
+            // then
+            assertThat(result).hasSize(1);
+            verify(taskCustomMapper).selectByConditionWithCategory(condition);
+        }
+
+        @Test
+        @DisplayName("検索条件はnullを空の条件とし、並び順の既定は作成日時の新しい順とする")
+        void shouldNormalizeCondition() {
+            // when
+            TaskSearchCondition condition = TaskSearchCondition.builder()
+                    .statuses(Arrays.asList(TaskStatus.DONE, null, TaskStatus.DONE))
+                    .build();
+
+            // then
+            assertThat(condition.getStatuses()).containsExactly(TaskStatus.DONE);
+            assertThat(condition.getPriorities()).isEmpty();
+            assertThat(condition.getCategoryIds()).isEmpty();
+            assertThat(condition.getSort()).isEqualTo(TaskSortKey.CREATED_DESC);
+            assertThat(TaskSearchCondition.of(null, null, null)).isEqualTo(TaskSearchCondition.ALL);
+        }
+    }
+
+    @Nested
+    @DisplayName("findPageのテスト")
+    class FindPageTest {
+
+        private final TaskListItemDto item = TaskListItemDto.builder()
+                .id(1L)
+                .title("テストタスク")
+                .status(TaskStatus.TODO)
+                .priority(TaskPriority.HIGH)
+                .createdAt(LocalDateTime.of(2025, 12, 2, 10, 0))
+                .build();
+
+        @Test
+        @DisplayName("件数が上限以下の場合は次ページカーソルを返さない")
+        void shouldReturnPageWithoutNextCursor() {
+            // given
+            when(taskCustomMapper.selectListPage(TaskSearchCondition.ALL, null, null, null, 3))
+                    .thenReturn(List.of(item));
+
+            // when
+            TaskPage result = taskService.findPage(TaskSearchCondition.ALL, null, 2);
+
+            // then
+            assertThat(result.tasks()).hasSize(1);
+            assertThat(result.hasNext()).isFalse();
+        }
+
+        @Test
+        @DisplayName("件数が上限を超える場合は末尾の行から次ページカーソルを生成する")
+        void shouldReturnNextCursorFromLastRow() {
+            // given
+            LocalDateTime createdAt = LocalDateTime.of(2025, 12, 1, 10, 0);
+            TaskListItemDto second = TaskListItemDto.builder().id(2L).createdAt(createdAt).build();
+            TaskListItemDto third = TaskListItemDto.builder().id(3L).createdAt(createdAt.minusDays(1)).build();
+            TaskSearchCondition condition = TaskSearchCondition.of(TaskStatus.TODO, null, null);
+            when(taskCustomMapper.selectListPage(condition, null, null, null, 3))
+                    .thenReturn(List.of(item, second, third));
+
+            // when
+            TaskPage result = taskService.findPage(condition, null, 2);
+
+            // then
+            assertThat(result.tasks()).hasSize(2);
+            assertThat(result.nextCursor()).isEqualTo(new TaskCursor(createdAt, 2L));
+        }
+
+        @Test
+        @DisplayName("期限日の並び順では末尾の行の期限日から次ページカーソルを生成する")
+        void shouldReturnDueDateCursorWhenSortedByDueDate() {
+            // given
+            LocalDate dueDate = LocalDate.of(2025, 12, 20);
+            TaskListItemDto second = TaskListItemDto.builder().id(2L).dueDate(dueDate)
+                    .createdAt(LocalDateTime.of(2025, 12, 1, 10, 0)).build();
+            TaskListItemDto third = TaskListItemDto.builder().id(3L).build();
+            TaskSearchCondition condition = TaskSearchCondition.builder().sort(TaskSortKey.DUE_DATE_ASC).build();
+            TaskCursor cursor = new TaskCursor(null, LocalDate.of(2025, 12, 10), 7L);
+            when(taskCustomMapper.selectListPage(condition, null, cursor.dueDate(), 7L, 3))
+                    .thenReturn(List.of(item, second, third));
+
+            // when
+            TaskPage result = taskService.findPage(condition, cursor, 2);
+
+            // then
+            assertThat(result.nextCursor()).isEqualTo(new TaskCursor(null, dueDate, 2L));
+        }
+
+        @Test
+        @DisplayName("カーソル指定時はカーソル位置を条件に渡す")
+        void shouldPassCursorToMapper() {
+            // given
+            TaskCursor cursor = new TaskCursor(LocalDateTime.of(2025, 12, 1, 10, 0), 5L);
+            TaskSearchCondition condition = TaskSearchCondition.of(null, TaskPriority.HIGH, 1L);
+            when(taskCustomMapper.selectListPage(condition, cursor.createdAt(), null, 5L, 51))
+                    .thenReturn(List.of());
+
+            // when
+            TaskPage result = taskService.findPage(condition, cursor, 50);
+
+            // then
+            assertThat(result.tasks()).isEmpty();
+            verify(taskCustomMapper).selectListPage(condition, cursor.createdAt(), null, 5L, 51);
+        }
+
+        @Test
+        @DisplayName("カーソルはエンコード後に復元できる")
+        void shouldDecodeEncodedCursor() {
+            TaskCursor cursor = new TaskCursor(LocalDateTime.of(2025, 12, 1, 10, 0, 0, 123456000), 42L);
+            TaskCursor dueDateCursor = new TaskCursor(null, LocalDate.of(2025, 12, 20), 42L);
+            TaskCursor noDueDateCursor = new TaskCursor(null, null, 42L);
+            String legacy = Base64.getUrlEncoder().withoutPadding()
+                    .encodeToString("2025-12-01T10:00|42".getBytes(StandardCharsets.UTF_8));
+
+            assertThat(TaskCursor.decode(cursor.encode())).isEqualTo(cursor);
+            assertThat(TaskCursor.decode(dueDateCursor.encode())).isEqualTo(dueDateCursor);
+            assertThat(TaskCursor.decode(noDueDateCursor.encode())).isEqualTo(noDueDateCursor);
+            assertThat(TaskCursor.decode(legacy)).isEqualTo(new TaskCursor(LocalDateTime.of(2025, 12, 1, 10, 0), 42L));
+            assertThat(TaskCursor.decode(null)).isNull();
+            assertThatThrownBy(() -> TaskCursor.decode("invalid!"))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("findDueのテスト")
+    class FindDueTest {
+
+        @Test
+        @DisplayName("期限切れは昨日までが期限の未完了タスクを期限日の近い順に取得する")
+        void shouldFindOverdueOpenTasks() {
+            // given
+            ArgumentCaptor<TaskSearchCondition> captor = ArgumentCaptor.forClass(TaskSearchCondition.class);
+            when(taskCustomMapper.selectListPage(captor.capture(), isNull(), isNull(), isNull(), eq(51)))
+                    .thenReturn(List.of());
+            LocalDate today = LocalDate.now();
+
+            // when
+            taskService.findDue(TaskDueRange.OVERDUE, TaskDueRange.DEFAULT_DAYS, null, 50);
+
+            // then
+            TaskSearchCondition condition = captor.getValue();
+            assertThat(condition.getStatuses()).containsExactly(TaskStatus.TODO, TaskStatus.IN_PROGRESS);
+            assertThat(condition.getDueDateFrom()).isNull();
+            assertThat(condition.getDueDateTo()).isEqualTo(today.minusDays(1));
+            assertThat(condition.getSort()).isEqualTo(TaskSortKey.DUE_DATE_ASC);
+        }
+
+        @Test
+        @DisplayName("期限間近は今日から指定日数後までが期限の未完了タスクをカーソル位置から取得する")
+        void shouldFindDueSoonOpenTasksFromCursor() {
+            // given
+            TaskCursor cursor = new TaskCursor(null, LocalDate.now().plusDays(1), 9L);
+            ArgumentCaptor<TaskSearchCondition> captor = ArgumentCaptor.forClass(TaskSearchCondition.class);
+            when(taskCustomMapper.selectListPage(captor.capture(), isNull(), eq(cursor.dueDate()), eq(9L), eq(51)))
+                    .thenReturn(List.of());
+            LocalDate today = LocalDate.now();
+
+            // when
+            taskService.findDue(TaskDueRange.SOON, 3, cursor, 50);
+
+            // then
+            TaskSearchCondition condition = captor.getValue();
+            assertThat(condition.getStatuses()).doesNotContain(TaskStatus.DONE);
+            assertThat(condition.getDueDateFrom()).isEqualTo(today);
+            assertThat(condition.getDueDateTo()).isEqualTo(today.plusDays(3));
+        }
+
+        @Test
+        @DisplayName("今日が期限は期限日が今日の未完了タスクを取得する")
+        void shouldFindTasksDueToday() {
+            // given
+            ArgumentCaptor<TaskSearchCondition> captor = ArgumentCaptor.forClass(TaskSearchCondition.class);
+            when(taskCustomMapper.selectListPage(captor.capture(), isNull(), isNull(), isNull(), eq(51)))
+                    .thenReturn(List.of());
+            LocalDate today = LocalDate.now();
+
+            // when
+            taskService.findDue(TaskDueRange.TODAY, 0, null, 50);
+
+            // then
+            assertThat(captor.getValue().getDueDateFrom()).isEqualTo(today);
+            assertThat(captor.getValue().getDueDateTo()).isEqualTo(today);
+        }
+
+        @Test
+        @DisplayName("期限間近の日数が範囲外の場合は例外をスローする")
+        void shouldRejectOutOfRangeDays() {
+            assertThatThrownBy(() -> taskService.findDue(TaskDueRange.SOON, 0, null, 50))
+                    .isInstanceOf(InvalidRequestException.class)
+                    .hasMessageContaining("days");
+            assertThatThrownBy(() -> taskService.findDue(TaskDueRange.SOON, TaskDueRange.MAX_DAYS + 1, null, 50))
+                    .isInstanceOf(InvalidRequestException.class);
+            verifyNoInteractions(taskCustomMapper);
+        }
+    }
+
+    @Nested
+    @DisplayName("searchのテスト")
+    class SearchTest {
+
+        private final TaskListItemDto first = TaskListItemDto.builder().id(1L).title("1件目").build();
+
+        private final TaskListItemDto second = TaskListItemDto.builder().id(2L).title("2件目").build();
+
+        @Test
+        @DisplayName("インデックスの関連度順で結果を返す")
+        void shouldReturnTasksInIndexOrder() {
+            // given
+            when(taskSearchIndex.search("テスト")).thenReturn(List.of(2L, 1L));
+            when(taskSearchIndex.filterMatches(eq("テスト"), any())).then(returnsSecondArg());
+            TaskSearchCondition condition = TaskSearchCondition.of(TaskStatus.TODO, null, null);
+            when(taskCustomMapper.selectListItemsByIds(List.of(2L, 1L), condition))
+                    .thenReturn(List.of(first, second));
+
+            // when
+            List<TaskListItemDto> result = taskService.search("テスト", condition, 10);
+
+            // then
+            assertThat(result).extracting(TaskListItemDto::getId).containsExactly(2L, 1L);
+        }
+
+        @Test
+        @DisplayName("上限件数で打ち切る")
+        void shouldLimitResults() {
+            // given
+            when(taskSearchIndex.search("テスト")).thenReturn(List.of(2L, 1L));
+            when(taskSearchIndex.filterMatches(eq("テスト"), any())).then(returnsSecondArg());
+            when(taskCustomMapper.selectListItemsByIds(List.of(2L, 1L), TaskSearchCondition.ALL))
+                    .thenReturn(List.of(first, second));
+
+            // when
+            List<TaskListItemDto> result = taskService.search("テスト", TaskSearchCondition.ALL, 1);
+
+            // then
+            assertThat(result).extracting(TaskListItemDto::getId).containsExactly(2L);
+        }
+
+        @Test
+        @DisplayName("一致するタスクがない場合はDBにアクセスしない")
+        void shouldNotQueryWhenNoMatch() {
+            // given
+            when(taskSearchIndex.search("なし")).thenReturn(List.of());
 
             // when
-            List<TaskDto> result = taskService.findByCondition(null, null, null);
+            List<TaskListItemDto> result = taskService.search("なし", TaskSearchCondition.ALL, 10);
 
             // then
             assertThat(result).isEmpty();
-            verify(taskCustomMapper).selectByConditionWithCategory(null, null, null);
+            verify(taskCustomMapper, never()).selectListItemsByIds(any(), any());
+        }
+    }
+
+    @Nested
+    @DisplayName("countTasksのテスト")
+    class CountTasksTest {
+
+        private final TaskCountDto count = new TaskCountDto(TaskStatus.TODO, TaskPriority.HIGH, 1L, 3L);
+
+        @Test
+        @DisplayName("件数表が無効な場合はDBで集計する")
+        void shouldAggregateInDatabaseWhenCounterDisabled() {
+            // given
+            when(taskCountTable.isEnabled()).thenReturn(false);
+            when(taskCustomMapper.countByStatusPriorityCategory()).thenReturn(List.of(count));
+
+            // when
+            List<TaskCountDto> result = taskService.countTasks();
+
+            // then
+            assertThat(result).containsExactly(count);
+            verify(taskCountTable, never()).getCounts();
+        }
+
+        @Test
+        @DisplayName("件数表が有効な場合はメモリ上の件数を返す")
+        void shouldReturnInMemoryCountsWhenCounterEnabled() {
+            // given
+            when(taskCountTable.isEnabled()).thenReturn(true);
+            when(taskCountTable.getCounts()).thenReturn(List.of(count));
+
+            // when
+            List<TaskCountDto> result = taskService.countTasks();
+
+            // then
+            assertThat(result).containsExactly(count);
+            verify(taskCustomMapper, never()).countByStatusPriorityCategory();
         }
     }
 
@@ -184,6 +616,38 @@ class TaskServiceTest {
             verify(taskCustomMapper).selectByIdWithCategory(1L);
         }
 
+        @Test
+        @DisplayName("DBから取得したタスクを取得前の世代番号でキャッシュに格納する")
+        void shouldPutLoadedTaskWithGenerationBeforeLoad() {
+            // given
+            when(taskDetailCache.getGeneration()).thenReturn(5L);
+            when(taskCustomMapper.selectByIdWithCategory(1L)).thenReturn(testTaskDto);
+
+            // when
+            taskService.findById(1L);
+
+            // then
+            InOrder inOrder = inOrder(taskDetailCache, taskCustomMapper);
+            inOrder.verify(taskDetailCache).getGeneration();
+            inOrder.verify(taskCustomMapper).selectByIdWithCategory(1L);
+            inOrder.verify(taskDetailCache).put(testTaskDto, 5L);
+        }
+
+        @Test
+        @DisplayName("キャッシュにある場合はDBから取得しない")
+        void shouldReturnCachedTask() {
+            // given
+            when(taskDetailCache.get(1L)).thenReturn(testTaskDto);
+
+            // when
+            TaskDto result = taskService.findById(1L);
+
+            // then
+            assertThat(result).isEqualTo(testTaskDto);
+            verify(taskCustomMapper, never()).selectByIdWithCategory(any());
+            verify(taskDetailCache, never()).put(any(), anyLong());
+        }
+
         @Test
         @DisplayName("存在しないIDの場合は例外をスローする")
         void shouldThrowExceptionWhenTaskNotFound() {
@@ -194,6 +658,68 @@ class TaskServiceTest {
             assertThatThrownBy(() -> taskService.findById(999L))
                     .isInstanceOf(TaskNotFoundException.class)
                     .hasMessageContaining("999");
+            verify(taskDetailCache, never()).put(any(), anyLong());
+        }
+    }
+
+    @Nested
+    @DisplayName("getValidatorのテスト")
+    class GetValidatorTest {
+
+        @Test
+        @DisplayName("バージョンと更新日時から検証子を生成する")
+        void shouldCreateValidatorFromVersion() {
+            // given
+            Task versionOnly = new Task();
+            versionOnly.setId(1L);
+            versionOnly.setVersion(3);
+            versionOnly.setUpdatedAt(LocalDateTime.of(2025, 6, 1, 12, 0));
+            TaskValidator validator = new TaskValidator("\"task-1-3\"", 0L);
+            when(taskCustomMapper.selectVersionById(1L)).thenReturn(versionOnly);
+            when(taskChangeTracker.getTaskValidator(1L, 3, versionOnly.getUpdatedAt())).thenReturn(validator);
+
+            // when
+            TaskValidator result = taskService.getValidator(1L);
+
+            // then
+            assertThat(result).isEqualTo(validator);
+            verify(taskCustomMapper, never()).selectByIdWithCategory(any());
+        }
+
+        @Test
+        @DisplayName("存在しないタスクの場合はnullを返す")
+        void shouldReturnNullWhenTaskNotFound() {
+            // given
+            when(taskCustomMapper.selectVersionById(999L)).thenReturn(null);
+
+            // when & then
+            assertThat(taskService.getValidator(999L)).isNull();
+            verifyNoInteractions(taskChangeTracker);
+        }
+    }
+
+    @Nested
+    @DisplayName("findHistoryのテスト")
+    class FindHistoryTest {
+
+        @Test
+        @DisplayName("タスクの変更履歴を取得する")
+        void shouldFindTaskHistory() {
+            // given
+            List<TaskHistoryDto> histories = List.of(TaskHistoryDto.builder()
+                    .id(1L)
+                    .entityType(HistoryEntityType.TASK)
+                    .entityId(1L)
+                    .changeType(ChangeType.CREATED)
+                    .summary("「テストタスク」を登録")
+                    .build());
+            when(taskHistoryMapper.selectByEntity(HistoryEntityType.TASK, 1L, 20)).thenReturn(histories);
+
+            // when
+            List<TaskHistoryDto> result = taskService.findHistory(1L, 20);
+
+            // then
+            assertThat(result).isEqualTo(histories);
         }
     }
 
@@ -207,15 +733,22 @@ class TaskServiceTest {
             // given
             when(taskConverter.toEntity(testTaskForm)).thenReturn(testTask);
             when(taskMapper.insertSelective(any(Task.class))).thenReturn(1);
-            when(taskCustomMapper.selectByIdWithCategory(testTask.getId())).thenReturn(testTaskDto);
+            when(taskConverter.toDto(testTask)).thenReturn(copyWithoutCategory(testTaskDto));
+            when(categoryCache.findById(1L)).thenReturn(category());
 
             // when
             TaskDto result = taskService.create(testTaskForm);
 
             // then
             assertThat(result.getTitle()).isEqualTo("テストタスク");
-            verify(taskMapper).insertSelective(any(Task.class));
-            verify(taskCustomMapper).selectByIdWithCategory(testTask.getId());
+            assertThat(result.getCategoryName()).isEqualTo("仕事");
+            assertThat(result.getCategoryColor()).isEqualTo("#007bff");
+            assertThat(testTask.getCreatedAt()).isNotNull().isEqualTo(testTask.getUpdatedAt());
+            assertThat(testTask.getVersion()).isZero();
+            verify(taskMapper).insertSelective(testTask);
+            verify(taskCustomMapper).addCategoryTaskCount(1L, 1);
+            verify(taskCustomMapper, never()).selectByIdWithCategory(any());
+            verify(eventPublisher).publishEvent(TaskChangedEvent.created(result));
         }
     }
 
@@ -227,32 +760,85 @@ class TaskServiceTest {
         @DisplayName("タスクを更新できる")
         void shouldUpdateTask() {
             // given
-            when(taskMapper.selectByPrimaryKey(1L)).thenReturn(testTask);
-            doNothing().when(taskConverter).updateEntity(any(TaskForm.class), any(Task.class));
-            when(taskMapper.updateByPrimaryKeySelective(any(Task.class))).thenReturn(1);
-            when(taskCustomMapper.selectByIdWithCategory(1L)).thenReturn(testTaskDto);
+            Task updating = new Task();
+            updating.setCategoryId(1L);
+            Task existing = new Task();
+            existing.setId(1L);
+            existing.setCategoryId(1L);
+            existing.setCreatedAt(LocalDateTime.of(2025, 1, 1, 9, 0));
+            existing.setVersion(3);
+            TaskDto before = TaskDto.builder().id(1L).categoryId(1L).status(TaskStatus.IN_PROGRESS).build();
+            when(taskConverter.toEntity(testTaskForm)).thenReturn(updating);
+            when(taskCustomMapper.updateReturningOld(updating)).thenReturn(existing);
+            when(taskConverter.toDto(updating)).thenReturn(copyWithoutCategory(testTaskDto));
+            when(taskConverter.toDto(existing)).thenReturn(before);
+            when(categoryCache.findById(1L)).thenReturn(category());
 
             // when
             TaskDto result = taskService.update(1L, testTaskForm);
 
             // then
             assertThat(result.getTitle()).isEqualTo("テストタスク");
-            verify(taskMapper).selectByPrimaryKey(1L);
-            verify(taskConverter).updateEntity(any(TaskForm.class), any(Task.class));
-            verify(taskMapper).updateByPrimaryKeySelective(any(Task.class));
-            verify(taskCustomMapper).selectByIdWithCategory(1L);
+            assertThat(result.getCategoryName()).isEqualTo("仕事");
+            assertThat(updating.getId()).isEqualTo(1L);
+            assertThat(updating.getUpdatedAt()).isNotNull();
+            assertThat(updating.getCreatedAt()).isEqualTo(existing.getCreatedAt());
+            assertThat(updating.getVersion()).isEqualTo(4);
+            verify(taskCustomMapper).updateReturningOld(updating);
+            verifyNoInteractions(taskMapper);
+            verify(taskCustomMapper, never()).addCategoryTaskCount(any(), anyInt());
+            verify(taskCustomMapper, never()).selectByIdWithCategory(any());
+            verify(eventPublisher).publishEvent(TaskChangedEvent.updated(before, result));
+        }
+
+        @Test
+        @DisplayName("カテゴリーを変更した場合は変更前後のカテゴリーのタスク件数を加減算する")
+        void shouldMoveCategoryTaskCount() {
+            // given
+            Task updating = new Task();
+            Task existing = new Task();
+            existing.setId(1L);
+            existing.setCategoryId(2L);
+            existing.setVersion(0);
+            when(taskConverter.toEntity(testTaskForm)).thenReturn(updating);
+            when(taskCustomMapper.updateReturningOld(updating)).thenReturn(existing);
+            when(taskConverter.toDto(any(Task.class))).thenReturn(copyWithoutCategory(testTaskDto));
+
+            // when
+            taskService.update(1L, testTaskForm);
+
+            // then
+            verify(taskCustomMapper).addCategoryTaskCount(2L, -1);
+            verify(taskCustomMapper, never()).addCategoryTaskCount(any(), eq(1));
         }
 
         @Test
         @DisplayName("存在しないタスクの更新は例外をスローする")
         void shouldThrowExceptionWhenUpdatingNonExistentTask() {
             // given
-            when(taskMapper.selectByPrimaryKey(999L)).thenReturn(null);
+            when(taskConverter.toEntity(testTaskForm)).thenReturn(new Task());
+            when(taskCustomMapper.updateReturningOld(any(Task.class))).thenReturn(null);
 
             // when & then
             assertThatThrownBy(() -> taskService.update(999L, testTaskForm))
                     .isInstanceOf(TaskNotFoundException.class);
-            verify(taskMapper, never()).updateByPrimaryKeySelective(any(Task.class));
+            verifyNoInteractions(eventPublisher);
+        }
+
+        @Test
+        @DisplayName("バージョンが一致しない場合は競合例外をスローする")
+        void shouldThrowConflictExceptionWhenVersionIsStale() {
+            // given
+            testTaskForm.setVersion(2);
+            when(taskConverter.toEntity(testTaskForm)).thenReturn(new Task());
+            when(taskCustomMapper.updateReturningOld(any(Task.class))).thenReturn(null);
+            when(taskMapper.selectByPrimaryKey(1L)).thenReturn(testTask);
+
+            // when & then
+            assertThatThrownBy(() -> taskService.update(1L, testTaskForm))
+                    .isInstanceOf(TaskConflictException.class)
+                    .extracting("taskId").isEqualTo(1L);
+            verifyNoInteractions(eventPublisher);
         }
     }
 
@@ -264,27 +850,191 @@ class TaskServiceTest {
         @DisplayName("タスクを削除できる")
         void shouldDeleteTask() {
             // given
-            when(taskMapper.selectByPrimaryKey(1L)).thenReturn(testTask);
-            when(taskMapper.deleteByPrimaryKey(1L)).thenReturn(1);
+            when(taskCustomMapper.deleteReturningOld(1L)).thenReturn(testTask);
+            when(taskConverter.toDto(testTask)).thenReturn(testTaskDto);
 
             // when
             taskService.delete(1L);
 
             // then
-            verify(taskMapper).selectByPrimaryKey(1L);
-            verify(taskMapper).deleteByPrimaryKey(1L);
+            verify(taskCustomMapper).deleteReturningOld(1L);
+            verify(taskCustomMapper).addCategoryTaskCount(1L, -1);
+            verifyNoInteractions(taskMapper);
+            ArgumentCaptor<TaskChangedEvent> captor = ArgumentCaptor.forClass(TaskChangedEvent.class);
+            verify(eventPublisher).publishEvent(captor.capture());
+            assertThat(captor.getValue().changeType()).isEqualTo(ChangeType.DELETED);
+            assertThat(captor.getValue().taskId()).isEqualTo(1L);
+            assertThat(captor.getValue().before()).isEqualTo(testTaskDto);
+            assertThat(captor.getValue().after()).isNull();
         }
 
         @Test
         @DisplayName("存在しないタスクの削除は例外をスローする")
         void shouldThrowExceptionWhenDeletingNonExistentTask() {
             // given
-            when(taskMapper.selectByPrimaryKey(999L)).thenReturn(null);
+            when(taskCustomMapper.deleteReturningOld(999L)).thenReturn(null);
 
             // when & then
             assertThatThrownBy(() -> taskService.delete(999L))
                     .isInstanceOf(TaskNotFoundException.class);
-            verify(taskMapper, never()).deleteByPrimaryKey(anyLong());
+            verifyNoInteractions(eventPublisher);
+        }
+    }
+
+    @Nested
+    @DisplayName("bulkUpdateのテスト")
+    class BulkUpdateTest {
+
+        @Test
+        @DisplayName("指定された項目のみを1文でまとめて更新し、重複を除いたIDで一括更新イベントを発行する")
+        void shouldBulkUpdateSpecifiedFields() {
+            // given
+            TaskBulkForm form = TaskBulkForm.builder()
+                    .ids(Arrays.asList(1L, 2L, 2L, null))
+                    .status(TaskStatus.DONE)
+                    .build();
+            when(taskCustomMapper.bulkUpdate(eq(List.of(1L, 2L)), eq(TaskStatus.DONE), isNull(), isNull(),
+                    eq(false), any(LocalDateTime.class))).thenReturn(2);
+
+            // when
+            int result = taskService.bulkUpdate(form);
+
+            // then
+            assertThat(result).isEqualTo(2);
+            verify(taskCustomMapper, never()).bulkUpdateReturningOld(any(), any(), any(), any(), anyBoolean(), any());
+            verify(taskCustomMapper, never()).addCategoryTaskCount(any(), anyInt());
+            ArgumentCaptor<TaskBulkChangedEvent> captor = ArgumentCaptor.forClass(TaskBulkChangedEvent.class);
+            verify(eventPublisher).publishEvent(captor.capture());
+            assertThat(captor.getValue().changeType()).isEqualTo(ChangeType.UPDATED);
+            assertThat(captor.getValue().taskIds()).containsExactly(1L, 2L);
+            assertThat(captor.getValue().affectedRows()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("カテゴリーを変更する場合は更新前の行のカテゴリーから減算し、変更後のカテゴリーに加算する")
+        void shouldMoveCategoryTaskCounts() {
+            // given
+            TaskBulkForm form = TaskBulkForm.builder().ids(List.of(1L, 2L, 3L, 4L)).categoryId(2L).build();
+            when(categoryCache.findById(2L)).thenReturn(category());
+            when(taskCustomMapper.bulkUpdateReturningOld(eq(List.of(1L, 2L, 3L, 4L)), isNull(), isNull(), eq(2L),
+                    eq(false), any(LocalDateTime.class)))
+                    .thenReturn(List.of(oldRow(1L, 3L), oldRow(2L, 1L), oldRow(3L, null)));
+
+            // when
+            int result = taskService.bulkUpdate(form);
+
+            // then（カテゴリーIDの昇順で加減算する）
+            assertThat(result).isEqualTo(3);
+            InOrder inOrder = inOrder(taskCustomMapper);
+            inOrder.verify(taskCustomMapper).addCategoryTaskCount(1L, -1);
+            inOrder.verify(taskCustomMapper).addCategoryTaskCount(2L, 3);
+            inOrder.verify(taskCustomMapper).addCategoryTaskCount(3L, -1);
+            verify(taskCustomMapper, never()).bulkUpdate(any(), any(), any(), any(), anyBoolean(), any());
+        }
+
+        @Test
+        @DisplayName("変更前と同じカテゴリーのタスクは件数を加減算しない")
+        void shouldNotUpdateCountsForUnchangedCategory() {
+            // given
+            TaskBulkForm form = TaskBulkForm.builder().ids(List.of(1L, 2L)).categoryId(2L).build();
+            when(categoryCache.findById(2L)).thenReturn(category());
+            when(taskCustomMapper.bulkUpdateReturningOld(any(), any(), any(), any(), anyBoolean(), any()))
+                    .thenReturn(List.of(oldRow(1L, 2L), oldRow(2L, 2L)));
+
+            // when
+            taskService.bulkUpdate(form);
+
+            // then
+            verify(taskCustomMapper, never()).addCategoryTaskCount(any(), anyInt());
+        }
+
+        @Test
+        @DisplayName("変更する項目がない場合は例外をスローする")
+        void shouldRejectWhenNoChanges() {
+            // given
+            TaskBulkForm form = TaskBulkForm.builder().ids(List.of(1L)).build();
+
+            // when & then
+            assertThatThrownBy(() -> taskService.bulkUpdate(form))
+                    .isInstanceOf(InvalidRequestException.class);
+            verifyNoInteractions(taskCustomMapper, eventPublisher);
+        }
+
+        @Test
+        @DisplayName("存在しないカテゴリーを指定した場合は例外をスローする")
+        void shouldRejectUnknownCategory() {
+            // given
+            TaskBulkForm form = TaskBulkForm.builder().ids(List.of(1L)).categoryId(99L).build();
+            when(categoryCache.findById(99L)).thenReturn(null);
+
+            // when & then
+            assertThatThrownBy(() -> taskService.bulkUpdate(form))
+                    .isInstanceOf(InvalidRequestException.class);
+            verifyNoInteractions(taskCustomMapper, eventPublisher);
+        }
+
+        @Test
+        @DisplayName("上限を超えるIDを指定した場合は例外をスローする")
+        void shouldRejectTooManyIds() {
+            // given
+            List<Long> ids = new ArrayList<>();
+            for (long id = 1; id <= TaskBulkForm.MAX_IDS + 1; id++) {
+                ids.add(id);
+            }
+            TaskBulkForm form = TaskBulkForm.builder().ids(ids).status(TaskStatus.DONE).build();
+
+            // when & then
+            assertThatThrownBy(() -> taskService.bulkUpdate(form))
+                    .isInstanceOf(InvalidRequestException.class);
+            verifyNoInteractions(taskCustomMapper, eventPublisher);
+        }
+
+        @Test
+        @DisplayName("更新件数が0件の場合はイベントを発行しない")
+        void shouldNotPublishWhenNothingUpdated() {
+            // given
+            TaskBulkForm form = TaskBulkForm.builder().ids(List.of(999L)).clearCategory(true).build();
+            when(taskCustomMapper.bulkUpdateReturningOld(eq(List.of(999L)), isNull(), isNull(), isNull(), eq(true),
+                    any(LocalDateTime.class))).thenReturn(List.of());
+
+            // when
+            int result = taskService.bulkUpdate(form);
+
+            // then
+            assertThat(result).isZero();
+            verifyNoInteractions(eventPublisher);
+        }
+    }
+
+    @Nested
+    @DisplayName("bulkDeleteのテスト")
+    class BulkDeleteTest {
+
+        @Test
+        @DisplayName("1文でまとめて削除し、削除前の行のカテゴリーから減算して一括削除イベントを発行する")
+        void shouldBulkDelete() {
+            // given
+            when(taskCustomMapper.bulkDeleteReturningOld(List.of(1L, 2L)))
+                    .thenReturn(List.of(oldRow(1L, 1L), oldRow(2L, 1L)));
+
+            // when
+            int result = taskService.bulkDelete(List.of(1L, 2L));
+
+            // then
+            assertThat(result).isEqualTo(2);
+            verify(taskCustomMapper).addCategoryTaskCount(1L, -2);
+            ArgumentCaptor<TaskBulkChangedEvent> captor = ArgumentCaptor.forClass(TaskBulkChangedEvent.class);
+            verify(eventPublisher).publishEvent(captor.capture());
+            assertThat(captor.getValue().changeType()).isEqualTo(ChangeType.DELETED);
+            assertThat(captor.getValue().taskIds()).containsExactly(1L, 2L);
+        }
+
+        @Test
+        @DisplayName("IDが空の場合は例外をスローする")
+        void shouldRejectEmptyIds() {
+            assertThatThrownBy(() -> taskService.bulkDelete(List.of()))
+                    .isInstanceOf(InvalidRequestException.class);
+            verifyNoInteractions(taskCustomMapper, eventPublisher);
         }
     }
 
@@ -293,7 +1043,7 @@ class TaskServiceTest {
     class FindAllCategoriesTest {
 
         @Test
-        @DisplayName("全カテゴリーを表示順で取得できる")
+        @DisplayName("全カテゴリーを表示順でキャッシュから取得できる")
         void shouldReturnAllCategoriesOrderedByDisplayOrder() {
             // given
             TaskCategory category1 = new TaskCategory();
@@ -307,7 +1057,7 @@ class TaskServiceTest {
             category2.setDisplayOrder(2);
 
             List<TaskCategory> categories = Arrays.asList(category1, category2);
-            when(taskCategoryMapper.selectByExample(any(TaskCategoryExample.class))).thenReturn(categories);
+            when(categoryCache.findAll()).thenReturn(categories);
 
             // when
             List<TaskCategory> result = taskService.findAllCategories();
@@ -316,7 +1066,36 @@ class TaskServiceTest {
             assertThat(result).hasSize(2);
             assertThat(result.get(0).getName()).isEqualTo("仕事");
             assertThat(result.get(1).getName()).isEqualTo("プライベート");
-            verify(taskCategoryMapper).selectByExample(any(TaskCategoryExample.class));
+            verify(categoryCache).findAll();
         }
     }
+
+    private TaskDto copyWithoutCategory(TaskDto source) {
+        return TaskDto.builder()
+                .id(source.getId())
+                .title(source.getTitle())
+                .description(source.getDescription())
+                .status(source.getStatus())
+                .priority(source.getPriority())
+                .categoryId(source.getCategoryId())
+                .dueDate(source.getDueDate())
+                .createdAt(source.getCreatedAt())
+                .updatedAt(source.getUpdatedAt())
+                .build();
+    }
+
+    private TaskCategory category() {
+        TaskCategory category = new TaskCategory();
+        category.setId(1L);
+        category.setName("仕事");
+        category.setColor("#007bff");
+        return category;
+    }
+
+    private Task oldRow(Long id, Long categoryId) {
+        Task task = new Task();
+        task.setId(id);
+        task.setCategoryId(categoryId);
+        return task;
+    }
 }